@@ -0,0 +1,22 @@
+#!/usr/bin/env bash
+# Usage: ./run-virtual-threads-benchmark.sh <label>
+#   Runs the k6 benchmark against BASE_URL and stores the summary in results/<label>.json.
+#   Once both "platform" and "virtual" exist, prints throughput and p99 side by side.
+set -euo pipefail
+
+LABEL="${1:?usage: $0 <platform|virtual>}"
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+RESULTS_DIR="${SCRIPT_DIR}/results"
+mkdir -p "${RESULTS_DIR}"
+
+k6 run --summary-export "${RESULTS_DIR}/${LABEL}.json" "${SCRIPT_DIR}/virtual-threads-benchmark.js"
+
+if [[ -f "${RESULTS_DIR}/platform.json" && -f "${RESULTS_DIR}/virtual.json" ]]; then
+  printf '\n%-10s %14s %12s %12s\n' "mode" "req/s" "p99 (ms)" "failed"
+  for mode in platform virtual; do
+    jq -r --arg mode "${mode}" \
+      '[$mode, .metrics.http_reqs.rate, .metrics.http_req_duration["p(99)"], .metrics.http_req_failed.value]
+       | "\(.[0]) \(.[1]) \(.[2]) \(.[3])"' "${RESULTS_DIR}/${mode}.json" |
+      awk '{ printf "%-10s %14.1f %12.1f %12.4f\n", $1, $2, $3, $4 }'
+  done
+fi
@@ -0,0 +1,51 @@
+// Throughput / p99 benchmark for the virtual-thread execution mode.
+// Run the same script against the app started with and without the `virtual-threads`
+// profile and compare the exported summaries (see README.md).
+import http from 'k6/http';
+import { check, fail } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = Number(__ENV.RATE || 400);            // requests per second
+const DURATION = __ENV.DURATION || '2m';
+const MAX_VUS = Number(__ENV.MAX_VUS || 2000);
+
+export const options = {
+    scenarios: {
+        authenticated_reads: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Math.min(200, MAX_VUS),
+            maxVUs: MAX_VUS,
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const response = http.post(`${BASE_URL}/api/v1/auth/login`, JSON.stringify({
+        email: __ENV.BENCH_EMAIL,
+        password: __ENV.BENCH_PASSWORD,
+    }), { headers: { 'Content-Type': 'application/json' } });
+
+    if (response.status !== 200) {
+        fail(`Login failed with status ${response.status}: ${response.body}`);
+    }
+    return { token: response.json('token') };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+
+    // Mix of the most frequent authenticated reads, each backed by JDBC
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/v1/accounts/me`, null, params],
+        ['GET', `${BASE_URL}/api/v1/transactions/me`, null, params],
+    ]);
+
+    responses.forEach((response) => check(response, { 'status is 200': (r) => r.status === 200 }));
+}
@@ -1,6 +1,7 @@
 package com.banking.system.account.application.dto.result;
 
 import com.banking.system.account.domain.model.Account;
+import com.banking.system.account.domain.model.AccountBalance;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -22,4 +23,14 @@ public record AccountBalanceResult(
                 account.getUpdatedAt()
         );
     }
+
+    public static AccountBalanceResult fromDomain(AccountBalance balance) {
+        return new AccountBalanceResult(
+                balance.accountId(),
+                balance.balance().getValue(),
+                balance.availableBalance().getValue(),
+                balance.balance().getCurrency().code(),
+                balance.updatedAt()
+        );
+    }
 }
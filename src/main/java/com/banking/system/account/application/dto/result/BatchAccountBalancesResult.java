@@ -0,0 +1,14 @@
+package com.banking.system.account.application.dto.result;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Balances of a batch of accounts, in request order. Accounts that do not exist or do not
+ * belong to the caller are listed in {@code notFound} without telling the two cases apart.
+ */
+public record BatchAccountBalancesResult(
+        List<AccountBalanceResult> balances,
+        List<UUID> notFound
+) {
+}
@@ -4,6 +4,7 @@ import com.banking.system.account.application.dto.command.CreateAccountCommand;
 import com.banking.system.account.application.dto.result.AccountBalanceResult;
 import com.banking.system.account.application.dto.result.AccountPublicResult;
 import com.banking.system.account.application.dto.result.AccountResult;
+import com.banking.system.account.application.dto.result.BatchAccountBalancesResult;
 import com.banking.system.account.application.event.AccountCreatedEvent;
 import com.banking.system.account.application.event.publisher.AccountEventPublisher;
 import com.banking.system.account.application.usecase.*;
@@ -12,19 +13,28 @@ import com.banking.system.account.domain.exception.AccountNotFoundException;
 import com.banking.system.account.domain.exception.AliasGenerationFailedException;
 import com.banking.system.account.domain.exception.InvalidAccountOwnerException;
 import com.banking.system.account.domain.model.Account;
+import com.banking.system.account.domain.model.AccountBalance;
 import com.banking.system.account.domain.model.AccountType;
 import com.banking.system.account.domain.port.out.AccountAliasGenerator;
 import com.banking.system.account.domain.port.out.AccountNumberGenerator;
 import com.banking.system.account.domain.port.out.AccountRepositoryPort;
 import com.banking.system.common.domain.MoneyCurrency;
+import com.banking.system.common.infraestructure.bulkhead.Workload;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkhead;
+import com.banking.system.common.infraestructure.singleflight.SingleFlight;
 import com.banking.system.customer.domain.port.out.CustomerRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -34,6 +44,7 @@ public class AccountService implements
         FindAccountByIdUseCase,
         FindAllAccountsByUserId,
         GetAccountBalanceUseCase,
+        BatchGetAccountBalancesUseCase,
         SearchAccountByAliasUseCase {
 
     private static final int MAX_ALIAS_GENERATION_ATTEMPTS = 5;
@@ -121,6 +132,8 @@ public class AccountService implements
     }
 
     @Override
+    @SingleFlight("accountsByUser")
+    @WorkloadBulkhead(Workload.READS)
     @Transactional(readOnly = true)
     public List<AccountResult> findAll(UUID userId) {
         var customer = customerRepositoryPort.findByUserId(userId)
@@ -134,6 +147,7 @@ public class AccountService implements
     }
 
     @Override
+    @SingleFlight("accountBalance")
     @Transactional(readOnly = true)
     public AccountBalanceResult getBalance(UUID accountId, UUID userId) {
         var customer = customerRepositoryPort.findByUserId(userId)
@@ -149,7 +163,37 @@ public class AccountService implements
         return AccountBalanceResult.fromDomain(account);
     }
 
+    /**
+     * Resolves the caller's customer once and loads every requested balance with a single
+     * query scoped to that customer, so ownership is checked in the same pass. Unknown and
+     * foreign accounts are both reported as not found.
+     */
+    @Override
+    @WorkloadBulkhead(Workload.READS)
+    @Transactional(readOnly = true)
+    public BatchAccountBalancesResult batchGetBalances(Collection<UUID> accountIds, UUID userId) {
+        var customer = customerRepositoryPort.findByUserId(userId)
+                .orElseThrow(() -> new InvalidAccountOwnerException("Customer not found for user ID " + userId));
+
+        var requestedIds = new LinkedHashSet<>(accountIds);
+        Map<UUID, AccountBalance> balancesById = accountRepositoryPort
+                .findBalancesByIdsAndCustomerId(requestedIds, customer.getId()).stream()
+                .collect(Collectors.toMap(AccountBalance::accountId, Function.identity()));
+
+        var balances = requestedIds.stream()
+                .filter(balancesById::containsKey)
+                .map(id -> AccountBalanceResult.fromDomain(balancesById.get(id)))
+                .toList();
+        var notFound = requestedIds.stream()
+                .filter(id -> !balancesById.containsKey(id))
+                .toList();
+
+        log.debug("Batch balances: userId={}, requested={}, found={}", userId, requestedIds.size(), balances.size());
+        return new BatchAccountBalancesResult(balances, notFound);
+    }
+
     @Override
+    @SingleFlight("accountAlias")
     @Transactional(readOnly = true)
     public AccountPublicResult searchByAlias(String alias) {
         var account = accountRepositoryPort.findByAlias(alias)
@@ -0,0 +1,10 @@
+package com.banking.system.account.application.usecase;
+
+import com.banking.system.account.application.dto.result.BatchAccountBalancesResult;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface BatchGetAccountBalancesUseCase {
+    BatchAccountBalancesResult batchGetBalances(Collection<UUID> accountIds, UUID userId);
+}
@@ -0,0 +1,26 @@
+package com.banking.system.account.domain.model;
+
+import com.banking.system.common.domain.Money;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read-only view of an account's balances.
+ * <p>
+ * Loaded by a projection query for many accounts at once instead of rebuilding each
+ * {@link Account} aggregate.
+ * </p>
+ *
+ * @param accountId        the account ID
+ * @param balance          the ledger balance
+ * @param availableBalance the balance available for withdrawals and transfers
+ * @param updatedAt        when the account was last modified
+ */
+public record AccountBalance(
+        UUID accountId,
+        Money balance,
+        Money availableBalance,
+        Instant updatedAt
+) {
+}
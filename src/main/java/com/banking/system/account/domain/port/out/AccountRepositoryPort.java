@@ -1,8 +1,10 @@
 package com.banking.system.account.domain.port.out;
 
 import com.banking.system.account.domain.model.Account;
+import com.banking.system.account.domain.model.AccountBalance;
 import com.banking.system.account.domain.model.AccountType;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,4 +27,14 @@ public interface AccountRepositoryPort {
     List<Account> findAllByCustomerId(UUID customerId);
 
     boolean existsByCustomerId(UUID customerId);
+
+    /**
+     * Loads the balances of the given accounts that belong to the customer, in one query.
+     * Accounts that do not exist or belong to someone else are simply absent.
+     *
+     * @param accountIds the account IDs to load
+     * @param customerId the customer that must own the accounts
+     * @return the balances found, in no particular order
+     */
+    List<AccountBalance> findBalancesByIdsAndCustomerId(Collection<UUID> accountIds, UUID customerId);
 }
@@ -3,13 +3,18 @@ package com.banking.system.account.infraestructure.adapter.in.rest;
 import com.banking.system.account.application.dto.result.AccountBalanceResult;
 import com.banking.system.account.application.dto.result.AccountPublicResult;
 import com.banking.system.account.application.dto.result.AccountResult;
+import com.banking.system.account.application.dto.result.BatchAccountBalancesResult;
+import com.banking.system.account.application.usecase.BatchGetAccountBalancesUseCase;
 import com.banking.system.account.application.usecase.CreateAccountUseCase;
 import com.banking.system.account.application.usecase.FindAccountByIdUseCase;
 import com.banking.system.account.application.usecase.FindAllAccountsByUserId;
 import com.banking.system.account.application.usecase.GetAccountBalanceUseCase;
 import com.banking.system.account.application.usecase.SearchAccountByAliasUseCase;
 import com.banking.system.account.domain.model.AccountType;
+import com.banking.system.account.infraestructure.adapter.in.rest.dto.request.BatchGetBalancesRequest;
 import com.banking.system.account.infraestructure.adapter.in.rest.dto.request.CreateAccountRequest;
+import com.banking.system.auth.domain.model.PermissionCode;
+import com.banking.system.auth.infraestructure.adapter.out.security.RequiresPermission;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -43,6 +48,7 @@ public class  AccountRestController {
     private final FindAccountByIdUseCase findAccountByIdUseCase;
     private final FindAllAccountsByUserId findAllAccountsByUserId;
     private final GetAccountBalanceUseCase getAccountBalanceUseCase;
+    private final BatchGetAccountBalancesUseCase batchGetAccountBalancesUseCase;
     private final SearchAccountByAliasUseCase searchAccountByAliasUseCase;
 
     @Operation(
@@ -55,7 +61,7 @@ public class  AccountRestController {
             @ApiResponse(responseCode = "403", description = "Role not authorized for this operation"),
             @ApiResponse(responseCode = "422", description = "KYC not approved or USD account limit reached")
     })
-    @PreAuthorize("hasAuthority('ACCOUNT_CREATE')")
+    @RequiresPermission(PermissionCode.ACCOUNT_CREATE)
     @PostMapping
     public ResponseEntity<AccountResult> createAccount(
             @Parameter(hidden = true) @AuthenticationPrincipal UUID userId,
@@ -81,7 +87,7 @@ public class  AccountRestController {
             @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
             @ApiResponse(responseCode = "404", description = "Customer profile not found for this user")
     })
-    @PreAuthorize("hasAuthority('ACCOUNT_VIEW_OWN')")
+    @RequiresPermission(PermissionCode.ACCOUNT_VIEW_OWN)
     @GetMapping("/me")
     public ResponseEntity<List<AccountResult>> getAllAccountByUserId(
             @Parameter(hidden = true) @AuthenticationPrincipal UUID userId) {
@@ -99,7 +105,7 @@ public class  AccountRestController {
             @ApiResponse(responseCode = "403", description = "Account does not belong to the authenticated user"),
             @ApiResponse(responseCode = "404", description = "Account not found")
     })
-    @PreAuthorize("hasAuthority('ACCOUNT_VIEW_OWN')")
+    @RequiresPermission(PermissionCode.ACCOUNT_VIEW_OWN)
     @GetMapping("/me/{accountId}")
     public ResponseEntity<AccountResult> getAccountByIdForCustomer(
             @Parameter(description = "Account ID to retrieve", example = "550e8400-e29b-41d4-a716-446655440000")
@@ -119,7 +125,7 @@ public class  AccountRestController {
             @ApiResponse(responseCode = "403", description = "Role not authorized for this operation"),
             @ApiResponse(responseCode = "404", description = "Account not found")
     })
-    @PreAuthorize("hasAuthority('ACCOUNT_VIEW_ALL')")
+    @RequiresPermission(PermissionCode.ACCOUNT_VIEW_ALL)
     @GetMapping("/{accountId}")
     public ResponseEntity<AccountResult> getAccountById(
             @Parameter(description = "Account ID to retrieve", example = "550e8400-e29b-41d4-a716-446655440000")
@@ -138,7 +144,7 @@ public class  AccountRestController {
             @ApiResponse(responseCode = "403", description = "Account does not belong to the authenticated user"),
             @ApiResponse(responseCode = "404", description = "Account not found")
     })
-    @PreAuthorize("hasAuthority('ACCOUNT_VIEW_OWN')")
+    @RequiresPermission(PermissionCode.ACCOUNT_VIEW_OWN)
     @GetMapping("/me/{accountId}/balance")
     public ResponseEntity<AccountBalanceResult> getAccountBalance(
             @Parameter(description = "Account ID", example = "550e8400-e29b-41d4-a716-446655440000")
@@ -148,6 +154,27 @@ public class  AccountRestController {
         return ResponseEntity.ok().body(result);
     }
 
+    @Operation(
+            summary = "Get balances of several accounts",
+            description = "Retrieves the balances of up to " + BatchGetBalancesRequest.MAX_ACCOUNT_IDS + " accounts owned by the authenticated user in one call. "
+                    + "Accounts that do not exist or are not owned by the user are listed as not found."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Balances retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "No account IDs or too many account IDs"),
+            @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
+            @ApiResponse(responseCode = "403", description = "Customer profile not found for this user"),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent reads, retry later")
+    })
+    @RequiresPermission(PermissionCode.ACCOUNT_VIEW_OWN)
+    @PostMapping("/balances:batchGet")
+    public ResponseEntity<BatchAccountBalancesResult> batchGetBalances(
+            @Parameter(hidden = true) @AuthenticationPrincipal UUID userId,
+            @RequestBody @Valid BatchGetBalancesRequest request) {
+        var result = batchGetAccountBalancesUseCase.batchGetBalances(request.accountIds(), userId);
+        return ResponseEntity.ok().body(result);
+    }
+
     @Operation(
             summary = "Search account by alias",
             description = "Searches for a bank account by its alias. Returns public information only (alias, owner name, currency, account type)."
@@ -157,7 +184,7 @@ public class  AccountRestController {
             @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
             @ApiResponse(responseCode = "404", description = "Account not found for the given alias")
     })
-    @PreAuthorize("hasAuthority('ACCOUNT_VIEW_OWN')")
+    @RequiresPermission(PermissionCode.ACCOUNT_VIEW_OWN)
     @GetMapping("/search")
     public ResponseEntity<AccountPublicResult> searchByAlias(
             @Parameter(description = "Account alias to search", example = "happy.tree.42")
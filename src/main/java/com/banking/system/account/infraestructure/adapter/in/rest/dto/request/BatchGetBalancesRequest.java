@@ -0,0 +1,17 @@
+package com.banking.system.account.infraestructure.adapter.in.rest.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BatchGetBalancesRequest(
+        @NotEmpty(message = "Account IDs are required")
+        @Size(max = BatchGetBalancesRequest.MAX_ACCOUNT_IDS,
+                message = "At most " + BatchGetBalancesRequest.MAX_ACCOUNT_IDS + " account IDs per request")
+        List<@NotNull(message = "Account ID must not be null") UUID> accountIds
+) {
+    public static final int MAX_ACCOUNT_IDS = 200;
+}
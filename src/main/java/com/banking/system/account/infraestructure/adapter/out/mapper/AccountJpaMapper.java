@@ -2,10 +2,12 @@ package com.banking.system.account.infraestructure.adapter.out.mapper;
 
 import com.banking.system.account.domain.model.Account;
 import com.banking.system.account.domain.model.AccountAlias;
+import com.banking.system.account.domain.model.AccountBalance;
 import com.banking.system.account.domain.model.AccountNumber;
 import com.banking.system.common.domain.Money;
 import com.banking.system.common.domain.MoneyCurrency;
 import com.banking.system.account.infraestructure.adapter.out.persistence.entity.AccountJpaEntity;
+import com.banking.system.account.infraestructure.adapter.out.persistence.projection.AccountBalanceProjection;
 
 public class AccountJpaMapper {
     public static AccountJpaEntity toJpaEntity(Account account) {
@@ -47,4 +49,15 @@ public class AccountJpaMapper {
                 accountJpaEntity.getUpdatedAt()
         );
     }
+
+    public static AccountBalance toBalance(AccountBalanceProjection projection) {
+        MoneyCurrency currency = MoneyCurrency.ofCode(projection.getCurrency());
+
+        return new AccountBalance(
+                projection.getId(),
+                Money.of(projection.getBalance(), currency),
+                Money.of(projection.getAvailableBalance(), currency),
+                projection.getUpdatedAt()
+        );
+    }
 }
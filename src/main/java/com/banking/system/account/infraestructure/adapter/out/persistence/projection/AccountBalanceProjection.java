@@ -0,0 +1,21 @@
+package com.banking.system.account.infraestructure.adapter.out.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Scalar projection of the balance columns of an {@code accounts} row, read by a native
+ * query so no entity is loaded.
+ */
+public interface AccountBalanceProjection {
+    UUID getId();
+
+    BigDecimal getBalance();
+
+    BigDecimal getAvailableBalance();
+
+    String getCurrency();
+
+    Instant getUpdatedAt();
+}
@@ -1,12 +1,14 @@
 package com.banking.system.account.infraestructure.adapter.out.persistence.repository;
 
 import com.banking.system.account.domain.model.Account;
+import com.banking.system.account.domain.model.AccountBalance;
 import com.banking.system.account.domain.model.AccountType;
 import com.banking.system.account.domain.port.out.AccountRepositoryPort;
 import com.banking.system.account.infraestructure.adapter.out.mapper.AccountJpaMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -66,4 +68,12 @@ public class AccountRepositoryAdapter implements AccountRepositoryPort {
     public boolean existsByCustomerId(UUID customerId) {
         return springDataAccountRepository.existsByCustomerId(customerId);
     }
+
+    @Override
+    public List<AccountBalance> findBalancesByIdsAndCustomerId(Collection<UUID> accountIds, UUID customerId) {
+        return springDataAccountRepository
+                .findBalancesByIdsAndCustomerId(accountIds.toArray(UUID[]::new), customerId).stream()
+                .map(AccountJpaMapper::toBalance)
+                .toList();
+    }
 }
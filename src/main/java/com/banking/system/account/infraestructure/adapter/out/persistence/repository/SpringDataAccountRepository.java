@@ -2,7 +2,10 @@ package com.banking.system.account.infraestructure.adapter.out.persistence.repos
 
 import com.banking.system.account.domain.model.AccountType;
 import com.banking.system.account.infraestructure.adapter.out.persistence.entity.AccountJpaEntity;
+import com.banking.system.account.infraestructure.adapter.out.persistence.projection.AccountBalanceProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -26,4 +29,14 @@ public interface SpringDataAccountRepository extends JpaRepository<AccountJpaEnt
     Optional<AccountJpaEntity> findByCustomerId(UUID customerId);
 
     boolean existsByCustomerId(UUID customerId);
+
+    // One array parameter instead of an expanded IN list, so every batch size shares a plan.
+    // Aliases are quoted: Postgres folds unquoted ones to lowercase, which the projection getters would not match.
+    @Query(value = """
+            SELECT id, balance, available_balance AS "availableBalance", currency, updated_at AS "updatedAt"
+            FROM accounts
+            WHERE id = ANY(:ids) AND customer_id = :customerId
+            """, nativeQuery = true)
+    List<AccountBalanceProjection> findBalancesByIdsAndCustomerId(@Param("ids") UUID[] ids,
+                                                                  @Param("customerId") UUID customerId);
 }
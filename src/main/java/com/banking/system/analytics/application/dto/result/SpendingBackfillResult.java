@@ -0,0 +1,9 @@
+package com.banking.system.analytics.application.dto.result;
+
+public record SpendingBackfillResult(
+        int customers,
+        int chunks,
+        long rollups,
+        long elapsedMs
+) {
+}
@@ -0,0 +1,23 @@
+package com.banking.system.analytics.application.dto.result;
+
+import com.banking.system.analytics.domain.model.SpendingRollup;
+
+import java.math.BigDecimal;
+
+public record SpendingRollupResult(
+        String month,
+        String category,
+        BigDecimal totalAmount,
+        String currency,
+        long transferCount
+) {
+    public static SpendingRollupResult fromDomain(SpendingRollup rollup) {
+        return new SpendingRollupResult(
+                rollup.month().toString(),
+                rollup.category().name(),
+                rollup.total().getValue(),
+                rollup.total().getCurrency().code(),
+                rollup.transferCount()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.banking.system.analytics.application.dto.result;
+
+import java.util.List;
+
+/**
+ * Outgoing transfers of a customer grouped by month, category and currency, latest month
+ * first. Months or categories without transfers are absent.
+ */
+public record SpendingSummaryResult(
+        String from,
+        String to,
+        List<SpendingRollupResult> rollups
+) {
+}
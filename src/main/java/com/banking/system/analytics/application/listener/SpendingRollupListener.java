@@ -0,0 +1,31 @@
+package com.banking.system.analytics.application.listener;
+
+import com.banking.system.analytics.application.service.SpendingAnalyticsService;
+import com.banking.system.transaction.application.event.TransferCompletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Refreshes the spending rollup of each committed transfer. A failure only leaves that
+ * rollup stale until the next transfer in it or the next backfill; the transfer itself
+ * has already succeeded.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpendingRollupListener {
+
+    private final SpendingAnalyticsService spendingAnalyticsService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(TransferCompletedEvent event) {
+        try {
+            spendingAnalyticsService.refreshForTransfer(event.transfer().getId());
+        } catch (RuntimeException e) {
+            log.error("Could not refresh the spending rollup of transfer {}", event.transfer().getId(), e);
+        }
+    }
+}
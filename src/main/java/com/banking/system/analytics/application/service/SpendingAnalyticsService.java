@@ -0,0 +1,122 @@
+package com.banking.system.analytics.application.service;
+
+import com.banking.system.analytics.application.dto.result.SpendingBackfillResult;
+import com.banking.system.analytics.application.dto.result.SpendingRollupResult;
+import com.banking.system.analytics.application.dto.result.SpendingSummaryResult;
+import com.banking.system.analytics.application.usecase.BackfillSpendingRollupsUseCase;
+import com.banking.system.analytics.application.usecase.GetSpendingSummaryUseCase;
+import com.banking.system.analytics.domain.port.out.SpendingRollupRepositoryPort;
+import com.banking.system.common.infraestructure.bulkhead.Workload;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkhead;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkheads;
+import com.banking.system.common.infraestructure.concurrency.ParallelBatches;
+import com.banking.system.customer.domain.exception.CustomerNotFoundException;
+import com.banking.system.customer.domain.port.out.CustomerRepositoryPort;
+import com.banking.system.transaction.domain.exception.KycNotApprovedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spending analytics served from pre-aggregated rollups, so a chart costs one index
+ * range read however many transfers it covers.
+ * <p>
+ * Each completed transfer refreshes only the rollup it falls in. The backfill recomputes
+ * every customer's history in chunks of {@code spending-rollups.backfill.chunk-size}
+ * customers, each in its own transaction under its own BATCH permit, at most
+ * {@code spending-rollups.backfill.parallelism} chunks, and never more than the BATCH
+ * bulkhead allows, at a time.
+ * </p>
+ */
+@Slf4j
+@Service
+public class SpendingAnalyticsService implements GetSpendingSummaryUseCase, BackfillSpendingRollupsUseCase {
+
+    static final int DEFAULT_MONTHS = 12;
+    static final int MAX_MONTHS = 36;
+
+    private final SpendingRollupRepositoryPort spendingRollupRepositoryPort;
+    private final CustomerRepositoryPort customerRepositoryPort;
+    private final WorkloadBulkheads workloadBulkheads;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public SpendingAnalyticsService(
+            SpendingRollupRepositoryPort spendingRollupRepositoryPort,
+            CustomerRepositoryPort customerRepositoryPort,
+            WorkloadBulkheads workloadBulkheads,
+            PlatformTransactionManager transactionManager,
+            @Value("${spending-rollups.backfill.chunk-size:500}") int chunkSize,
+            @Value("${spending-rollups.backfill.parallelism:2}") int parallelism) {
+        this.spendingRollupRepositoryPort = spendingRollupRepositoryPort;
+        this.customerRepositoryPort = customerRepositoryPort;
+        this.workloadBulkheads = workloadBulkheads;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Spending between two months, inclusive. Defaults to the last {@value #DEFAULT_MONTHS}
+     * months up to the current one.
+     */
+    @Override
+    @WorkloadBulkhead(Workload.READS)
+    @Transactional(readOnly = true)
+    public SpendingSummaryResult getSpendingSummary(UUID userId, YearMonth from, YearMonth to) {
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(DEFAULT_MONTHS - 1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("'from' cannot be after 'to'");
+        }
+        if (ChronoUnit.MONTHS.between(start, end) >= MAX_MONTHS) {
+            throw new IllegalArgumentException("Spending can be requested for at most " + MAX_MONTHS + " months");
+        }
+
+        var customer = customerRepositoryPort.findByUserId(userId)
+                .orElseThrow(() -> new CustomerNotFoundException("Customer not found for userId: " + userId));
+        if (!customer.isKycApproved()) {
+            throw new KycNotApprovedException("KYC not approved for the customer");
+        }
+
+        List<SpendingRollupResult> rollups = spendingRollupRepositoryPort.findByCustomerId(customer.getId(), start, end).stream()
+                .map(SpendingRollupResult::fromDomain)
+                .toList();
+        return new SpendingSummaryResult(start.toString(), end.toString(), rollups);
+    }
+
+    /**
+     * Refreshes the rollup of a committed transfer. Runs in its own transaction because
+     * it is called after the transfer's transaction has already committed.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refreshForTransfer(UUID transferId) {
+        spendingRollupRepositoryPort.refreshForTransfer(transferId);
+    }
+
+    @Override
+    public SpendingBackfillResult backfill() {
+        long startedAt = System.nanoTime();
+        List<UUID> customerIds = workloadBulkheads.execute(Workload.BATCH, spendingRollupRepositoryPort::findAllCustomerIds);
+        int workers = Math.min(parallelism, workloadBulkheads.maxConcurrentCalls(Workload.BATCH));
+        log.info("Backfilling spending rollups for {} customers with {} workers", customerIds.size(), workers);
+
+        var outcome = ParallelBatches.run("spending-backfill", customerIds, chunkSize, workers,
+                chunk -> workloadBulkheads.execute(Workload.BATCH,
+                        () -> chunkTransaction.execute(status -> spendingRollupRepositoryPort.backfillCustomers(chunk))));
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Spending rollups backfilled: {} rollups in {} ms", outcome.total(), elapsedMs);
+        return new SpendingBackfillResult(outcome.items(), outcome.batches(), outcome.total(), elapsedMs);
+    }
+}
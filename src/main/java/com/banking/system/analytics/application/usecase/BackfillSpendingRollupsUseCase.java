@@ -0,0 +1,7 @@
+package com.banking.system.analytics.application.usecase;
+
+import com.banking.system.analytics.application.dto.result.SpendingBackfillResult;
+
+public interface BackfillSpendingRollupsUseCase {
+    SpendingBackfillResult backfill();
+}
@@ -0,0 +1,10 @@
+package com.banking.system.analytics.application.usecase;
+
+import com.banking.system.analytics.application.dto.result.SpendingSummaryResult;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+public interface GetSpendingSummaryUseCase {
+    SpendingSummaryResult getSpendingSummary(UUID userId, YearMonth from, YearMonth to);
+}
@@ -0,0 +1,26 @@
+package com.banking.system.analytics.domain.model;
+
+import com.banking.system.common.domain.Money;
+import com.banking.system.transaction.domain.model.TransferCategory;
+
+import java.time.YearMonth;
+
+/**
+ * What a customer sent out through transfers of one category in one month, per currency.
+ * <p>
+ * A read model derived from the transfers table; it is never written directly and can
+ * be regenerated from it.
+ * </p>
+ *
+ * @param month         the calendar month of the transfers
+ * @param category      the transfer category
+ * @param total         sum of the transfer amounts, in the transfers' currency
+ * @param transferCount number of transfers
+ */
+public record SpendingRollup(
+        YearMonth month,
+        TransferCategory category,
+        Money total,
+        long transferCount
+) {
+}
@@ -0,0 +1,42 @@
+package com.banking.system.analytics.domain.port.out;
+
+import com.banking.system.analytics.domain.model.SpendingRollup;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-customer, per-category, per-month spending rollups. Every write recomputes whole
+ * rollups from the transfers table instead of adding to them, and writes to the same
+ * rollup are serialized by the implementation, so the live path and a backfill can
+ * overlap without an older total overwriting a newer one. Writes must run inside a
+ * transaction.
+ */
+public interface SpendingRollupRepositoryPort {
+
+    /**
+     * Recomputes the rollup the transfer falls in: its source customer, category and month.
+     *
+     * @param transferId the completed transfer
+     */
+    void refreshForTransfer(UUID transferId);
+
+    /**
+     * Rollups of a customer between two months, inclusive, latest month first.
+     */
+    List<SpendingRollup> findByCustomerId(UUID customerId, YearMonth from, YearMonth to);
+
+    /**
+     * IDs of every customer, in a stable order, to split a backfill into chunks.
+     */
+    List<UUID> findAllCustomerIds();
+
+    /**
+     * Recomputes every rollup of the customers from their whole transfer history.
+     *
+     * @param customerIds the customers to backfill
+     * @return the number of rollups written
+     */
+    int backfillCustomers(List<UUID> customerIds);
+}
@@ -0,0 +1,57 @@
+package com.banking.system.analytics.infraestructure.adapter.in.rest;
+
+import com.banking.system.analytics.application.dto.result.SpendingSummaryResult;
+import com.banking.system.analytics.application.usecase.GetSpendingSummaryUseCase;
+import com.banking.system.auth.domain.model.PermissionCode;
+import com.banking.system.auth.infraestructure.adapter.out.security.RequiresPermission;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/analytics")
+@Tag(name = "Analytics", description = "Spending insights for the authenticated customer")
+@SecurityRequirement(name = "Bearer Authentication")
+public class SpendingAnalyticsRestController {
+
+    private final GetSpendingSummaryUseCase getSpendingSummaryUseCase;
+
+    @Operation(
+            summary = "Get my spending by category",
+            description = "Returns the customer's outgoing transfers totalled per month, transfer category and currency, latest month first. " +
+                    "Served from rollups kept current on every completed transfer. Defaults to the last 12 months; at most 36 months per request."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Spending retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid month range"),
+            @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
+            @ApiResponse(responseCode = "404", description = "Customer not found"),
+            @ApiResponse(responseCode = "422", description = "Business rule violation (KYC not approved)")
+    })
+    @RequiresPermission(PermissionCode.TRANSACTION_VIEW_OWN)
+    @GetMapping("/spending")
+    public ResponseEntity<SpendingSummaryResult> getMySpending(
+            @Parameter(description = "First month, inclusive", example = "2026-01")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @Parameter(description = "Last month, inclusive", example = "2026-06")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UUID userId) {
+        return ResponseEntity.ok(getSpendingSummaryUseCase.getSpendingSummary(userId, from, to));
+    }
+}
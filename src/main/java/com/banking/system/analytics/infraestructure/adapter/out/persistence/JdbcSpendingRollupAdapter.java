@@ -0,0 +1,140 @@
+package com.banking.system.analytics.infraestructure.adapter.out.persistence;
+
+import com.banking.system.analytics.domain.model.SpendingRollup;
+import com.banking.system.analytics.domain.port.out.SpendingRollupRepositoryPort;
+import com.banking.system.common.domain.Money;
+import com.banking.system.common.domain.MoneyCurrency;
+import com.banking.system.transaction.domain.model.TransferCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * {@link SpendingRollupRepositoryPort} over plain SQL: the rollups are aggregates written
+ * with {@code INSERT ... SELECT ... ON CONFLICT}, which JPA cannot express.
+ * <p>
+ * A transfer counts as spending of the customer owning its source account, in the month
+ * of its {@code executed_at}, once its debit transaction is completed.
+ * </p>
+ * <p>
+ * A rollup is recomputed from a snapshot, so two overlapping writes to the same rollup
+ * could commit out of order and leave the older total. Writers therefore serialize on
+ * transaction-scoped advisory locks before aggregating: a refresh takes its customer's lock
+ * shared and its cell's lock exclusive, a backfill takes its customers' locks exclusive.
+ * Under READ COMMITTED the aggregate that follows the lock sees every write committed
+ * before it was granted. Callers must run both methods inside a transaction.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcSpendingRollupAdapter implements SpendingRollupRepositoryPort {
+
+    private static final String UPSERT = """
+            ON CONFLICT (customer_id, month, category, currency) DO UPDATE SET
+                total_amount = EXCLUDED.total_amount,
+                transfer_count = EXCLUDED.transfer_count,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    // Customer locks use the (int, int) key space under this class id ("SPND"), cell locks the
+    // bigint one, so the two kinds never collide
+    private static final int CUSTOMER_LOCK_SPACE = 0x5350_4e44;
+
+    private static final String LOCK_CELL_FOR_TRANSFER_SQL = """
+            SELECT pg_advisory_xact_lock_shared(:lockSpace, hashtext(a.customer_id::text)),
+                   pg_advisory_xact_lock(hashtextextended(
+                           a.customer_id::text || t.category || date_trunc('month', t.executed_at)::date::text, 0))
+            FROM transfers t
+                     JOIN accounts a ON a.id = t.source_account_id
+            WHERE t.id = :transferId
+            """;
+
+    private static final String LOCK_CUSTOMERS_SQL = """
+            SELECT pg_advisory_xact_lock(:lockSpace, hashtext(c.id::text))
+            FROM (SELECT id FROM customers WHERE id IN (:customerIds) ORDER BY id) c
+            """;
+
+    // Re-aggregates the one (customer, category, month) cell the transfer belongs to
+    private static final String REFRESH_FOR_TRANSFER_SQL = """
+            WITH cell AS (SELECT a.customer_id, t.category, date_trunc('month', t.executed_at) AS month_start
+                          FROM transfers t
+                                   JOIN accounts a ON a.id = t.source_account_id
+                          WHERE t.id = :transferId)
+            INSERT INTO spending_rollups (customer_id, month, category, currency, total_amount, transfer_count, updated_at)
+            SELECT c.customer_id, c.month_start::date, c.category, t.currency, SUM(t.amount), COUNT(*), NOW()
+            FROM cell c
+                     JOIN accounts a ON a.customer_id = c.customer_id
+                     JOIN transfers t ON t.source_account_id = a.id
+                                     AND t.category = c.category
+                                     AND t.executed_at >= c.month_start
+                                     AND t.executed_at < c.month_start + INTERVAL '1 month'
+                     JOIN transactions d ON d.id = t.debit_transaction_id AND d.status = 'COMPLETED'
+            GROUP BY c.customer_id, c.month_start, c.category, t.currency
+            """ + UPSERT;
+
+    private static final String DELETE_CUSTOMERS_SQL = """
+            DELETE FROM spending_rollups WHERE customer_id IN (:customerIds)
+            """;
+
+    private static final String BACKFILL_CUSTOMERS_SQL = """
+            INSERT INTO spending_rollups (customer_id, month, category, currency, total_amount, transfer_count, updated_at)
+            SELECT a.customer_id, date_trunc('month', t.executed_at)::date, t.category, t.currency, SUM(t.amount), COUNT(*), NOW()
+            FROM accounts a
+                     JOIN transfers t ON t.source_account_id = a.id
+                     JOIN transactions d ON d.id = t.debit_transaction_id AND d.status = 'COMPLETED'
+            WHERE a.customer_id IN (:customerIds)
+            GROUP BY 1, 2, 3, 4
+            """ + UPSERT;
+
+    private static final String FIND_BY_CUSTOMER_SQL = """
+            SELECT month, category, currency, total_amount, transfer_count
+            FROM spending_rollups
+            WHERE customer_id = :customerId AND month BETWEEN :from AND :to
+            ORDER BY month DESC, total_amount DESC, category
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void refreshForTransfer(UUID transferId) {
+        // Separate statement: the aggregate must take its snapshot after the lock is granted
+        jdbcTemplate.queryForList(LOCK_CELL_FOR_TRANSFER_SQL,
+                Map.of("lockSpace", CUSTOMER_LOCK_SPACE, "transferId", transferId));
+        jdbcTemplate.update(REFRESH_FOR_TRANSFER_SQL, Map.of("transferId", transferId));
+    }
+
+    @Override
+    public List<SpendingRollup> findByCustomerId(UUID customerId, YearMonth from, YearMonth to) {
+        var parameters = Map.<String, Object>of(
+                "customerId", customerId,
+                "from", from.atDay(1),
+                "to", to.atDay(1));
+
+        return jdbcTemplate.query(FIND_BY_CUSTOMER_SQL, parameters, (rs, rowNum) -> new SpendingRollup(
+                YearMonth.from(rs.getDate("month").toLocalDate()),
+                TransferCategory.valueOf(rs.getString("category")),
+                Money.of(rs.getBigDecimal("total_amount"), MoneyCurrency.ofCode(rs.getString("currency"))),
+                rs.getLong("transfer_count")
+        ));
+    }
+
+    @Override
+    public List<UUID> findAllCustomerIds() {
+        return jdbcTemplate.getJdbcTemplate().queryForList("SELECT id FROM customers ORDER BY id", UUID.class);
+    }
+
+    @Override
+    public int backfillCustomers(List<UUID> customerIds) {
+        var parameters = Map.of("customerIds", customerIds);
+        jdbcTemplate.queryForList(LOCK_CUSTOMERS_SQL,
+                Map.of("lockSpace", CUSTOMER_LOCK_SPACE, "customerIds", customerIds));
+        // Rollups are replaced, not merged, so a backfill also drops rollups with no completed transfer left
+        jdbcTemplate.update(DELETE_CUSTOMERS_SQL, parameters);
+        return jdbcTemplate.update(BACKFILL_CUSTOMERS_SQL, parameters);
+    }
+}
@@ -0,0 +1,31 @@
+package com.banking.system.analytics.infraestructure.job;
+
+import com.banking.system.analytics.application.usecase.BackfillSpendingRollupsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recomputes all spending rollups from the transfers table at startup.
+ *
+ * <p>Off by default. Run once with {@code --spending-rollups.backfill-on-startup=true}
+ * after changing how rollups are computed or to repair rollups whose live refresh failed.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spending-rollups.backfill-on-startup", havingValue = "true")
+public class SpendingRollupBackfillRunner implements ApplicationRunner {
+
+    private final BackfillSpendingRollupsUseCase backfillSpendingRollupsUseCase;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var result = backfillSpendingRollupsUseCase.backfill();
+        log.info("Spending rollup backfill finished: {} customers, {} chunks, {} rollups, {} ms",
+                result.customers(), result.chunks(), result.rollups(), result.elapsedMs());
+    }
+}
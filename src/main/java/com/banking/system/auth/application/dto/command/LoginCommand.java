@@ -2,6 +2,7 @@ package com.banking.system.auth.application.dto.command;
 
 public record LoginCommand(
         String email,
-        String password
+        String password,
+        String clientIp
 ) {
 }
@@ -0,0 +1,56 @@
+package com.banking.system.auth.application.port.out;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Tracks failed login attempts in sliding windows per user and per client IP.
+ * <p>
+ * Implementations keep counters outside the relational database, so a brute-force
+ * burst never turns into a stream of row updates. Only lock transitions are reported
+ * back to the caller, which persists them through {@link LoginTrackingPort}.
+ * </p>
+ */
+public interface LoginAttemptPort {
+
+    /**
+     * Returns the active lock covering the user or the client IP, if any.
+     * Must be called before verifying the password so locked attempts cost no hashing.
+     *
+     * @param userId   the user ID, or null when the email is unknown
+     * @param clientIp the client IP address
+     * @return the instant the lock expires, or empty if the attempt may proceed
+     */
+    Optional<Instant> findActiveLock(UUID userId, String clientIp);
+
+    /**
+     * Records a failed attempt for the user and the client IP.
+     *
+     * @param userId   the user ID, or null when the email is unknown
+     * @param clientIp the client IP address
+     * @return the outcome, reporting a new user lock when this failure triggered one
+     */
+    FailureOutcome recordFailure(UUID userId, String clientIp);
+
+    /**
+     * Resets the user's failure window after a successful login.
+     *
+     * @param userId the user ID
+     * @return true if a lock was persisted for this user and must now be cleared
+     */
+    boolean recordSuccess(UUID userId);
+
+    /**
+     * @param failedAttempts failures of the user inside the current window
+     * @param lockedUntil    expiry of the lock this failure created, or null if none was created
+     */
+    record FailureOutcome(int failedAttempts, Instant lockedUntil) {
+
+        public static final FailureOutcome NONE = new FailureOutcome(0, null);
+
+        public boolean lockCreated() {
+            return lockedUntil != null;
+        }
+    }
+}
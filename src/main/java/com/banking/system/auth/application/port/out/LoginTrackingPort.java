@@ -6,10 +6,29 @@ import java.util.UUID;
 public interface LoginTrackingPort {
 
     /**
-     * Reads the current lastLoginAt, persists Instant.now(), and returns the previous value.
+     * Records Instant.now() as lastLoginAt and returns the previous value.
+     * Implementations either swap the value in one statement or buffer it and persist it
+     * later (write-behind), so the returned value is the last login known to the system.
      *
      * @param userId the user ID
      * @return the previous lastLoginAt (may be null for first login)
      */
     Instant registerLogin(UUID userId);
+
+    /**
+     * Persists a lock transition in the background (failed_login_attempts, locked_until).
+     * Runs outside the caller's transaction, which is rolled back by the failed login.
+     *
+     * @param userId         the user ID
+     * @param failedAttempts failures that triggered the lock
+     * @param lockedUntil    when the lock expires
+     */
+    void registerLock(UUID userId, int failedAttempts, Instant lockedUntil);
+
+    /**
+     * Clears a previously persisted lock in the background.
+     *
+     * @param userId the user ID
+     */
+    void clearLock(UUID userId);
 }
@@ -11,6 +11,7 @@ import com.banking.system.auth.application.event.publisher.UserEventPublisher;
 import com.banking.system.auth.application.usecase.*;
 import com.banking.system.auth.domain.exception.*;
 import com.banking.system.auth.domain.model.*;
+import com.banking.system.auth.application.port.out.LoginAttemptPort;
 import com.banking.system.auth.application.port.out.LoginTrackingPort;
 import com.banking.system.auth.domain.port.out.*;
 import lombok.extern.slf4j.Slf4j;
@@ -39,7 +40,9 @@ public class AuthService implements
     private final VerificationTokenRepositoryPort verificationTokenRepository;
     private final TwoFactorService twoFactorService;
     private final LoginTrackingPort loginTrackingPort;
+    private final LoginAttemptPort loginAttemptPort;
     private final RefreshTokenRepositoryPort refreshTokenRepository;
+    private final AccessTokenRevocationPort accessTokenRevocation;
 
     public AuthService(
             UserRepositoryPort userRepository,
@@ -50,7 +53,9 @@ public class AuthService implements
             VerificationTokenRepositoryPort verificationTokenRepository,
             @Lazy TwoFactorService twoFactorService,
             LoginTrackingPort loginTrackingPort,
-            RefreshTokenRepositoryPort refreshTokenRepository) {
+            LoginAttemptPort loginAttemptPort,
+            RefreshTokenRepositoryPort refreshTokenRepository,
+            AccessTokenRevocationPort accessTokenRevocation) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.userEventPublisher = userEventPublisher;
@@ -59,60 +64,93 @@ public class AuthService implements
         this.verificationTokenRepository = verificationTokenRepository;
         this.twoFactorService = twoFactorService;
         this.loginTrackingPort = loginTrackingPort;
+        this.loginAttemptPort = loginAttemptPort;
         this.refreshTokenRepository = refreshTokenRepository;
+        this.accessTokenRevocation = accessTokenRevocation;
     }
 
     @Override
     @Transactional
     public LoginResult login(LoginCommand command) {
-        User user = userRepository.findByEmail(command.email())
-                .orElseThrow(() -> new UserNotFoundException("Invalid credentials"));
+        // Only the credentials are loaded; the role's permissions come from the cache when issuing the token
+        UserCredentials user = userRepository.findCredentialsByEmail(command.email()).orElse(null);
+        UUID userId = user != null ? user.id() : null;
+
+        // Lockouts are checked before hashing so locked attempts cost no CPU
+        if (loginAttemptPort.findActiveLock(userId, command.clientIp()).isPresent())
+            throw new UserIsLockedException("Too many failed login attempts, try again later");
+
+        if (user == null) {
+            loginAttemptPort.recordFailure(null, command.clientIp());
+            throw new UserNotFoundException("Invalid credentials");
+        }
 
         // for security verify password is the first check
-        if (!passwordHasher.verify(command.password(), user.getPassword().value()))
+        if (!passwordHasher.verify(command.password(), user.passwordHash())) {
+            recordLoginFailure(userId, command.clientIp());
             throw new InvalidCredentialsException("Invalid credentials");
+        }
 
-        if (user.getStatus() == UserStatus.BLOCKED)
+        if (loginAttemptPort.recordSuccess(userId))
+            loginTrackingPort.clearLock(userId);
+
+        if (user.status() == UserStatus.BLOCKED)
             throw new UserIsLockedException("User account is blocked");
 
-        if (user.getStatus() == UserStatus.PENDING_VERIFICATION)
+        if (user.status() == UserStatus.PENDING_VERIFICATION)
             throw new LoginAuthenticationAccessException("Please verify your email before logging in");
 
+        // The plain password is only available here, so hashes below the current cost are upgraded
+        // once the login is known to succeed; blocked and unverified users never pay for the extra hash
+        if (passwordHasher.needsRehash(user.passwordHash())) {
+            userRepository.updatePasswordHash(userId, passwordHasher.hash(command.password()));
+            log.info("Password hash upgraded to the current cost for user: {}", userId);
+        }
+
         // Check if 2FA is enabled
-        if (user.isTwoFactorEnabled()) {
-            log.info("2FA is enabled for user: {}. Generating 2FA code.", user.getId());
-            TwoFactorRequiredResult twoFactorData = twoFactorService.createTwoFactorCode(user);
+        if (user.twoFactorEnabled()) {
+            log.info("2FA is enabled for user: {}. Generating 2FA code.", userId);
+            TwoFactorRequiredResult twoFactorData = twoFactorService.createTwoFactorCode(userId, user.email());
             return LoginResult.withTwoFactorRequired(
-                    user.getId(),
-                    user.getEmail().value(),
+                    userId,
+                    user.email().value(),
                     twoFactorData
             );
         }
 
-        Instant previousLogin = loginTrackingPort.registerLogin(user.getId());
+        Instant previousLogin = loginTrackingPort.registerLogin(userId);
 
-        Role role = user.getRole();
-        String accessToken = tokenGenerator.generateToken(
-                user.getId(),
-                role.getName().name()
-        );
+        // Taken before issuing, so the new token is never older than the revocation cutoff
+        Instant sessionStart = Instant.now();
+        String accessToken = tokenGenerator.generateToken(userId, user.roleName());
 
-        // Single-session policy: revoke any existing sessions before issuing a new one
-        refreshTokenRepository.revokeAllByUserId(user.getId());
+        // Single-session policy: revoke any existing sessions (refresh and access tokens) before issuing a new one
+        if (refreshTokenRepository.revokeAllByUserId(userId) > 0)
+            accessTokenRevocation.revokeAllIssuedBefore(userId, sessionStart);
 
-        RefreshToken refreshToken = RefreshToken.createNew(user.getId());
+        RefreshToken refreshToken = RefreshToken.createNew(userId);
         refreshTokenRepository.save(refreshToken);
 
         return LoginResult.withToken(
-                user.getId(),
-                user.getEmail().value(),
-                role.getName(),
+                userId,
+                user.email().value(),
+                user.roleName(),
                 accessToken,
                 refreshToken.getToken(),
                 previousLogin
         );
     }
 
+    private void recordLoginFailure(UUID userId, String clientIp) {
+        LoginAttemptPort.FailureOutcome outcome = loginAttemptPort.recordFailure(userId, clientIp);
+        if (outcome.lockCreated()) {
+            log.warn("User {} locked until {} after {} failed login attempts",
+                    userId, outcome.lockedUntil(), outcome.failedAttempts());
+            // Only the lock transition reaches the database, asynchronously
+            loginTrackingPort.registerLock(userId, outcome.failedAttempts(), outcome.lockedUntil());
+        }
+    }
+
     @Override
     @Transactional
     public LoginResult refresh(String rawToken) {
@@ -125,28 +163,24 @@ public class AuthService implements
         if (refreshToken.isExpired())
             throw new InvalidRefreshTokenException("Refresh token has expired");
 
-        User user = userRepository.findById(refreshToken.getUserId())
+        UserCredentials user = userRepository.findCredentialsById(refreshToken.getUserId())
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
         // Rotation: revoke the used token and issue a new one
         refreshToken.revoke();
         refreshTokenRepository.save(refreshToken);
 
-        Role role = user.getRole();
-        String newAccessToken = tokenGenerator.generateToken(
-                user.getId(),
-                role.getName().name()
-        );
+        String newAccessToken = tokenGenerator.generateToken(user.id(), user.roleName());
 
-        RefreshToken newRefreshToken = RefreshToken.createNew(user.getId());
+        RefreshToken newRefreshToken = RefreshToken.createNew(user.id());
         refreshTokenRepository.save(newRefreshToken);
 
-        log.info("Refresh token rotated for user: {}", user.getId());
+        log.info("Refresh token rotated for user: {}", user.id());
 
         return LoginResult.withToken(
-                user.getId(),
-                user.getEmail().value(),
-                role.getName(),
+                user.id(),
+                user.email().value(),
+                user.roleName(),
                 newAccessToken,
                 newRefreshToken.getToken(),
                 null
@@ -155,7 +189,14 @@ public class AuthService implements
 
     @Override
     @Transactional
-    public void logout(String rawToken) {
+    public void logout(String rawToken, String accessToken) {
+        // The access token stays valid until expiry unless it is explicitly revoked
+        if (accessToken != null)
+            accessTokenRevocation.revoke(accessToken);
+
+        if (rawToken == null)
+            return;
+
         // If the token no longer exists (already cleaned up by the scheduled job),
         // the session is already terminated — treat it as a successful logout.
         refreshTokenRepository.findByToken(rawToken).ifPresent(refreshToken -> {
@@ -206,10 +247,10 @@ public class AuthService implements
     @Override
     @Transactional(readOnly = true)
     public UserResult findById(UUID userId) {
-        User user = userRepository.findById(userId)
+        UserCredentials user = userRepository.findCredentialsById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
-        return new UserResult(user.getId(), user.getEmail().value());
+        return new UserResult(user.id(), user.email().value());
     }
 
     @Override
@@ -217,17 +258,16 @@ public class AuthService implements
     public void changePassword(UUID userId, ChangeUserPasswordCommand command) {
         log.info("Changing password for user with ID: {}", userId);
 
-        User user = userRepository.findById(userId)
+        UserCredentials user = userRepository.findCredentialsById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
-        if (!passwordHasher.verify(command.oldPassword(), user.getPassword().value())) {
+        if (!passwordHasher.verify(command.oldPassword(), user.passwordHash())) {
             throw new InvalidCredentialsException("Old password is incorrect");
         }
 
         Password hashedNewPassword = Password.fromHash(passwordHasher.hash(command.newPassword()));
 
-        user.changePassword(hashedNewPassword);
-        userRepository.save(user);
+        userRepository.updatePasswordHash(userId, hashedNewPassword.value());
 
         log.info("Password changed successfully for user with ID: {}", userId);
     }
@@ -1,15 +1,14 @@
 package com.banking.system.auth.application.service;
 
+import com.banking.system.auth.infraestructure.adapter.out.ratelimit.HybridRateLimiter;
 import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
 import io.github.bucket4j.BucketConfiguration;
-import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.ConsumptionProbe;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -21,55 +20,44 @@ public class RateLimitingService {
     public static final int API_REQUEST_PER_MINUTE = 60;       // Generous - legitimate authenticated users
     public static final int PUBLIC_REQUEST_PER_MINUTE = 10;    // Moderate - unauthenticated endpoints
 
-    private final ProxyManager<String> proxyManager;
+    // Configurations are immutable, so they are built once instead of on every request
+    private static final BucketConfiguration LOGIN_CONFIG = getConfig(LOGIN_REQUEST_PER_MINUTE);
+    private static final BucketConfiguration API_CONFIG = getConfig(API_REQUEST_PER_MINUTE);
+    private static final BucketConfiguration PUBLIC_CONFIG = getConfig(PUBLIC_REQUEST_PER_MINUTE);
+
+    private final HybridRateLimiter hybridRateLimiter;
 
     /**
-     * Creates a rate limit bucket for login endpoints (strict limit).
+     * Consumes a token from the login bucket (strict limit).
      * Use for: /login, /register, password reset endpoints
      *
      * @param key Unique identifier (typically IP address)
-     * @return Bucket with 5 requests/minute limit
+     * @return consumption result against a 5 requests/minute limit
      */
-    public Bucket resolveBucketForLogin(String key) {
-        return resolveBucket(key, LOGIN_REQUEST_PER_MINUTE);
+    public ConsumptionProbe tryConsumeForLogin(String key) {
+        return hybridRateLimiter.tryConsume(key, LOGIN_CONFIG);
     }
 
     /**
-     * Creates a rate limit bucket for authenticated API endpoints (generous limit).
+     * Consumes a token from the authenticated API bucket (generous limit).
      * Use for: All authenticated endpoints after successful login
      *
      * @param key Unique identifier (typically userId or IP)
-     * @return Bucket with 60 requests/minute limit
+     * @return consumption result against a 60 requests/minute limit
      */
-    public Bucket resolveBucketForAuthenticatedApi(String key) {
-        return resolveBucket(key, API_REQUEST_PER_MINUTE);
+    public ConsumptionProbe tryConsumeForAuthenticatedApi(String key) {
+        return hybridRateLimiter.tryConsume(key, API_CONFIG);
     }
 
     /**
-     * Creates a rate limit bucket for public endpoints (moderate limit).
+     * Consumes a token from the public bucket (moderate limit).
      * Use for: Health checks, public documentation, etc.
      *
      * @param key Unique identifier (typically IP address)
-     * @return Bucket with 10 requests/minute limit
+     * @return consumption result against a 10 requests/minute limit
      */
-    public Bucket resolveBucketForPublic(String key) {
-        return resolveBucket(key, PUBLIC_REQUEST_PER_MINUTE);
-    }
-
-    /**
-     * Generic method to create a bucket with custom capacity.
-     * Uses token bucket algorithm with 1-minute refill interval.
-     * Buckets are stored in Redis for distributed rate limiting.
-     *
-     * @param key      Unique identifier for the bucket
-     * @param capacity Maximum requests allowed per minute
-     * @return Bucket instance for rate limiting
-     */
-    public Bucket resolveBucket(String key, long capacity) {
-        Supplier<BucketConfiguration> configurationSupplier = () -> getConfig(capacity);
-
-        return proxyManager.builder()
-                .build(key, configurationSupplier);
+    public ConsumptionProbe tryConsumeForPublic(String key) {
+        return hybridRateLimiter.tryConsume(key, PUBLIC_CONFIG);
     }
 
     /**
@@ -84,7 +72,7 @@ public class RateLimitingService {
      * @param capacity Number of tokens (requests) allowed per minute
      * @return BucketConfiguration instance
      */
-    private BucketConfiguration getConfig(long capacity) {
+    private static BucketConfiguration getConfig(long capacity) {
         Bandwidth limit = Bandwidth.builder()
                 .capacity(capacity)
                 .refillGreedy(capacity, Duration.ofMinutes(1))
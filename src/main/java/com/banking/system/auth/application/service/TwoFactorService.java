@@ -12,10 +12,12 @@ import com.banking.system.auth.application.usecase.ToggleTwoFactorUseCase;
 import com.banking.system.auth.application.usecase.VerifyTwoFactorUseCase;
 import com.banking.system.auth.domain.exception.TwoFactorCodeException;
 import com.banking.system.auth.domain.exception.UserNotFoundException;
-import com.banking.system.auth.domain.model.Role;
+import com.banking.system.auth.domain.model.Email;
 import com.banking.system.auth.domain.model.TwoFactorCode;
 import com.banking.system.auth.domain.model.User;
+import com.banking.system.auth.domain.model.UserCredentials;
 import com.banking.system.auth.domain.model.RefreshToken;
+import com.banking.system.auth.domain.port.out.AccessTokenRevocationPort;
 import com.banking.system.auth.domain.port.out.RefreshTokenRepositoryPort;
 import com.banking.system.auth.domain.port.out.TokenGenerator;
 import com.banking.system.auth.domain.port.out.TwoFactorCodeRepositoryPort;
@@ -44,6 +46,7 @@ public class TwoFactorService implements
     private final UserEventPublisher userEventPublisher;
     private final LoginTrackingPort loginTrackingPort;
     private final RefreshTokenRepositoryPort refreshTokenRepository;
+    private final AccessTokenRevocationPort accessTokenRevocation;
 
     @Override
     @Transactional
@@ -66,10 +69,9 @@ public class TwoFactorService implements
         }
 
         if (!twoFactorCode.verifyCode(command.code())) {
-            twoFactorCode.incrementAttempts();
-            twoFactorCodeRepository.save(twoFactorCode);
+            int attempts = twoFactorCodeRepository.incrementAttempts(twoFactorCode);
 
-            int remainingAttempts = 3 - twoFactorCode.getAttempts();
+            int remainingAttempts = 3 - attempts;
             if (remainingAttempts <= 0) {
                 throw new TwoFactorCodeException("Maximum verification attempts exceeded");
             }
@@ -79,29 +81,28 @@ public class TwoFactorService implements
         twoFactorCode.markUsed();
         twoFactorCodeRepository.save(twoFactorCode);
 
-        User user = userRepository.findById(twoFactorCode.getUserId())
+        UserCredentials user = userRepository.findCredentialsById(twoFactorCode.getUserId())
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
-        Instant previousLogin = loginTrackingPort.registerLogin(user.getId());
+        Instant previousLogin = loginTrackingPort.registerLogin(user.id());
 
-        Role role = user.getRole();
-        String accessToken = tokenGenerator.generateToken(
-                user.getId(),
-                role.getName().name()
-        );
+        // Taken before issuing, so the new token is never older than the revocation cutoff
+        Instant sessionStart = Instant.now();
+        String accessToken = tokenGenerator.generateToken(user.id(), user.roleName());
 
-        // Single-session policy: revoke any existing sessions before issuing a new one
-        refreshTokenRepository.revokeAllByUserId(user.getId());
+        // Single-session policy: revoke any existing sessions (refresh and access tokens) before issuing a new one
+        if (refreshTokenRepository.revokeAllByUserId(user.id()) > 0)
+            accessTokenRevocation.revokeAllIssuedBefore(user.id(), sessionStart);
 
-        RefreshToken refreshToken = RefreshToken.createNew(user.getId());
+        RefreshToken refreshToken = RefreshToken.createNew(user.id());
         refreshTokenRepository.save(refreshToken);
 
-        log.info("2FA verification successful for user: {}", user.getId());
+        log.info("2FA verification successful for user: {}", user.id());
 
         return LoginResult.withToken(
-                user.getId(),
-                user.getEmail().value(),
-                role.getName(),
+                user.id(),
+                user.email().value(),
+                user.roleName(),
                 accessToken,
                 refreshToken.getToken(),
                 previousLogin
@@ -132,31 +133,31 @@ public class TwoFactorService implements
     @Override
     @Transactional(readOnly = true)
     public TwoFactorStatusResult getStatus(UUID userId) {
-        User user = userRepository.findById(userId)
+        UserCredentials user = userRepository.findCredentialsById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
-        return new TwoFactorStatusResult(user.isTwoFactorEnabled());
+        return new TwoFactorStatusResult(user.twoFactorEnabled());
     }
 
     @Transactional
-    public TwoFactorRequiredResult createTwoFactorCode(User user) {
-        TwoFactorCode twoFactorCode = TwoFactorCode.createNew(user.getId());
+    public TwoFactorRequiredResult createTwoFactorCode(UUID userId, Email email) {
+        TwoFactorCode twoFactorCode = TwoFactorCode.createNew(userId);
         TwoFactorCode savedCode = twoFactorCodeRepository.save(twoFactorCode);
 
-        String firstName = customerRepository.findByUserId(user.getId())
+        String firstName = customerRepository.findByUserId(userId)
                 .map(customer -> customer.getPersonName().firstName())
                 .orElse("Usuario");
 
         userEventPublisher.publishTwoFactorCodeRequestedEvent(
-                user.getId(),
-                user.getEmail().value(),
+                userId,
+                email.value(),
                 savedCode.getCode(),
                 firstName
         );
 
         return new TwoFactorRequiredResult(
                 savedCode.getSessionToken(),
-                user.getEmail().masked(),
+                email.masked(),
                 savedCode.getExpirySeconds()
         );
     }
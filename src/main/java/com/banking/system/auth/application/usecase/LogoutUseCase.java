@@ -1,5 +1,8 @@
 package com.banking.system.auth.application.usecase;
 
 public interface LogoutUseCase {
-    void logout(String refreshToken);
+    /**
+     * Terminates the session: revokes the refresh token and the access token, either of which may be null.
+     */
+    void logout(String refreshToken, String accessToken);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.banking.system.auth.domain.exception;
+
+import com.banking.system.common.domain.exception.DomainException;
+
+/**
+ * Thrown when a password hashing request cannot be admitted because the dedicated
+ * hashing executor is saturated, so the caller can fail fast instead of queueing.
+ */
+public class PasswordHashingOverloadedException extends DomainException {
+    public PasswordHashingOverloadedException(String message) {
+        super(message, "AUTH_SERVICE_BUSY");
+    }
+}
@@ -0,0 +1,68 @@
+package com.banking.system.auth.domain.model;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Enumeration of the permission codes seeded in the {@code permissions} table.
+ * <p>
+ * The ordinal of each constant is its bit position inside a {@link PermissionMask},
+ * and that mask is embedded in issued access tokens. New constants must therefore
+ * be appended at the end and existing ones must never be reordered or removed.
+ * </p>
+ */
+public enum PermissionCode {
+    CUSTOMER_VIEW_OWN,
+    CUSTOMER_UPDATE,
+    CUSTOMER_VIEW,
+    CUSTOMER_VIEW_ALL,
+    KYC_APPROVE,
+    KYC_REJECT,
+    ACCOUNT_CREATE,
+    ACCOUNT_VIEW_OWN,
+    ACCOUNT_VIEW,
+    ACCOUNT_VIEW_ALL,
+    ACCOUNT_BLOCK,
+    ACCOUNT_CLOSE,
+    TRANSACTION_DEPOSIT,
+    TRANSACTION_WITHDRAW,
+    TRANSACTION_TRANSFER,
+    TRANSACTION_VIEW_OWN,
+    TRANSACTION_VIEW,
+    TRANSACTION_VIEW_ALL,
+    TRANSACTION_REVERSE,
+    AUDIT_VIEW,
+    AUDIT_EXPORT,
+    USER_VIEW,
+    USER_BLOCK,
+    USER_CHANGE_ROLE;
+
+    private static final Map<String, PermissionCode> BY_CODE = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(Enum::name, Function.identity()));
+
+    static {
+        if (values().length > Long.SIZE) {
+            throw new IllegalStateException("PermissionCode cannot exceed " + Long.SIZE + " constants");
+        }
+    }
+
+    /**
+     * Returns the bit assigned to this permission inside a {@link PermissionMask}.
+     */
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * Resolves a permission code as stored in the database.
+     *
+     * @param code the permission code (e.g., "ACCOUNT_VIEW_OWN")
+     * @return the matching constant, or empty if the code is unknown to this version
+     */
+    public static Optional<PermissionCode> fromCode(String code) {
+        return Optional.ofNullable(BY_CODE.get(code));
+    }
+}
@@ -0,0 +1,69 @@
+package com.banking.system.auth.domain.model;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Compact encoding of a role's permissions as a bitset over {@link PermissionCode} ordinals.
+ * <p>
+ * The {@code version} identifies the state of the role's permission assignments the
+ * mask was computed from. Tokens carrying a mask with an older version than the
+ * role's current one are considered stale and must not be trusted.
+ * </p>
+ *
+ * @param bits    one bit per granted {@link PermissionCode}
+ * @param version permissions version of the role at the time the mask was computed
+ */
+public record PermissionMask(long bits, int version) {
+
+    public static final PermissionMask EMPTY = new PermissionMask(0L, 0);
+
+    /**
+     * Builds a mask from permission codes as stored in the database.
+     * Codes unknown to {@link PermissionCode} are ignored, since no endpoint can require them.
+     *
+     * @param codes   the permission codes to encode
+     * @param version the role's permissions version
+     * @return the encoded mask
+     */
+    public static PermissionMask of(Collection<String> codes, int version) {
+        long bits = 0L;
+        for (String code : codes) {
+            bits |= PermissionCode.fromCode(code).map(PermissionCode::bit).orElse(0L);
+        }
+        return new PermissionMask(bits, version);
+    }
+
+    /**
+     * Checks whether the given permission is granted by this mask.
+     *
+     * @param permission the permission to check
+     * @return true if the permission bit is set
+     */
+    public boolean contains(PermissionCode permission) {
+        return contains(bits, permission);
+    }
+
+    /**
+     * Checks a raw bitset without wrapping it in a mask instance.
+     */
+    public static boolean contains(long bits, PermissionCode permission) {
+        return (bits & permission.bit()) != 0;
+    }
+
+    /**
+     * Decodes the mask back into the granted permissions.
+     *
+     * @return a new set with every permission whose bit is set
+     */
+    public Set<PermissionCode> toPermissions() {
+        Set<PermissionCode> permissions = EnumSet.noneOf(PermissionCode.class);
+        for (PermissionCode permission : PermissionCode.values()) {
+            if (contains(permission)) {
+                permissions.add(permission);
+            }
+        }
+        return permissions;
+    }
+}
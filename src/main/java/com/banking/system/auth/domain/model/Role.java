@@ -19,8 +19,9 @@ public class Role {
     private final RoleName name;
     private final String description;
     private final Set<Permission> permissions;
+    private final int permissionsVersion;
 
-    private Role(UUID id, RoleName name, String description, Set<Permission> permissions) {
+    private Role(UUID id, RoleName name, String description, Set<Permission> permissions, int permissionsVersion) {
         Objects.requireNonNull(name, "Role name cannot be null");
         Objects.requireNonNull(description, "Role description cannot be null");
         Objects.requireNonNull(permissions, "Role permissions cannot be null");
@@ -29,14 +30,18 @@ public class Role {
         this.name = name;
         this.description = description;
         this.permissions = Collections.unmodifiableSet(new HashSet<>(permissions));
+        this.permissionsVersion = permissionsVersion;
     }
 
     /**
      * Reconstitutes a role from persistence with its associated permissions.
+     * The permissions version is incremented by the database whenever the
+     * role's permission assignments change.
      */
-    public static Role reconstitute(UUID id, RoleName name, String description, Set<Permission> permissions) {
+    public static Role reconstitute(UUID id, RoleName name, String description,
+                                    Set<Permission> permissions, int permissionsVersion) {
         Objects.requireNonNull(id, "Role id cannot be null when reconstituting");
-        return new Role(id, name, description, permissions);
+        return new Role(id, name, description, permissions, permissionsVersion);
     }
 
     /**
@@ -61,6 +66,16 @@ public class Role {
                 .collect(Collectors.toUnmodifiableSet());
     }
 
+    /**
+     * Returns the permissions of this role encoded as a bitset, tagged with the
+     * current permissions version.
+     *
+     * @return the permission mask for this role
+     */
+    public PermissionMask getPermissionMask() {
+        return PermissionMask.of(getPermissionCodes(), permissionsVersion);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,28 @@
+package com.banking.system.auth.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Read-only view of a user with just what authentication needs.
+ * <p>
+ * Loaded by a single projection query instead of the full {@link User} aggregate, whose
+ * {@link Role} carries every permission. Permissions for issued tokens come from the
+ * role permission cache, keyed by {@link #roleName()}.
+ * </p>
+ *
+ * @param id               the user ID
+ * @param email            the user's email address
+ * @param passwordHash     the stored password hash
+ * @param status           current lifecycle status of the user
+ * @param roleName         name of the user's role
+ * @param twoFactorEnabled whether two-factor authentication is enabled
+ */
+public record UserCredentials(
+        UUID id,
+        Email email,
+        String passwordHash,
+        UserStatus status,
+        RoleName roleName,
+        boolean twoFactorEnabled
+) {
+}
@@ -0,0 +1,27 @@
+package com.banking.system.auth.domain.port.out;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Revokes issued access tokens before their natural expiry.
+ * Revocations only need to be remembered until the affected tokens expire.
+ */
+public interface AccessTokenRevocationPort {
+
+    /**
+     * Revokes a single access token. Tokens that are invalid or already expired are ignored.
+     *
+     * @param accessToken the raw access token
+     */
+    void revoke(String accessToken);
+
+    /**
+     * Revokes every access token of the user issued before the given instant
+     * (second precision, as in the token's {@code iat} claim).
+     *
+     * @param userId the user ID
+     * @param cutoff tokens issued strictly before this second are revoked
+     */
+    void revokeAllIssuedBefore(UUID userId, Instant cutoff);
+}
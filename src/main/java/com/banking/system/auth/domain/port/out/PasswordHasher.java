@@ -4,4 +4,10 @@ public interface PasswordHasher {
     String hash(String rawPassword);
 
     boolean verify(String rawPassword, String hashedPassword);
+
+    /**
+     * Checks whether a stored hash was produced with weaker parameters than the ones
+     * currently configured and should be replaced after a successful verification.
+     */
+    boolean needsRehash(String hashedPassword);
 }
@@ -8,6 +8,9 @@ import java.util.UUID;
 public interface RefreshTokenRepositoryPort {
     RefreshToken save(RefreshToken refreshToken);
     Optional<RefreshToken> findByToken(String token);
-    void revokeAllByUserId(UUID userId);
+    /**
+     * @return the number of tokens that were still active and got revoked
+     */
+    int revokeAllByUserId(UUID userId);
     int deleteExpiredOrRevoked();
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.banking.system.auth.domain.port.out;
 
+import com.banking.system.auth.domain.model.PermissionMask;
+
 import java.util.Set;
 
 /**
@@ -18,6 +20,27 @@ public interface RolePermissionCachePort {
      */
     Set<String> getPermissionsForRole(String roleName);
 
+    /**
+     * Retrieves the current permission mask of a role, tagged with its permissions version.
+     * Called on every authenticated request, so implementations must serve hits
+     * without allocating or evaluating expressions.
+     *
+     * @param roleName the name of the role (e.g., "CUSTOMER", "ADMIN")
+     * @return the role's permission mask, or {@link PermissionMask#EMPTY} if role not found
+     */
+    PermissionMask getPermissionMaskForRole(String roleName);
+
+    /**
+     * Same as {@link #getPermissionMaskForRole(String)}, but reloads the role first when the
+     * cached mask is older than {@code minVersion}: a token carrying a newer version was
+     * issued by a node that has already seen the role change.
+     *
+     * @param roleName   the name of the role
+     * @param minVersion the permissions version the caller knows to exist
+     * @return the role's permission mask, or {@link PermissionMask#EMPTY} if role not found
+     */
+    PermissionMask getPermissionMaskForRole(String roleName, int minVersion);
+
     /**
      * Invalidates the cache for a specific role.
      * Call this when role permissions are modified.
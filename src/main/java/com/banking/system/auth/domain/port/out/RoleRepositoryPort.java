@@ -3,6 +3,7 @@ package com.banking.system.auth.domain.port.out;
 import com.banking.system.auth.domain.model.Role;
 import com.banking.system.auth.domain.model.RoleName;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -27,6 +28,13 @@ public interface RoleRepositoryPort {
      */
     Optional<Role> findByName(RoleName name);
 
+    /**
+     * Reads the permissions version of every role, without loading their permissions.
+     *
+     * @return the current permissions version by role
+     */
+    Map<RoleName, Integer> findPermissionsVersions();
+
     /**
      * Gets the default role for new users (CUSTOMER).
      *
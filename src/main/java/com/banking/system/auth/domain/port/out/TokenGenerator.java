@@ -1,7 +1,20 @@
 package com.banking.system.auth.domain.port.out;
 
+import com.banking.system.auth.domain.model.RoleName;
+
 import java.util.UUID;
 
 public interface TokenGenerator {
-    String generateToken(UUID userId, String role);
-}
\ No newline at end of file
+
+    /**
+     * Issues an access token for the user, embedding the role and its
+     * permission mask so authorization needs no per-request permission lookup.
+     * The mask is taken from the role permission cache, so callers only need
+     * the role name and never load the role's permissions.
+     *
+     * @param userId   the authenticated user's ID
+     * @param roleName the user's role name
+     * @return the signed access token
+     */
+    String generateToken(UUID userId, RoleName roleName);
+}
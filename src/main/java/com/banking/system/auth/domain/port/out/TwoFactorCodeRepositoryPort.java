@@ -12,5 +12,14 @@ public interface TwoFactorCodeRepositoryPort {
 
     Optional<TwoFactorCode> findLatestByUserId(UUID userId);
 
+    /**
+     * Atomically increments the failed verification attempts of a code, so concurrent
+     * guesses cannot overwrite each other's increments.
+     *
+     * @param twoFactorCode the code that failed verification
+     * @return the attempts after the increment
+     */
+    int incrementAttempts(TwoFactorCode twoFactorCode);
+
     void deleteExpiredCodes();
 }
@@ -1,6 +1,7 @@
 package com.banking.system.auth.domain.port.out;
 
 import com.banking.system.auth.domain.model.User;
+import com.banking.system.auth.domain.model.UserCredentials;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,6 +16,30 @@ public interface UserRepositoryPort {
 
     Optional<User> findByEmail(String email);
 
+    /**
+     * Loads the authentication view of a user without the role's permissions.
+     *
+     * @param email the user's email
+     * @return the credentials, or empty if no user has that email
+     */
+    Optional<UserCredentials> findCredentialsByEmail(String email);
+
+    /**
+     * Loads the authentication view of a user without the role's permissions.
+     *
+     * @param id the user ID
+     * @return the credentials, or empty if the user does not exist
+     */
+    Optional<UserCredentials> findCredentialsById(UUID id);
+
+    /**
+     * Replaces the stored password hash with a single UPDATE, without loading the user.
+     *
+     * @param id           the user ID
+     * @param passwordHash the new password hash
+     */
+    void updatePasswordHash(UUID id, String passwordHash);
+
     User save(User user);
 
     void delete(UUID id);
@@ -72,11 +72,13 @@ public class AuthRestController {
             @ApiResponse(responseCode = "400", description = "Invalid request data (validation failed)"),
             @ApiResponse(responseCode = "401", description = "Invalid credentials"),
             @ApiResponse(responseCode = "404", description = "User not found"),
-            @ApiResponse(responseCode = "423", description = "User is blocked"),
+            @ApiResponse(responseCode = "423", description = "User is blocked or temporarily locked after repeated failures"),
     })
     @PostMapping("/login")
-    public ResponseEntity<LoginResult> login(@RequestBody @Valid LoginRequest request) {
-        var result = loginUseCase.login(request.toCommand());
+    public ResponseEntity<LoginResult> login(@RequestBody @Valid LoginRequest request,
+                                             HttpServletRequest httpRequest) {
+        // Resolved from X-Forwarded-For by the container (server.forward-headers-strategy)
+        var result = loginUseCase.login(request.toCommand(httpRequest.getRemoteAddr()));
 
         if (result.requiresTwoFactor()) {
             return ResponseEntity.ok(result);
@@ -226,8 +228,13 @@ public class AuthRestController {
     })
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(HttpServletRequest request) {
-        cookieHelper.extractRefreshToken(request)
-                .ifPresent(logoutUseCase::logout);
+        String refreshToken = cookieHelper.extractRefreshToken(request).orElse(null);
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+
+        logoutUseCase.logout(refreshToken, accessToken);
 
         return ResponseEntity.noContent()
                 .header(HttpHeaders.SET_COOKIE, cookieHelper.clearRefreshTokenCookie().toString())
@@ -12,7 +12,7 @@ public record LoginRequest(
         String password
 ) {
 
-    public LoginCommand toCommand() {
-        return new LoginCommand(email, password);
+    public LoginCommand toCommand(String clientIp) {
+        return new LoginCommand(email, password, clientIp);
     }
 }
@@ -1,25 +1,55 @@
 package com.banking.system.auth.infraestructure.adapter.out.cache;
 
+import com.banking.system.auth.domain.model.PermissionMask;
 import com.banking.system.auth.domain.model.Role;
 import com.banking.system.auth.domain.model.RoleName;
 import com.banking.system.auth.domain.port.out.RolePermissionCachePort;
 import com.banking.system.auth.domain.port.out.RoleRepositoryPort;
 import com.banking.system.auth.infraestructure.config.CacheConfig;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RolePermissionCacheAdapter implements RolePermissionCachePort {
 
     private final RoleRepositoryPort roleRepository;
+    private final Cache rolePermissions;
+
+    /*
+     * Permission masks are read on every authenticated request, so they are kept in a
+     * dedicated Caffeine cache keyed by the enum rather than behind @Cacheable, whose
+     * proxy evaluates the SpEL key expression on each call.
+     */
+    private final LoadingCache<RoleName, PermissionMask> permissionMasks;
+
+    /*
+     * Role permissions are changed in the database, where a trigger bumps the role's
+     * permissions version (V4), so no code path can evict on change. Versions are polled
+     * instead; the one-hour expiry only bounds what a failing poll can leave behind.
+     */
+    private Map<RoleName, Integer> knownVersions = Map.of();
+
+    public RolePermissionCacheAdapter(RoleRepositoryPort roleRepository, CacheManager cacheManager) {
+        this.roleRepository = roleRepository;
+        this.rolePermissions = cacheManager.getCache(CacheConfig.ROLE_PERMISSIONS_CACHE);
+        this.permissionMasks = Caffeine.newBuilder()
+                .maximumSize(RoleName.values().length)
+                .expireAfterWrite(1, TimeUnit.HOURS)
+                .build(this::loadPermissionMask);
+    }
 
     @Override
     @Cacheable(value = CacheConfig.ROLE_PERMISSIONS_CACHE, key = "#roleName")
@@ -36,15 +66,75 @@ public class RolePermissionCacheAdapter implements RolePermissionCachePort {
         }
     }
 
+    @Override
+    public PermissionMask getPermissionMaskForRole(String roleName) {
+        try {
+            return permissionMasks.get(RoleName.valueOf(roleName));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid role name: {}", roleName);
+            return PermissionMask.EMPTY;
+        }
+    }
+
+    @Override
+    public PermissionMask getPermissionMaskForRole(String roleName, int minVersion) {
+        PermissionMask mask = getPermissionMaskForRole(roleName);
+        if (mask.version() >= minVersion || mask == PermissionMask.EMPTY) {
+            return mask;
+        }
+        // Reloaded inside compute so concurrent requests with the newer token trigger a single load
+        return permissionMasks.asMap().compute(RoleName.valueOf(roleName), (role, cached) ->
+                cached != null && cached.version() >= minVersion ? cached : loadPermissionMask(role));
+    }
+
+    /**
+     * Evicts the roles whose permissions version changed since the previous check. The
+     * first check evicts every role once, since nothing is known yet about what was cached.
+     */
+    @Scheduled(fixedDelayString = "${security.role-permissions.version-check-ms:30000}")
+    public void evictChangedRoles() {
+        Map<RoleName, Integer> versions;
+        try {
+            versions = roleRepository.findPermissionsVersions();
+        } catch (RuntimeException e) {
+            log.warn("Could not check role permissions versions: {}", e.getMessage());
+            return;
+        }
+
+        versions.forEach((role, version) -> {
+            if (!version.equals(knownVersions.get(role))) {
+                log.info("Permissions version of role {} is now {}, evicting its cached permissions", role, version);
+                permissionMasks.invalidate(role);
+                if (rolePermissions != null) {
+                    rolePermissions.evict(role.name());
+                }
+            }
+        });
+        knownVersions = versions;
+    }
+
     @Override
     @CacheEvict(value = CacheConfig.ROLE_PERMISSIONS_CACHE, key = "#roleName")
     public void evictRole(String roleName) {
         log.info("Evicting cache for role: {}", roleName);
+        try {
+            permissionMasks.invalidate(RoleName.valueOf(roleName));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid role name: {}", roleName);
+        }
     }
 
     @Override
     @CacheEvict(value = CacheConfig.ROLE_PERMISSIONS_CACHE, allEntries = true)
     public void evictAll() {
         log.info("Evicting all role permissions cache");
+        permissionMasks.invalidateAll();
+    }
+
+    private PermissionMask loadPermissionMask(RoleName roleName) {
+        log.debug("Loading permission mask for role: {} (cache miss)", roleName);
+        return roleRepository.findByName(roleName)
+                .map(Role::getPermissionMask)
+                .orElse(PermissionMask.EMPTY);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package com.banking.system.auth.infraestructure.adapter.out.credential;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Scripts and helpers shared by the Redis credential adapters.
+ */
+final class RedisCredentialScripts {
+
+    /**
+     * KEYS: credential hash, per-user pointer.
+     * ARGV: TTL in millis, pointer value (empty to leave the pointer untouched), then field/value pairs.
+     * Writes the hash and its TTL atomically, so a credential never exists without expiry.
+     */
+    static final RedisScript<Long> SAVE_WITH_POINTER = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], unpack(ARGV, 3))
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            if ARGV[2] ~= '' then
+                redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    private RedisCredentialScripts() {
+    }
+
+    /**
+     * Remaining lifetime of a credential, at least one millisecond so already expired
+     * credentials are still written with a TTL and vanish immediately.
+     */
+    static Duration ttlUntil(LocalDateTime expiresAt) {
+        Duration ttl = Duration.between(LocalDateTime.now(), expiresAt);
+        return ttl.toMillis() > 0 ? ttl : Duration.ofMillis(1);
+    }
+
+    static Object[] args(Duration ttl, String pointer, String... fieldValuePairs) {
+        Object[] args = new Object[fieldValuePairs.length + 2];
+        args[0] = String.valueOf(ttl.toMillis());
+        args[1] = pointer;
+        System.arraycopy(fieldValuePairs, 0, args, 2, fieldValuePairs.length);
+        return args;
+    }
+}
@@ -0,0 +1,119 @@
+package com.banking.system.auth.infraestructure.adapter.out.credential;
+
+import com.banking.system.auth.domain.model.RefreshToken;
+import com.banking.system.auth.domain.port.out.RefreshTokenRepositoryPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis-backed {@link RefreshTokenRepositoryPort}.
+ * <p>
+ * Each token is a hash with a TTL matching its expiry, and a per-user set indexes the
+ * user's live tokens for {@link #revokeAllByUserId(UUID)}. A revoked token has no further
+ * use, so revoking deletes it and a later lookup reports it as unknown. Expired and
+ * revoked tokens never accumulate, hence {@link #deleteExpiredOrRevoked()} is a no-op.
+ * </p>
+ *
+ * <p>The revoke-all script derives token keys from set members, so it assumes a
+ * single Redis node (or hash-tagged keys) rather than a sharded cluster.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "security.credential-store", havingValue = "redis")
+public class RedisRefreshTokenAdapter implements RefreshTokenRepositoryPort {
+
+    private static final String TOKEN_PREFIX = "auth:refresh:";
+    private static final String USER_PREFIX = "auth:refresh:user:";
+
+    /**
+     * KEYS: token hash, user token set. ARGV: TTL millis, token, revoked flag, then field/value pairs.
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            if ARGV[3] == 'true' then
+                redis.call('DEL', KEYS[1])
+                redis.call('SREM', KEYS[2], ARGV[2])
+                return 0
+            end
+            redis.call('HSET', KEYS[1], unpack(ARGV, 4))
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            redis.call('SADD', KEYS[2], ARGV[2])
+            if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[1]) then
+                redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: user token set. ARGV: token key prefix. Returns the number of revoked tokens.
+     */
+    private static final RedisScript<Long> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>("""
+            local tokens = redis.call('SMEMBERS', KEYS[1])
+            for _, token in ipairs(tokens) do
+                redis.call('DEL', ARGV[1] .. token)
+            end
+            redis.call('DEL', KEYS[1])
+            return #tokens
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisRefreshTokenAdapter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        RefreshToken toSave = refreshToken.getId() == null
+                ? RefreshToken.reconstitute(UUID.randomUUID(), refreshToken.getUserId(), refreshToken.getToken(),
+                refreshToken.getExpiresAt(), refreshToken.isRevoked())
+                : refreshToken;
+
+        Duration ttl = Duration.between(Instant.now(), toSave.getExpiresAt());
+        redisTemplate.execute(
+                SAVE_SCRIPT,
+                List.of(TOKEN_PREFIX + toSave.getToken(), USER_PREFIX + toSave.getUserId()),
+                String.valueOf(Math.max(1L, ttl.toMillis())),
+                toSave.getToken(),
+                String.valueOf(toSave.isRevoked()),
+                "id", toSave.getId().toString(),
+                "userId", toSave.getUserId().toString(),
+                "expiresAt", String.valueOf(toSave.getExpiresAt().toEpochMilli()));
+        return toSave;
+    }
+
+    @Override
+    public Optional<RefreshToken> findByToken(String token) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(TOKEN_PREFIX + token);
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(RefreshToken.reconstitute(
+                UUID.fromString((String) fields.get("id")),
+                UUID.fromString((String) fields.get("userId")),
+                token,
+                Instant.ofEpochMilli(Long.parseLong((String) fields.get("expiresAt"))),
+                false
+        ));
+    }
+
+    @Override
+    public int revokeAllByUserId(UUID userId) {
+        Long revoked = redisTemplate.execute(REVOKE_ALL_SCRIPT, List.of(USER_PREFIX + userId), TOKEN_PREFIX);
+        return revoked != null ? revoked.intValue() : 0;
+    }
+
+    @Override
+    public int deleteExpiredOrRevoked() {
+        // Tokens expire through their Redis TTL and are deleted when revoked
+        return 0;
+    }
+}
@@ -0,0 +1,112 @@
+package com.banking.system.auth.infraestructure.adapter.out.credential;
+
+import com.banking.system.auth.domain.model.TwoFactorCode;
+import com.banking.system.auth.domain.port.out.TwoFactorCodeRepositoryPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis-backed {@link TwoFactorCodeRepositoryPort}.
+ * <p>
+ * Each code is a hash keyed by its session token that expires with the code, so
+ * {@link #deleteExpiredCodes()} has nothing to do. A per-user pointer to the latest
+ * session token shares the same TTL. Failed attempts are incremented with
+ * {@code HINCRBY} inside a script that ignores codes which already expired.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "security.credential-store", havingValue = "redis")
+public class RedisTwoFactorCodeAdapter implements TwoFactorCodeRepositoryPort {
+
+    private static final String CODE_PREFIX = "auth:2fa:";
+    private static final String USER_PREFIX = "auth:2fa:user:";
+
+    private static final RedisScript<Long> INCREMENT_ATTEMPTS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('HINCRBY', KEYS[1], 'attempts', 1)
+            end
+            return -1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisTwoFactorCodeAdapter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public TwoFactorCode save(TwoFactorCode twoFactorCode) {
+        boolean isNew = twoFactorCode.getId() == null;
+        TwoFactorCode toSave = isNew
+                ? TwoFactorCode.reconstitute(UUID.randomUUID(), twoFactorCode.getUserId(), twoFactorCode.getCode(),
+                twoFactorCode.getSessionToken(), twoFactorCode.getExpiresAt(), twoFactorCode.isUsed(),
+                twoFactorCode.getAttempts())
+                : twoFactorCode;
+
+        Duration ttl = RedisCredentialScripts.ttlUntil(toSave.getExpiresAt());
+        List<String> keys = List.of(CODE_PREFIX + toSave.getSessionToken(), USER_PREFIX + toSave.getUserId());
+
+        if (isNew) {
+            // Only a new code moves the user's "latest" pointer
+            redisTemplate.execute(RedisCredentialScripts.SAVE_WITH_POINTER, keys,
+                    RedisCredentialScripts.args(ttl, toSave.getSessionToken(),
+                            "id", toSave.getId().toString(),
+                            "userId", toSave.getUserId().toString(),
+                            "code", toSave.getCode(),
+                            "expiresAt", toSave.getExpiresAt().toString(),
+                            "used", String.valueOf(toSave.isUsed()),
+                            "attempts", String.valueOf(toSave.getAttempts())));
+        } else {
+            // Attempts are owned by incrementAttempts and must not be overwritten with a stale value
+            redisTemplate.execute(RedisCredentialScripts.SAVE_WITH_POINTER, keys,
+                    RedisCredentialScripts.args(ttl, "", "used", String.valueOf(toSave.isUsed())));
+        }
+        return toSave;
+    }
+
+    @Override
+    public Optional<TwoFactorCode> findBySessionToken(String sessionToken) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(CODE_PREFIX + sessionToken);
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(TwoFactorCode.reconstitute(
+                UUID.fromString((String) fields.get("id")),
+                UUID.fromString((String) fields.get("userId")),
+                (String) fields.get("code"),
+                sessionToken,
+                LocalDateTime.parse((String) fields.get("expiresAt")),
+                Boolean.parseBoolean((String) fields.get("used")),
+                Integer.parseInt((String) fields.get("attempts"))
+        ));
+    }
+
+    @Override
+    public Optional<TwoFactorCode> findLatestByUserId(UUID userId) {
+        String sessionToken = redisTemplate.opsForValue().get(USER_PREFIX + userId);
+        return sessionToken != null ? findBySessionToken(sessionToken) : Optional.empty();
+    }
+
+    @Override
+    public int incrementAttempts(TwoFactorCode twoFactorCode) {
+        Long attempts = redisTemplate.execute(
+                INCREMENT_ATTEMPTS_SCRIPT, List.of(CODE_PREFIX + twoFactorCode.getSessionToken()));
+        // An expired code counts as exhausted
+        return attempts == null || attempts < 0 ? Integer.MAX_VALUE : attempts.intValue();
+    }
+
+    @Override
+    public void deleteExpiredCodes() {
+        // Codes expire through their Redis TTL
+    }
+}
@@ -0,0 +1,73 @@
+package com.banking.system.auth.infraestructure.adapter.out.credential;
+
+import com.banking.system.auth.domain.model.VerificationToken;
+import com.banking.system.auth.domain.port.out.VerificationTokenRepositoryPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis-backed {@link VerificationTokenRepositoryPort}.
+ * Tokens are hashes that expire with the token, plus a per-user pointer to the latest one.
+ */
+@Component
+@ConditionalOnProperty(name = "security.credential-store", havingValue = "redis")
+public class RedisVerificationTokenAdapter implements VerificationTokenRepositoryPort {
+
+    private static final String TOKEN_PREFIX = "auth:verification:";
+    private static final String USER_PREFIX = "auth:verification:user:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisVerificationTokenAdapter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public VerificationToken save(VerificationToken token) {
+        boolean isNew = token.getId() == null;
+        VerificationToken toSave = isNew
+                ? VerificationToken.reconstitute(UUID.randomUUID(), token.getUserId(), token.getToken(),
+                token.getExpiresAt(), token.isUsed())
+                : token;
+
+        redisTemplate.execute(
+                RedisCredentialScripts.SAVE_WITH_POINTER,
+                List.of(TOKEN_PREFIX + toSave.getToken(), USER_PREFIX + toSave.getUserId()),
+                RedisCredentialScripts.args(
+                        RedisCredentialScripts.ttlUntil(toSave.getExpiresAt()),
+                        isNew ? toSave.getToken() : "",
+                        "id", toSave.getId().toString(),
+                        "userId", toSave.getUserId().toString(),
+                        "expiresAt", toSave.getExpiresAt().toString(),
+                        "used", String.valueOf(toSave.isUsed())));
+        return toSave;
+    }
+
+    @Override
+    public Optional<VerificationToken> findByToken(String token) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(TOKEN_PREFIX + token);
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(VerificationToken.reconstitute(
+                UUID.fromString((String) fields.get("id")),
+                UUID.fromString((String) fields.get("userId")),
+                token,
+                LocalDateTime.parse((String) fields.get("expiresAt")),
+                Boolean.parseBoolean((String) fields.get("used"))
+        ));
+    }
+
+    @Override
+    public Optional<VerificationToken> findLatestByUserId(UUID userId) {
+        String token = redisTemplate.opsForValue().get(USER_PREFIX + userId);
+        return token != null ? findByToken(token) : Optional.empty();
+    }
+}
@@ -1,18 +1,22 @@
 package com.banking.system.auth.infraestructure.adapter.out.filter;
 
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.banking.system.auth.domain.model.PermissionMask;
 import com.banking.system.auth.domain.port.out.RolePermissionCachePort;
+import com.banking.system.auth.infraestructure.adapter.out.security.AccessTokenDenyList;
 import com.banking.system.auth.infraestructure.adapter.out.security.JwtTokenProvider;
+import com.banking.system.auth.infraestructure.adapter.out.security.PermissionAuthenticationToken;
 import com.banking.system.auth.infraestructure.config.SecurityConstants;
+import com.banking.system.common.infraestructure.context.RequestContext;
+import com.banking.system.common.infraestructure.context.RequestContextTracing;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -20,10 +24,7 @@ import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 
 @Component
@@ -32,6 +33,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final RolePermissionCachePort rolePermissionCache;
+    private final AccessTokenDenyList accessTokenDenyList;
+    private final RequestContextTracing requestContextTracing;
 
     @Override
     protected void doFilterInternal(
@@ -39,36 +42,72 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
-        try {
-            String token = getJwtFromRequest(request);
+        PermissionAuthenticationToken authentication = authenticate(request);
+        if (authentication == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-            if (token != null) {
-                String userIdStr = jwtTokenProvider.getUserIdFromToken(token);
-                UUID userId = UUID.fromString(userIdStr);
-                String role = jwtTokenProvider.getRoleFromToken(token);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                // Load permissions dynamically from cache
-                Set<String> permissions = rolePermissionCache.getPermissionsForRole(role);
+        // Enriches the context bound by CorrelationIdFilter in place, closed by its scope
+        RequestContext.bindPrincipal((UUID) authentication.getPrincipal(), authentication.getRole(), authentication)
+                .ifPresent(requestContextTracing::tagCurrentSpan);
+        filterChain.doFilter(request, response);
+    }
 
-                List<GrantedAuthority> authorities = new ArrayList<>();
-                // Add role authority with ROLE_ prefix for hasRole() checks
-                authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
-                // Add permission authorities for hasAuthority() checks
-                permissions.forEach(perm ->
-                        authorities.add(new SimpleGrantedAuthority(perm))
-                );
+    /**
+     * Builds the authentication from the bearer token, or returns null when the request
+     * carries no valid, non-revoked token (it then proceeds unauthenticated).
+     */
+    private PermissionAuthenticationToken authenticate(HttpServletRequest request) {
+        String token = getJwtFromRequest(request);
+        if (token == null) {
+            return null;
+        }
 
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userId, null, authorities);
+        try {
+            // Verify the signature once and read every claim from the decoded token
+            DecodedJWT jwt = jwtTokenProvider.validateToken(token);
+            UUID userId = UUID.fromString(jwt.getSubject());
 
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            // Revoked tokens (logout, newer session) proceed unauthenticated
+            if (accessTokenDenyList.isDenied(jwt.getId(), userId, JwtTokenProvider.issuedAtMillis(jwt))) {
+                return null;
             }
+
+            String role = jwt.getClaim(JwtTokenProvider.ROLE_CLAIM).asString();
+
+            Claim version = jwt.getClaim(JwtTokenProvider.PERMISSIONS_VERSION_CLAIM);
+            PermissionMask currentMask = version.isMissing()
+                    ? rolePermissionCache.getPermissionMaskForRole(role)
+                    : rolePermissionCache.getPermissionMaskForRole(role, version.asInt());
+            long permissionBits = resolvePermissionBits(jwt, currentMask);
+
+            PermissionAuthenticationToken authentication =
+                    new PermissionAuthenticationToken(userId, role, permissionBits);
+
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            return authentication;
         } catch (JWTVerificationException ex) {
             logger.error("JWT verification failed: " + ex.getMessage());
+            return null;
         }
+    }
 
-        filterChain.doFilter(request, response);
+    /**
+     * Trusts the permission bits embedded in the token only while the role's permissions
+     * version still matches. Tokens issued before a role change, or before permission
+     * masks were embedded, get the role's current mask instead.
+     */
+    private long resolvePermissionBits(DecodedJWT jwt, PermissionMask currentMask) {
+        Claim bits = jwt.getClaim(JwtTokenProvider.PERMISSIONS_CLAIM);
+        Claim version = jwt.getClaim(JwtTokenProvider.PERMISSIONS_VERSION_CLAIM);
+
+        if (bits.isMissing() || version.isMissing() || version.asInt() != currentMask.version()) {
+            return currentMask.bits();
+        }
+        return bits.asLong();
     }
 
     @Override
@@ -84,4 +123,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-}
\ No newline at end of file
+}
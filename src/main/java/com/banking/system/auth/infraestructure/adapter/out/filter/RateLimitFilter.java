@@ -1,7 +1,7 @@
 package com.banking.system.auth.infraestructure.adapter.out.filter;
 
 import com.banking.system.auth.application.service.RateLimitingService;
-import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -30,10 +30,8 @@ public class RateLimitFilter extends OncePerRequestFilter {
             String clientIp = this.getClientIp(request);
             String requestPath = request.getRequestURI();
 
-            // Select appropriate rate limit based on endpoint type
-            Bucket tokenBucket = resolveBucketForEndpoint(clientIp, requestPath);
-
-            var probe = tokenBucket.tryConsumeAndReturnRemaining(1);
+            // Select appropriate rate limit based on endpoint type (decided in memory, synced to Redis in background)
+            ConsumptionProbe probe = tryConsumeForEndpoint(clientIp, requestPath);
 
             if (probe.isConsumed()) {
                 response.addHeader("X-Rate-Limit-Remaining", String.valueOf(probe.getRemainingTokens()));
@@ -62,7 +60,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Resolves the appropriate rate limit bucket based on endpoint type.
+     * Consumes a token from the appropriate rate limit bucket based on endpoint type.
      * Authentication endpoints get stricter limits to prevent brute force.
      * Authenticated API endpoints get generous limits for legitimate users.
      * Public endpoints get moderate limits.
@@ -71,21 +69,21 @@ public class RateLimitFilter extends OncePerRequestFilter {
      *
      * @param clientIp    Client IP address (unique key for rate limiting)
      * @param requestPath Request URI path
-     * @return Bucket configured with appropriate rate limit
+     * @return Consumption result of the bucket with the appropriate rate limit
      */
-    private Bucket resolveBucketForEndpoint(String clientIp, String requestPath) {
+    private ConsumptionProbe tryConsumeForEndpoint(String clientIp, String requestPath) {
         // Strict limits for authentication endpoints (prevent brute force)
         if (isAuthenticationEndpoint(requestPath)) {
-            return rateLimitingService.resolveBucketForLogin(clientIp + ":auth");
+            return rateLimitingService.tryConsumeForLogin(clientIp + ":auth");
         }
 
         // Moderate limits for public endpoints
         if (isPublicEndpoint(requestPath)) {
-            return rateLimitingService.resolveBucketForPublic(clientIp + ":public");
+            return rateLimitingService.tryConsumeForPublic(clientIp + ":public");
         }
 
         // Generous limits for authenticated API endpoints (normal usage)
-        return rateLimitingService.resolveBucketForAuthenticatedApi(clientIp + ":api");
+        return rateLimitingService.tryConsumeForAuthenticatedApi(clientIp + ":api");
     }
 
     /**
@@ -0,0 +1,119 @@
+package com.banking.system.auth.infraestructure.adapter.out.lockout;
+
+import com.banking.system.auth.application.port.out.LoginAttemptPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Node-local {@link LoginAttemptPort} with the same sliding-window semantics as the
+ * Redis store. Counters are not shared between nodes, so it is meant for single-node
+ * deployments and tests ({@code security.login-lockout.store=memory}).
+ */
+@Component
+@ConditionalOnProperty(name = "security.login-lockout.store", havingValue = "memory")
+public class InMemoryLoginAttemptAdapter implements LoginAttemptPort {
+
+    private static final int MAX_SUBJECTS = 100_000;
+
+    private final LoginLockoutPolicy policy;
+    private final Cache<String, Deque<Long>> failures;
+    private final Cache<String, Long> locks;
+    private final Cache<UUID, Boolean> persistedLocks;
+
+    public InMemoryLoginAttemptAdapter(LoginLockoutPolicy policy) {
+        this.policy = policy;
+        this.failures = Caffeine.newBuilder()
+                .maximumSize(MAX_SUBJECTS)
+                .expireAfterAccess(max(policy.userWindow(), policy.ipWindow()))
+                .build();
+        this.locks = Caffeine.newBuilder()
+                .maximumSize(MAX_SUBJECTS)
+                .expireAfterWrite(max(policy.userLockDuration(), policy.ipLockDuration()))
+                .build();
+        this.persistedLocks = Caffeine.newBuilder()
+                .maximumSize(MAX_SUBJECTS)
+                .expireAfterWrite(policy.persistedLockMemory())
+                .build();
+    }
+
+    @Override
+    public Optional<Instant> findActiveLock(UUID userId, String clientIp) {
+        long now = System.currentTimeMillis();
+        long lockedUntil = activeLock(ipKey(clientIp), now);
+        if (userId != null) {
+            lockedUntil = Math.max(lockedUntil, activeLock(userKey(userId), now));
+        }
+        return lockedUntil > now ? Optional.of(Instant.ofEpochMilli(lockedUntil)) : Optional.empty();
+    }
+
+    @Override
+    public FailureOutcome recordFailure(UUID userId, String clientIp) {
+        long now = System.currentTimeMillis();
+        record(ipKey(clientIp), now, policy.ipWindow(), policy.maxIpFailures(), policy.ipLockDuration());
+        if (userId == null) {
+            return FailureOutcome.NONE;
+        }
+
+        String key = userKey(userId);
+        int count = record(key, now, policy.userWindow(), policy.maxUserFailures(), policy.userLockDuration());
+        if (count < 0) {
+            persistedLocks.put(userId, Boolean.TRUE);
+            return new FailureOutcome(-count, Instant.ofEpochMilli(now + policy.userLockDuration().toMillis()));
+        }
+        return new FailureOutcome(count, null);
+    }
+
+    @Override
+    public boolean recordSuccess(UUID userId) {
+        failures.invalidate(userKey(userId));
+        return persistedLocks.asMap().remove(userId) != null;
+    }
+
+    /**
+     * Records a failure and returns the count in the window, negated if this failure created a lock.
+     */
+    private int record(String key, long now, Duration window, int maxFailures, Duration lockDuration) {
+        Deque<Long> timestamps = failures.get(key, k -> new ArrayDeque<>());
+        synchronized (timestamps) {
+            long windowStart = now - window.toMillis();
+            while (!timestamps.isEmpty() && timestamps.peekFirst() <= windowStart) {
+                timestamps.pollFirst();
+            }
+            timestamps.addLast(now);
+
+            int count = timestamps.size();
+            if (count >= maxFailures && activeLock(key, now) == 0L) {
+                locks.put(key, now + lockDuration.toMillis());
+                timestamps.clear();
+                return -count;
+            }
+            return count;
+        }
+    }
+
+    private long activeLock(String key, long now) {
+        Long lockedUntil = locks.getIfPresent(key);
+        return lockedUntil != null && lockedUntil > now ? lockedUntil : 0L;
+    }
+
+    private static String userKey(UUID userId) {
+        return "user:" + userId;
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+}
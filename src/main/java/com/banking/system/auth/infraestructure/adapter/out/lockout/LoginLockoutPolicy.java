@@ -0,0 +1,38 @@
+package com.banking.system.auth.infraestructure.adapter.out.lockout;
+
+import java.time.Duration;
+
+/**
+ * Thresholds applied by the login attempt stores.
+ * A subject (user or client IP) is locked for its lock duration once it accumulates
+ * the maximum number of failures inside its sliding window.
+ * <p>
+ * A user lock is also written to the database, and the stores remember that for
+ * {@link #persistedLockMemory()} so the next successful login clears it there. A user
+ * who never logs in again keeps the expired lock in the database, where it has no effect.
+ * </p>
+ *
+ * @param maxUserFailures  failures per user before the account is locked
+ * @param userWindow       sliding window for user failures
+ * @param userLockDuration how long a locked account stays locked
+ * @param maxIpFailures    failures per client IP before the IP is locked
+ * @param ipWindow         sliding window for client IP failures
+ * @param ipLockDuration   how long a locked client IP stays locked
+ */
+public record LoginLockoutPolicy(
+        int maxUserFailures,
+        Duration userWindow,
+        Duration userLockDuration,
+        int maxIpFailures,
+        Duration ipWindow,
+        Duration ipLockDuration
+) {
+    private static final Duration PERSISTED_LOCK_RETENTION = Duration.ofDays(30);
+
+    /**
+     * How long a store remembers that a user lock reached the database.
+     */
+    public Duration persistedLockMemory() {
+        return userLockDuration.plus(PERSISTED_LOCK_RETENTION);
+    }
+}
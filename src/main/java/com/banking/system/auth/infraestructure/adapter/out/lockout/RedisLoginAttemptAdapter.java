@@ -0,0 +1,184 @@
+package com.banking.system.auth.infraestructure.adapter.out.lockout;
+
+import com.banking.system.auth.application.port.out.LoginAttemptPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis-backed {@link LoginAttemptPort}, shared by all nodes.
+ * <p>
+ * Each subject (user or client IP) has a sorted set of failure timestamps acting as a
+ * sliding window and a lock key whose value is the lock expiry in epoch millis. A
+ * failure is recorded for both subjects in a single Lua call, which also creates the
+ * lock atomically, so concurrent failures on different nodes trigger exactly one lock
+ * transition.
+ * </p>
+ *
+ * <p>Redis errors fail open: the login proceeds without lockout rather than turning a
+ * Redis outage into an authentication outage. Rate limiting still applies.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.login-lockout.store", havingValue = "redis", matchIfMissing = true)
+public class RedisLoginAttemptAdapter implements LoginAttemptPort {
+
+    private static final String KEY_PREFIX = "login:";
+    private static final String FAILURES = "failures:";
+    private static final String LOCK = "lock:";
+    private static final String LOCK_PERSISTED = "lock-persisted:user:";
+    private static final String USER = "user:";
+    private static final String IP = "ip:";
+
+    /**
+     * KEYS: (window, lock) pairs, one per subject, the user first if present, then the
+     * user's lock-persisted marker if present.
+     * ARGV: now, unique member, marker TTL, then (windowMs, maxFailures, lockMs) per subject.
+     * Returns (failureCount, lockedUntil or 0) per subject.
+     */
+    private static final RedisScript<List> RECORD_FAILURE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local subjects = math.floor(#KEYS / 2)
+            local result = {}
+            for s = 1, subjects do
+                local i = 2 * s - 1
+                local offset = 4 + (s - 1) * 3
+                local windowMs = tonumber(ARGV[offset])
+                local maxFailures = tonumber(ARGV[offset + 1])
+                local lockMs = tonumber(ARGV[offset + 2])
+                redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', now - windowMs)
+                redis.call('ZADD', KEYS[i], now, ARGV[2])
+                redis.call('PEXPIRE', KEYS[i], windowMs)
+                local count = redis.call('ZCARD', KEYS[i])
+                local lockedUntil = 0
+                if count >= maxFailures and redis.call('SET', KEYS[i + 1], now + lockMs, 'PX', lockMs, 'NX') then
+                    lockedUntil = now + lockMs
+                    redis.call('DEL', KEYS[i])
+                    if s == 1 and #KEYS > subjects * 2 then
+                        redis.call('SET', KEYS[#KEYS], '1', 'PX', ARGV[3])
+                    end
+                end
+                table.insert(result, count)
+                table.insert(result, lockedUntil)
+            end
+            return result
+            """, List.class);
+
+    /**
+     * KEYS: user window, user lock-persisted marker. Returns 1 if a persisted lock must be cleared.
+     */
+    private static final RedisScript<Long> RECORD_SUCCESS_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            return redis.call('DEL', KEYS[2])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LoginLockoutPolicy policy;
+
+    public RedisLoginAttemptAdapter(StringRedisTemplate redisTemplate, LoginLockoutPolicy policy) {
+        this.redisTemplate = redisTemplate;
+        this.policy = policy;
+    }
+
+    @Override
+    public Optional<Instant> findActiveLock(UUID userId, String clientIp) {
+        List<String> lockKeys = userId != null
+                ? List.of(lockKey(USER, userId.toString()), lockKey(IP, clientIp))
+                : List.of(lockKey(IP, clientIp));
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(lockKeys);
+            if (values == null) {
+                return Optional.empty();
+            }
+
+            long lockedUntil = 0L;
+            for (String value : values) {
+                if (value != null) {
+                    lockedUntil = Math.max(lockedUntil, Long.parseLong(value));
+                }
+            }
+            return lockedUntil > System.currentTimeMillis()
+                    ? Optional.of(Instant.ofEpochMilli(lockedUntil))
+                    : Optional.empty();
+        } catch (RuntimeException e) {
+            log.warn("Login lockout check failed, allowing attempt: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public FailureOutcome recordFailure(UUID userId, String clientIp) {
+        List<String> keys = new ArrayList<>(5);
+        List<String> args = new ArrayList<>(9);
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(UUID.randomUUID().toString());
+        args.add(String.valueOf(policy.persistedLockMemory().toMillis()));
+
+        if (userId != null) {
+            keys.add(failuresKey(USER, userId.toString()));
+            keys.add(lockKey(USER, userId.toString()));
+            args.add(String.valueOf(policy.userWindow().toMillis()));
+            args.add(String.valueOf(policy.maxUserFailures()));
+            args.add(String.valueOf(policy.userLockDuration().toMillis()));
+        }
+        keys.add(failuresKey(IP, clientIp));
+        keys.add(lockKey(IP, clientIp));
+        args.add(String.valueOf(policy.ipWindow().toMillis()));
+        args.add(String.valueOf(policy.maxIpFailures()));
+        args.add(String.valueOf(policy.ipLockDuration().toMillis()));
+        if (userId != null) {
+            // Set with the user lock, so the next successful login clears the lock in the database
+            keys.add(lockPersistedKey(userId));
+        }
+
+        try {
+            List<?> result = redisTemplate.execute(RECORD_FAILURE_SCRIPT, keys, args.toArray());
+            if (userId == null || result == null || result.size() < 2) {
+                return FailureOutcome.NONE;
+            }
+
+            int failures = ((Number) result.get(0)).intValue();
+            long lockedUntil = ((Number) result.get(1)).longValue();
+            return lockedUntil == 0L
+                    ? new FailureOutcome(failures, null)
+                    : new FailureOutcome(failures, Instant.ofEpochMilli(lockedUntil));
+        } catch (RuntimeException e) {
+            log.warn("Failed to record login failure: {}", e.getMessage());
+            return FailureOutcome.NONE;
+        }
+    }
+
+    @Override
+    public boolean recordSuccess(UUID userId) {
+        try {
+            Long cleared = redisTemplate.execute(
+                    RECORD_SUCCESS_SCRIPT,
+                    List.of(failuresKey(USER, userId.toString()), lockPersistedKey(userId)));
+            return cleared != null && cleared > 0;
+        } catch (RuntimeException e) {
+            log.warn("Failed to reset login failures for user {}: {}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    private static String failuresKey(String subject, String id) {
+        return KEY_PREFIX + FAILURES + subject + id;
+    }
+
+    private static String lockKey(String subject, String id) {
+        return KEY_PREFIX + LOCK + subject + id;
+    }
+
+    private static String lockPersistedKey(UUID userId) {
+        return KEY_PREFIX + LOCK_PERSISTED + userId;
+    }
+}
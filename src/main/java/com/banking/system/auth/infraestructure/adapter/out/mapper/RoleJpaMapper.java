@@ -32,7 +32,8 @@ public class RoleJpaMapper {
                 entity.getId(),
                 entity.getName(),
                 entity.getDescription(),
-                permissions
+                permissions,
+                entity.getPermissionsVersion()
         );
     }
 
@@ -50,6 +51,7 @@ public class RoleJpaMapper {
         entity.setId(role.getId());
         entity.setName(role.getName());
         entity.setDescription(role.getDescription());
+        entity.setPermissionsVersion(role.getPermissionsVersion());
 
         return entity;
     }
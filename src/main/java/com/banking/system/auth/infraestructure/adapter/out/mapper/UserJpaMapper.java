@@ -4,8 +4,10 @@ import com.banking.system.auth.domain.model.Email;
 import com.banking.system.auth.domain.model.Password;
 import com.banking.system.auth.domain.model.Role;
 import com.banking.system.auth.domain.model.User;
+import com.banking.system.auth.domain.model.UserCredentials;
 import com.banking.system.auth.infraestructure.adapter.out.persistence.entity.RoleJpaEntity;
 import com.banking.system.auth.infraestructure.adapter.out.persistence.entity.UserJpaEntity;
+import com.banking.system.auth.infraestructure.adapter.out.persistence.projection.UserCredentialsProjection;
 
 /**
  * Manual mapper responsible for bidirectional conversion between {@link User} domain entities
@@ -48,12 +50,32 @@ public class UserJpaMapper {
         );
     }
 
+    /**
+     * Converts an authentication projection to the domain's read-only credentials view.
+     *
+     * @param projection the projection from the database
+     * @return the credentials, or null if projection is null
+     */
+    public static UserCredentials toCredentials(UserCredentialsProjection projection) {
+        if (projection == null) return null;
+
+        return new UserCredentials(
+                projection.id(),
+                new Email(projection.email()),
+                projection.passwordHash(),
+                projection.status(),
+                projection.roleName(),
+                projection.twoFactorEnabled()
+        );
+    }
+
     /**
      * Converts a domain entity to a JPA entity for persistence.
      * <p>
      * Extracts the primitive values from Value Objects (Email, Password) to store
-     * them in the database. Audit fields like createdAt, updatedAt, and lastLoginAt
-     * are managed by JPA lifecycle hooks and not set here.
+     * them in the database. Audit fields like createdAt and updatedAt are managed by
+     * JPA lifecycle hooks, and login tracking columns (lastLoginAt, failedLoginAttempts,
+     * lockedUntil) are read-only in the entity, so none of them are set here.
      * </p>
      *
      * @param user       the domain entity to persist
@@ -0,0 +1,104 @@
+package com.banking.system.auth.infraestructure.adapter.out.persistence;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for {@code users.last_login_at}
+ * ({@code security.login-tracking.write-behind.enabled=true}).
+ * <p>
+ * Logins only record the timestamp in memory; repeated logins of the same user between
+ * flushes collapse into one entry. A scheduled task writes the entries in JDBC batches
+ * outside any login transaction, so a login burst no longer contends on user rows. The
+ * update never moves the value backwards, so several nodes can flush concurrently.
+ * </p>
+ *
+ * <p>Entries still buffered when the node dies are lost; only the "previous login"
+ * shown to the user is affected.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.login-tracking.write-behind.enabled", havingValue = "true")
+public class LastLoginWriteBehindBuffer {
+
+    private static final String FLUSH_SQL = """
+            UPDATE users SET last_login_at = ?
+            WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)
+            """;
+
+    private final Map<UUID, Instant> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public LastLoginWriteBehindBuffer(
+            JdbcTemplate jdbcTemplate,
+            @Value("${security.login-tracking.write-behind.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Buffers a login.
+     *
+     * @return the previous login still waiting to be flushed, or null if none
+     */
+    public Instant record(UUID userId, Instant loginAt) {
+        return pending.put(userId, loginAt);
+    }
+
+    // Not behind the BATCH bulkhead: a long batch job holding its permit would park the
+    // scheduler thread here on every tick. One flush runs at a time and holds a single
+    // connection for a few batched statements, which application.yml budgets for.
+    @Scheduled(fixedDelayString = "${security.login-tracking.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<UUID, Instant>> batch = new ArrayList<>(Math.min(pending.size(), batchSize));
+        for (Map.Entry<UUID, Instant> entry : pending.entrySet()) {
+            batch.add(Map.entry(entry.getKey(), entry.getValue()));
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(List<Map.Entry<UUID, Instant>> batch) {
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch, batch.size(), (ps, entry) -> {
+                Timestamp loginAt = Timestamp.from(entry.getValue());
+                ps.setTimestamp(1, loginAt);
+                ps.setObject(2, entry.getKey());
+                ps.setTimestamp(3, loginAt);
+            });
+            // Keep entries replaced by a newer login during the write for the next flush
+            batch.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush {} buffered login timestamps, retrying on next flush: {}",
+                    batch.size(), e.getMessage());
+        }
+    }
+}
@@ -2,22 +2,76 @@ package com.banking.system.auth.infraestructure.adapter.out.persistence;
 
 import com.banking.system.auth.application.port.out.LoginTrackingPort;
 import com.banking.system.auth.infraestructure.adapter.out.persistence.repository.SpringDataUserRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class LoginTrackingAdapter implements LoginTrackingPort {
 
+    /**
+     * Stores the new login time and returns the previous one in a single statement.
+     * The sub-select locks the row, so the returned value is the one actually replaced.
+     */
+    private static final String REGISTER_LOGIN_SQL = """
+            UPDATE users u
+            SET last_login_at = :now
+            FROM (SELECT id, last_login_at FROM users WHERE id = :id FOR UPDATE) previous
+            WHERE u.id = previous.id
+            RETURNING previous.last_login_at AS previous_login_at
+            """;
+
     private final SpringDataUserRepository userRepository;
+    private final LastLoginWriteBehindBuffer writeBehindBuffer;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public LoginTrackingAdapter(
+            SpringDataUserRepository userRepository,
+            ObjectProvider<LastLoginWriteBehindBuffer> writeBehindBuffer) {
+        this.userRepository = userRepository;
+        this.writeBehindBuffer = writeBehindBuffer.getIfAvailable();
+    }
 
     @Override
     public Instant registerLogin(UUID userId) {
-        Instant previousLogin = userRepository.findLastLoginAtById(userId);
-        userRepository.updateLastLoginAt(userId, Instant.now());
-        return previousLogin;
+        Instant now = Instant.now();
+
+        if (writeBehindBuffer != null) {
+            // A login still pending in the buffer is newer than the stored value
+            Instant pending = writeBehindBuffer.record(userId, now);
+            return pending != null ? pending : userRepository.findLastLoginAtById(userId);
+        }
+
+        return (Instant) entityManager.createNativeQuery(REGISTER_LOGIN_SQL)
+                .setParameter("id", userId)
+                .setParameter("now", now)
+                .unwrap(NativeQuery.class)
+                .addScalar("previous_login_at", StandardBasicTypes.INSTANT)
+                .getSingleResultOrNull();
+    }
+
+    @Override
+    @Async("loginTrackingExecutor")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void registerLock(UUID userId, int failedAttempts, Instant lockedUntil) {
+        userRepository.updateLock(userId, failedAttempts, lockedUntil);
+    }
+
+    @Override
+    @Async("loginTrackingExecutor")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void clearLock(UUID userId) {
+        userRepository.updateLock(userId, 0, null);
     }
 }
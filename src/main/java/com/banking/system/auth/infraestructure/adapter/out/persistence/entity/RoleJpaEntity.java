@@ -41,6 +41,9 @@ public class RoleJpaEntity {
     )
     private Set<PermissionJpaEntity> permissions = new HashSet<>();
 
+    @Column(name = "permissions_version", nullable = false)
+    private int permissionsVersion = 1;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -44,13 +44,15 @@ public class UserJpaEntity {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
-    @Column(name = "last_login_at")
+    // Login tracking columns are written only by LoginTrackingAdapter's dedicated statements,
+    // so saving a user (merge of a detached entity) never overwrites them with stale values
+    @Column(name = "last_login_at", insertable = false, updatable = false)
     private Instant lastLoginAt;
 
-    @Column(name = "failed_login_attempts")
+    @Column(name = "failed_login_attempts", insertable = false, updatable = false)
     private Integer failedLoginAttempts = 0;
 
-    @Column(name = "locked_until")
+    @Column(name = "locked_until", insertable = false, updatable = false)
     private Instant lockedUntil;
 
     @Column(name = "two_factor_enabled", nullable = false)
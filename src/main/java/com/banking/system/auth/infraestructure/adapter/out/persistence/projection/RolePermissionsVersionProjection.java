@@ -0,0 +1,12 @@
+package com.banking.system.auth.infraestructure.adapter.out.persistence.projection;
+
+import com.banking.system.auth.domain.model.RoleName;
+
+/**
+ * Permissions version of a role, read without loading the role's permissions.
+ */
+public record RolePermissionsVersionProjection(
+        RoleName name,
+        int permissionsVersion
+) {
+}
@@ -0,0 +1,20 @@
+package com.banking.system.auth.infraestructure.adapter.out.persistence.projection;
+
+import com.banking.system.auth.domain.model.RoleName;
+import com.banking.system.auth.domain.model.UserStatus;
+
+import java.util.UUID;
+
+/**
+ * Scalar projection of the {@code users} row joined with its role name, built by a JPQL
+ * constructor expression so no entity (and no permission collection) is loaded.
+ */
+public record UserCredentialsProjection(
+        UUID id,
+        String email,
+        String passwordHash,
+        UserStatus status,
+        RoleName roleName,
+        boolean twoFactorEnabled
+) {
+}
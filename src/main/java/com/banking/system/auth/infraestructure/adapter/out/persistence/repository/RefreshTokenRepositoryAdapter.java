@@ -5,6 +5,7 @@ import com.banking.system.auth.domain.port.out.RefreshTokenRepositoryPort;
 import com.banking.system.auth.infraestructure.adapter.out.mapper.RefreshTokenJpaMapper;
 import com.banking.system.auth.infraestructure.adapter.out.persistence.entity.RefreshTokenJpaEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +15,7 @@ import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "security.credential-store", havingValue = "jpa", matchIfMissing = true)
 public class RefreshTokenRepositoryAdapter implements RefreshTokenRepositoryPort {
 
     private final SpringRefreshTokenJpaRepository springRefreshTokenJpaRepository;
@@ -33,8 +35,8 @@ public class RefreshTokenRepositoryAdapter implements RefreshTokenRepositoryPort
 
     @Override
     @Transactional
-    public void revokeAllByUserId(UUID userId) {
-        springRefreshTokenJpaRepository.revokeAllByUserId(userId);
+    public int revokeAllByUserId(UUID userId) {
+        return springRefreshTokenJpaRepository.revokeAllByUserId(userId);
     }
 
     @Override
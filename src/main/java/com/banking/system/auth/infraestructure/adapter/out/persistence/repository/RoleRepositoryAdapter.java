@@ -7,6 +7,8 @@ import com.banking.system.auth.infraestructure.adapter.out.mapper.RoleJpaMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -27,4 +29,12 @@ public class RoleRepositoryAdapter implements RoleRepositoryPort {
         return springDataRoleRepository.findByName(name)
                 .map(RoleJpaMapper::toDomain);
     }
+
+    @Override
+    public Map<RoleName, Integer> findPermissionsVersions() {
+        Map<RoleName, Integer> versions = new EnumMap<>(RoleName.class);
+        springDataRoleRepository.findPermissionsVersions()
+                .forEach(role -> versions.put(role.name(), role.permissionsVersion()));
+        return versions;
+    }
 }
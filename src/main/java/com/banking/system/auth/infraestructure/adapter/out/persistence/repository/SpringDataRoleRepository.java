@@ -2,9 +2,12 @@ package com.banking.system.auth.infraestructure.adapter.out.persistence.reposito
 
 import com.banking.system.auth.domain.model.RoleName;
 import com.banking.system.auth.infraestructure.adapter.out.persistence.entity.RoleJpaEntity;
+import com.banking.system.auth.infraestructure.adapter.out.persistence.projection.RolePermissionsVersionProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,4 +15,11 @@ import java.util.UUID;
 public interface SpringDataRoleRepository extends JpaRepository<RoleJpaEntity, UUID> {
 
     Optional<RoleJpaEntity> findByName(RoleName name);
+
+    @Query("""
+            SELECT new com.banking.system.auth.infraestructure.adapter.out.persistence.projection.RolePermissionsVersionProjection(
+                r.name, r.permissionsVersion)
+            FROM RoleJpaEntity r
+            """)
+    List<RolePermissionsVersionProjection> findPermissionsVersions();
 }
@@ -1,6 +1,7 @@
 package com.banking.system.auth.infraestructure.adapter.out.persistence.repository;
 
 import com.banking.system.auth.infraestructure.adapter.out.persistence.entity.UserJpaEntity;
+import com.banking.system.auth.infraestructure.adapter.out.persistence.projection.UserCredentialsProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -17,10 +18,36 @@ public interface SpringDataUserRepository extends JpaRepository<UserJpaEntity, U
 
     Optional<UserJpaEntity> findByEmail(String email);
 
+    // Authentication reads: scalar projections, the role is joined only for its name
+    @Query("""
+            SELECT new com.banking.system.auth.infraestructure.adapter.out.persistence.projection.UserCredentialsProjection(
+                u.id, u.email, u.passwordHash, u.status, r.name, u.twoFactorEnabled)
+            FROM UserJpaEntity u JOIN u.role r
+            WHERE u.email = :email
+            """)
+    Optional<UserCredentialsProjection> findCredentialsByEmail(@Param("email") String email);
+
+    @Query("""
+            SELECT new com.banking.system.auth.infraestructure.adapter.out.persistence.projection.UserCredentialsProjection(
+                u.id, u.email, u.passwordHash, u.status, r.name, u.twoFactorEnabled)
+            FROM UserJpaEntity u JOIN u.role r
+            WHERE u.id = :id
+            """)
+    Optional<UserCredentialsProjection> findCredentialsById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE UserJpaEntity u SET u.passwordHash = :passwordHash, u.updatedAt = :now WHERE u.id = :id")
+    int updatePasswordHash(@Param("id") UUID id,
+                           @Param("passwordHash") String passwordHash,
+                           @Param("now") Instant now);
+
     @Query("SELECT u.lastLoginAt FROM UserJpaEntity u WHERE u.id = :id")
     Instant findLastLoginAtById(@Param("id") UUID id);
 
     @Modifying
-    @Query("UPDATE UserJpaEntity u SET u.lastLoginAt = :now WHERE u.id = :id")
-    void updateLastLoginAt(@Param("id") UUID id, @Param("now") Instant now);
+    @Query(value = "UPDATE users SET failed_login_attempts = :failedAttempts, locked_until = :lockedUntil WHERE id = :id",
+            nativeQuery = true)
+    void updateLock(@Param("id") UUID id,
+                    @Param("failedAttempts") int failedAttempts,
+                    @Param("lockedUntil") Instant lockedUntil);
 }
@@ -16,7 +16,7 @@ public interface SpringRefreshTokenJpaRepository extends JpaRepository<RefreshTo
 
     @Modifying
     @Query("UPDATE RefreshTokenJpaEntity r SET r.revoked = true WHERE r.userId = :userId AND r.revoked = false")
-    void revokeAllByUserId(@Param("userId") UUID userId);
+    int revokeAllByUserId(@Param("userId") UUID userId);
 
     @Modifying
     @Query("DELETE FROM RefreshTokenJpaEntity r WHERE r.expiresAt < :now OR r.revoked = true")
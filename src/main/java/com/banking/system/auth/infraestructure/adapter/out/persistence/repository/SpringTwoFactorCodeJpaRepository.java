@@ -4,6 +4,7 @@ import com.banking.system.auth.infraestructure.adapter.out.persistence.entity.Tw
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -17,6 +18,13 @@ public interface SpringTwoFactorCodeJpaRepository extends JpaRepository<TwoFacto
 
     Optional<TwoFactorCodeJpaEntity> findFirstByUserIdOrderByCreatedAtDesc(UUID userId);
 
+    @Modifying
+    @Query("UPDATE TwoFactorCodeJpaEntity t SET t.attempts = t.attempts + 1 WHERE t.sessionToken = :sessionToken")
+    int incrementAttempts(@Param("sessionToken") String sessionToken);
+
+    @Query("SELECT t.attempts FROM TwoFactorCodeJpaEntity t WHERE t.sessionToken = :sessionToken")
+    int findAttemptsBySessionToken(@Param("sessionToken") String sessionToken);
+
     @Modifying
     @Query("DELETE FROM TwoFactorCodeJpaEntity t WHERE t.expiresAt < :now")
     void deleteExpiredCodes(LocalDateTime now);
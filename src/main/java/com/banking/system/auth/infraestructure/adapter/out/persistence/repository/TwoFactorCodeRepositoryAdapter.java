@@ -5,7 +5,10 @@ import com.banking.system.auth.domain.port.out.TwoFactorCodeRepositoryPort;
 import com.banking.system.auth.infraestructure.adapter.out.mapper.TwoFactorCodeJpaMapper;
 import com.banking.system.auth.infraestructure.adapter.out.persistence.entity.TwoFactorCodeJpaEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -13,6 +16,7 @@ import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "security.credential-store", havingValue = "jpa", matchIfMissing = true)
 public class TwoFactorCodeRepositoryAdapter implements TwoFactorCodeRepositoryPort {
 
     private final SpringTwoFactorCodeJpaRepository springTwoFactorCodeJpaRepository;
@@ -36,6 +40,15 @@ public class TwoFactorCodeRepositoryAdapter implements TwoFactorCodeRepositoryPo
                 .map(TwoFactorCodeJpaMapper::toDomain);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int incrementAttempts(TwoFactorCode twoFactorCode) {
+        // Commits on its own: the caller's transaction is rolled back by the failed verification.
+        // The row lock taken by the UPDATE serializes concurrent increments until commit.
+        springTwoFactorCodeJpaRepository.incrementAttempts(twoFactorCode.getSessionToken());
+        return springTwoFactorCodeJpaRepository.findAttemptsBySessionToken(twoFactorCode.getSessionToken());
+    }
+
     @Override
     public void deleteExpiredCodes() {
         springTwoFactorCodeJpaRepository.deleteExpiredCodes(LocalDateTime.now());
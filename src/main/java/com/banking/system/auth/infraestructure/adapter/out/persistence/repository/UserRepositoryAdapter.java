@@ -2,6 +2,7 @@ package com.banking.system.auth.infraestructure.adapter.out.persistence.reposito
 
 import com.banking.system.auth.domain.port.out.UserRepositoryPort;
 import com.banking.system.auth.domain.model.User;
+import com.banking.system.auth.domain.model.UserCredentials;
 import com.banking.system.auth.infraestructure.adapter.out.mapper.UserJpaMapper;
 import com.banking.system.auth.infraestructure.adapter.out.persistence.entity.RoleJpaEntity;
 import com.banking.system.auth.infraestructure.adapter.out.persistence.entity.UserJpaEntity;
@@ -9,6 +10,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
 
 import java.util.List;
 import java.util.Optional;
@@ -48,6 +52,24 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
         return entity.map(UserJpaMapper::toDomain);
     }
 
+    @Override
+    public Optional<UserCredentials> findCredentialsByEmail(String email) {
+        return springDataUserRepository.findCredentialsByEmail(email)
+                .map(UserJpaMapper::toCredentials);
+    }
+
+    @Override
+    public Optional<UserCredentials> findCredentialsById(UUID id) {
+        return springDataUserRepository.findCredentialsById(id)
+                .map(UserJpaMapper::toCredentials);
+    }
+
+    @Override
+    @Transactional
+    public void updatePasswordHash(UUID id, String passwordHash) {
+        springDataUserRepository.updatePasswordHash(id, passwordHash, Instant.now());
+    }
+
     @Override
     public User save(User user) {
         RoleJpaEntity roleEntity = springDataRoleRepository.findByName(user.getRole().getName())
@@ -5,6 +5,7 @@ import com.banking.system.auth.domain.port.out.VerificationTokenRepositoryPort;
 import com.banking.system.auth.infraestructure.adapter.out.mapper.VerificationTokenJpaMapper;
 import com.banking.system.auth.infraestructure.adapter.out.persistence.entity.VerificationTokenJpaEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -12,6 +13,7 @@ import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "security.credential-store", havingValue = "jpa", matchIfMissing = true)
 public class VerificationTokenRepositoryAdapter implements VerificationTokenRepositoryPort {
 
     private final SpringVerificationTokenJpaRepository springVerificationTokenJpaRepository;
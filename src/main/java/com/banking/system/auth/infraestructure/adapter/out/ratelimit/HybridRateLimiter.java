@@ -0,0 +1,223 @@
+package com.banking.system.auth.infraestructure.adapter.out.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.VerboseResult;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
+import io.github.bucket4j.distributed.proxy.AsyncProxyManager;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Two-tier token bucket rate limiter.
+ * <p>
+ * Every decision is taken against an in-memory bucket, so no request waits on Redis.
+ * Tokens consumed locally are accumulated per key and reconciled with the shared
+ * Redis bucket in batches by a scheduled task, using the non-blocking Bucket4j proxy.
+ * The remaining tokens reported by Redis are then used to drain the local bucket, so
+ * consumption on other nodes is reflected within one sync interval.
+ * </p>
+ *
+ * <p>If Redis fails or times out, synchronization is suspended for a back-off period
+ * and the local buckets keep enforcing per-node limits on their own.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rate-limiting.enabled", havingValue = "true", matchIfMissing = true)
+public class HybridRateLimiter {
+
+    private static final int MAX_LOCAL_BUCKETS = 100_000;
+
+    private final AsyncProxyManager<String> proxyManager;
+    private final Cache<String, LocalBucketState> localBuckets;
+    private final long syncTimeoutMs;
+    private final long redisBackoffNanos;
+    private final int syncBatchSize;
+
+    private final Timer allowedDecisions;
+    private final Timer rejectedDecisions;
+    private final Timer syncLatency;
+    private final Counter syncFailures;
+
+    private volatile long redisSuspendedUntil;
+    private final AtomicBoolean degraded = new AtomicBoolean(false);
+
+    public HybridRateLimiter(
+            AsyncProxyManager<String> proxyManager,
+            MeterRegistry meterRegistry,
+            @Value("${rate-limiting.sync-timeout-ms:500}") long syncTimeoutMs,
+            @Value("${rate-limiting.redis-backoff-ms:5000}") long redisBackoffMs,
+            @Value("${rate-limiting.sync-batch-size:1000}") int syncBatchSize
+    ) {
+        this.proxyManager = proxyManager;
+        this.syncTimeoutMs = syncTimeoutMs;
+        this.redisBackoffNanos = TimeUnit.MILLISECONDS.toNanos(redisBackoffMs);
+        this.syncBatchSize = syncBatchSize;
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(MAX_LOCAL_BUCKETS)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+
+        this.allowedDecisions = Timer.builder("rate.limiter.decision")
+                .description("Latency of local rate limit decisions")
+                .tag("result", "allowed")
+                .register(meterRegistry);
+        this.rejectedDecisions = Timer.builder("rate.limiter.decision")
+                .description("Latency of local rate limit decisions")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.syncLatency = Timer.builder("rate.limiter.sync")
+                .description("Round trip of a local bucket reconciliation with Redis")
+                .register(meterRegistry);
+        this.syncFailures = Counter.builder("rate.limiter.sync.failures")
+                .description("Failed or timed out reconciliations with Redis")
+                .register(meterRegistry);
+        Gauge.builder("rate.limiter.local.buckets", localBuckets, Cache::estimatedSize)
+                .description("Buckets currently held in memory")
+                .register(meterRegistry);
+        Gauge.builder("rate.limiter.degraded", degraded, flag -> flag.get() ? 1 : 0)
+                .description("1 while Redis synchronization is suspended and only local limits apply")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Consumes one token for the key from its local bucket. Never performs I/O.
+     *
+     * @param key           bucket key (client IP plus endpoint class)
+     * @param configuration limits applied to the bucket, both locally and in Redis
+     * @return the consumption result of the local bucket
+     */
+    public ConsumptionProbe tryConsume(String key, BucketConfiguration configuration) {
+        long start = System.nanoTime();
+
+        LocalBucketState state = localBuckets.getIfPresent(key);
+        if (state == null) {
+            state = localBuckets.get(key, k -> new LocalBucketState(k, configuration));
+        }
+
+        ConsumptionProbe probe = state.bucket.tryConsumeAndReturnRemaining(1);
+        if (probe.isConsumed()) {
+            state.pendingTokens.incrementAndGet();
+        }
+
+        (probe.isConsumed() ? allowedDecisions : rejectedDecisions)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return probe;
+    }
+
+    /**
+     * Pushes locally consumed tokens to Redis. All requests of a run are issued
+     * without waiting on each other, so Lettuce pipelines them over one connection.
+     */
+    @Scheduled(fixedDelayString = "${rate-limiting.sync-interval-ms:250}")
+    public void synchronize() {
+        if (System.nanoTime() < redisSuspendedUntil) {
+            return;
+        }
+        if (degraded.compareAndSet(true, false)) {
+            log.info("Resuming rate limit synchronization with Redis");
+        }
+
+        int submitted = 0;
+        for (LocalBucketState state : localBuckets.asMap().values()) {
+            if (submitted >= syncBatchSize) {
+                break;
+            }
+            if (state.pendingTokens.get() > 0 && state.syncing.compareAndSet(false, true)) {
+                synchronize(state);
+                submitted++;
+            }
+        }
+    }
+
+    private void synchronize(LocalBucketState state) {
+        long pending = state.pendingTokens.getAndSet(0);
+        long start = System.nanoTime();
+
+        state.remote().asVerbose()
+                .consumeIgnoringRateLimits(pending)
+                .orTimeout(syncTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> {
+                    state.syncing.set(false);
+                    syncLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    if (error != null) {
+                        onSyncFailure(state.key, error);
+                    } else {
+                        reconcile(state, result);
+                    }
+                });
+    }
+
+    /**
+     * Drains the local bucket down to the tokens Redis reports as globally available.
+     * Tokens consumed locally while the request was in flight are carried by the next run.
+     */
+    private void reconcile(LocalBucketState state, VerboseResult<Long> result) {
+        long globalAvailable = Math.max(result.getDiagnostics().getAvailableTokens(), 0);
+        long excess = state.bucket.getAvailableTokens() - globalAvailable;
+        if (excess > 0) {
+            state.bucket.consumeIgnoringRateLimits(excess);
+        }
+    }
+
+    /**
+     * Pending tokens of the failed run are dropped rather than retried: they were already
+     * enforced locally, and replaying a long outage's worth of traffic into Redis would
+     * keep clients throttled long after it recovers.
+     */
+    private void onSyncFailure(String key, Throwable error) {
+        syncFailures.increment();
+        redisSuspendedUntil = System.nanoTime() + redisBackoffNanos;
+        if (degraded.compareAndSet(false, true)) {
+            log.warn("Rate limit synchronization with Redis failed for key {}, falling back to local limits: {}",
+                    key, error.getMessage());
+        }
+    }
+
+    private final class LocalBucketState {
+        private final String key;
+        private final BucketConfiguration configuration;
+        private final Bucket bucket;
+        private final AtomicLong pendingTokens = new AtomicLong();
+        private final AtomicBoolean syncing = new AtomicBoolean(false);
+        private volatile AsyncBucketProxy remote;
+
+        private LocalBucketState(String key, BucketConfiguration configuration) {
+            this.key = key;
+            this.configuration = configuration;
+            LocalBucketBuilder builder = Bucket.builder();
+            for (Bandwidth bandwidth : configuration.getBandwidths()) {
+                builder.addLimit(bandwidth);
+            }
+            this.bucket = builder.build();
+        }
+
+        private AsyncBucketProxy remote() {
+            AsyncBucketProxy proxy = remote;
+            if (proxy == null) {
+                proxy = proxyManager.builder()
+                        .build(key, () -> CompletableFuture.completedFuture(configuration));
+                remote = proxy;
+            }
+            return proxy;
+        }
+    }
+}
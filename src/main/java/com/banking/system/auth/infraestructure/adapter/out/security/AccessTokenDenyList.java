@@ -0,0 +1,170 @@
+package com.banking.system.auth.infraestructure.adapter.out.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Node-local deny-list of revoked access tokens, consulted on every authenticated request.
+ * <p>
+ * Revocations are kept twice: in a Bloom filter that answers the common "not revoked"
+ * case with a few array reads and no allocation, and in exact maps that confirm Bloom
+ * hits. Two entry kinds exist: a single token by {@code jti}, and a per-user cutoff that
+ * revokes every token of the user issued before a given millisecond.
+ * </p>
+ *
+ * <p>Bloom filters cannot delete, so they are generational: the filter is replaced every
+ * access-token lifetime and the previous one is kept for one more period. An entry thus
+ * stays in a filter for at least one full token lifetime, by which time every token it
+ * can match has expired. Exact entries are purged once their tokens expire.</p>
+ *
+ * <p>This class does not replicate anything; see {@link AccessTokenRevocationAdapter}.</p>
+ */
+@Component
+public class AccessTokenDenyList {
+
+    // 2^20 bits (128 KB) per generation keeps false positives below 1% up to ~100k entries
+    private static final int BLOOM_BITS_LOG2 = 20;
+    private static final int HASH_FUNCTIONS = 3;
+
+    private final Map<String, Long> deniedTokens = new ConcurrentHashMap<>();
+    private final Map<UUID, UserCutoff> userCutoffs = new ConcurrentHashMap<>();
+    private volatile Generations generations = new Generations(new BloomFilter(), new BloomFilter());
+
+    private final long tokenLifetimeMs;
+    private volatile long nextRotationAt;
+
+    public AccessTokenDenyList(@Value("${jwt.expiration-ms}") long tokenLifetimeMs) {
+        this.tokenLifetimeMs = tokenLifetimeMs;
+        this.nextRotationAt = System.currentTimeMillis() + tokenLifetimeMs;
+    }
+
+    /**
+     * Checks whether a verified token has been revoked.
+     *
+     * @param tokenId          the {@code jti} claim, or null for tokens issued without one
+     * @param userId           the token subject
+     * @param issuedAtEpochMs  the issue time in epoch millis, see {@link JwtTokenProvider#issuedAtMillis}
+     * @return true if the token must be rejected
+     */
+    public boolean isDenied(String tokenId, UUID userId, long issuedAtEpochMs) {
+        Generations current = generations;
+
+        if (tokenId != null && current.mightContain(hash(tokenId)) && deniedTokens.containsKey(tokenId)) {
+            return true;
+        }
+        if (current.mightContain(hash(userId))) {
+            UserCutoff cutoff = userCutoffs.get(userId);
+            return cutoff != null && issuedAtEpochMs < cutoff.issuedBeforeEpochMs();
+        }
+        return false;
+    }
+
+    /**
+     * Denies a single token until it expires.
+     */
+    public void denyToken(String tokenId, long expiresAtEpochMs) {
+        if (expiresAtEpochMs <= System.currentTimeMillis()) {
+            return;
+        }
+        // Exact entry first, so a concurrent Bloom hit always finds it
+        deniedTokens.merge(tokenId, expiresAtEpochMs, Math::max);
+        generations.current().add(hash(tokenId));
+    }
+
+    /**
+     * Denies every token of the user issued before the given millisecond.
+     */
+    public void denyIssuedBefore(UUID userId, long issuedBeforeEpochMs) {
+        long expiresAtEpochMs = issuedBeforeEpochMs + tokenLifetimeMs;
+        if (expiresAtEpochMs <= System.currentTimeMillis()) {
+            return;
+        }
+        userCutoffs.merge(userId, new UserCutoff(issuedBeforeEpochMs, expiresAtEpochMs),
+                (existing, added) -> existing.issuedBeforeEpochMs() >= added.issuedBeforeEpochMs() ? existing : added);
+        generations.current().add(hash(userId));
+    }
+
+    /**
+     * Drops exact entries whose tokens have expired and rotates the Bloom generations.
+     */
+    @Scheduled(fixedDelayString = "${security.token-revocation.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        deniedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        userCutoffs.values().removeIf(cutoff -> cutoff.expiresAtEpochMs() <= now);
+
+        if (now >= nextRotationAt) {
+            generations = new Generations(new BloomFilter(), generations.current());
+            nextRotationAt = now + tokenLifetimeMs;
+        }
+    }
+
+    public int size() {
+        return deniedTokens.size() + userCutoffs.size();
+    }
+
+    private static long hash(String value) {
+        return mix(value.hashCode() * 0x9E3779B97F4A7C15L);
+    }
+
+    private static long hash(UUID value) {
+        return mix(value.getMostSignificantBits() ^ Long.rotateLeft(value.getLeastSignificantBits(), 31));
+    }
+
+    // MurmurHash3 fmix64 finalizer
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private record UserCutoff(long issuedBeforeEpochMs, long expiresAtEpochMs) {
+    }
+
+    private record Generations(BloomFilter current, BloomFilter previous) {
+        boolean mightContain(long hash) {
+            return current.mightContain(hash) || previous.mightContain(hash);
+        }
+    }
+
+    private static final class BloomFilter {
+        private static final int MASK = (1 << BLOOM_BITS_LOG2) - 1;
+
+        private final AtomicLongArray words = new AtomicLongArray(1 << (BLOOM_BITS_LOG2 - 6));
+
+        void add(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASH_FUNCTIONS; i++) {
+                int bit = (h1 + i * h2) & MASK;
+                long mask = 1L << bit;
+                int word = bit >>> 6;
+                long current;
+                do {
+                    current = words.get(word);
+                } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASH_FUNCTIONS; i++) {
+                int bit = (h1 + i * h2) & MASK;
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.banking.system.auth.infraestructure.adapter.out.security;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.banking.system.auth.domain.port.out.AccessTokenRevocationPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Applies access-token revocations to the local {@link AccessTokenDenyList} and
+ * replicates them to the other nodes.
+ * <p>
+ * The local deny-list is updated first, so the revoking node rejects the token
+ * immediately even if replication fails.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationAdapter implements AccessTokenRevocationPort {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenDenyList denyList;
+    private final AccessTokenRevocationReplicator replicator;
+    private final long tokenLifetimeMs;
+
+    public AccessTokenRevocationAdapter(
+            JwtTokenProvider jwtTokenProvider,
+            AccessTokenDenyList denyList,
+            AccessTokenRevocationReplicator replicator,
+            @Value("${jwt.expiration-ms}") long tokenLifetimeMs) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.denyList = denyList;
+        this.replicator = replicator;
+        this.tokenLifetimeMs = tokenLifetimeMs;
+    }
+
+    @Override
+    public void revoke(String accessToken) {
+        DecodedJWT jwt;
+        try {
+            jwt = jwtTokenProvider.validateToken(accessToken);
+        } catch (JWTVerificationException e) {
+            // Invalid or expired tokens are already rejected by the authentication filter
+            return;
+        }
+        if (jwt.getId() == null || jwt.getExpiresAtAsInstant() == null) {
+            return;
+        }
+
+        long expiresAt = jwt.getExpiresAtAsInstant().toEpochMilli();
+        denyList.denyToken(jwt.getId(), expiresAt);
+        publish(AccessTokenRevocationReplicator.tokenMessage(jwt.getId(), expiresAt), expiresAt);
+    }
+
+    @Override
+    public void revokeAllIssuedBefore(UUID userId, Instant cutoff) {
+        long issuedBefore = cutoff.toEpochMilli();
+        denyList.denyIssuedBefore(userId, issuedBefore);
+        publish(AccessTokenRevocationReplicator.userMessage(userId.toString(), issuedBefore),
+                cutoff.toEpochMilli() + tokenLifetimeMs);
+    }
+
+    private void publish(String message, long expiresAt) {
+        try {
+            replicator.publish(message, expiresAt);
+        } catch (RuntimeException e) {
+            log.warn("Failed to replicate access token revocation, applied on this node only: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.banking.system.auth.infraestructure.adapter.out.security;
+
+/**
+ * Propagates access-token revocations applied on this node to the other nodes.
+ * Messages use the compact formats produced by {@link #tokenMessage} and {@link #userMessage}.
+ */
+public interface AccessTokenRevocationReplicator {
+
+    String TOKEN_PREFIX = "T:";
+    // User cutoffs in epoch millis
+    String USER_PREFIX = "C:";
+
+    /**
+     * Publishes a revocation to the other nodes.
+     *
+     * @param message   the encoded revocation
+     * @param expiresAt epoch millis after which the revocation is irrelevant
+     */
+    void publish(String message, long expiresAt);
+
+    static String tokenMessage(String tokenId, long expiresAtEpochMs) {
+        return TOKEN_PREFIX + tokenId + ':' + expiresAtEpochMs;
+    }
+
+    static String userMessage(String userId, long issuedBeforeEpochMs) {
+        return USER_PREFIX + userId + ':' + issuedBeforeEpochMs;
+    }
+}
@@ -0,0 +1,63 @@
+package com.banking.system.auth.infraestructure.adapter.out.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+
+/**
+ * Picks the BCrypt cost factor whose verification latency is closest to, without
+ * exceeding, a target on the current hardware.
+ * <p>
+ * Each cost increment doubles the work, so a single measurement at the minimum cost
+ * is enough to extrapolate the rest. The result is clamped to {@code [minCost, maxCost]}
+ * so a slow or noisy startup can never weaken hashes below the configured floor.
+ * </p>
+ */
+@Slf4j
+public final class BCryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES = 3;
+
+    private BCryptCostCalibrator() {
+    }
+
+    /**
+     * Measures the hashing latency at {@code minCost} and derives the cost for the target.
+     *
+     * @param targetLatency desired verification latency
+     * @param minCost       lowest acceptable cost factor
+     * @param maxCost       highest acceptable cost factor
+     * @return the calibrated cost factor
+     */
+    public static int calibrate(Duration targetLatency, int minCost, int maxCost) {
+        if (minCost > maxCost) {
+            throw new IllegalArgumentException("minCost must not exceed maxCost");
+        }
+
+        // Warm up the JIT so the first measured sample is not inflated
+        BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(minCost));
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            String salt = BCrypt.gensalt(minCost);
+            long start = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, salt);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        long targetNanos = targetLatency.toNanos();
+        int cost = minCost;
+        long estimatedNanos = bestNanos;
+        while (cost < maxCost && estimatedNanos * 2 <= targetNanos) {
+            estimatedNanos *= 2;
+            cost++;
+        }
+
+        log.info("BCrypt cost calibrated to {} (cost {} measured at {} ms, target {} ms, estimated {} ms)",
+                cost, minCost, Duration.ofNanos(bestNanos).toMillis(), targetLatency.toMillis(),
+                Duration.ofNanos(estimatedNanos).toMillis());
+        return cost;
+    }
+}
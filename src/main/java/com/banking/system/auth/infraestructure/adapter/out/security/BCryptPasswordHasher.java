@@ -1,22 +1,140 @@
 package com.banking.system.auth.infraestructure.adapter.out.security;
 
+import com.banking.system.auth.domain.exception.PasswordHashingOverloadedException;
 import com.banking.system.auth.domain.port.out.PasswordHasher;
-import lombok.RequiredArgsConstructor;
+import com.banking.system.auth.infraestructure.config.PasswordHashingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt implementation of {@link PasswordHasher} that runs every hash on the
+ * dedicated {@code passwordHashingExecutor}.
+ * <p>
+ * Admission is fail-fast: when the executor queue is full, or a queued hash does not
+ * complete within the configured timeout, a {@link PasswordHashingOverloadedException}
+ * is thrown instead of holding the request thread. CPU time per operation and queue
+ * wait are recorded so the pool and the BCrypt cost can be tuned from real data.
+ * </p>
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class BCryptPasswordHasher implements PasswordHasher {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
     private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMs;
+    private final boolean cpuTimeSupported;
+
+    private final Timer hashCpuTimer;
+    private final Timer verifyCpuTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+
+    public BCryptPasswordHasher(
+            PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor executor,
+            @Value("${security.password.hashing.timeout-ms:2000}") long timeoutMs,
+            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+        this.cpuTimeSupported = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+
+        this.hashCpuTimer = Timer.builder(PasswordHashingConfig.EXECUTOR_NAME + ".cpu")
+                .description("CPU time spent per password hashing operation")
+                .tag("operation", "hash")
+                .register(meterRegistry);
+        this.verifyCpuTimer = Timer.builder(PasswordHashingConfig.EXECUTOR_NAME + ".cpu")
+                .description("CPU time spent per password hashing operation")
+                .tag("operation", "verify")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder(PasswordHashingConfig.EXECUTOR_NAME + ".queue.wait")
+                .description("Time password hashing tasks spend queued before running")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(PasswordHashingConfig.EXECUTOR_NAME + ".rejected")
+                .description("Password hashing requests rejected by admission control")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder(PasswordHashingConfig.EXECUTOR_NAME + ".rejected")
+                .description("Password hashing requests rejected by admission control")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+    }
 
     @Override
     public String hash(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return execute(hashCpuTimer, () -> passwordEncoder.encode(rawPassword));
     }
 
     @Override
     public boolean verify(String rawPassword, String hashedPassword) {
-        return passwordEncoder.matches(rawPassword, hashedPassword);
+        return execute(verifyCpuTimer, () -> passwordEncoder.matches(rawPassword, hashedPassword));
+    }
+
+    @Override
+    public boolean needsRehash(String hashedPassword) {
+        // Only parses the cost prefix of the hash, cheap enough for the caller thread
+        return passwordEncoder.upgradeEncoding(hashedPassword);
+    }
+
+    private <T> T execute(Timer cpuTimer, Supplier<T> operation) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                if (!cpuTimeSupported) {
+                    return operation.get();
+                }
+                long cpuStart = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+                try {
+                    return operation.get();
+                } finally {
+                    cpuTimer.record(THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuStart, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            log.warn("Password hashing queue is full, rejecting request");
+            throw new PasswordHashingOverloadedException("Password hashing capacity exhausted");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Drops the task if it is still queued; a running hash cannot be interrupted
+            future.cancel(true);
+            timeoutCounter.increment();
+            log.warn("Password hashing did not complete within {} ms", timeoutMs);
+            throw new PasswordHashingOverloadedException("Password hashing timed out");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingOverloadedException("Interrupted while waiting for password hashing");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
     }
 }
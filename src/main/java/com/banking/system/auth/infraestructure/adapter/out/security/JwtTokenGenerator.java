@@ -1,5 +1,8 @@
 package com.banking.system.auth.infraestructure.adapter.out.security;
 
+import com.banking.system.auth.domain.model.PermissionMask;
+import com.banking.system.auth.domain.model.RoleName;
+import com.banking.system.auth.domain.port.out.RolePermissionCachePort;
 import com.banking.system.auth.domain.port.out.TokenGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -10,9 +13,16 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class JwtTokenGenerator implements TokenGenerator {
     private final JwtTokenProvider jwtTokenProvider;
+    private final RolePermissionCachePort rolePermissionCache;
 
     @Override
-    public String generateToken(UUID userId, String role) {
-        return jwtTokenProvider.generateToken(userId.toString(), role);
+    public String generateToken(UUID userId, RoleName roleName) {
+        PermissionMask permissionMask = rolePermissionCache.getPermissionMaskForRole(roleName.name());
+        return jwtTokenProvider.generateToken(
+                userId.toString(),
+                roleName.name(),
+                permissionMask.bits(),
+                permissionMask.version()
+        );
     }
-}
\ No newline at end of file
+}
@@ -7,11 +7,20 @@ import com.auth0.jwt.interfaces.JWTVerifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
+    public static final String ROLE_CLAIM = "role";
+    // Bitset over PermissionCode ordinals and the role permissions version it was computed from
+    public static final String PERMISSIONS_CLAIM = "perms";
+    public static final String PERMISSIONS_VERSION_CLAIM = "pv";
+    // iat only has second precision, too coarse to tell a revoked session from one started in the same second
+    public static final String ISSUED_AT_MS_CLAIM = "iat_ms";
+
     private final Algorithm algorithm;
     private final long jwtExpirationMs;
     private final JWTVerifier verifier;
@@ -25,18 +34,36 @@ public class JwtTokenProvider {
         this.verifier = JWT.require(algorithm).build();
     }
 
-    public String generateToken(String userId, String role) {
+    public String generateToken(String userId, String role, long permissionBits, int permissionsVersion) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
         return JWT.create()
                 .withSubject(userId)
-                .withClaim("role", role)
+                // Unique token ID, used to revoke this token individually
+                .withJWTId(UUID.randomUUID().toString())
+                .withClaim(ROLE_CLAIM, role)
+                .withClaim(PERMISSIONS_CLAIM, permissionBits)
+                .withClaim(PERMISSIONS_VERSION_CLAIM, permissionsVersion)
                 .withIssuedAt(now)
+                .withClaim(ISSUED_AT_MS_CLAIM, now.getTime())
                 .withExpiresAt(expiryDate)
                 .sign(algorithm);
     }
 
+    /**
+     * Issue time in epoch millis, falling back to {@code iat} for tokens issued without
+     * the millisecond claim.
+     */
+    public static long issuedAtMillis(DecodedJWT jwt) {
+        Long issuedAtMs = jwt.getClaim(ISSUED_AT_MS_CLAIM).asLong();
+        if (issuedAtMs != null) {
+            return issuedAtMs;
+        }
+        Instant issuedAt = jwt.getIssuedAtAsInstant();
+        return issuedAt != null ? issuedAt.toEpochMilli() : 0L;
+    }
+
     public DecodedJWT validateToken(String token) {
         return verifier.verify(token);
     }
@@ -46,6 +73,6 @@ public class JwtTokenProvider {
     }
 
     public String getRoleFromToken(String token) {
-        return validateToken(token).getClaim("role").asString();
+        return validateToken(token).getClaim(ROLE_CLAIM).asString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package com.banking.system.auth.infraestructure.adapter.out.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * No-op replicator for single-node deployments and tests
+ * ({@code security.token-revocation.replication=none}).
+ */
+@Component
+@ConditionalOnProperty(name = "security.token-revocation.replication", havingValue = "none")
+public class LocalAccessTokenRevocationReplicator implements AccessTokenRevocationReplicator {
+
+    @Override
+    public void publish(String message, long expiresAt) {
+        // Revocations already applied to the local deny-list
+    }
+}
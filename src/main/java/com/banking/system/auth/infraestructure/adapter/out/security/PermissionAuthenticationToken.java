@@ -0,0 +1,75 @@
+package com.banking.system.auth.infraestructure.adapter.out.security;
+
+import com.banking.system.auth.domain.model.PermissionCode;
+import com.banking.system.auth.domain.model.PermissionMask;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Authentication built from a validated access token.
+ * <p>
+ * Permissions are kept as the raw bitset from the token and checked with a single
+ * bitwise AND by {@link PermissionAuthorizationManager}. The {@link GrantedAuthority}
+ * view is only materialized if some component explicitly asks for it.
+ * </p>
+ */
+public class PermissionAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final UUID userId;
+    private final String role;
+    private final long permissionBits;
+    private volatile List<GrantedAuthority> authorities;
+
+    public PermissionAuthenticationToken(UUID userId, String role, long permissionBits) {
+        super(null);
+        this.userId = userId;
+        this.role = role;
+        this.permissionBits = permissionBits;
+        setAuthenticated(true);
+    }
+
+    public boolean hasPermission(PermissionCode permission) {
+        return PermissionMask.contains(permissionBits, permission);
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public long getPermissionBits() {
+        return permissionBits;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return userId;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        List<GrantedAuthority> result = authorities;
+        if (result == null) {
+            result = new ArrayList<>();
+            // Role authority with ROLE_ prefix for hasRole() checks
+            result.add(new SimpleGrantedAuthority("ROLE_" + role));
+            for (PermissionCode permission : new PermissionMask(permissionBits, 0).toPermissions()) {
+                result.add(new SimpleGrantedAuthority(permission.name()));
+            }
+            result = Collections.unmodifiableList(result);
+            authorities = result;
+        }
+        return result;
+    }
+}
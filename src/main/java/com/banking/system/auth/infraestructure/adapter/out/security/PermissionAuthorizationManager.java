@@ -0,0 +1,85 @@
+package com.banking.system.auth.infraestructure.adapter.out.security;
+
+import com.banking.system.auth.domain.model.PermissionCode;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Authorizes methods annotated with {@link RequiresPermission} by testing a single bit
+ * of the caller's permission mask.
+ * <p>
+ * The required permission of each method is resolved once and cached, and decisions
+ * are shared constants, so a granted check performs no allocation. Authentications
+ * not created from an access token (e.g., test users) fall back to an authority scan.
+ * </p>
+ */
+public class PermissionAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final Map<Method, PermissionCode> requiredPermissions = new ConcurrentHashMap<>();
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        return decide(authentication, invocation);
+    }
+
+    /**
+     * Still abstract on {@link AuthorizationManager}; Spring Security calls
+     * {@link #authorize} instead.
+     */
+    @Deprecated
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        return decide(authentication, invocation);
+    }
+
+    private AuthorizationDecision decide(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        PermissionCode required = requiredPermissions.get(invocation.getMethod());
+        if (required == null) {
+            required = requiredPermissions.computeIfAbsent(
+                    invocation.getMethod(), method -> resolveRequiredPermission(method, invocation.getThis()));
+        }
+
+        return isGranted(authentication.get(), required) ? GRANTED : DENIED;
+    }
+
+    private boolean isGranted(Authentication authentication, PermissionCode required) {
+        if (authentication instanceof PermissionAuthenticationToken token) {
+            return token.hasPermission(required);
+        }
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (required.name().equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static PermissionCode resolveRequiredPermission(Method method, Object target) {
+        Method specificMethod = target != null
+                ? AopUtils.getMostSpecificMethod(method, AopUtils.getTargetClass(target))
+                : method;
+
+        RequiresPermission annotation = AnnotatedElementUtils.findMergedAnnotation(specificMethod, RequiresPermission.class);
+        if (annotation == null) {
+            throw new IllegalStateException("No @RequiresPermission found on " + method);
+        }
+        return annotation.value();
+    }
+}
@@ -0,0 +1,105 @@
+package com.banking.system.auth.infraestructure.adapter.out.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Replicates access-token revocations through Redis pub/sub.
+ * <p>
+ * Every revocation is published on {@link #CHANNEL} and also recorded in a sorted set
+ * scored by expiry. Each publish trims entries that have already expired. Whenever the
+ * listener container confirms the subscription to the channel, at startup and again
+ * after every reconnect, the revocations still in force are loaded from the set, so
+ * nothing published while this node was not subscribed is missed. Nodes receive their
+ * own messages back, which is harmless since applying a revocation is idempotent.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.token-revocation.replication", havingValue = "redis", matchIfMissing = true)
+public class RedisAccessTokenRevocationReplicator
+        implements AccessTokenRevocationReplicator, MessageListener, SubscriptionListener {
+
+    public static final String CHANNEL = "auth:access-token-revocations";
+    private static final String SNAPSHOT_KEY = "auth:access-token-revocations:active";
+
+    /**
+     * KEYS: snapshot set. ARGV: message, expiry millis, now millis, channel.
+     */
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[3])
+            return redis.call('PUBLISH', ARGV[4], ARGV[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final AccessTokenDenyList denyList;
+
+    public RedisAccessTokenRevocationReplicator(StringRedisTemplate redisTemplate, AccessTokenDenyList denyList) {
+        this.redisTemplate = redisTemplate;
+        this.denyList = denyList;
+    }
+
+    @Override
+    public void publish(String message, long expiresAt) {
+        redisTemplate.execute(PUBLISH_SCRIPT, List.of(SNAPSHOT_KEY),
+                message, String.valueOf(expiresAt), String.valueOf(System.currentTimeMillis()), CHANNEL);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        apply(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        // Off the subscription thread, which must not block on another Redis call
+        CompletableFuture.runAsync(this::loadActiveRevocations);
+    }
+
+    /**
+     * Loads the revocations still in force. Loading after the subscription is confirmed
+     * leaves no window in which a revocation is neither loaded nor received.
+     */
+    public void loadActiveRevocations() {
+        try {
+            Set<String> active = redisTemplate.opsForZSet()
+                    .rangeByScore(SNAPSHOT_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+            if (active != null) {
+                active.forEach(this::apply);
+                log.info("Loaded {} active access token revocations", active.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to load active access token revocations: {}", e.getMessage());
+        }
+    }
+
+    private void apply(String message) {
+        try {
+            int separator = message.lastIndexOf(':');
+            String subject = message.substring(2, separator);
+            long value = Long.parseLong(message.substring(separator + 1));
+
+            if (message.startsWith(TOKEN_PREFIX)) {
+                denyList.denyToken(subject, value);
+            } else if (message.startsWith(USER_PREFIX)) {
+                denyList.denyIssuedBefore(UUID.fromString(subject), value);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed access token revocation message: {}", message);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.banking.system.auth.infraestructure.adapter.out.security;
+
+import com.banking.system.auth.domain.model.PermissionCode;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires the authenticated user to hold a permission before the annotated method runs.
+ * <p>
+ * Replaces {@code @PreAuthorize("hasAuthority('...')")}: the check is a bitwise test
+ * against the permission mask carried in the access token, with no SpEL evaluation.
+ * Denials raise the same {@code AccessDeniedException} as {@code @PreAuthorize}.
+ * </p>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresPermission {
+
+    PermissionCode value();
+}
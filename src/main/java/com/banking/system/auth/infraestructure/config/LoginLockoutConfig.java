@@ -0,0 +1,69 @@
+package com.banking.system.auth.infraestructure.config;
+
+import com.banking.system.auth.infraestructure.adapter.out.lockout.LoginLockoutPolicy;
+import com.banking.system.common.infraestructure.context.RequestContextTaskDecorator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Login lockout settings.
+ * <p>
+ * Failure counters live in the store selected by {@code security.login-lockout.store}
+ * ({@code redis} by default, {@code memory} for single-node setups and tests). Lock
+ * transitions are written to the users table on {@code loginTrackingExecutor}.
+ * </p>
+ */
+@Configuration
+public class LoginLockoutConfig {
+
+    @Bean
+    public LoginLockoutPolicy loginLockoutPolicy(
+            @Value("${security.login-lockout.max-user-failures:5}") int maxUserFailures,
+            @Value("${security.login-lockout.user-window-ms:900000}") long userWindowMs,
+            @Value("${security.login-lockout.user-lock-ms:900000}") long userLockMs,
+            @Value("${security.login-lockout.max-ip-failures:50}") int maxIpFailures,
+            @Value("${security.login-lockout.ip-window-ms:900000}") long ipWindowMs,
+            @Value("${security.login-lockout.ip-lock-ms:900000}") long ipLockMs) {
+        return new LoginLockoutPolicy(
+                maxUserFailures,
+                Duration.ofMillis(userWindowMs),
+                Duration.ofMillis(userLockMs),
+                maxIpFailures,
+                Duration.ofMillis(ipWindowMs),
+                Duration.ofMillis(ipLockMs)
+        );
+    }
+
+    @Bean("loginTrackingExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor loginTrackingExecutor(RequestContextTaskDecorator requestContextTaskDecorator) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("login-tracking-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(requestContextTaskDecorator);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean("loginTrackingExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualLoginTrackingExecutor(RequestContextTaskDecorator requestContextTaskDecorator) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("login-tracking-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(2);
+        executor.setTaskDecorator(requestContextTaskDecorator);
+        return executor;
+    }
+}
@@ -0,0 +1,75 @@
+package com.banking.system.auth.infraestructure.config;
+
+import com.banking.system.auth.infraestructure.adapter.out.security.BCryptCostCalibrator;
+import com.banking.system.common.infraestructure.context.RequestContextTaskDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Password hashing infrastructure.
+ * <p>
+ * BCrypt is deliberately CPU-bound, so hashing runs on a small dedicated pool instead
+ * of the servlet threads. The pool has a bounded queue and rejects instead of
+ * blocking: a credential-stuffing burst against the login endpoint is shed with a 503
+ * while balance and transfer requests keep their CPU share.
+ * </p>
+ */
+@Slf4j
+@Configuration
+public class PasswordHashingConfig {
+
+    public static final String EXECUTOR_NAME = "password.hashing";
+
+    @Bean("passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${security.password.hashing.threads:0}") int threads,
+            @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+            MeterRegistry meterRegistry,
+            RequestContextTaskDecorator requestContextTaskDecorator) {
+        // Leave at least half of the cores to the rest of the application by default
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        // Hashing logs carry the correlation ID of the login that submitted them
+        executor.setTaskDecorator(requestContextTaskDecorator);
+        executor.initialize();
+
+        // Pool size, active threads, queued tasks and remaining queue capacity
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), EXECUTOR_NAME, Tags.empty())
+                .bindTo(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * BCrypt encoder whose cost is either fixed by configuration or calibrated at
+     * startup to hit the target verification latency on the current hardware.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.hashing.bcrypt-cost:0}") int fixedCost,
+            @Value("${security.password.hashing.target-verify-ms:250}") long targetVerifyMs,
+            @Value("${security.password.hashing.min-cost:10}") int minCost,
+            @Value("${security.password.hashing.max-cost:14}") int maxCost) {
+        int cost = fixedCost > 0
+                ? fixedCost
+                : BCryptCostCalibrator.calibrate(Duration.ofMillis(targetVerifyMs), minCost, maxCost);
+        log.info("Using BCrypt cost factor {}", cost);
+        return new BCryptPasswordEncoder(cost);
+    }
+}
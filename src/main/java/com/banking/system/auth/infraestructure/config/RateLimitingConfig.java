@@ -2,7 +2,7 @@ package com.banking.system.auth.infraestructure.config;
 
 import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
 import io.github.bucket4j.distributed.proxy.ClientSideConfig;
-import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.AsyncProxyManager;
 import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisURI;
@@ -42,8 +42,12 @@ public class RateLimitingConfig {
         return RedisClient.create(uriBuilder.build());
     }
 
+    /**
+     * Non-blocking proxy manager used by the hybrid limiter to reconcile local buckets
+     * with Redis off the request path.
+     */
     @Bean
-    public ProxyManager<String> proxyManager(RedisClient redisClient) {
+    public AsyncProxyManager<String> asyncProxyManager(RedisClient redisClient) {
         var redisConnection = redisClient.connect(
                 RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE)
         );
@@ -58,6 +62,7 @@ public class RateLimitingConfig {
         // build the proxy manger
         return LettuceBasedProxyManager.builderFor(redisConnection)
                 .withClientSideConfig(clientConfig)
-                .build();
+                .build()
+                .asAsync();
     }
 }
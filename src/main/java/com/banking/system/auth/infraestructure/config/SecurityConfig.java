@@ -3,13 +3,23 @@ package com.banking.system.auth.infraestructure.config;
 import com.banking.system.auth.infraestructure.adapter.out.filter.CsrfTokenFilter;
 import com.banking.system.auth.infraestructure.adapter.out.filter.JwtAuthenticationFilter;
 import com.banking.system.auth.infraestructure.adapter.out.filter.RateLimitFilter;
+import com.banking.system.auth.infraestructure.adapter.out.security.PermissionAuthorizationManager;
+import com.banking.system.auth.infraestructure.adapter.out.security.RequiresPermission;
 import com.banking.system.common.infraestructure.filter.CorrelationIdFilter;
+import com.banking.system.transaction.infraestructure.adapter.in.filter.MoneyMovementConcurrencyLimitFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -17,8 +27,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
@@ -45,6 +53,7 @@ public class SecurityConfig {
     private final CsrfTokenFilter csrfTokenFilter;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final ObjectProvider<RateLimitFilter> rateLimitFilterProvider;
+    private final ObjectProvider<MoneyMovementConcurrencyLimitFilter> moneyMovementLimitFilterProvider;
 
     /**
      * Actuator endpoints are served on a separate management port (9090),
@@ -88,6 +97,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> {
                     auth.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll();
+                    // Async re-dispatches (e.g. a finished event stream) complete a request already authorized
+                    auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
                     auth.requestMatchers(SecurityConstants.PUBLIC_URLS).permitAll();
                     auth.anyRequest().authenticated();
                 });
@@ -95,18 +106,32 @@ public class SecurityConfig {
         // Add rate limit filter only if enabled
         rateLimitFilterProvider.ifAvailable(rateLimitFilter -> httpSecurity.addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class));
 
-        return httpSecurity
+        httpSecurity
                 // CorrelationId filter FIRST - ensures all subsequent filters and logs have the correlation ID
                 .addFilterBefore(correlationIdFilter, UsernamePasswordAuthenticationFilter.class)
                 // CSRF filter BEFORE JWT - rejects invalid CSRF before authentication
                 .addFilterBefore(csrfTokenFilter, UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
-                .build();
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+
+        // Shed money movement over the adaptive limit once the caller is authenticated, before any controller work
+        moneyMovementLimitFilterProvider.ifAvailable(limitFilter -> httpSecurity.addFilterAfter(limitFilter, JwtAuthenticationFilter.class));
+
+        return httpSecurity.build();
     }
 
+    /**
+     * Method interceptor for {@link RequiresPermission}, ordered alongside {@code @PreAuthorize}.
+     * Declared static so the advisor is created without initializing this configuration.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor requiresPermissionAuthorizationAdvisor() {
+        AuthorizationManagerBeforeMethodInterceptor interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+                AnnotationMatchingPointcut.forMethodAnnotation(RequiresPermission.class),
+                new PermissionAuthorizationManager()
+        );
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
     }
 
     @Bean
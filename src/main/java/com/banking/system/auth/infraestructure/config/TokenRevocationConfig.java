@@ -0,0 +1,27 @@
+package com.banking.system.auth.infraestructure.config;
+
+import com.banking.system.auth.infraestructure.adapter.out.security.RedisAccessTokenRevocationReplicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Subscribes this node to access-token revocations published by the other nodes.
+ */
+@Configuration
+@ConditionalOnProperty(name = "security.token-revocation.replication", havingValue = "redis", matchIfMissing = true)
+public class TokenRevocationConfig {
+
+    @Bean
+    public RedisMessageListenerContainer accessTokenRevocationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisAccessTokenRevocationReplicator replicator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(replicator, new ChannelTopic(RedisAccessTokenRevocationReplicator.CHANNEL));
+        return container;
+    }
+}
@@ -1,8 +1,11 @@
 package com.banking.system.auth.infraestructure.job;
 
 import com.banking.system.auth.domain.port.out.RefreshTokenRepositoryPort;
+import com.banking.system.common.infraestructure.bulkhead.Workload;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkhead;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -15,14 +18,18 @@ import org.springframework.stereotype.Component;
  *
  * <p>The cron expression {@code 0 0 3 * * *} fires every day at 03:00 AM server time,
  * a low-traffic window chosen to minimize contention with active user sessions.</p>
+ *
+ * <p>Only active with the JPA credential store; the Redis store expires tokens natively.</p>
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "security.credential-store", havingValue = "jpa", matchIfMissing = true)
 public class RefreshTokenCleanupJob {
 
     private final RefreshTokenRepositoryPort refreshTokenRepository;
 
+    @WorkloadBulkhead(Workload.BATCH)
     @Scheduled(cron = "0 0 3 * * *")
     public void purgeExpiredAndRevokedTokens() {
         log.info("Starting refresh token cleanup job");
@@ -0,0 +1,57 @@
+package com.banking.system.common.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes pagination cursors as opaque URL-safe tokens (unpadded Base64 of the UTF-8
+ * text), so clients pass them back unchanged instead of building them.
+ * <p>
+ * Keyset cursors, the position after the last row of a page ordered by a sort key then
+ * ID, share the {@code sortKey|id} layout through {@link #encodeKeyset} and
+ * {@link #decodeKeyset}.
+ * </p>
+ */
+public final class CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final char KEYSET_SEPARATOR = '|';
+
+    private CursorCodec() {}
+
+    /**
+     * @param sortKey the sort key of the last row, as text
+     * @param id      the ID of the last row
+     */
+    public record Keyset(String sortKey, UUID id) {
+    }
+
+    public static String encode(String raw) {
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token is not URL-safe Base64
+     */
+    public static String decode(String token) {
+        return new String(DECODER.decode(token), StandardCharsets.UTF_8);
+    }
+
+    public static String encodeKeyset(Object sortKey, UUID id) {
+        return encode(sortKey.toString() + KEYSET_SEPARATOR + id);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token is not a keyset cursor
+     */
+    public static Keyset decodeKeyset(String token) {
+        String decoded = decode(token);
+        int separator = decoded.indexOf(KEYSET_SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Missing separator");
+        }
+        return new Keyset(decoded.substring(0, separator), UUID.fromString(decoded.substring(separator + 1)));
+    }
+}
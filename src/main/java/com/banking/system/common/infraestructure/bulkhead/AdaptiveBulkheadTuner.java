@@ -0,0 +1,95 @@
+package com.banking.system.common.infraestructure.bulkhead;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resizes each workload bulkhead from the permit wait times observed since the last run.
+ * <p>
+ * A bulkhead whose callers waited longer than the target on average gains one permit,
+ * up to {@code bulkhead.adaptive.<name>.max-concurrent-calls}; one whose callers barely
+ * waited gives one back, down to the size configured in Resilience4j. Keeping the sum of
+ * the READS and BATCH maximums below the pool size guarantees money movement its share
+ * of connections whatever the tuner does.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bulkhead.adaptive.enabled", havingValue = "true", matchIfMissing = true)
+public class AdaptiveBulkheadTuner {
+
+    private final WorkloadBulkheads workloadBulkheads;
+    private final double targetWaitMs;
+    private final Map<Workload, Limits> limits = new EnumMap<>(Workload.class);
+    private final Map<Workload, Snapshot> previous = new EnumMap<>(Workload.class);
+
+    public AdaptiveBulkheadTuner(
+            WorkloadBulkheads workloadBulkheads,
+            Environment environment,
+            @Value("${bulkhead.adaptive.target-wait-ms:50}") double targetWaitMs) {
+        this.workloadBulkheads = workloadBulkheads;
+        this.targetWaitMs = targetWaitMs;
+
+        for (Workload workload : Workload.values()) {
+            int configured = workloadBulkheads.bulkhead(workload).getBulkheadConfig().getMaxConcurrentCalls();
+            int max = environment.getProperty(
+                    "bulkhead.adaptive." + workload.bulkheadName() + ".max-concurrent-calls", Integer.class, configured);
+            limits.put(workload, new Limits(configured, Math.max(configured, max)));
+            previous.put(workload, Snapshot.of(workloadBulkheads.waitTimer(workload)));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bulkhead.adaptive.interval-ms:10000}")
+    public void adjust() {
+        for (Workload workload : Workload.values()) {
+            Snapshot current = Snapshot.of(workloadBulkheads.waitTimer(workload));
+            Snapshot last = previous.put(workload, current);
+            long calls = current.count() - last.count();
+            if (calls == 0) {
+                continue;
+            }
+            double meanWaitMs = (current.totalMs() - last.totalMs()) / calls;
+            resize(workload, meanWaitMs);
+        }
+    }
+
+    private void resize(Workload workload, double meanWaitMs) {
+        Bulkhead bulkhead = workloadBulkheads.bulkhead(workload);
+        BulkheadConfig config = bulkhead.getBulkheadConfig();
+        int size = config.getMaxConcurrentCalls();
+        Limits bounds = limits.get(workload);
+
+        int newSize = size;
+        if (meanWaitMs > targetWaitMs && size < bounds.max()) {
+            newSize = size + 1;
+        } else if (meanWaitMs < targetWaitMs / 4 && size > bounds.min()) {
+            newSize = size - 1;
+        }
+
+        if (newSize != size) {
+            bulkhead.changeConfig(BulkheadConfig.from(config).maxConcurrentCalls(newSize).build());
+            log.info("Bulkhead {} resized from {} to {} (mean permit wait {} ms)",
+                    workload.bulkheadName(), size, newSize, Math.round(meanWaitMs));
+        }
+    }
+
+    private record Limits(int min, int max) {
+    }
+
+    private record Snapshot(long count, double totalMs) {
+        static Snapshot of(Timer timer) {
+            return new Snapshot(timer.count(), timer.totalTime(TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.banking.system.common.infraestructure.bulkhead;
+
+/**
+ * Workload classes isolated from each other by their own bulkhead. Each maps to a
+ * Resilience4j bulkhead instance configured under {@code resilience4j.bulkhead.instances}.
+ */
+public enum Workload {
+    /** Deposits, withdrawals and transfers. */
+    MONEY_MOVEMENT("moneyMovement"),
+    /** Listings and history queries, whose cost grows with the data returned. */
+    READS("reads"),
+    /** Scheduled and background jobs. */
+    BATCH("batch");
+
+    private final String bulkheadName;
+
+    Workload(String bulkheadName) {
+        this.bulkheadName = bulkheadName;
+    }
+
+    public String bulkheadName() {
+        return bulkheadName;
+    }
+}
@@ -0,0 +1,23 @@
+package com.banking.system.common.infraestructure.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated method inside the bulkhead of its workload class.
+ * <p>
+ * The permit is taken before the transaction starts, so a saturated workload queues
+ * (and eventually fails with {@code BulkheadFullException}) without holding a database
+ * connection, leaving the pool to the other workloads.
+ * </p>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface WorkloadBulkhead {
+
+    Workload value();
+}
@@ -0,0 +1,33 @@
+package com.banking.system.common.infraestructure.bulkhead;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@link WorkloadBulkhead}. Ordered ahead of the transaction interceptor, so the
+ * permit is held around the whole transaction, connection acquisition included.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class WorkloadBulkheadAspect {
+
+    private final WorkloadBulkheads workloadBulkheads;
+
+    @Around("@annotation(workloadBulkhead)")
+    public Object runInBulkhead(ProceedingJoinPoint joinPoint, WorkloadBulkhead workloadBulkhead) throws Throwable {
+        Workload workload = workloadBulkhead.value();
+        workloadBulkheads.acquire(workload);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            workloadBulkheads.release(workload);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.banking.system.common.infraestructure.bulkhead;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bulkheads of each {@link Workload}, with the metrics Resilience4j does not publish:
+ * how long callers waited for a permit and how many were rejected. Saturation
+ * (available and maximum concurrent calls) is published by Resilience4j itself.
+ */
+@Component
+public class WorkloadBulkheads {
+
+    private final Map<Workload, Bulkhead> bulkheads = new EnumMap<>(Workload.class);
+    private final Map<Workload, Timer> waitTimers = new EnumMap<>(Workload.class);
+    private final Map<Workload, Counter> rejectedCounters = new EnumMap<>(Workload.class);
+
+    public WorkloadBulkheads(BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry) {
+        for (Workload workload : Workload.values()) {
+            bulkheads.put(workload, bulkheadRegistry.bulkhead(workload.bulkheadName()));
+            waitTimers.put(workload, Timer.builder("bulkhead.wait")
+                    .description("Time spent waiting for a bulkhead permit")
+                    .tag("name", workload.bulkheadName())
+                    .register(meterRegistry));
+            rejectedCounters.put(workload, Counter.builder("bulkhead.rejected")
+                    .description("Calls rejected because the bulkhead stayed full for the maximum wait")
+                    .tag("name", workload.bulkheadName())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Takes a permit of the workload's bulkhead, waiting up to its maximum wait duration.
+     * Every successful call must be paired with {@link #release(Workload)}.
+     *
+     * @throws BulkheadFullException if no permit became available in time
+     */
+    public void acquire(Workload workload) {
+        long waitStart = System.nanoTime();
+        try {
+            bulkheads.get(workload).acquirePermission();
+        } catch (BulkheadFullException e) {
+            rejectedCounters.get(workload).increment();
+            throw e;
+        } finally {
+            waitTimers.get(workload).record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void release(Workload workload) {
+        bulkheads.get(workload).onComplete();
+    }
+
+    /**
+     * Runs {@code work} holding a permit of the workload, for code that borrows
+     * connections outside an annotated method (e.g. the workers of a parallel job).
+     *
+     * @throws BulkheadFullException if no permit became available in time
+     */
+    public <T> T execute(Workload workload, Supplier<T> work) {
+        acquire(workload);
+        try {
+            return work.get();
+        } finally {
+            release(workload);
+        }
+    }
+
+    /**
+     * @return the permits the workload currently has, as last set by the adaptive tuner
+     */
+    public int maxConcurrentCalls(Workload workload) {
+        return bulkheads.get(workload).getBulkheadConfig().getMaxConcurrentCalls();
+    }
+
+    public Bulkhead bulkhead(Workload workload) {
+        return bulkheads.get(workload);
+    }
+
+    public Timer waitTimer(Workload workload) {
+        return waitTimers.get(workload);
+    }
+}
@@ -0,0 +1,88 @@
+package com.banking.system.common.infraestructure.concurrency;
+
+import com.banking.system.common.infraestructure.context.RequestContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the independent parts of one request concurrently, each on its own virtual
+ * thread, and bounds their lifetime to a try-with-resources block.
+ * <p>
+ * This is the shape of {@code StructuredTaskScope}, which is still a preview API on
+ * Java 21: subtasks are forked inside the scope, joined individually with their own
+ * timeout, and any subtask still running when the scope closes is cancelled, so no
+ * work outlives the request. Subtasks run with the caller's {@link RequestContext} and
+ * security context.
+ * </p>
+ */
+public final class FanOutScope implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final List<Future<?>> forked = new ArrayList<>();
+
+    public FanOutScope(String name) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    public <T> Subtask<T> fork(Callable<T> task) {
+        long forkedAt = System.nanoTime();
+        // execute() rather than submit(): the executor then tracks the thread, not the
+        // future, so close() still waits for a cancelled subtask to actually return
+        FutureTask<T> future = new FutureTask<>(RequestContext.wrap(task));
+        executor.execute(future);
+        forked.add(future);
+        return new Subtask<>(future, forkedAt);
+    }
+
+    /**
+     * Cancels the subtasks that have not completed and waits for them to finish, so
+     * nothing they hold (a connection, a permit) outlives the scope. Subtasks blocked on
+     * I/O that ignores interrupts delay the close until that call returns; bound such
+     * calls with their own timeout.
+     */
+    @Override
+    public void close() {
+        forked.forEach(future -> future.cancel(true));
+        executor.shutdownNow();
+        executor.close();
+    }
+
+    public static final class Subtask<T> {
+
+        private final Future<T> future;
+        private final long forkedAt;
+
+        private Subtask(Future<T> future, long forkedAt) {
+            this.future = future;
+            this.forkedAt = forkedAt;
+        }
+
+        /**
+         * Waits for the result until {@code timeout} after the subtask was forked; time
+         * spent joining other subtasks counts against it. A subtask that times out is
+         * cancelled.
+         *
+         * @throws TimeoutException   if the subtask did not complete in time
+         * @throws ExecutionException if the subtask failed
+         */
+        public T join(Duration timeout) throws TimeoutException, ExecutionException, InterruptedException {
+            long remaining = forkedAt + timeout.toNanos() - System.nanoTime();
+            try {
+                return future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                throw e;
+            }
+        }
+    }
+}
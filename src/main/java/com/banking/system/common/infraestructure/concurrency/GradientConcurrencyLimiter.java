@@ -0,0 +1,135 @@
+package com.banking.system.common.infraestructure.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows latency instead of being fixed, in the manner of the
+ * gradient limiters of Netflix concurrency-limits.
+ * <p>
+ * Each completed call feeds its round-trip time into a long-term average, the baseline
+ * latency. While recent calls run close to the baseline the limit grows by a small
+ * queue allowance; as they slow down the gradient {@code tolerance * longRtt / rtt}
+ * drops below one and shrinks the limit proportionally, so requests are refused at the
+ * door instead of queueing on the connection pool. A dropped call (the downstream shed
+ * it) cuts the limit multiplicatively.
+ * </p>
+ * <p>
+ * Callers pair a successful {@link #tryAcquire()} with exactly one of
+ * {@link #onSuccess(long)}, {@link #onDropped()} or {@link #onIgnore()}.
+ * </p>
+ */
+public class GradientConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_BACKOFF = 0.9;
+    private static final double BASELINE_RECOVERY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int longWindow;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // Guarded by this; limit is also read without the lock by tryAcquire
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long samples;
+
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double tolerance, double smoothing, int longWindow) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "Limits must satisfy 1 <= min <= initial <= max, got %d/%d/%d".formatted(minLimit, initialLimit, maxLimit));
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.longWindow = longWindow;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * Takes an in-flight slot if the current limit allows it. Never blocks.
+     *
+     * @return false if the call must be rejected
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Completes a call that reflects downstream latency and adjusts the limit from it.
+     */
+    public void onSuccess(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        update(rttNanos, inFlightAtCompletion);
+    }
+
+    /**
+     * Completes a call the downstream refused or timed out, backing the limit off.
+     */
+    public synchronized void onDropped() {
+        inFlight.decrementAndGet();
+        estimatedLimit = clamp(estimatedLimit * DROP_BACKOFF);
+        limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Completes a call whose latency says nothing about load (e.g., it failed early).
+     */
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtCompletion) {
+        if (rttNanos <= 0) {
+            return;
+        }
+
+        samples++;
+        double window = Math.min(samples, longWindow);
+        longRttNanos += (rttNanos - longRttNanos) / window;
+
+        // After a long slow period the baseline has drifted up; let it come back down
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= BASELINE_RECOVERY;
+        }
+
+        // Calls that never came near the limit say nothing about whether it can grow
+        if (inFlightAtCompletion < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double target = estimatedLimit * gradient + queueSize;
+
+        estimatedLimit = clamp(estimatedLimit * (1 - smoothing) + target * smoothing);
+        limit = (int) estimatedLimit;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,68 @@
+package com.banking.system.common.infraestructure.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToIntFunction;
+
+/**
+ * Splits a list into fixed-size batches and processes them on a bounded pool.
+ * <p>
+ * Meant for rebuild and backfill jobs where each batch is one database transaction:
+ * {@code parallelism} caps how many connections the job holds at a time, leaving the
+ * rest of the pool to live traffic. The first failing batch cancels the batches not yet
+ * started and fails the whole run.
+ * </p>
+ */
+public final class ParallelBatches {
+
+    private ParallelBatches() {}
+
+    /**
+     * @param items   the number of items processed
+     * @param batches the number of batches run
+     * @param total   the sum of what the batches returned
+     */
+    public record Outcome(int items, int batches, long total) {
+    }
+
+    public static <T> Outcome run(String name,
+                                  List<T> items,
+                                  int batchSize,
+                                  int parallelism,
+                                  ToIntFunction<List<T>> batchWork) {
+        if (batchSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Batch size and parallelism must be positive");
+        }
+
+        List<List<T>> batches = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += batchSize) {
+            batches.add(items.subList(from, Math.min(from + batchSize, items.size())));
+        }
+
+        long total = 0;
+        try (ExecutorService workers = Executors.newFixedThreadPool(
+                parallelism, Thread.ofPlatform().name(name + "-", 0).factory())) {
+            List<Future<Integer>> results = new ArrayList<>(batches.size());
+            for (List<T> batch : batches) {
+                results.add(workers.submit(() -> batchWork.applyAsInt(batch)));
+            }
+            try {
+                for (Future<Integer> result : results) {
+                    total += result.get();
+                }
+            } catch (ExecutionException e) {
+                workers.shutdownNow();
+                throw new IllegalStateException(name + " failed", e.getCause());
+            } catch (InterruptedException e) {
+                workers.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(name + " interrupted", e);
+            }
+        }
+        return new Outcome(items.size(), batches.size(), total);
+    }
+}
@@ -0,0 +1,14 @@
+package com.banking.system.common.infraestructure.config;
+
+import com.banking.system.common.infraestructure.context.RequestContextTaskDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RequestContextConfig {
+
+    @Bean
+    public RequestContextTaskDecorator requestContextTaskDecorator() {
+        return new RequestContextTaskDecorator();
+    }
+}
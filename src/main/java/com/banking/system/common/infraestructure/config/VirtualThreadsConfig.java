@@ -0,0 +1,76 @@
+package com.banking.system.common.infraestructure.config;
+
+import com.banking.system.common.infraestructure.concurrency.ConnectionLimitingDataSource;
+import com.banking.system.common.infraestructure.concurrency.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Extras for the virtual-thread execution mode ({@code virtual-threads} profile, which sets
+ * {@code spring.threads.virtual.enabled=true}).
+ * <p>
+ * Spring Boot already moves Tomcat request handling, {@code @Scheduled} jobs and the default
+ * task executor to virtual threads; the application's own {@code @Async} executors switch
+ * in their configuration classes. This class adds what the JVM does not provide: a fair cap
+ * on concurrent JDBC connections and pinning metrics.
+ * </p>
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    /**
+     * Wraps the application DataSource (the {@code dataSource} bean, which is the routing
+     * DataSource when a replica is configured) in a {@link ConnectionLimitingDataSource}.
+     * Static so the post-processor is registered before the DataSource is created;
+     * properties are read from the environment because injection is not available then.
+     */
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+                int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                int maxConcurrency = environment.getProperty("virtual-threads.jdbc.max-concurrency", Integer.class, poolSize);
+                long acquireTimeoutMs = environment.getProperty("virtual-threads.jdbc.acquire-timeout-ms", Long.class, 20000L);
+                return new ConnectionLimitingDataSource(dataSource, maxConcurrency, acquireTimeoutMs);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionLimitingDataSource limiter) {
+                Gauge.builder("jdbc.connections.limiter.waiting", limiter, ConnectionLimitingDataSource::getWaitingThreads)
+                        .description("Threads waiting for a database connection permit")
+                        .register(registry);
+                Gauge.builder("jdbc.connections.limiter.available", limiter, ConnectionLimitingDataSource::getAvailablePermits)
+                        .description("Database connection permits currently available")
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning.threshold-ms:20}") long thresholdMs) {
+        return new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(thresholdMs));
+    }
+}
@@ -0,0 +1,200 @@
+package com.banking.system.common.infraestructure.context;
+
+import org.slf4j.MDC;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * Immutable per-request context: correlation ID and, once authenticated, the caller.
+ * <p>
+ * The context is bound for a lexical scope only ({@link #open(RequestContext)} in a
+ * try-with-resources block), mirroring {@code ScopedValue.where(...).run(...)}: nested
+ * bindings shadow outer ones, and closing a scope restores the previous binding. A
+ * request is bound once, anonymous, and {@link #bindPrincipal} replaces that binding in
+ * place once the caller is authenticated, instead of opening a second scope.
+ * {@code ScopedValue} is still a preview API on Java 21, so the binding is kept in a
+ * single non-inheritable {@code ThreadLocal} reference; switching to a
+ * {@code ScopedValue} only touches this class.
+ * </p>
+ *
+ * <p>Work handed to other threads must go through {@link #wrap(Runnable)} or
+ * {@link #wrap(Callable)} (executors do it via {@link RequestContextTaskDecorator}), which
+ * rebinds the captured context there, including the logging MDC and the security
+ * context of the task.</p>
+ *
+ * @param correlationId  request correlation ID, also sent back in the X-Correlation-ID header
+ * @param userId         authenticated user, or null for anonymous requests
+ * @param role           role of the authenticated user, or null
+ * @param authentication the caller's authentication, restored for tasks run on other threads
+ */
+public record RequestContext(
+        String correlationId,
+        UUID userId,
+        String role,
+        Authentication authentication
+) {
+
+    public static final String CORRELATION_ID_MDC_KEY = "correlationId";
+    public static final String USER_ID_MDC_KEY = "userId";
+
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+    public static RequestContext anonymous(String correlationId) {
+        return new RequestContext(correlationId, null, null, null);
+    }
+
+    public RequestContext withPrincipal(UUID userId, String role, Authentication authentication) {
+        return new RequestContext(correlationId, userId, role, authentication);
+    }
+
+    /**
+     * Returns the context bound to the current thread, if any.
+     */
+    public static Optional<RequestContext> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Returns the correlation ID of the current context, or null outside a request.
+     */
+    public static String currentCorrelationId() {
+        RequestContext context = CURRENT.get();
+        return context != null ? context.correlationId() : null;
+    }
+
+    /**
+     * Adds the authenticated caller to the context bound on this thread, for the rest of
+     * its scope, and to the logging MDC.
+     *
+     * @return the enriched context, or empty when no context is bound
+     */
+    public static Optional<RequestContext> bindPrincipal(UUID userId, String role, Authentication authentication) {
+        RequestContext bound = CURRENT.get();
+        if (bound == null) {
+            return Optional.empty();
+        }
+
+        RequestContext enriched = bound.withPrincipal(userId, role, authentication);
+        CURRENT.set(enriched);
+        Scope.bridgeToMdc(bound, enriched);
+        return Optional.of(enriched);
+    }
+
+    /**
+     * Binds the context until the returned scope is closed. Scopes must be closed in
+     * reverse order of opening, which try-with-resources guarantees.
+     */
+    public static Scope open(RequestContext context) {
+        return new Scope(context, CURRENT.get());
+    }
+
+    /**
+     * Captures the current context so the task runs with it on whichever thread executes it.
+     */
+    public static Runnable wrap(Runnable task) {
+        RequestContext captured = CURRENT.get();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = open(captured).withSecurityContext()) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * Callable variant of {@link #wrap(Runnable)}.
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        RequestContext captured = CURRENT.get();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = open(captured).withSecurityContext()) {
+                return task.call();
+            }
+        };
+    }
+
+    /**
+     * A binding of a {@link RequestContext}; closing it restores the previous binding.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final RequestContext context;
+        private final RequestContext previous;
+        private SecurityContext previousSecurityContext;
+        private boolean securityContextBound;
+
+        private Scope(RequestContext context, RequestContext previous) {
+            this.context = context;
+            this.previous = previous;
+            CURRENT.set(context);
+            bridgeToMdc(previous, context);
+        }
+
+        /**
+         * Also binds the captured authentication as the thread's security context, for tasks
+         * running outside the request thread.
+         */
+        private Scope withSecurityContext() {
+            if (context.authentication() != null) {
+                previousSecurityContext = SecurityContextHolder.getContext();
+                SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+                securityContext.setAuthentication(context.authentication());
+                SecurityContextHolder.setContext(securityContext);
+                securityContextBound = true;
+            }
+            return this;
+        }
+
+        @Override
+        public void close() {
+            if (securityContextBound) {
+                SecurityContextHolder.setContext(previousSecurityContext);
+            }
+            // The binding may have been enriched since this scope opened
+            RequestContext current = CURRENT.get();
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+            bridgeToMdc(current, previous);
+        }
+
+        /**
+         * Moves the MDC from one binding to the next, touching only the keys whose value
+         * changes. Entering or leaving the outermost binding writes every key, since the
+         * MDC of an unbound thread may hold leftovers.
+         */
+        private static void bridgeToMdc(RequestContext from, RequestContext to) {
+            boolean full = from == null || to == null;
+            String toCorrelationId = to != null ? to.correlationId() : null;
+            if (full || !Objects.equals(from.correlationId(), toCorrelationId)) {
+                putOrRemove(CORRELATION_ID_MDC_KEY, toCorrelationId);
+            }
+
+            UUID toUserId = to != null ? to.userId() : null;
+            if (full || !Objects.equals(from.userId(), toUserId)) {
+                putOrRemove(USER_ID_MDC_KEY, toUserId != null ? toUserId.toString() : null);
+            }
+        }
+
+        private static void putOrRemove(String key, String value) {
+            if (value != null) {
+                MDC.put(key, value);
+            } else {
+                MDC.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.banking.system.common.infraestructure.context;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Propagates the submitting thread's {@link RequestContext} to executor tasks.
+ * <p>
+ * Registered as a bean, so Spring Boot also applies it to the default task executor;
+ * the application's own executors set it explicitly.
+ * </p>
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return RequestContext.wrap(runnable);
+    }
+}
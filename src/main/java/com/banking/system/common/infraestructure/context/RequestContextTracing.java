@@ -0,0 +1,34 @@
+package com.banking.system.common.infraestructure.context;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bridges {@link RequestContext} into tracing by tagging the current span, so traces can
+ * be looked up by correlation ID or user. A no-op when tracing is not configured.
+ */
+@Component
+public class RequestContextTracing {
+
+    private final ObjectProvider<Tracer> tracer;
+
+    public RequestContextTracing(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    public void tagCurrentSpan(RequestContext context) {
+        Tracer current = tracer.getIfAvailable();
+        Span span = current != null ? current.currentSpan() : null;
+        if (span == null) {
+            return;
+        }
+        if (context.correlationId() != null) {
+            span.tag("correlation.id", context.correlationId());
+        }
+        if (context.userId() != null) {
+            span.tag("user.id", context.userId().toString());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.banking.system.common.infraestructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Periodically measures how far the replica is behind the primary.
+ * <p>
+ * A replica whose last measurement exceeds the allowed lag, failed, or is too old is
+ * considered unusable and all reads go to the primary until it catches up. A database
+ * that is not a standby (e.g., a local stand-in) reports no lag.
+ * </p>
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // Zero while the replica has replayed everything it received; otherwise the age of the last replayed transaction
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END
+            """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMs;
+    private final long maxProbeAgeMs;
+
+    private volatile long lagMs = Long.MAX_VALUE;
+    private volatile long lastProbeAtMs;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagMs, long checkIntervalMs, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(Math.max(1, (int) (checkIntervalMs / 1000)));
+        this.maxLagMs = maxLagMs;
+        // Missing three probes in a row means the measurement can no longer be trusted
+        this.maxProbeAgeMs = checkIntervalMs * 3;
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMs == Long.MAX_VALUE ? -1 : monitor.lagMs)
+                .description("Replica replay lag in milliseconds (-1 when unknown)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void probe() {
+        try {
+            Number lag = replicaJdbcTemplate.queryForObject(LAG_QUERY, Number.class);
+            lagMs = lag != null ? lag.longValue() : 0L;
+            lastProbeAtMs = System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            if (lagMs != Long.MAX_VALUE) {
+                log.warn("Replica lag probe failed, routing reads to the primary: {}", e.getMessage());
+            }
+            lagMs = Long.MAX_VALUE;
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return lagMs <= maxLagMs && System.currentTimeMillis() - lastProbeAtMs <= maxProbeAgeMs;
+    }
+
+    public long getMaxLagMs() {
+        return maxLagMs;
+    }
+}
@@ -0,0 +1,100 @@
+package com.banking.system.common.infraestructure.datasource;
+
+import com.banking.system.common.infraestructure.context.RequestContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ * <p>
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the transaction manager marks
+ * the transaction read-only only after asking for a connection, so the target is chosen
+ * when the first statement runs.
+ * </p>
+ *
+ * <p>Read-only transactions still go to the primary when the replica is lagging more
+ * than allowed, and, for read-your-writes, when the current user committed a write
+ * within that same lag bound (e.g., fetching a transfer right after creating it). Since
+ * the replica is never more than the bound behind while it is used, a write older than
+ * the bound is guaranteed to be visible there.</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Cache<UUID, Boolean> recentWriters;
+
+    private final Counter readWriteRoutes;
+    private final Counter replicaRoutes;
+    private final Counter laggingRoutes;
+    private final Counter readYourWritesRoutes;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(lagMonitor.getMaxLagMs()))
+                .build();
+
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.readWriteRoutes = routeCounter(meterRegistry, Target.PRIMARY, "read_write");
+        this.laggingRoutes = routeCounter(meterRegistry, Target.PRIMARY, "replica_lagging");
+        this.readYourWritesRoutes = routeCounter(meterRegistry, Target.PRIMARY, "read_your_writes");
+        this.replicaRoutes = routeCounter(meterRegistry, Target.REPLICA, "read_only");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        UUID userId = RequestContext.current().map(RequestContext::userId).orElse(null);
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite(userId);
+            readWriteRoutes.increment();
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            laggingRoutes.increment();
+            return Target.PRIMARY;
+        }
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            readYourWritesRoutes.increment();
+            return Target.PRIMARY;
+        }
+        replicaRoutes.increment();
+        return Target.REPLICA;
+    }
+
+    // Stamped on commit, so the window starts when the write becomes visible
+    private void trackWrite(UUID userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        });
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, Target target, String reason) {
+        return Counter.builder("datasource.routing")
+                .description("Connections routed to the primary or the replica")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
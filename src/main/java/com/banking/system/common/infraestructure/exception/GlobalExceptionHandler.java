@@ -1,11 +1,17 @@
 package com.banking.system.common.infraestructure.exception;
 
+import com.banking.system.auth.domain.exception.PasswordHashingOverloadedException;
 import com.banking.system.auth.domain.exception.UserIsLockedException;
 import com.banking.system.common.domain.exception.*;
+import com.banking.system.common.infraestructure.context.RequestContext;
 import com.banking.system.notification.domain.exception.EmailRateLimitExceededException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Path;
 import lombok.extern.slf4j.Slf4j;
-import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -44,6 +50,7 @@ public class GlobalExceptionHandler {
     private static final String MSG_INTERNAL_ERROR = "An unexpected error occurred. Please contact support with the correlation ID";
     private static final String MSG_ACCOUNT_LOCKED = "Account is temporarily locked";
     private static final String MSG_RATE_LIMIT_EXCEEDED = "Too many requests. Please try again later";
+    private static final String MSG_SERVICE_BUSY = "Service is temporarily busy. Please try again later";
 
     @Value("${spring.profiles.active:dev}")
     private String activeProfile;
@@ -77,7 +84,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<Map<String, Object>> handleNotFound(ResourceNotFoundException ex) {
         log.warn("Resource not found [correlationId={}]: {}",
-                MDC.get("correlationId"), ex.getMessage());
+                RequestContext.currentCorrelationId(), ex.getMessage());
 
         String message = sanitizeMessage(ex.getMessage(), MSG_RESOURCE_NOT_FOUND);
         return buildResponse(HttpStatus.NOT_FOUND, "Not Found", message, ex.getErrorCode());
@@ -91,7 +98,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ResourceAlreadyExistsException.class)
     public ResponseEntity<Map<String, Object>> handleConflict(ResourceAlreadyExistsException ex) {
         log.warn("Resource conflict [correlationId={}]: {}",
-                MDC.get("correlationId"), ex.getMessage());
+                RequestContext.currentCorrelationId(), ex.getMessage());
 
         String message = sanitizeMessage(ex.getMessage(), MSG_RESOURCE_CONFLICT);
         return buildResponse(HttpStatus.CONFLICT, "Conflict", message, ex.getErrorCode());
@@ -105,7 +112,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<Map<String, Object>> handleAuthentication(AuthenticationException ex) {
         log.warn("Authentication failed [correlationId={}]: {}",
-                MDC.get("correlationId"), ex.getMessage());
+                RequestContext.currentCorrelationId(), ex.getMessage());
 
         // Always use generic message - don't reveal if user exists or password is wrong
         String message = sanitizeMessage(ex.getMessage(), MSG_AUTH_FAILED);
@@ -120,7 +127,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<Map<String, Object>> handleAccessDenied(AccessDeniedException ex) {
         log.warn("Access denied [correlationId={}]: {}",
-                MDC.get("correlationId"), ex.getMessage());
+                RequestContext.currentCorrelationId(), ex.getMessage());
 
         String message = sanitizeMessage(ex.getMessage(), MSG_ACCESS_DENIED);
         return buildResponse(HttpStatus.FORBIDDEN, "Forbidden", message, ex.getErrorCode());
@@ -136,7 +143,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Map<String, Object>> handleSpringSecurityAccessDenied(
             org.springframework.security.access.AccessDeniedException ex) {
         log.warn("Spring Security access denied [correlationId={}]: {}",
-                MDC.get("correlationId"), ex.getMessage());
+                RequestContext.currentCorrelationId(), ex.getMessage());
 
         String message = sanitizeMessage(ex.getMessage(), MSG_ACCESS_DENIED);
         return buildResponse(HttpStatus.FORBIDDEN, "Forbidden", message, "ACCESS_DENIED");
@@ -150,7 +157,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(BusinessRuleException.class)
     public ResponseEntity<Map<String, Object>> handleBusinessRule(BusinessRuleException ex) {
         log.warn("Business rule violation [correlationId={}]: {}",
-                MDC.get("correlationId"), ex.getMessage());
+                RequestContext.currentCorrelationId(), ex.getMessage());
 
         String message = sanitizeMessage(ex.getMessage(), MSG_BUSINESS_RULE);
         return buildResponse(HttpStatus.UNPROCESSABLE_ENTITY, "Unprocessable Entity", message, ex.getErrorCode());
@@ -164,7 +171,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(InfrastructureException.class)
     public ResponseEntity<Map<String, Object>> handleInfrastructure(InfrastructureException ex) {
         log.error("Infrastructure error [correlationId={}]: {}",
-                MDC.get("correlationId"), ex.getMessage(), ex);
+                RequestContext.currentCorrelationId(), ex.getMessage(), ex);
 
         // Always generic - infrastructure details are highly sensitive
         return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", MSG_INTERNAL_ERROR, ex.getErrorCode());
@@ -185,7 +192,7 @@ public class GlobalExceptionHandler {
                 .toList();
 
         log.warn("Validation failed [correlationId={}]: {}",
-                MDC.get("correlationId"), detailedErrors);
+                RequestContext.currentCorrelationId(), detailedErrors);
 
         if (isProduction()) {
             // In production: only show field names without detailed messages
@@ -204,6 +211,47 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, "Bad Request", message, "VALIDATION_FAILED");
     }
 
+    /**
+     * Handles constraint violations on method parameters (@Min/@Max on @RequestParam
+     * of @Validated controllers), which would otherwise reach the catch-all as 500.
+     * Logs: Detailed violations for debugging
+     * Response: In production, only show which parameters failed without internal details
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleConstraintViolation(ConstraintViolationException ex) {
+        List<String> detailedErrors = ex.getConstraintViolations()
+                .stream()
+                .map(violation -> parameterName(violation) + ": " + violation.getMessage())
+                .toList();
+
+        log.warn("Validation failed [correlationId={}]: {}",
+                RequestContext.currentCorrelationId(), detailedErrors);
+
+        if (isProduction()) {
+            List<String> parameterNames = ex.getConstraintViolations()
+                    .stream()
+                    .map(GlobalExceptionHandler::parameterName)
+                    .distinct()
+                    .toList();
+            String message = MSG_VALIDATION_FAILED + ": " + String.join(", ", parameterNames);
+            return buildResponse(HttpStatus.BAD_REQUEST, "Bad Request", message, "VALIDATION_FAILED");
+        }
+
+        String message = String.join("; ", detailedErrors);
+        return buildResponse(HttpStatus.BAD_REQUEST, "Bad Request", message, "VALIDATION_FAILED");
+    }
+
+    /**
+     * Last node of the violation path: the parameter name rather than "method.parameter".
+     */
+    private static String parameterName(ConstraintViolation<?> violation) {
+        String name = null;
+        for (Path.Node node : violation.getPropertyPath()) {
+            name = node.getName();
+        }
+        return name != null ? name : violation.getPropertyPath().toString();
+    }
+
     /**
      * Handles illegal argument exceptions.
      * Logs: Full details for debugging
@@ -212,7 +260,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException ex) {
         log.warn("Invalid argument [correlationId={}]: {}",
-                MDC.get("correlationId"), ex.getMessage());
+                RequestContext.currentCorrelationId(), ex.getMessage());
 
         String message = sanitizeMessage(ex.getMessage(), MSG_INVALID_ARGUMENT);
         return buildResponse(HttpStatus.BAD_REQUEST, "Bad Request", message, "INVALID_ARGUMENT");
@@ -226,7 +274,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalState(IllegalStateException ex) {
         log.warn("Invalid state [correlationId={}]: {}",
-                MDC.get("correlationId"), ex.getMessage());
+                RequestContext.currentCorrelationId(), ex.getMessage());
 
         String message = sanitizeMessage(ex.getMessage(), MSG_INVALID_STATE);
         return buildResponse(HttpStatus.CONFLICT, "Conflict", message, "INVALID_STATE");
@@ -249,7 +297,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGeneric(Exception ex) {
         log.error("Unexpected error [correlationId={}]: {} - {}",
-                MDC.get("correlationId"), ex.getClass().getName(), ex.getMessage(), ex);
+                RequestContext.currentCorrelationId(), ex.getClass().getName(), ex.getMessage(), ex);
 
         // NEVER expose internal exception messages in production
         String message = sanitizeMessage(ex.getMessage(), MSG_INTERNAL_ERROR);
@@ -264,7 +312,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(UserIsLockedException.class)
     public ResponseEntity<Map<String, Object>> handleAccountLocked(UserIsLockedException ex) {
         log.warn("Account locked [correlationId={}]: {}",
-                MDC.get("correlationId"), ex.getMessage());
+                RequestContext.currentCorrelationId(), ex.getMessage());
 
         String message = sanitizeMessage(ex.getMessage(), MSG_ACCOUNT_LOCKED);
         return buildResponse(HttpStatus.LOCKED, "Locked", message, ex.getErrorCode());
@@ -280,12 +328,46 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(EmailRateLimitExceededException.class)
     public ResponseEntity<Map<String, Object>> handleEmailRateLimitExceeded(EmailRateLimitExceededException ex) {
         log.warn("Email rate limit exceeded [correlationId={}]: {}",
-                MDC.get("correlationId"), ex.getMessage());
+                RequestContext.currentCorrelationId(), ex.getMessage());
 
         String message = sanitizeMessage(ex.getMessage(), MSG_RATE_LIMIT_EXCEEDED);
         return buildResponse(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", message, "EMAIL_RATE_LIMIT_EXCEEDED");
     }
 
+    /**
+     * Handles password hashing overload (hashing executor saturated).
+     * Returns 503 Service Unavailable with Retry-After so clients back off instead of retrying immediately.
+     * Logs: Warning only, a sustained rate usually indicates a credential-stuffing burst
+     */
+    @ExceptionHandler(PasswordHashingOverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handlePasswordHashingOverloaded(PasswordHashingOverloadedException ex) {
+        log.warn("Password hashing overloaded [correlationId={}]: {}",
+                RequestContext.currentCorrelationId(), ex.getMessage());
+
+        ResponseEntity<Map<String, Object>> response = buildResponse(
+                HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", MSG_SERVICE_BUSY, ex.getErrorCode());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
+    /**
+     * Handles a workload bulkhead that stayed full for its whole maximum wait.
+     * Returns 503 Service Unavailable with Retry-After, same as hashing overload.
+     * Logs: Warning only, the bulkhead name tells which workload class is saturated
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<Map<String, Object>> handleBulkheadFull(BulkheadFullException ex) {
+        log.warn("Bulkhead full [correlationId={}]: {}",
+                RequestContext.currentCorrelationId(), ex.getMessage());
+
+        ResponseEntity<Map<String, Object>> response = buildResponse(
+                HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", MSG_SERVICE_BUSY, "SERVICE_BUSY");
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
     /**
      * Builds a standardized error response with correlation ID for tracking.
      * The correlation ID allows:
@@ -305,7 +387,7 @@ public class GlobalExceptionHandler {
         }
 
         // Include correlation ID if available (set by CorrelationIdFilter)
-        String correlationId = MDC.get("correlationId");
+        String correlationId = RequestContext.currentCorrelationId();
         if (correlationId != null) {
             body.put("correlationId", correlationId);
         }
@@ -4,8 +4,9 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.banking.system.common.infraestructure.context.RequestContext;
+import com.banking.system.common.infraestructure.context.RequestContextTracing;
 import org.jspecify.annotations.NonNull;
-import org.slf4j.MDC;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -19,7 +20,9 @@ import java.util.UUID;
  * The correlation ID can be provided by the client via X-Correlation-ID header,
  * or will be generated automatically.
  * This ID is added to:
- * - MDC (Mapped Diagnostic Context) for automatic inclusion in all logs
+ * - The {@link RequestContext} bound for the request, which also exposes it to the MDC
+ *   for automatic inclusion in all logs and carries it to async tasks
+ * - The current trace span
  * - Response headers so clients can reference it when reporting issues
  */
 @Component
@@ -27,7 +30,12 @@ import java.util.UUID;
 public class CorrelationIdFilter extends OncePerRequestFilter {
 
     private static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
-    private static final String CORRELATION_ID_MDC_KEY = "correlationId";
+
+    private final RequestContextTracing requestContextTracing;
+
+    public CorrelationIdFilter(RequestContextTracing requestContextTracing) {
+        this.requestContextTracing = requestContextTracing;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -40,17 +48,16 @@ public class CorrelationIdFilter extends OncePerRequestFilter {
             correlationId = UUID.randomUUID().toString();
         }
 
-        // Add to logging context (MDC) - will be included in all logs automatically
-        MDC.put(CORRELATION_ID_MDC_KEY, correlationId);
+        RequestContext context = RequestContext.anonymous(correlationId);
+        requestContextTracing.tagCurrentSpan(context);
 
         // Add to response headers so client can reference it
         response.setHeader(CORRELATION_ID_HEADER, correlationId);
 
-        try {
+        // The request's only binding: authentication adds the caller to it in place, and
+        // closing the scope also cleans up the MDC
+        try (RequestContext.Scope ignored = RequestContext.open(context)) {
             filterChain.doFilter(request, response);
-        } finally {
-            // Clean up MDC after request completes
-            MDC.remove(CORRELATION_ID_MDC_KEY);
         }
     }
 }
\ No newline at end of file
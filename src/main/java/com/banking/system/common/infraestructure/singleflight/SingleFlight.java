@@ -0,0 +1,27 @@
+package com.banking.system.common.infraestructure.singleflight;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Collapses concurrent calls of the annotated read method with equal arguments into a
+ * single execution whose result, or exception, is handed to every caller.
+ * <p>
+ * Only calls that overlap in time are merged; nothing is cached once the execution
+ * completes. Arguments are the whole key, so the method's result must depend on them
+ * alone (e.g., pass the caller's user ID instead of reading it from the security context).
+ * </p>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+
+    /**
+     * Name reported in the {@code singleflight.calls} metric.
+     */
+    String value();
+}
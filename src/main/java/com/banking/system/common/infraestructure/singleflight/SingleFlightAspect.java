@@ -0,0 +1,44 @@
+package com.banking.system.common.infraestructure.singleflight;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies {@link SingleFlight}. Ordered ahead of the workload bulkheads and the
+ * transaction interceptor, so followers take neither a permit nor a connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@RequiredArgsConstructor
+public class SingleFlightAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, SingleFlightGroup<CallKey, Object>> groups = new ConcurrentHashMap<>();
+
+    @Around("@annotation(singleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, SingleFlight singleFlight) throws Throwable {
+        SingleFlightGroup<CallKey, Object> group = groups.computeIfAbsent(
+                singleFlight.value(), name -> new SingleFlightGroup<>(name, meterRegistry));
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        CallKey key = new CallKey(method, Arrays.asList(joinPoint.getArgs()));
+        return group.execute(key, joinPoint::proceed);
+    }
+
+    private record CallKey(Method method, List<Object> args) {
+    }
+}
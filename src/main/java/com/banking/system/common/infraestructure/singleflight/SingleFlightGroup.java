@@ -0,0 +1,86 @@
+package com.banking.system.common.infraestructure.singleflight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Runs at most one load per key at a time; callers arriving while a load is in flight
+ * wait for it and share its outcome.
+ * <p>
+ * Publishes {@code singleflight.calls} with {@code role=leader} for calls that ran the
+ * load and {@code role=follower} for calls served by someone else's, so the coalescing
+ * ratio is {@code follower / (leader + follower)}.
+ * </p>
+ *
+ * @param <K> key identifying identical requests
+ * @param <V> loaded value
+ */
+public class SingleFlightGroup<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCounter;
+    private final Counter followerCounter;
+
+    public SingleFlightGroup(String name, MeterRegistry meterRegistry) {
+        this.leaderCounter = Counter.builder("singleflight.calls")
+                .description("Calls that executed the load themselves")
+                .tag("name", name)
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.followerCounter = Counter.builder("singleflight.calls")
+                .description("Calls served by a load already in flight")
+                .tag("name", name)
+                .tag("role", "follower")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the outcome of the in-flight load for the key, starting one on the calling
+     * thread if there is none.
+     */
+    public V execute(K key, Loader<V> loader) throws Throwable {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            followerCounter.increment();
+            return await(existing);
+        }
+
+        leaderCounter.increment();
+        try {
+            V value = loader.load();
+            call.complete(value);
+            return value;
+        } catch (Throwable t) {
+            call.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> call) throws Throwable {
+        try {
+            return call.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (CancellationException e) {
+            throw new IllegalStateException("Coalesced call was cancelled", e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load() throws Throwable;
+    }
+}
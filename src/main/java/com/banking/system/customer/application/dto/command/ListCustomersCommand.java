@@ -0,0 +1,17 @@
+package com.banking.system.customer.application.dto.command;
+
+import com.banking.system.customer.domain.model.KycStatus;
+import com.banking.system.customer.domain.model.RiskLevel;
+
+import java.time.LocalDate;
+
+public record ListCustomersCommand(
+        KycStatus kycStatus,
+        RiskLevel riskLevel,
+        LocalDate customerSinceFrom,
+        LocalDate customerSinceTo,
+        String cursor,
+        int limit,
+        boolean includeTotal
+) {
+}
@@ -0,0 +1,14 @@
+package com.banking.system.customer.application.dto.result;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk KYC decision: one item per distinct customer ID, in request order.
+ */
+public record BulkKycDecisionResult(
+        String kycStatus,
+        int requested,
+        int applied,
+        List<KycDecisionItemResult> items
+) {
+}
@@ -0,0 +1,37 @@
+package com.banking.system.customer.application.dto.result;
+
+import com.banking.system.customer.domain.model.CustomerMatch;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO for a customer search hit: a lightweight summary plus its relevance score.
+ */
+public record CustomerMatchResult(
+        UUID id,
+        UUID userId,
+        String firstName,
+        String lastName,
+        String documentType,
+        String documentNumber,
+        String kycStatus,
+        String riskLevel,
+        LocalDate customerSince,
+        double score
+) {
+    public static CustomerMatchResult fromDomain(CustomerMatch match) {
+        return new CustomerMatchResult(
+                match.id(),
+                match.userId(),
+                match.firstName(),
+                match.lastName(),
+                match.documentType(),
+                match.documentNumber(),
+                match.kycStatus().name(),
+                match.riskLevel().name(),
+                match.customerSince(),
+                match.score()
+        );
+    }
+}
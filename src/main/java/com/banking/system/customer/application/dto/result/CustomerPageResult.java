@@ -0,0 +1,16 @@
+package com.banking.system.customer.application.dto.result;
+
+import java.util.List;
+
+/**
+ * One page of the customer listing, newest customers first. Pass {@code nextCursor} back
+ * to get the next page; it is null on the last one. {@code estimatedTotal} is the
+ * planner's estimate of the matching customers, only present when requested.
+ */
+public record CustomerPageResult(
+        List<CustomerResult> items,
+        String nextCursor,
+        boolean hasMore,
+        Long estimatedTotal
+) {
+}
@@ -0,0 +1,20 @@
+package com.banking.system.customer.application.dto.result;
+
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk KYC decision for one customer.
+ *
+ * @param kycStatus the customer's KYC status after the request, or null if not found
+ */
+public record KycDecisionItemResult(
+        UUID customerId,
+        Outcome outcome,
+        String kycStatus
+) {
+    public enum Outcome {
+        APPLIED,
+        ALREADY_PROCESSED,
+        NOT_FOUND
+    }
+}
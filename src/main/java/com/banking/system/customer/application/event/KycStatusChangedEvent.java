@@ -0,0 +1,21 @@
+package com.banking.system.customer.application.event;
+
+import com.banking.system.customer.domain.model.KycStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published inside the transaction that changed the KYC status of the customers, one
+ * event per batch rather than per customer. Listeners should react after commit.
+ */
+public record KycStatusChangedEvent(
+        List<UUID> customerIds,
+        KycStatus kycStatus,
+        Instant changedAt
+) {
+    public KycStatusChangedEvent {
+        customerIds = List.copyOf(customerIds);
+    }
+}
@@ -0,0 +1,8 @@
+package com.banking.system.customer.application.event.publisher;
+
+import com.banking.system.customer.application.event.KycStatusChangedEvent;
+
+public interface CustomerEventPublisher {
+
+    void publishKycStatusChanged(KycStatusChangedEvent event);
+}
@@ -0,0 +1,18 @@
+package com.banking.system.customer.application.event.publisher;
+
+import com.banking.system.customer.application.event.KycStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SpringCustomerEventPublisher implements CustomerEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publishKycStatusChanged(KycStatusChangedEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
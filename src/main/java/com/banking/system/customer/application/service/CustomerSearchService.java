@@ -0,0 +1,38 @@
+package com.banking.system.customer.application.service;
+
+import com.banking.system.common.infraestructure.bulkhead.Workload;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkhead;
+import com.banking.system.customer.application.dto.result.CustomerMatchResult;
+import com.banking.system.customer.application.usecase.SearchCustomersUseCase;
+import com.banking.system.customer.domain.model.CustomerSearchTerm;
+import com.banking.system.customer.domain.port.out.CustomerSearchPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Customer lookup for support staff by partial name or document number. Returns the best
+ * matches only, ranked in the database; there is no paging.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerSearchService implements SearchCustomersUseCase {
+
+    private final CustomerSearchPort customerSearchPort;
+
+    @Override
+    @WorkloadBulkhead(Workload.READS)
+    @Transactional(readOnly = true)
+    public List<CustomerMatchResult> searchCustomers(String text, int limit) {
+        var term = CustomerSearchTerm.parse(text);
+
+        var matches = customerSearchPort.search(term, limit);
+
+        log.debug("Customer search by {} returned {} matches", term.kind(), matches.size());
+        return matches.stream().map(CustomerMatchResult::fromDomain).toList();
+    }
+}
@@ -1,19 +1,26 @@
 package com.banking.system.customer.application.service;
 
-import com.banking.system.common.domain.PageRequest;
-import com.banking.system.common.domain.dto.PagedResult;
 import com.banking.system.common.domain.Address;
 import com.banking.system.common.domain.PersonName;
 import com.banking.system.common.domain.Phone;
+import com.banking.system.common.infraestructure.bulkhead.Workload;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkhead;
 import com.banking.system.customer.application.dto.command.CreateCustomerCommand;
+import com.banking.system.customer.application.dto.command.ListCustomersCommand;
 import com.banking.system.customer.application.dto.command.UpdateCustomerCommand;
+import com.banking.system.customer.application.dto.result.CustomerPageResult;
 import com.banking.system.customer.application.dto.result.CustomerResult;
+import com.banking.system.customer.application.event.KycStatusChangedEvent;
+import com.banking.system.customer.application.event.publisher.CustomerEventPublisher;
 import com.banking.system.customer.application.mapper.CustomerMapper;
 import com.banking.system.customer.application.usecase.*;
 import com.banking.system.customer.domain.exception.CustomerAlreadyExistsException;
 import com.banking.system.customer.domain.exception.CustomerNotFoundException;
 import com.banking.system.customer.domain.exception.DocumenterNumberAlreadyInUseException;
 import com.banking.system.customer.domain.exception.InvalidAgeException;
+import com.banking.system.customer.domain.model.Customer;
+import com.banking.system.customer.domain.model.CustomerListCursor;
+import com.banking.system.customer.domain.model.CustomerListFilter;
 import com.banking.system.customer.domain.port.out.CustomerRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +28,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -36,6 +44,7 @@ public class CustomerService implements
         UpdateCustomerUseCase {
 
     private final CustomerRepositoryPort customerRepository;
+    private final CustomerEventPublisher customerEventPublisher;
 
     @Override
     @Transactional
@@ -100,6 +109,7 @@ public class CustomerService implements
 
         customer.approveKyc();
         customerRepository.save(customer);
+        publishKycStatusChanged(customer);
         log.info("KYC approved for customerId: {}", customerId);
     }
 
@@ -112,6 +122,7 @@ public class CustomerService implements
 
         customer.rejectKyc();
         customerRepository.save(customer);
+        publishKycStatusChanged(customer);
         log.info("KYC rejected for customerId: {}", id);
     }
 
@@ -160,11 +171,27 @@ public class CustomerService implements
     }
 
     @Override
+    @WorkloadBulkhead(Workload.READS)
     @Transactional(readOnly = true)
-    public PagedResult<CustomerResult> getAllCustomers(PageRequest pageRequest) {
-        var customers = customerRepository.findAll(pageRequest);
-
-        return PagedResult.mapContent(customers, CustomerResult::fromDomain);
+    public CustomerPageResult getAllCustomers(ListCustomersCommand command) {
+        var filter = new CustomerListFilter(
+                command.kycStatus(),
+                command.riskLevel(),
+                command.customerSinceFrom(),
+                command.customerSinceTo()
+        );
+
+        // One extra row tells whether there is a next page
+        List<Customer> found = customerRepository.findPage(filter, CustomerListCursor.decode(command.cursor()), command.limit() + 1);
+        boolean hasMore = found.size() > command.limit();
+        List<Customer> page = hasMore ? found.subList(0, command.limit()) : found;
+
+        return new CustomerPageResult(
+                page.stream().map(CustomerResult::fromDomain).toList(),
+                hasMore ? CustomerListCursor.after(page.getLast()).encode() : null,
+                hasMore,
+                command.includeTotal() ? customerRepository.estimateCount(filter) : null
+        );
     }
 
     private void isUnderAge(LocalDate birthDate) {
@@ -174,4 +201,9 @@ public class CustomerService implements
             throw new InvalidAgeException("Customer must be at least 18 years old");
         }
     }
+
+    private void publishKycStatusChanged(Customer customer) {
+        customerEventPublisher.publishKycStatusChanged(new KycStatusChangedEvent(
+                List.of(customer.getId()), customer.getKycStatus(), customer.getKycVerifiedAt()));
+    }
 }
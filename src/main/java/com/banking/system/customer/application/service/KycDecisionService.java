@@ -0,0 +1,120 @@
+package com.banking.system.customer.application.service;
+
+import com.banking.system.common.infraestructure.bulkhead.Workload;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkhead;
+import com.banking.system.customer.application.dto.result.BulkKycDecisionResult;
+import com.banking.system.customer.application.dto.result.KycDecisionItemResult;
+import com.banking.system.customer.application.dto.result.KycDecisionItemResult.Outcome;
+import com.banking.system.customer.application.event.KycStatusChangedEvent;
+import com.banking.system.customer.application.event.publisher.CustomerEventPublisher;
+import com.banking.system.customer.application.usecase.BulkKycDecisionUseCase;
+import com.banking.system.customer.domain.model.KycStatus;
+import com.banking.system.customer.domain.port.out.CustomerRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * KYC decisions for many customers at once, e.g. after a verification vendor batch.
+ * <p>
+ * Customers are decided in batches of {@code kyc-bulk.batch-size}, each one set-based
+ * UPDATE of the still-PENDING customers in its own transaction, followed by a single
+ * {@link KycStatusChangedEvent} for the customers it changed. Customers that are missing
+ * or already processed are reported per item instead of failing the request, so a
+ * request that failed half-way can simply be retried.
+ * </p>
+ */
+@Slf4j
+@Service
+public class KycDecisionService implements BulkKycDecisionUseCase {
+
+    private final CustomerRepositoryPort customerRepositoryPort;
+    private final CustomerEventPublisher customerEventPublisher;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+    private final int maxItems;
+
+    public KycDecisionService(
+            CustomerRepositoryPort customerRepositoryPort,
+            CustomerEventPublisher customerEventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${kyc-bulk.batch-size:500}") int batchSize,
+            @Value("${kyc-bulk.max-items:10000}") int maxItems) {
+        this.customerRepositoryPort = customerRepositoryPort;
+        this.customerEventPublisher = customerEventPublisher;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    @WorkloadBulkhead(Workload.BATCH)
+    public BulkKycDecisionResult approveKyc(List<UUID> customerIds) {
+        return decide(customerIds, KycStatus.APPROVED);
+    }
+
+    @Override
+    @WorkloadBulkhead(Workload.BATCH)
+    public BulkKycDecisionResult rejectKyc(List<UUID> customerIds) {
+        return decide(customerIds, KycStatus.REJECTED);
+    }
+
+    private BulkKycDecisionResult decide(List<UUID> customerIds, KycStatus status) {
+        List<UUID> distinct = List.copyOf(new LinkedHashSet<>(customerIds));
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("At least one customer ID is required");
+        }
+        if (distinct.size() > maxItems) {
+            throw new IllegalArgumentException("At most " + maxItems + " customers can be decided per request");
+        }
+
+        log.info("Deciding KYC {} for {} customers", status, distinct.size());
+        Map<UUID, KycDecisionItemResult> items = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += batchSize) {
+            List<UUID> batch = distinct.subList(from, Math.min(from + batchSize, distinct.size()));
+            batchTransaction.executeWithoutResult(tx -> decideBatch(batch, status, items));
+        }
+
+        List<KycDecisionItemResult> results = distinct.stream().map(items::get).toList();
+        int applied = (int) results.stream().filter(item -> item.outcome() == Outcome.APPLIED).count();
+        log.info("KYC {} applied to {} of {} customers", status, applied, distinct.size());
+        return new BulkKycDecisionResult(status.name(), distinct.size(), applied, results);
+    }
+
+    private void decideBatch(List<UUID> batch, KycStatus status, Map<UUID, KycDecisionItemResult> items) {
+        Instant decidedAt = Instant.now();
+        Set<UUID> changed = new HashSet<>(customerRepositoryPort.decideKyc(batch, status, decidedAt));
+
+        // Only the misses need a second look, to tell missing from already processed
+        List<UUID> missed = batch.stream().filter(id -> !changed.contains(id)).toList();
+        Map<UUID, KycStatus> current = missed.isEmpty() ? Map.of() : customerRepositoryPort.findKycStatuses(missed);
+
+        List<UUID> applied = new ArrayList<>(changed.size());
+        for (UUID customerId : batch) {
+            if (changed.contains(customerId)) {
+                applied.add(customerId);
+                items.put(customerId, new KycDecisionItemResult(customerId, Outcome.APPLIED, status.name()));
+            } else if (current.containsKey(customerId)) {
+                items.put(customerId, new KycDecisionItemResult(customerId, Outcome.ALREADY_PROCESSED, current.get(customerId).name()));
+            } else {
+                items.put(customerId, new KycDecisionItemResult(customerId, Outcome.NOT_FOUND, null));
+            }
+        }
+
+        if (!applied.isEmpty()) {
+            customerEventPublisher.publishKycStatusChanged(new KycStatusChangedEvent(applied, status, decidedAt));
+        }
+    }
+}
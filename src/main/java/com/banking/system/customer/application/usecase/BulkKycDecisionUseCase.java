@@ -0,0 +1,12 @@
+package com.banking.system.customer.application.usecase;
+
+import com.banking.system.customer.application.dto.result.BulkKycDecisionResult;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface BulkKycDecisionUseCase {
+    BulkKycDecisionResult approveKyc(List<UUID> customerIds);
+
+    BulkKycDecisionResult rejectKyc(List<UUID> customerIds);
+}
@@ -1,9 +1,8 @@
 package com.banking.system.customer.application.usecase;
 
-import com.banking.system.common.domain.PageRequest;
-import com.banking.system.common.domain.dto.PagedResult;
-import com.banking.system.customer.application.dto.result.CustomerResult;
+import com.banking.system.customer.application.dto.command.ListCustomersCommand;
+import com.banking.system.customer.application.dto.result.CustomerPageResult;
 
 public interface GetAllCustomerUseCase {
-    PagedResult<CustomerResult> getAllCustomers(PageRequest pageRequest);
+    CustomerPageResult getAllCustomers(ListCustomersCommand command);
 }
@@ -0,0 +1,9 @@
+package com.banking.system.customer.application.usecase;
+
+import com.banking.system.customer.application.dto.result.CustomerMatchResult;
+
+import java.util.List;
+
+public interface SearchCustomersUseCase {
+    List<CustomerMatchResult> searchCustomers(String text, int limit);
+}
@@ -0,0 +1,43 @@
+package com.banking.system.customer.domain.model;
+
+import com.banking.system.common.domain.CursorCodec;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+/**
+ * Value Object holding the position after the last customer of a listing page.
+ * <p>
+ * The listing is ordered by customer-since date then ID, both descending, so the next
+ * page starts strictly after this pair.
+ * </p>
+ */
+public record CustomerListCursor(LocalDate customerSince, UUID id) {
+
+    public static CustomerListCursor after(Customer customer) {
+        return new CustomerListCursor(customer.getCustomerSince(), customer.getId());
+    }
+
+    /**
+     * @param token the token, or null/blank for the first page
+     * @return the decoded cursor, or null for the first page
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static CustomerListCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            CursorCodec.Keyset keyset = CursorCodec.decodeKeyset(token);
+            return new CustomerListCursor(LocalDate.parse(keyset.sortKey()), keyset.id());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid customer cursor: " + token, e);
+        }
+    }
+
+    public String encode() {
+        return CursorCodec.encodeKeyset(customerSince, id);
+    }
+}
@@ -0,0 +1,32 @@
+package com.banking.system.customer.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Value Object with the filters of the customer listing. Every filter is optional.
+ *
+ * @param kycStatus  KYC status, or null for any
+ * @param riskLevel  risk level, or null for any
+ * @param sinceFrom  first customer-since date, inclusive, or null
+ * @param sinceTo    last customer-since date, inclusive, or null
+ */
+public record CustomerListFilter(
+        KycStatus kycStatus,
+        RiskLevel riskLevel,
+        LocalDate sinceFrom,
+        LocalDate sinceTo
+) {
+    public CustomerListFilter {
+        if (sinceFrom != null && sinceTo != null && sinceFrom.isAfter(sinceTo)) {
+            throw new IllegalArgumentException("'customerSinceFrom' cannot be after 'customerSinceTo'");
+        }
+    }
+
+    public static CustomerListFilter none() {
+        return new CustomerListFilter(null, null, null, null);
+    }
+
+    public boolean isEmpty() {
+        return kycStatus == null && riskLevel == null && sinceFrom == null && sinceTo == null;
+    }
+}
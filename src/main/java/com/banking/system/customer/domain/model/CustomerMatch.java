@@ -0,0 +1,24 @@
+package com.banking.system.customer.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a customer found by search: just enough to pick the right one.
+ *
+ * @param score relevance between 0 and 1, higher first; trigram similarity for names,
+ *              the share of the document number matched for documents
+ */
+public record CustomerMatch(
+        UUID id,
+        UUID userId,
+        String firstName,
+        String lastName,
+        String documentType,
+        String documentNumber,
+        KycStatus kycStatus,
+        RiskLevel riskLevel,
+        LocalDate customerSince,
+        double score
+) {
+}
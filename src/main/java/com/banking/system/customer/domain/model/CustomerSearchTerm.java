@@ -0,0 +1,77 @@
+package com.banking.system.customer.domain.model;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Value Object with what support staff typed into the customer search box.
+ * <p>
+ * Anything containing a digit is a document number prefix, normalized like
+ * {@code IdentityDocument} (no spaces, dots or dashes, uppercase). Anything else is a
+ * name: whitespace-separated words, each matched anywhere in "first last", in any order.
+ * Either kind needs at least three characters, the size of a trigram, to be selective.
+ * </p>
+ *
+ * @param kind  what the term is matched against
+ * @param value the normalized document prefix, or the name words joined by single spaces
+ */
+public record CustomerSearchTerm(Kind kind, String value) {
+
+    public static final int MIN_LENGTH = 3;
+    public static final int MAX_NAME_WORDS = 4;
+
+    private static final Pattern DOCUMENT_SEPARATORS = Pattern.compile("[\\s.-]");
+    private static final Pattern DOCUMENT_PREFIX = Pattern.compile("^[A-Z0-9]{" + MIN_LENGTH + ",20}$");
+    private static final Pattern NAME = Pattern.compile("^[\\p{L} ]+$");
+
+    public enum Kind {
+        DOCUMENT,
+        NAME
+    }
+
+    public CustomerSearchTerm {
+        if (kind == null || value == null) {
+            throw new IllegalArgumentException("Search kind and value are required");
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the text is too short or has characters no
+     *                                  name or document can contain
+     */
+    public static CustomerSearchTerm parse(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search text is required");
+        }
+
+        String stripped = text.strip();
+        if (stripped.chars().anyMatch(Character::isDigit)) {
+            String prefix = DOCUMENT_SEPARATORS.matcher(stripped).replaceAll("").toUpperCase(Locale.ROOT);
+            if (!DOCUMENT_PREFIX.matcher(prefix).matches()) {
+                throw new IllegalArgumentException(
+                        "Document search needs " + MIN_LENGTH + " to 20 letters or digits");
+            }
+            return new CustomerSearchTerm(Kind.DOCUMENT, prefix);
+        }
+
+        String name = stripped.replaceAll("\\s+", " ");
+        if (!NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Name search can only contain letters");
+        }
+        if (name.replace(" ", "").length() < MIN_LENGTH) {
+            throw new IllegalArgumentException("Name search needs at least " + MIN_LENGTH + " letters");
+        }
+        if (name.split(" ").length > MAX_NAME_WORDS) {
+            throw new IllegalArgumentException("Name search accepts at most " + MAX_NAME_WORDS + " words");
+        }
+        return new CustomerSearchTerm(Kind.NAME, name);
+    }
+
+    /**
+     * @return the words of a name term
+     */
+    public List<String> words() {
+        return List.of(value.split(" "));
+    }
+}
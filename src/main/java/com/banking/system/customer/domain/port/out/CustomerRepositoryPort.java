@@ -1,15 +1,31 @@
 package com.banking.system.customer.domain.port.out;
 
-import com.banking.system.common.domain.PageRequest;
-import com.banking.system.common.domain.dto.PagedResult;
 import com.banking.system.customer.domain.model.Customer;
+import com.banking.system.customer.domain.model.CustomerListCursor;
+import com.banking.system.customer.domain.model.CustomerListFilter;
+import com.banking.system.customer.domain.model.KycStatus;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface CustomerRepositoryPort {
-    PagedResult<Customer> findAll(PageRequest pageRequest);
+    /**
+     * Customers matching the filter, newest customer-since date first (ties by ID, descending).
+     *
+     * @param filter the filters
+     * @param after  position after the last customer of the previous page, or null
+     * @param limit  maximum customers to return
+     */
+    List<Customer> findPage(CustomerListFilter filter, CustomerListCursor after, int limit);
+
+    /**
+     * Planner estimate of the customers matching the filter; cheap but approximate.
+     */
+    long estimateCount(CustomerListFilter filter);
 
     Optional<Customer> findById(UUID id);
 
@@ -24,4 +40,16 @@ public interface CustomerRepositoryPort {
     boolean existsByUserId(UUID uuid);
 
     Optional<Customer> findByUserId(UUID uuid);
+
+    /**
+     * Moves the customers whose KYC is still PENDING to {@code status} in one statement.
+     *
+     * @return the IDs actually changed; the others were missing or already processed
+     */
+    List<UUID> decideKyc(Collection<UUID> customerIds, KycStatus status, Instant verifiedAt);
+
+    /**
+     * KYC status of each of the customers that exist.
+     */
+    Map<UUID, KycStatus> findKycStatuses(Collection<UUID> customerIds);
 }
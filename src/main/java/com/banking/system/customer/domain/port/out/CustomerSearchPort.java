@@ -0,0 +1,16 @@
+package com.banking.system.customer.domain.port.out;
+
+import com.banking.system.customer.domain.model.CustomerMatch;
+import com.banking.system.customer.domain.model.CustomerSearchTerm;
+
+import java.util.List;
+
+public interface CustomerSearchPort {
+    /**
+     * Best matches of the term, ranked by the database, best first.
+     *
+     * @param term  the search term
+     * @param limit maximum matches to return
+     */
+    List<CustomerMatch> search(CustomerSearchTerm term, int limit);
+}
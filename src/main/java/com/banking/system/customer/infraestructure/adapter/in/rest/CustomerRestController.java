@@ -1,9 +1,16 @@
 package com.banking.system.customer.infraestructure.adapter.in.rest;
 
-import com.banking.system.common.domain.PageRequest;
-import com.banking.system.common.domain.dto.PagedResult;
+import com.banking.system.auth.domain.model.PermissionCode;
+import com.banking.system.auth.infraestructure.adapter.out.security.RequiresPermission;
+import com.banking.system.customer.application.dto.command.ListCustomersCommand;
+import com.banking.system.customer.application.dto.result.BulkKycDecisionResult;
+import com.banking.system.customer.application.dto.result.CustomerMatchResult;
+import com.banking.system.customer.application.dto.result.CustomerPageResult;
 import com.banking.system.customer.application.dto.result.CustomerResult;
 import com.banking.system.customer.application.usecase.*;
+import com.banking.system.customer.domain.model.KycStatus;
+import com.banking.system.customer.domain.model.RiskLevel;
+import com.banking.system.customer.infraestructure.adapter.in.rest.dto.request.BulkKycDecisionRequest;
 import com.banking.system.customer.infraestructure.adapter.in.rest.dto.request.CustomerUpdateRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,16 +19,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
-import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -33,8 +42,10 @@ import java.util.UUID;
 public class CustomerRestController {
     private final GetCustomerUseCase getCustomerUseCase;
     private final GetAllCustomerUseCase getAllCustomerUseCase;
+    private final SearchCustomersUseCase searchCustomersUseCase;
     private final ApproveKycUseCase approveKycUseCase;
     private final RejectKycUseCase rejectKycUseCase;
+    private final BulkKycDecisionUseCase bulkKycDecisionUseCase;
     private final UpdateCustomerUseCase updateCustomerUseCase;
 
     @Operation(
@@ -46,7 +57,7 @@ public class CustomerRestController {
             @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
             @ApiResponse(responseCode = "404", description = "Customer profile not found for this user")
     })
-    @PreAuthorize("hasAuthority('CUSTOMER_VIEW_OWN')")
+    @RequiresPermission(PermissionCode.CUSTOMER_VIEW_OWN)
     @GetMapping("/me")
     public ResponseEntity<CustomerResult> getProfileForUser(
             @Parameter(hidden = true) @AuthenticationPrincipal UUID userId) {
@@ -66,7 +77,7 @@ public class CustomerRestController {
             @ApiResponse(responseCode = "401", description = "Invalid or expired JWT"),
             @ApiResponse(responseCode = "404", description = "Customer not found")
     })
-    @PreAuthorize("hasAuthority('CUSTOMER_UPDATE')")
+    @RequiresPermission(PermissionCode.CUSTOMER_UPDATE)
     @PutMapping("/me")
     public ResponseEntity<CustomerResult> updateMyProfile(
             @RequestBody @Valid CustomerUpdateRequest request,
@@ -85,7 +96,7 @@ public class CustomerRestController {
             @ApiResponse(responseCode = "403", description = "Role not authorized for this operation"),
             @ApiResponse(responseCode = "404", description = "Customer not found")
     })
-    @PreAuthorize("hasAuthority('CUSTOMER_VIEW')")
+    @RequiresPermission(PermissionCode.CUSTOMER_VIEW)
     @GetMapping("/{customerId}")
     public ResponseEntity<CustomerResult> getCustomerById(
             @Parameter(description = "Customer ID to retrieve", example = "550e8400-e29b-41d4-a716-446655440000")
@@ -96,19 +107,59 @@ public class CustomerRestController {
 
     @Operation(
             summary = "Get all customers",
-            description = "Retrieves a paginated list of all customers. Only accessible by ADMIN or BRANCH_MANAGER."
+            description = "Retrieves customers newest first, optionally filtered by KYC status, risk level and customer-since dates. " +
+                    "Paged by cursor: pass nextCursor back to get the next page. The total is only computed when includeTotal is true, " +
+                    "and is then an estimate from table statistics. Only accessible by ADMIN or BRANCH_MANAGER."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Customer list retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid filters, limit or malformed cursor"),
             @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
             @ApiResponse(responseCode = "403", description = "Role not authorized for this operation")
     })
-    @PreAuthorize("hasAuthority('CUSTOMER_VIEW_ALL')")
+    @RequiresPermission(PermissionCode.CUSTOMER_VIEW_ALL)
     @GetMapping
-    public ResponseEntity<PagedResult<CustomerResult>> getAllCustomers(@ParameterObject Pageable pageable) {
-        PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
-        var customers = getAllCustomerUseCase.getAllCustomers(pageRequest);
-        return ResponseEntity.ok(customers);
+    public ResponseEntity<CustomerPageResult> getAllCustomers(
+            @Parameter(description = "KYC status filter", example = "PENDING")
+            @RequestParam(required = false) KycStatus kycStatus,
+            @Parameter(description = "Risk level filter", example = "HIGH")
+            @RequestParam(required = false) RiskLevel riskLevel,
+            @Parameter(description = "Customers since this date, inclusive", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate customerSinceFrom,
+            @Parameter(description = "Customers since up to this date, inclusive", example = "2025-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate customerSinceTo,
+            @Parameter(description = "Cursor returned by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum customers per page", example = "50")
+            @RequestParam(defaultValue = "50") @Min(1) @Max(200) int limit,
+            @Parameter(description = "Include an estimated total of matching customers", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        var command = new ListCustomersCommand(
+                kycStatus, riskLevel, customerSinceFrom, customerSinceTo, cursor, limit, includeTotal);
+        return ResponseEntity.ok(getAllCustomerUseCase.getAllCustomers(command));
+    }
+
+    @Operation(
+            summary = "Search customers",
+            description = "Finds customers by partial name or document number, best matches first. " +
+                    "Text containing a digit is matched as a document number prefix; anything else as name words, " +
+                    "each found anywhere in the full name, ignoring case and accents. At least 3 characters. " +
+                    "Only accessible by ADMIN or BRANCH_MANAGER."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Matches retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Search text too short or invalid, or limit out of range"),
+            @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
+            @ApiResponse(responseCode = "403", description = "Role not authorized for this operation")
+    })
+    @RequiresPermission(PermissionCode.CUSTOMER_VIEW_ALL)
+    @GetMapping("/search")
+    public ResponseEntity<List<CustomerMatchResult>> searchCustomers(
+            @Parameter(description = "Partial name or document number", example = "perez jua")
+            @RequestParam String q,
+            @Parameter(description = "Maximum matches", example = "20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int limit) {
+        return ResponseEntity.ok(searchCustomersUseCase.searchCustomers(q, limit));
     }
 
     @Operation(
@@ -122,7 +173,7 @@ public class CustomerRestController {
             @ApiResponse(responseCode = "404", description = "Customer not found"),
             @ApiResponse(responseCode = "422", description = "KYC already processed")
     })
-    @PreAuthorize("hasAuthority('KYC_APPROVE')")
+    @RequiresPermission(PermissionCode.KYC_APPROVE)
     @PutMapping("/{customerId}/kyc/approve")
     public ResponseEntity<Void> approveKyc(
             @Parameter(description = "Customer ID", example = "550e8400-e29b-41d4-a716-446655440000")
@@ -142,7 +193,7 @@ public class CustomerRestController {
             @ApiResponse(responseCode = "404", description = "Customer not found"),
             @ApiResponse(responseCode = "422", description = "KYC already processed")
     })
-    @PreAuthorize("hasAuthority('KYC_REJECT')")
+    @RequiresPermission(PermissionCode.KYC_REJECT)
     @PutMapping("/{customerId}/kyc/reject")
     public ResponseEntity<Void> rejectKyc(
             @Parameter(description = "Customer ID", example = "550e8400-e29b-41d4-a716-446655440000")
@@ -150,4 +201,40 @@ public class CustomerRestController {
         rejectKycUseCase.rejectKyc(customerId);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(
+            summary = "Approve KYC in bulk",
+            description = "Approves the KYC verification of many customers at once, e.g. after a verification vendor batch. " +
+                    "Customers are updated in batches; the response reports each one as APPLIED, ALREADY_PROCESSED or NOT_FOUND. " +
+                    "Only accessible by ADMIN."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Decisions applied; see the per-customer outcomes"),
+            @ApiResponse(responseCode = "400", description = "No customer IDs, or more than allowed per request"),
+            @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
+            @ApiResponse(responseCode = "403", description = "Role not authorized for this operation")
+    })
+    @RequiresPermission(PermissionCode.KYC_APPROVE)
+    @PostMapping("/kyc/approve")
+    public ResponseEntity<BulkKycDecisionResult> approveKycBulk(@RequestBody @Valid BulkKycDecisionRequest request) {
+        return ResponseEntity.ok(bulkKycDecisionUseCase.approveKyc(request.customerIds()));
+    }
+
+    @Operation(
+            summary = "Reject KYC in bulk",
+            description = "Rejects the KYC verification of many customers at once. " +
+                    "Customers are updated in batches; the response reports each one as APPLIED, ALREADY_PROCESSED or NOT_FOUND. " +
+                    "Only accessible by ADMIN."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Decisions applied; see the per-customer outcomes"),
+            @ApiResponse(responseCode = "400", description = "No customer IDs, or more than allowed per request"),
+            @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
+            @ApiResponse(responseCode = "403", description = "Role not authorized for this operation")
+    })
+    @RequiresPermission(PermissionCode.KYC_REJECT)
+    @PostMapping("/kyc/reject")
+    public ResponseEntity<BulkKycDecisionResult> rejectKycBulk(@RequestBody @Valid BulkKycDecisionRequest request) {
+        return ResponseEntity.ok(bulkKycDecisionUseCase.rejectKyc(request.customerIds()));
+    }
 }
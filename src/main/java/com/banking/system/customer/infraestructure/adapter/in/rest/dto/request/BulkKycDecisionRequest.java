@@ -0,0 +1,13 @@
+package com.banking.system.customer.infraestructure.adapter.in.rest.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkKycDecisionRequest(
+        @NotEmpty(message = "At least one customer ID is required")
+        List<@NotNull(message = "Customer IDs must not be null") UUID> customerIds
+) {
+}
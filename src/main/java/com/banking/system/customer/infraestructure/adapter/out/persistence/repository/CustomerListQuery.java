@@ -0,0 +1,80 @@
+package com.banking.system.customer.infraestructure.adapter.out.persistence.repository;
+
+import com.banking.system.customer.domain.model.CustomerListCursor;
+import com.banking.system.customer.domain.model.CustomerListFilter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Native SQL for a keyset page of the customer listing and for its row estimate.
+ * <p>
+ * Filter values are inlined as literals rather than bound: they are enum names and ISO
+ * dates, so this is safe, and it lets the planner match the partial indexes of V9
+ * (e.g. {@code WHERE kyc_status = 'PENDING'}), which a bind parameter in a generic plan
+ * cannot. Only the cursor and limit are bound.
+ * </p>
+ */
+public final class CustomerListQuery {
+
+    private final String sql;
+    private final Map<String, Object> parameters;
+
+    private CustomerListQuery(String sql, Map<String, Object> parameters) {
+        this.sql = sql;
+        this.parameters = parameters;
+    }
+
+    public static CustomerListQuery page(CustomerListFilter filter, CustomerListCursor after, int limit) {
+        List<String> predicates = predicates(filter);
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (after != null) {
+            predicates.add("(c.customer_since, c.id) < (:afterSince, :afterId)");
+            parameters.put("afterSince", after.customerSince());
+            parameters.put("afterId", after.id());
+        }
+        parameters.put("limit", limit);
+
+        String sql = "SELECT c.* FROM customers c" + where(predicates)
+                + " ORDER BY c.customer_since DESC, c.id DESC LIMIT :limit";
+        return new CustomerListQuery(sql, parameters);
+    }
+
+    /**
+     * Query to {@code EXPLAIN} for the planner's estimate of the filtered row count.
+     */
+    public static CustomerListQuery estimate(CustomerListFilter filter) {
+        return new CustomerListQuery("SELECT 1 FROM customers c" + where(predicates(filter)), Map.of());
+    }
+
+    public String sql() {
+        return sql;
+    }
+
+    public Map<String, Object> parameters() {
+        return parameters;
+    }
+
+    private static List<String> predicates(CustomerListFilter filter) {
+        List<String> predicates = new ArrayList<>();
+        if (filter.kycStatus() != null) {
+            predicates.add("c.kyc_status = '" + filter.kycStatus().name() + "'");
+        }
+        if (filter.riskLevel() != null) {
+            predicates.add("c.risk_level = '" + filter.riskLevel().name() + "'");
+        }
+        if (filter.sinceFrom() != null) {
+            predicates.add("c.customer_since >= DATE '" + filter.sinceFrom() + "'");
+        }
+        if (filter.sinceTo() != null) {
+            predicates.add("c.customer_since <= DATE '" + filter.sinceTo() + "'");
+        }
+        return predicates;
+    }
+
+    private static String where(List<String> predicates) {
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+}
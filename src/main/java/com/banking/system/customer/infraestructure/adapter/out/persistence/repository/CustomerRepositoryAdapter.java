@@ -1,37 +1,66 @@
 package com.banking.system.customer.infraestructure.adapter.out.persistence.repository;
 
-import com.banking.system.common.domain.PageRequest;
-import com.banking.system.common.domain.dto.PagedResult;
 import com.banking.system.customer.domain.model.Customer;
+import com.banking.system.customer.domain.model.CustomerListCursor;
+import com.banking.system.customer.domain.model.CustomerListFilter;
+import com.banking.system.customer.domain.model.KycStatus;
 import com.banking.system.customer.domain.port.out.CustomerRepositoryPort;
 import com.banking.system.customer.infraestructure.adapter.out.mapper.CustomerJpaEntityMapper;
+import com.banking.system.customer.infraestructure.adapter.out.persistence.entity.CustomerJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Component
 @RequiredArgsConstructor
 public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
+    // Row estimate of the top plan node, e.g. "Index Scan using ... (cost=0.29..8.31 rows=123 width=4)"
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
     private final SpringDataCustomerRepository springDataCustomerRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
-    public PagedResult<Customer> findAll(PageRequest pageRequest) {
-        var pageable = org.springframework.data.domain.PageRequest.of(
-                pageRequest.page(), pageRequest.size());
-        var page = springDataCustomerRepository.findAll(pageable);
+    @SuppressWarnings("unchecked")
+    public List<Customer> findPage(CustomerListFilter filter, CustomerListCursor after, int limit) {
+        var query = CustomerListQuery.page(filter, after, limit);
+        var nativeQuery = entityManager.createNativeQuery(query.sql(), CustomerJpaEntity.class);
+        query.parameters().forEach(nativeQuery::setParameter);
 
-        var customers = page.getContent().stream()
+        return ((List<CustomerJpaEntity>) nativeQuery.getResultList()).stream()
                 .map(CustomerJpaEntityMapper::toDomainEntity)
                 .toList();
+    }
 
-        return PagedResult.of(
-                customers,
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements()
-        );
+    @Override
+    public long estimateCount(CustomerListFilter filter) {
+        if (filter.isEmpty()) {
+            // Kept current by autovacuum/ANALYZE; -1 until the table is first analyzed
+            Number reltuples = (Number) entityManager
+                    .createNativeQuery("SELECT reltuples::bigint FROM pg_class WHERE oid = 'customers'::regclass")
+                    .getSingleResult();
+            return Math.max(reltuples.longValue(), 0L);
+        }
+
+        String plan = (String) entityManager
+                .createNativeQuery("EXPLAIN " + CustomerListQuery.estimate(filter).sql())
+                .getResultList()
+                .getFirst();
+        Matcher rows = PLAN_ROWS.matcher(plan);
+        return rows.find() ? Long.parseLong(rows.group(1)) : 0L;
     }
 
     @Override
@@ -73,4 +102,18 @@ public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
         var entity = springDataCustomerRepository.findByUserId(id);
         return entity.map(CustomerJpaEntityMapper::toDomainEntity);
     }
+
+    @Override
+    public List<UUID> decideKyc(Collection<UUID> customerIds, KycStatus status, Instant verifiedAt) {
+        return springDataCustomerRepository.decideKyc(customerIds.toArray(UUID[]::new), status.name(), verifiedAt);
+    }
+
+    @Override
+    public Map<UUID, KycStatus> findKycStatuses(Collection<UUID> customerIds) {
+        Map<UUID, KycStatus> statuses = new HashMap<>();
+        for (Object[] row : springDataCustomerRepository.findKycStatuses(customerIds.toArray(UUID[]::new))) {
+            statuses.put((UUID) row[0], KycStatus.valueOf((String) row[1]));
+        }
+        return statuses;
+    }
 }
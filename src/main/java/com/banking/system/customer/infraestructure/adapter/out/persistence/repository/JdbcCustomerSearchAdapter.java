@@ -0,0 +1,112 @@
+package com.banking.system.customer.infraestructure.adapter.out.persistence.repository;
+
+import com.banking.system.customer.domain.model.CustomerMatch;
+import com.banking.system.customer.domain.model.CustomerSearchTerm;
+import com.banking.system.customer.domain.model.KycStatus;
+import com.banking.system.customer.domain.model.RiskLevel;
+import com.banking.system.customer.domain.port.out.CustomerSearchPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * {@link CustomerSearchPort} over plain SQL, returning projections rather than entities.
+ * <p>
+ * Both searches are a single index scan that also yields the ranking (see V10):
+ * </p>
+ * <ul>
+ *   <li>names: trigram GiST index on the accent- and case-folded full name. Every word
+ *   must appear somewhere in the name, and matches come out of the index nearest first
+ *   by trigram distance, so only {@code limit} rows are ever read;</li>
+ *   <li>documents: C-collation B-tree on the number, scanned from the prefix in order,
+ *   which puts an exact match first. The prefix is bound as an explicit range rather than
+ *   {@code LIKE :prefix || '%'}, so the index bounds survive a generic plan once the
+ *   driver switches to server-side prepared statements.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcCustomerSearchAdapter implements CustomerSearchPort {
+
+    // Must match the expression of idx_customers_name_search
+    private static final String NAME_KEY = "customer_search_key(c.first_name || ' ' || c.last_name)";
+
+    private static final String COLUMNS = """
+            SELECT c.id, c.user_id, c.first_name, c.last_name, c.document_type, c.document_number,
+                   c.kyc_status, c.risk_level, c.customer_since,
+            """;
+
+    private static final String DOCUMENT_SQL = COLUMNS + """
+                   length(:prefix)::float8 / length(c.document_number) AS score
+            FROM customers c
+            WHERE c.document_number COLLATE "C" >= :prefix
+              AND c.document_number COLLATE "C" < :prefixUpper
+            ORDER BY c.document_number COLLATE "C"
+            LIMIT :limit
+            """;
+
+    private static final RowMapper<CustomerMatch> ROW_MAPPER = (rs, rowNum) -> new CustomerMatch(
+            rs.getObject("id", UUID.class),
+            rs.getObject("user_id", UUID.class),
+            rs.getString("first_name"),
+            rs.getString("last_name"),
+            rs.getString("document_type"),
+            rs.getString("document_number"),
+            KycStatus.valueOf(rs.getString("kyc_status")),
+            RiskLevel.valueOf(rs.getString("risk_level")),
+            rs.getDate("customer_since").toLocalDate(),
+            rs.getDouble("score")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<CustomerMatch> search(CustomerSearchTerm term, int limit) {
+        return switch (term.kind()) {
+            case DOCUMENT -> jdbcTemplate.query(
+                    DOCUMENT_SQL,
+                    Map.of("prefix", term.value(), "prefixUpper", upperBound(term.value()), "limit", limit),
+                    ROW_MAPPER);
+            case NAME -> searchByName(term, limit);
+        };
+    }
+
+    private List<CustomerMatch> searchByName(CustomerSearchTerm term, int limit) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("term", term.value());
+        parameters.put("limit", limit);
+
+        // Words are letters only, so they need no LIKE escaping
+        List<String> predicates = new ArrayList<>();
+        List<String> words = term.words();
+        for (int i = 0; i < words.size(); i++) {
+            predicates.add(NAME_KEY + " LIKE '%' || customer_search_key(:word" + i + ") || '%'");
+            parameters.put("word" + i, words.get(i));
+        }
+
+        String sql = COLUMNS
+                + "       similarity(" + NAME_KEY + ", customer_search_key(:term)) AS score\n"
+                + "FROM customers c\n"
+                + "WHERE " + String.join(" AND ", predicates) + "\n"
+                + "ORDER BY " + NAME_KEY + " <-> customer_search_key(:term)\n"
+                + "LIMIT :limit";
+        return jdbcTemplate.query(sql, parameters, ROW_MAPPER);
+    }
+
+    /**
+     * Smallest string above every string starting with {@code prefix} in C collation,
+     * i.e. in code point order. Document prefixes are {@code [A-Z0-9]}, so incrementing
+     * the last character never overflows.
+     */
+    private static String upperBound(String prefix) {
+        int last = prefix.length() - 1;
+        return prefix.substring(0, last) + (char) (prefix.charAt(last) + 1);
+    }
+}
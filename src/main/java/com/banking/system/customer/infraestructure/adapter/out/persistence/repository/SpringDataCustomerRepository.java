@@ -2,8 +2,12 @@ package com.banking.system.customer.infraestructure.adapter.out.persistence.repo
 
 import com.banking.system.customer.infraestructure.adapter.out.persistence.entity.CustomerJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,4 +18,20 @@ public interface SpringDataCustomerRepository extends JpaRepository<CustomerJpaE
     boolean existsByUserId(UUID uuid);
 
     Optional<CustomerJpaEntity> findByUserId(UUID id);
+
+    // A query rather than @Modifying: the CTE returns the changed rows
+    @Query(value = """
+            WITH decided AS (
+                UPDATE customers
+                SET kyc_status = :status, kyc_verified_at = :verifiedAt, updated_at = :verifiedAt
+                WHERE id = ANY(:customerIds) AND kyc_status = 'PENDING'
+                RETURNING id)
+            SELECT id FROM decided
+            """, nativeQuery = true)
+    List<UUID> decideKyc(@Param("customerIds") UUID[] customerIds,
+                         @Param("status") String status,
+                         @Param("verifiedAt") Instant verifiedAt);
+
+    @Query(value = "SELECT id, kyc_status FROM customers WHERE id = ANY(:customerIds)", nativeQuery = true)
+    List<Object[]> findKycStatuses(@Param("customerIds") UUID[] customerIds);
 }
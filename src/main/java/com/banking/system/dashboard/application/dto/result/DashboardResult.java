@@ -0,0 +1,17 @@
+package com.banking.system.dashboard.application.dto.result;
+
+import com.banking.system.account.application.dto.result.AccountResult;
+import com.banking.system.customer.application.dto.result.CustomerResult;
+import com.banking.system.transaction.application.dto.result.TransactionResult;
+
+import java.util.List;
+
+/**
+ * Everything the home screen shows, in one response. Accounts carry their balances.
+ */
+public record DashboardResult(
+        CustomerResult customer,
+        DashboardSection<List<AccountResult>> accounts,
+        DashboardSection<List<TransactionResult>> recentTransactions
+) {
+}
@@ -0,0 +1,31 @@
+package com.banking.system.dashboard.application.dto.result;
+
+/**
+ * One independently loaded part of the dashboard. A section that could not be loaded
+ * carries no data and says why, so the rest of the dashboard is still returned.
+ *
+ * @param status outcome of the section load
+ * @param data   loaded content, null unless {@code status} is {@link Status#OK}
+ */
+public record DashboardSection<T>(
+        Status status,
+        T data
+) {
+    public enum Status {
+        OK,
+        /** The load did not finish within the section timeout. */
+        TIMEOUT,
+        /** The load failed. */
+        FAILED,
+        /** The section does not apply to this customer (e.g., KYC not approved). */
+        UNAVAILABLE
+    }
+
+    public static <T> DashboardSection<T> ok(T data) {
+        return new DashboardSection<>(Status.OK, data);
+    }
+
+    public static <T> DashboardSection<T> of(Status status) {
+        return new DashboardSection<>(status, null);
+    }
+}
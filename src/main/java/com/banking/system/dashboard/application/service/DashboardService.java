@@ -0,0 +1,148 @@
+package com.banking.system.dashboard.application.service;
+
+import com.banking.system.account.application.dto.result.AccountResult;
+import com.banking.system.account.domain.port.out.AccountRepositoryPort;
+import com.banking.system.common.infraestructure.bulkhead.Workload;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkheads;
+import com.banking.system.common.infraestructure.concurrency.FanOutScope;
+import com.banking.system.customer.application.dto.result.CustomerResult;
+import com.banking.system.customer.domain.exception.CustomerNotFoundException;
+import com.banking.system.customer.domain.model.Customer;
+import com.banking.system.customer.domain.port.out.CustomerRepositoryPort;
+import com.banking.system.dashboard.application.dto.result.DashboardResult;
+import com.banking.system.dashboard.application.dto.result.DashboardSection;
+import com.banking.system.dashboard.application.usecase.GetDashboardUseCase;
+import com.banking.system.transaction.application.dto.result.TransactionResult;
+import com.banking.system.transaction.application.mapper.TransactionDomainMapper;
+import com.banking.system.transaction.domain.model.TransactionStatus;
+import com.banking.system.transaction.domain.port.out.TransactionRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Builds the home screen in one call. The customer is resolved once; accounts (with
+ * their balances) and recent transactions are then loaded in parallel, each bounded by
+ * its own timeout. A section that times out or fails is reported as such and the rest
+ * of the dashboard is still returned.
+ * <p>
+ * Every load holds its own READS permit and runs in its own read-only transaction, so
+ * each connection the dashboard borrows is accounted for by the bulkhead and routed to
+ * the replica. The section loads also carry their timeout as a transaction timeout, so
+ * a statement still running when its section gives up is cancelled by the database.
+ * </p>
+ */
+@Slf4j
+@Service
+public class DashboardService implements GetDashboardUseCase {
+
+    private final CustomerRepositoryPort customerRepositoryPort;
+    private final AccountRepositoryPort accountRepositoryPort;
+    private final TransactionRepositoryPort transactionRepositoryPort;
+    private final WorkloadBulkheads workloadBulkheads;
+    private final TransactionTemplate customerTransaction;
+    private final TransactionTemplate accountsTransaction;
+    private final TransactionTemplate recentTransactionsTransaction;
+    private final Duration accountsTimeout;
+    private final Duration recentTransactionsTimeout;
+    private final int recentTransactionsLimit;
+
+    public DashboardService(
+            CustomerRepositoryPort customerRepositoryPort,
+            AccountRepositoryPort accountRepositoryPort,
+            TransactionRepositoryPort transactionRepositoryPort,
+            WorkloadBulkheads workloadBulkheads,
+            PlatformTransactionManager transactionManager,
+            @Value("${dashboard.accounts.timeout-ms:800}") long accountsTimeoutMs,
+            @Value("${dashboard.recent-transactions.timeout-ms:800}") long recentTransactionsTimeoutMs,
+            @Value("${dashboard.recent-transactions.limit:10}") int recentTransactionsLimit) {
+        this.customerRepositoryPort = customerRepositoryPort;
+        this.accountRepositoryPort = accountRepositoryPort;
+        this.transactionRepositoryPort = transactionRepositoryPort;
+        this.workloadBulkheads = workloadBulkheads;
+        this.accountsTimeout = Duration.ofMillis(accountsTimeoutMs);
+        this.recentTransactionsTimeout = Duration.ofMillis(recentTransactionsTimeoutMs);
+        this.recentTransactionsLimit = recentTransactionsLimit;
+        this.customerTransaction = readOnlyTransaction(transactionManager, null);
+        this.accountsTransaction = readOnlyTransaction(transactionManager, accountsTimeout);
+        this.recentTransactionsTransaction = readOnlyTransaction(transactionManager, recentTransactionsTimeout);
+    }
+
+    @Override
+    public DashboardResult getDashboard(UUID userId) {
+        Customer customer = read(customerTransaction, () -> customerRepositoryPort.findByUserId(userId))
+                .orElseThrow(() -> new CustomerNotFoundException("Customer not found for userId: " + userId));
+        UUID customerId = customer.getId();
+
+        try (FanOutScope scope = new FanOutScope("dashboard")) {
+            var accounts = scope.fork(() -> read(accountsTransaction, () -> loadAccounts(customerId)));
+            var recentTransactions = customer.isKycApproved()
+                    ? scope.fork(() -> read(recentTransactionsTransaction, () -> loadRecentTransactions(customerId)))
+                    : null;
+
+            return new DashboardResult(
+                    CustomerResult.fromDomain(customer),
+                    join("accounts", accounts, accountsTimeout),
+                    recentTransactions != null
+                            ? join("recentTransactions", recentTransactions, recentTransactionsTimeout)
+                            : DashboardSection.of(DashboardSection.Status.UNAVAILABLE)
+            );
+        }
+    }
+
+    private <T> T read(TransactionTemplate transaction, Supplier<T> load) {
+        workloadBulkheads.acquire(Workload.READS);
+        try {
+            return transaction.execute(status -> load.get());
+        } finally {
+            workloadBulkheads.release(Workload.READS);
+        }
+    }
+
+    private static TransactionTemplate readOnlyTransaction(PlatformTransactionManager transactionManager, Duration timeout) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        if (timeout != null) {
+            // Transaction timeouts are whole seconds
+            transaction.setTimeout((int) Math.max(1, (timeout.toMillis() + 999) / 1000));
+        }
+        return transaction;
+    }
+
+    private List<AccountResult> loadAccounts(UUID customerId) {
+        return accountRepositoryPort.findAllByCustomerId(customerId).stream()
+                .map(AccountResult::fromDomain)
+                .toList();
+    }
+
+    private List<TransactionResult> loadRecentTransactions(UUID customerId) {
+        return transactionRepositoryPort
+                .findRecentByCustomerIdAndStatus(customerId, TransactionStatus.COMPLETED, recentTransactionsLimit).stream()
+                .map(TransactionDomainMapper::toResult)
+                .toList();
+    }
+
+    private static <T> DashboardSection<T> join(String section, FanOutScope.Subtask<T> subtask, Duration timeout) {
+        try {
+            return DashboardSection.ok(subtask.join(timeout));
+        } catch (TimeoutException e) {
+            log.warn("Dashboard section {} timed out after {} ms", section, timeout.toMillis());
+            return DashboardSection.of(DashboardSection.Status.TIMEOUT);
+        } catch (ExecutionException e) {
+            log.error("Dashboard section {} failed", section, e.getCause());
+            return DashboardSection.of(DashboardSection.Status.FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return DashboardSection.of(DashboardSection.Status.FAILED);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.banking.system.dashboard.application.usecase;
+
+import com.banking.system.dashboard.application.dto.result.DashboardResult;
+
+import java.util.UUID;
+
+public interface GetDashboardUseCase {
+    DashboardResult getDashboard(UUID userId);
+}
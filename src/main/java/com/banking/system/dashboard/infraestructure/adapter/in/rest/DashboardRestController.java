@@ -0,0 +1,48 @@
+package com.banking.system.dashboard.infraestructure.adapter.in.rest;
+
+import com.banking.system.auth.domain.model.PermissionCode;
+import com.banking.system.auth.infraestructure.adapter.out.security.RequiresPermission;
+import com.banking.system.dashboard.application.dto.result.DashboardResult;
+import com.banking.system.dashboard.application.usecase.GetDashboardUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/dashboard")
+@Tag(name = "Dashboard", description = "Aggregated home screen data for the authenticated customer")
+@SecurityRequirement(name = "Bearer Authentication")
+public class DashboardRestController {
+
+    private final GetDashboardUseCase getDashboardUseCase;
+
+    @Operation(
+            summary = "Get my dashboard",
+            description = "Returns the customer profile, accounts with balances and recent transactions in one response. " +
+                    "Accounts and transactions are loaded in parallel; a section that times out or fails is returned " +
+                    "with status TIMEOUT or FAILED and no data, and recent transactions are UNAVAILABLE until KYC is approved."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Dashboard retrieved, possibly with partial sections"),
+            @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
+            @ApiResponse(responseCode = "404", description = "Customer profile not found for this user")
+    })
+    @RequiresPermission(PermissionCode.CUSTOMER_VIEW_OWN)
+    @GetMapping
+    public ResponseEntity<DashboardResult> getMyDashboard(
+            @Parameter(hidden = true) @AuthenticationPrincipal UUID userId) {
+        return ResponseEntity.ok(getDashboardUseCase.getDashboard(userId));
+    }
+}
@@ -1,7 +1,11 @@
 package com.banking.system.notification.infraestructure.config;
 
+import com.banking.system.common.infraestructure.context.RequestContextTaskDecorator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -12,15 +16,30 @@ import java.util.concurrent.ThreadPoolExecutor;
 @EnableAsync
 public class AsyncConfig {
 
+    private static final int MAX_CONCURRENT_EMAILS = 5;
+
     @Bean("emailTaskExecutor")
-    public Executor emailTaskExecutor() {
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor emailTaskExecutor(RequestContextTaskDecorator requestContextTaskDecorator) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
+        executor.setMaxPoolSize(MAX_CONCURRENT_EMAILS);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("email-");
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(requestContextTaskDecorator);
         executor.initialize();
         return executor;
     }
+
+    // One virtual thread per email; the limit keeps the SMTP server seeing the same concurrency
+    @Bean("emailTaskExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualEmailTaskExecutor(RequestContextTaskDecorator requestContextTaskDecorator) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("email-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(MAX_CONCURRENT_EMAILS);
+        executor.setTaskDecorator(requestContextTaskDecorator);
+        return executor;
+    }
 }
@@ -0,0 +1,16 @@
+package com.banking.system.stream.application.dto;
+
+import com.banking.system.transaction.application.dto.result.TransactionResult;
+
+/**
+ * A change to one account pushed to its open streams: the new balance and, when the
+ * change came from a transaction, that transaction.
+ *
+ * @param balance     the account balance after the change
+ * @param transaction the transaction that caused it, or null for a plain balance snapshot
+ */
+public record AccountUpdate(
+        BalanceUpdate balance,
+        TransactionResult transaction
+) {
+}
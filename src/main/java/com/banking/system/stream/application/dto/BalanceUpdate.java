@@ -0,0 +1,13 @@
+package com.banking.system.stream.application.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record BalanceUpdate(
+        UUID accountId,
+        BigDecimal balance,
+        String currency,
+        Instant asOf
+) {
+}
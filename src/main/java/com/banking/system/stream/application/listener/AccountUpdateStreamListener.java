@@ -0,0 +1,46 @@
+package com.banking.system.stream.application.listener;
+
+import com.banking.system.stream.application.dto.AccountUpdate;
+import com.banking.system.stream.application.dto.BalanceUpdate;
+import com.banking.system.stream.application.port.out.AccountUpdateBroadcastPort;
+import com.banking.system.transaction.application.event.TransactionCompletedEvent;
+import com.banking.system.transaction.application.mapper.TransactionDomainMapper;
+import com.banking.system.transaction.domain.model.Transaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Broadcasts every committed transaction, with the balance it left, to the account's
+ * open streams. Runs on the committing thread; a failed broadcast is only logged since
+ * streams are a convenience and clients resync through the changes endpoint.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountUpdateStreamListener {
+
+    private final AccountUpdateBroadcastPort accountUpdateBroadcastPort;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(TransactionCompletedEvent event) {
+        Transaction transaction = event.transaction();
+        var update = new AccountUpdate(
+                new BalanceUpdate(
+                        transaction.getAccountId(),
+                        transaction.getBalanceAfter().getValue(),
+                        transaction.getBalanceAfter().getCurrency().code(),
+                        transaction.getExecutedAt()
+                ),
+                TransactionDomainMapper.toResult(transaction)
+        );
+
+        try {
+            accountUpdateBroadcastPort.publish(update);
+        } catch (RuntimeException e) {
+            log.warn("Could not broadcast transaction {} to account streams", transaction.getId(), e);
+        }
+    }
+}
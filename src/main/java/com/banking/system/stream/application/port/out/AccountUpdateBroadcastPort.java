@@ -0,0 +1,11 @@
+package com.banking.system.stream.application.port.out;
+
+import com.banking.system.stream.application.dto.AccountUpdate;
+
+/**
+ * Delivers committed account updates to the streams open on every node.
+ */
+public interface AccountUpdateBroadcastPort {
+
+    void publish(AccountUpdate update);
+}
@@ -0,0 +1,67 @@
+package com.banking.system.stream.infraestructure.adapter.in.rest;
+
+import com.banking.system.account.application.dto.result.AccountResult;
+import com.banking.system.account.application.usecase.BatchGetAccountBalancesUseCase;
+import com.banking.system.account.application.usecase.FindAllAccountsByUserId;
+import com.banking.system.auth.domain.model.PermissionCode;
+import com.banking.system.auth.infraestructure.adapter.out.security.RequiresPermission;
+import com.banking.system.stream.application.dto.BalanceUpdate;
+import com.banking.system.stream.infraestructure.adapter.in.sse.AccountStreamHub;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/accounts")
+@Tag(name = "Accounts", description = "Bank account management operations")
+@SecurityRequirement(name = "Bearer Authentication")
+public class AccountStreamRestController {
+
+    private final FindAllAccountsByUserId findAllAccountsByUserId;
+    private final BatchGetAccountBalancesUseCase batchGetAccountBalancesUseCase;
+    private final AccountStreamHub accountStreamHub;
+
+    @Operation(
+            summary = "Stream my account updates",
+            description = "Server-Sent Events stream of the authenticated user's accounts. Starts with a 'balance' event per account, " +
+                    "then pushes a 'transaction' and a 'balance' event after each committed transaction. Rapid balance changes are " +
+                    "coalesced; a 'resync' event means transactions were dropped and the client should catch up through " +
+                    "/api/v1/transactions/changes. Covers the accounts that existed when the stream opened."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
+            @ApiResponse(responseCode = "403", description = "Customer profile not found for this user")
+    })
+    @RequiresPermission(PermissionCode.ACCOUNT_VIEW_OWN)
+    @GetMapping(value = "/me/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMyAccounts(@Parameter(hidden = true) @AuthenticationPrincipal UUID userId) {
+        Set<UUID> accountIds = findAllAccountsByUserId.findAll(userId).stream()
+                .map(AccountResult::id)
+                .collect(Collectors.toSet());
+
+        // Balances are read once the stream is registered, so no update can fall in between
+        return accountStreamHub.open(userId, accountIds, () -> {
+            Instant now = Instant.now();
+            return batchGetAccountBalancesUseCase.batchGetBalances(accountIds, userId).balances().stream()
+                    .map(balance -> new BalanceUpdate(balance.accountId(), balance.balance(), balance.currency(), now))
+                    .toList();
+        });
+    }
+}
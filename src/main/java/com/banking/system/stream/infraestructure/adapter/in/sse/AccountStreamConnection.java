@@ -0,0 +1,226 @@
+package com.banking.system.stream.infraestructure.adapter.in.sse;
+
+import com.banking.system.stream.application.dto.AccountUpdate;
+import com.banking.system.stream.application.dto.BalanceUpdate;
+import com.banking.system.transaction.application.dto.result.TransactionResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * One client's event stream.
+ * <p>
+ * Updates are buffered and written by a short-lived task on the stream executor, at most
+ * one writer at a time, after a coalescing window: within a window only the latest balance
+ * of each account is sent, and every transaction is sent in order. The transaction backlog
+ * is bounded; a client that falls behind loses the backlog and gets a single
+ * {@code resync} event telling it to catch up through the changes endpoint. A slow client
+ * therefore only ever blocks its own writer and holds a bounded amount of memory.
+ * </p>
+ * <p>
+ * Updates of one account can be offered out of order, since each is broadcast from its
+ * own committing thread. A balance is only kept when it is at least as recent, by
+ * {@link BalanceUpdate#asOf()}, as the newest one already offered for the account, so a
+ * late update never replaces a newer balance, whether buffered or already sent.
+ * </p>
+ */
+@Slf4j
+public final class AccountStreamConnection {
+
+    static final String EVENT_BALANCE = "balance";
+    static final String EVENT_TRANSACTION = "transaction";
+    static final String EVENT_RESYNC = "resync";
+
+    private final UUID userId;
+    private final Set<UUID> accountIds;
+    private final SseEmitter emitter;
+    private final Executor executor;
+    private final Duration coalesceWindow;
+    private final int maxPendingTransactions;
+    private final Consumer<AccountStreamConnection> onOverflow;
+
+    private final Object bufferLock = new Object();
+    // Held while writing, so flushes never interleave; a lock rather than synchronized
+    // because the writer blocks on socket I/O on a virtual thread
+    private final ReentrantLock sendLock = new ReentrantLock();
+
+    private final Map<UUID, BalanceUpdate> latestBalances = new LinkedHashMap<>();
+    // Survives flushes; one entry per streamed account at most
+    private final Map<UUID, Instant> newestBalanceAsOf = new HashMap<>();
+    private final List<TransactionResult> pendingTransactions = new ArrayList<>();
+    private boolean resyncDue;
+    private boolean heartbeatDue;
+    private boolean flushScheduled;
+    private volatile boolean closed;
+
+    public AccountStreamConnection(UUID userId,
+                                   Set<UUID> accountIds,
+                                   SseEmitter emitter,
+                                   Executor executor,
+                                   Duration coalesceWindow,
+                                   int maxPendingTransactions,
+                                   Consumer<AccountStreamConnection> onOverflow) {
+        this.userId = userId;
+        this.accountIds = Set.copyOf(accountIds);
+        this.emitter = emitter;
+        this.executor = executor;
+        this.coalesceWindow = coalesceWindow;
+        this.maxPendingTransactions = maxPendingTransactions;
+        this.onOverflow = onOverflow;
+    }
+
+    public UUID userId() {
+        return userId;
+    }
+
+    public Set<UUID> accountIds() {
+        return accountIds;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    public void offer(AccountUpdate update) {
+        boolean overflowed = false;
+        synchronized (bufferLock) {
+            if (closed) {
+                return;
+            }
+            BalanceUpdate balance = update.balance();
+            Instant newest = newestBalanceAsOf.get(balance.accountId());
+            if (newest == null || !balance.asOf().isBefore(newest)) {
+                newestBalanceAsOf.put(balance.accountId(), balance.asOf());
+                latestBalances.put(balance.accountId(), balance);
+            }
+            if (update.transaction() != null) {
+                if (pendingTransactions.size() >= maxPendingTransactions) {
+                    pendingTransactions.clear();
+                    overflowed = !resyncDue;
+                    resyncDue = true;
+                } else if (!resyncDue) {
+                    pendingTransactions.add(update.transaction());
+                }
+            }
+        }
+        if (overflowed) {
+            onOverflow.accept(this);
+        }
+        scheduleFlush(coalesceWindow);
+    }
+
+    public void offerSnapshot(List<BalanceUpdate> snapshot) {
+        synchronized (bufferLock) {
+            if (closed) {
+                return;
+            }
+            // The snapshot may predate a commit already offered here, so it only fills
+            // accounts that no update has covered yet
+            snapshot.stream()
+                    .filter(balance -> !newestBalanceAsOf.containsKey(balance.accountId()))
+                    .forEach(balance -> latestBalances.put(balance.accountId(), balance));
+        }
+        scheduleFlush(Duration.ZERO);
+    }
+
+    void heartbeat() {
+        synchronized (bufferLock) {
+            if (closed) {
+                return;
+            }
+            heartbeatDue = true;
+        }
+        scheduleFlush(Duration.ZERO);
+    }
+
+    void close() {
+        synchronized (bufferLock) {
+            closed = true;
+            latestBalances.clear();
+            newestBalanceAsOf.clear();
+            pendingTransactions.clear();
+        }
+    }
+
+    private void scheduleFlush(Duration delay) {
+        synchronized (bufferLock) {
+            if (flushScheduled || closed) {
+                return;
+            }
+            flushScheduled = true;
+        }
+        executor.execute(() -> flushAfter(delay));
+    }
+
+    private void flushAfter(Duration delay) {
+        try {
+            if (!delay.isZero()) {
+                Thread.sleep(delay);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        sendLock.lock();
+        try {
+            List<TransactionResult> transactions;
+            List<BalanceUpdate> balances;
+            boolean resync;
+            boolean heartbeat;
+            synchronized (bufferLock) {
+                // Updates offered from here on schedule the next flush, which waits for this one
+                flushScheduled = false;
+                if (closed) {
+                    return;
+                }
+                transactions = List.copyOf(pendingTransactions);
+                balances = List.copyOf(latestBalances.values());
+                resync = resyncDue;
+                heartbeat = heartbeatDue;
+                pendingTransactions.clear();
+                latestBalances.clear();
+                resyncDue = false;
+                heartbeatDue = false;
+            }
+            send(transactions, balances, resync, heartbeat);
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    private void send(List<TransactionResult> transactions, List<BalanceUpdate> balances, boolean resync, boolean heartbeat) {
+        try {
+            if (resync) {
+                emitter.send(SseEmitter.event().name(EVENT_RESYNC).data("Missed transactions, catch up through /api/v1/transactions/changes"));
+            }
+            for (TransactionResult transaction : transactions) {
+                emitter.send(SseEmitter.event().name(EVENT_TRANSACTION).data(transaction, MediaType.APPLICATION_JSON));
+            }
+            for (BalanceUpdate balance : balances) {
+                emitter.send(SseEmitter.event().name(EVENT_BALANCE).data(balance, MediaType.APPLICATION_JSON));
+            }
+            if (heartbeat && transactions.isEmpty() && balances.isEmpty() && !resync) {
+                emitter.send(SseEmitter.event().comment("keepalive"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Account stream of user {} is gone: {}", userId, e.getMessage());
+            close();
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.banking.system.stream.infraestructure.adapter.in.sse;
+
+import com.banking.system.stream.application.dto.AccountUpdate;
+import com.banking.system.stream.application.dto.BalanceUpdate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The account streams open on this node, indexed by account.
+ * <p>
+ * Streams are {@link SseEmitter}s, i.e. async servlet requests: an idle stream holds no
+ * thread. Writes run on virtual threads, one short task per flush, so thousands of
+ * streams cost neither platform threads nor a dedicated thread each.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AccountStreamHub {
+
+    private final ConcurrentHashMap<UUID, Set<AccountStreamConnection>> connectionsByAccount = new ConcurrentHashMap<>();
+    private final Set<AccountStreamConnection> connections = ConcurrentHashMap.newKeySet();
+    private final ExecutorService writers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("account-stream-", 0).factory());
+    private final AtomicInteger open = new AtomicInteger();
+    private final Counter overflows;
+    private final long timeoutMs;
+    private final Duration coalesceWindow;
+    private final int maxPendingTransactions;
+
+    public AccountStreamHub(
+            MeterRegistry meterRegistry,
+            @Value("${account-stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${account-stream.coalesce-ms:250}") long coalesceMs,
+            @Value("${account-stream.max-pending-transactions:64}") int maxPendingTransactions) {
+        this.timeoutMs = timeoutMs;
+        this.coalesceWindow = Duration.ofMillis(coalesceMs);
+        this.maxPendingTransactions = maxPendingTransactions;
+
+        Gauge.builder("account.stream.connections", open, AtomicInteger::get)
+                .description("Account streams open on this node")
+                .register(meterRegistry);
+        this.overflows = Counter.builder("account.stream.overflows")
+                .description("Streams whose transaction backlog overflowed and were told to resync")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream on {@code accountIds}, which the caller must already have checked
+     * belong to the user, and queues the balances returned by {@code snapshot} as the first
+     * events. The stream is registered before the snapshot is read and the snapshot never
+     * replaces a newer buffered balance, so an update committed while the balances are
+     * being read is not lost. If the snapshot cannot be read the stream is unregistered
+     * and the exception propagates.
+     */
+    public SseEmitter open(UUID userId, Set<UUID> accountIds, Supplier<List<BalanceUpdate>> snapshot) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        var connection = new AccountStreamConnection(
+                userId, Set.copyOf(accountIds), emitter, writers, coalesceWindow, maxPendingTransactions,
+                overflowed -> overflows.increment());
+
+        emitter.onCompletion(() -> unregister(connection));
+        emitter.onTimeout(() -> unregister(connection));
+        emitter.onError(e -> unregister(connection));
+
+        connections.add(connection);
+        open.incrementAndGet();
+        for (UUID accountId : connection.accountIds()) {
+            // Added inside compute so a concurrent unregister cannot drop the set in between
+            connectionsByAccount.compute(accountId, (id, watching) -> {
+                Set<AccountStreamConnection> updated = watching != null ? watching : ConcurrentHashMap.newKeySet();
+                updated.add(connection);
+                return updated;
+            });
+        }
+
+        try {
+            connection.offerSnapshot(snapshot.get());
+        } catch (RuntimeException e) {
+            // The emitter was never returned, so none of its callbacks will unregister it
+            unregister(connection);
+            throw e;
+        }
+
+        log.debug("Account stream opened for user {} on {} accounts", userId, accountIds.size());
+        return emitter;
+    }
+
+    /**
+     * Hands an update to every stream on this node that watches the account.
+     */
+    public void dispatch(AccountUpdate update) {
+        Set<AccountStreamConnection> watching = connectionsByAccount.get(update.balance().accountId());
+        if (watching != null) {
+            watching.forEach(connection -> connection.offer(update));
+        }
+    }
+
+    /**
+     * Keeps idle streams from being closed by proxies and detects dead clients.
+     */
+    @Scheduled(fixedDelayString = "${account-stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        connections.forEach(AccountStreamConnection::heartbeat);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.forEach(connection -> connection.emitter().complete());
+        writers.shutdownNow();
+    }
+
+    private void unregister(AccountStreamConnection connection) {
+        connection.close();
+        if (!connections.remove(connection)) {
+            return;
+        }
+        open.decrementAndGet();
+        for (UUID accountId : connection.accountIds()) {
+            connectionsByAccount.computeIfPresent(accountId, (id, watching) -> {
+                watching.remove(connection);
+                return watching.isEmpty() ? null : watching;
+            });
+        }
+    }
+}
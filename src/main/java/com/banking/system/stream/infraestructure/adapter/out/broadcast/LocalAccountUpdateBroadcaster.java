@@ -0,0 +1,24 @@
+package com.banking.system.stream.infraestructure.adapter.out.broadcast;
+
+import com.banking.system.stream.application.dto.AccountUpdate;
+import com.banking.system.stream.application.port.out.AccountUpdateBroadcastPort;
+import com.banking.system.stream.infraestructure.adapter.in.sse.AccountStreamHub;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-node broadcaster: updates only reach streams open on this node.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account-stream.broadcast", havingValue = "local")
+public class LocalAccountUpdateBroadcaster implements AccountUpdateBroadcastPort {
+
+    private final AccountStreamHub accountStreamHub;
+
+    @Override
+    public void publish(AccountUpdate update) {
+        accountStreamHub.dispatch(update);
+    }
+}
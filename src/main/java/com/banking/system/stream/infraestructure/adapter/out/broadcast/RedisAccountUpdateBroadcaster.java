@@ -0,0 +1,60 @@
+package com.banking.system.stream.infraestructure.adapter.out.broadcast;
+
+import com.banking.system.stream.application.dto.AccountUpdate;
+import com.banking.system.stream.application.port.out.AccountUpdateBroadcastPort;
+import com.banking.system.stream.infraestructure.adapter.in.sse.AccountStreamHub;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fans account updates out to every node through Redis pub/sub.
+ * <p>
+ * Each update is published once on {@link #CHANNEL}; every node, including the publisher,
+ * receives it and hands it to its own {@link AccountStreamHub}. Pub/sub is fire and forget:
+ * a node that is disconnected misses updates, which its clients recover through the
+ * changes endpoint.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "account-stream.broadcast", havingValue = "redis", matchIfMissing = true)
+public class RedisAccountUpdateBroadcaster implements AccountUpdateBroadcastPort, MessageListener {
+
+    public static final String CHANNEL = "stream:account-updates";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AccountStreamHub accountStreamHub;
+
+    public RedisAccountUpdateBroadcaster(StringRedisTemplate redisTemplate,
+                                         ObjectMapper objectMapper,
+                                         AccountStreamHub accountStreamHub) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.accountStreamHub = accountStreamHub;
+    }
+
+    @Override
+    public void publish(AccountUpdate update) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(update));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize account update", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            accountStreamHub.dispatch(objectMapper.readValue(message.getBody(), AccountUpdate.class));
+        } catch (Exception e) {
+            log.warn("Ignoring malformed account update message: {}", e.getMessage());
+        }
+    }
+}
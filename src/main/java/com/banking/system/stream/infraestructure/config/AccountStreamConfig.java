@@ -0,0 +1,27 @@
+package com.banking.system.stream.infraestructure.config;
+
+import com.banking.system.stream.infraestructure.adapter.out.broadcast.RedisAccountUpdateBroadcaster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Subscribes this node to the account updates published by every node.
+ */
+@Configuration
+@ConditionalOnProperty(name = "account-stream.broadcast", havingValue = "redis", matchIfMissing = true)
+public class AccountStreamConfig {
+
+    @Bean
+    public RedisMessageListenerContainer accountUpdateListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisAccountUpdateBroadcaster broadcaster) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(broadcaster, new ChannelTopic(RedisAccountUpdateBroadcaster.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,16 @@
+package com.banking.system.transaction.application.dto.command;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record SearchTransactionsCommand(
+        UUID accountId,
+        Instant from,
+        Instant to,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        String type,
+        String text
+) {
+}
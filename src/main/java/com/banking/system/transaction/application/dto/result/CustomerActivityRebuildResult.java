@@ -0,0 +1,9 @@
+package com.banking.system.transaction.application.dto.result;
+
+public record CustomerActivityRebuildResult(
+        int accounts,
+        int batches,
+        long entries,
+        long elapsedMs
+) {
+}
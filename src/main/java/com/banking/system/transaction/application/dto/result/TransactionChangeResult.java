@@ -0,0 +1,7 @@
+package com.banking.system.transaction.application.dto.result;
+
+public record TransactionChangeResult(
+        long sequence,
+        TransactionResult transaction
+) {
+}
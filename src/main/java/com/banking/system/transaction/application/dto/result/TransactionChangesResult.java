@@ -0,0 +1,16 @@
+package com.banking.system.transaction.application.dto.result;
+
+import java.util.List;
+
+/**
+ * One delta-sync page. Changes are grouped by account and ordered by sequence within
+ * each account; a transaction that changed several times appears once, in its latest
+ * state. Pass {@code nextCursor} back to continue, and keep polling immediately while
+ * {@code hasMore} is true.
+ */
+public record TransactionChangesResult(
+        List<TransactionChangeResult> changes,
+        String nextCursor,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,14 @@
+package com.banking.system.transaction.application.dto.result;
+
+import java.util.List;
+
+/**
+ * One page of search results, newest first. Pass {@code nextCursor} back to get the next
+ * page; it is null on the last one.
+ */
+public record TransactionSearchResult(
+        List<TransactionResult> items,
+        String nextCursor,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,8 @@
+package com.banking.system.transaction.application.event;
+
+import com.banking.system.transaction.domain.model.Transaction;
+
+public record TransactionCompletedEvent(
+        Transaction transaction
+) {
+}
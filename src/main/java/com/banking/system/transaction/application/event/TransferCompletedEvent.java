@@ -0,0 +1,11 @@
+package com.banking.system.transaction.application.event;
+
+import com.banking.system.transaction.domain.model.Transfer;
+
+import java.util.UUID;
+
+public record TransferCompletedEvent(
+        Transfer transfer,
+        UUID sourceCustomerId
+) {
+}
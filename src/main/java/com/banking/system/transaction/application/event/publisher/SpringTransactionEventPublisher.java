@@ -0,0 +1,24 @@
+package com.banking.system.transaction.application.event.publisher;
+
+import com.banking.system.transaction.application.event.TransactionCompletedEvent;
+import com.banking.system.transaction.application.event.TransferCompletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SpringTransactionEventPublisher implements TransactionEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publishTransactionCompleted(TransactionCompletedEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    @Override
+    public void publishTransferCompleted(TransferCompletedEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
@@ -0,0 +1,11 @@
+package com.banking.system.transaction.application.event.publisher;
+
+import com.banking.system.transaction.application.event.TransactionCompletedEvent;
+import com.banking.system.transaction.application.event.TransferCompletedEvent;
+
+public interface TransactionEventPublisher {
+
+    void publishTransactionCompleted(TransactionCompletedEvent event);
+
+    void publishTransferCompleted(TransferCompletedEvent event);
+}
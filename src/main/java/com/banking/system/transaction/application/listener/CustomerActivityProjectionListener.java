@@ -0,0 +1,33 @@
+package com.banking.system.transaction.application.listener;
+
+import com.banking.system.transaction.application.event.TransactionCompletedEvent;
+import com.banking.system.transaction.application.service.CustomerActivityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Projects each committed completed transaction into the customer activity feed. Runs
+ * after commit so the projection reads the transfer row written by the same transaction;
+ * a failed projection is picked up by the next reconciliation
+ * ({@link CustomerActivityService#reconcile()}).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerActivityProjectionListener {
+
+    private final CustomerActivityService customerActivityService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(TransactionCompletedEvent event) {
+        try {
+            customerActivityService.project(event.transaction().getId());
+        } catch (RuntimeException e) {
+            log.warn("Could not project transaction {} into the customer activity feed, left to reconciliation",
+                    event.transaction().getId(), e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.banking.system.transaction.application.listener;
+
+import com.banking.system.account.domain.model.Account;
+import com.banking.system.account.domain.port.out.AccountRepositoryPort;
+import com.banking.system.customer.application.event.KycStatusChangedEvent;
+import com.banking.system.customer.domain.model.KycStatus;
+import com.banking.system.transaction.application.event.TransactionCompletedEvent;
+import com.banking.system.transaction.application.port.out.RecentTransactionsCachePort;
+import com.banking.system.transaction.domain.model.Transaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Keeps the recent-transactions cache current once a completed transaction is committed.
+ * Runs on the committing thread, so failures are contained here: the money movement has
+ * already succeeded and must not be reported as failed because of the cache.
+ * <p>
+ * Cache hits are served without re-checking KYC, so a customer whose KYC leaves
+ * {@code APPROVED} has all their accounts evicted here.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentTransactionsCacheListener {
+
+    private final RecentTransactionsCachePort recentTransactionsCachePort;
+    private final AccountRepositoryPort accountRepositoryPort;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(TransactionCompletedEvent event) {
+        Transaction transaction = event.transaction();
+        try {
+            recentTransactionsCachePort.append(transaction);
+        } catch (RuntimeException e) {
+            log.warn("Could not append transaction {} to the recent cache, evicting account {}",
+                    transaction.getId(), transaction.getAccountId(), e);
+            recentTransactionsCachePort.evict(transaction.getAccountId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(KycStatusChangedEvent event) {
+        // An approval cannot invalidate a snapshot: only approved customers are seeded
+        if (event.kycStatus() == KycStatus.APPROVED) {
+            return;
+        }
+
+        for (UUID customerId : event.customerIds()) {
+            try {
+                for (Account account : accountRepositoryPort.findAllByCustomerId(customerId)) {
+                    recentTransactionsCachePort.evict(account.getId());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not evict the recent transactions of customer {} after a KYC change", customerId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.banking.system.transaction.application.mapper;
+
+import com.banking.system.transaction.application.dto.result.CustomerActivityResult;
+import com.banking.system.transaction.domain.model.CustomerActivity;
+import com.banking.system.transaction.domain.model.TransactionStatus;
+
+public class CustomerActivityDomainMapper {
+    public static CustomerActivityResult toResult(CustomerActivity activity) {
+        return new CustomerActivityResult(
+                activity.transactionId().toString(),
+                activity.accountId().toString(),
+                activity.type().name(),
+                activity.amount().getValue(),
+                activity.amountFee() != null ? activity.amountFee().getValue() : null,
+                activity.amount().getCurrency().code(),
+                activity.balanceAfter().getValue(),
+                activity.description(),
+                activity.referenceNumber(),
+                activity.executedAt().toString(),
+                // The feed only projects completed transactions
+                TransactionStatus.COMPLETED.name(),
+                activity.transferId() != null ? activity.transferId().toString() : null,
+                activity.transferCategory(),
+                activity.counterpartyAlias()
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package com.banking.system.transaction.application.port.out;
+
+import com.banking.system.transaction.domain.model.Transaction;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded cache of each account's latest completed transactions, newest first.
+ * <p>
+ * An account enters the cache when a read seeds it from the database and stays current
+ * through {@link #append(Transaction)} after every commit. Appends to an account that
+ * is not cached only invalidate seeds in progress: each append bumps the account's
+ * version, and a seed taken before the bump is discarded, so a transaction committed
+ * while the seed was being read can never go missing from the cache.
+ * </p>
+ */
+public interface RecentTransactionsCachePort {
+
+    /**
+     * @return the cached transactions, or empty if the account must be seeded first
+     */
+    Optional<Snapshot> find(UUID accountId);
+
+    /**
+     * Returns the version to pass to {@link #seed}. Must be called before reading the
+     * seed from the database.
+     */
+    long seedVersion(UUID accountId);
+
+    /**
+     * Caches the account's latest transactions unless a transaction was appended since
+     * {@code seedVersion} was taken.
+     */
+    void seed(UUID accountId, Snapshot snapshot, long seedVersion);
+
+    /**
+     * Adds a just-committed transaction in front of its account's cached transactions.
+     */
+    void append(Transaction transaction);
+
+    void evict(UUID accountId);
+
+    /**
+     * Number of transactions kept per account.
+     */
+    int capacity();
+
+    /**
+     * @param ownerUserId  user owning the account, checked before serving a cached read
+     * @param transactions latest completed transactions, newest first
+     */
+    record Snapshot(UUID ownerUserId, List<Transaction> transactions) {
+    }
+}
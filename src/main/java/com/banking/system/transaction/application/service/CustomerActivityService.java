@@ -0,0 +1,96 @@
+package com.banking.system.transaction.application.service;
+
+import com.banking.system.common.infraestructure.bulkhead.Workload;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkhead;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkheads;
+import com.banking.system.common.infraestructure.concurrency.ParallelBatches;
+import com.banking.system.transaction.application.dto.result.CustomerActivityRebuildResult;
+import com.banking.system.transaction.application.usecase.RebuildCustomerActivityUseCase;
+import com.banking.system.transaction.domain.port.out.CustomerActivityRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains the customer activity read model.
+ * <p>
+ * Completed transactions are projected one by one as they commit; a periodic
+ * reconciliation projects the recent ones whose live projection failed. A rebuild replays
+ * every account's completed transactions instead: accounts are split into batches, each
+ * rebuilt in its own short transaction under its own BATCH permit, so at most
+ * {@code customer-activity.rebuild.parallelism} batches, and never more than the BATCH
+ * bulkhead allows, run at a time. All paths upsert from the source tables, so they can
+ * run concurrently.
+ * </p>
+ */
+@Slf4j
+@Service
+public class CustomerActivityService implements RebuildCustomerActivityUseCase {
+
+    private final CustomerActivityRepositoryPort customerActivityRepositoryPort;
+    private final WorkloadBulkheads workloadBulkheads;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+    private final int parallelism;
+    private final Duration reconcileLookback;
+
+    public CustomerActivityService(
+            CustomerActivityRepositoryPort customerActivityRepositoryPort,
+            WorkloadBulkheads workloadBulkheads,
+            PlatformTransactionManager transactionManager,
+            @Value("${customer-activity.rebuild.batch-size:500}") int batchSize,
+            @Value("${customer-activity.rebuild.parallelism:2}") int parallelism,
+            @Value("${customer-activity.reconcile.lookback-ms:86400000}") long reconcileLookbackMs) {
+        this.customerActivityRepositoryPort = customerActivityRepositoryPort;
+        this.workloadBulkheads = workloadBulkheads;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.reconcileLookback = Duration.ofMillis(reconcileLookbackMs);
+    }
+
+    /**
+     * Projects a committed transaction. Runs in its own transaction because it is called
+     * after the transaction that completed it has already committed.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void project(UUID transactionId) {
+        customerActivityRepositoryPort.project(transactionId);
+    }
+
+    /**
+     * Projects the completed transactions of the lookback window that are missing from
+     * the feed.
+     *
+     * @return the number of entries written
+     */
+    @WorkloadBulkhead(Workload.BATCH)
+    @Transactional
+    public int reconcile() {
+        return customerActivityRepositoryPort.projectMissing(reconcileLookback);
+    }
+
+    @Override
+    public CustomerActivityRebuildResult rebuild() {
+        long startedAt = System.nanoTime();
+        List<UUID> accountIds = workloadBulkheads.execute(Workload.BATCH, customerActivityRepositoryPort::findAllAccountIds);
+        int workers = Math.min(parallelism, workloadBulkheads.maxConcurrentCalls(Workload.BATCH));
+        log.info("Rebuilding customer activity for {} accounts with {} workers", accountIds.size(), workers);
+
+        var outcome = ParallelBatches.run("customer-activity-rebuild", accountIds, batchSize, workers,
+                batch -> workloadBulkheads.execute(Workload.BATCH,
+                        () -> batchTransaction.execute(status -> customerActivityRepositoryPort.rebuildAccounts(batch))));
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Customer activity rebuilt: {} entries in {} ms", outcome.total(), elapsedMs);
+        return new CustomerActivityRebuildResult(outcome.items(), outcome.batches(), outcome.total(), elapsedMs);
+    }
+}
@@ -1,5 +1,7 @@
 package com.banking.system.transaction.application.service;
 
+import com.banking.system.transaction.application.event.TransactionCompletedEvent;
+import com.banking.system.transaction.application.event.publisher.TransactionEventPublisher;
 import com.banking.system.transaction.domain.exception.notfound.TransactionNotFoundException;
 import com.banking.system.transaction.domain.model.Transaction;
 import com.banking.system.transaction.domain.port.out.TransactionRepositoryPort;
@@ -16,6 +18,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class TransactionAuditService {
     private final TransactionRepositoryPort transactionRepositoryPort;
+    private final TransactionEventPublisher transactionEventPublisher;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public Transaction registerTransactionAudit(Transaction transaction) {
@@ -29,6 +32,7 @@ public class TransactionAuditService {
 
         tx.markCompleted();
         transactionRepositoryPort.save(tx);
+        transactionEventPublisher.publishTransactionCompleted(new TransactionCompletedEvent(tx));
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
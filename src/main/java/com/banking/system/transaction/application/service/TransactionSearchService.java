@@ -0,0 +1,92 @@
+package com.banking.system.transaction.application.service;
+
+import com.banking.system.common.infraestructure.bulkhead.Workload;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkhead;
+import com.banking.system.transaction.application.dto.command.SearchTransactionsCommand;
+import com.banking.system.transaction.application.dto.result.TransactionSearchResult;
+import com.banking.system.transaction.application.mapper.TransactionDomainMapper;
+import com.banking.system.transaction.application.usecase.SearchTransactionsUseCase;
+import com.banking.system.transaction.domain.model.Transaction;
+import com.banking.system.transaction.domain.model.TransactionSearchCriteria;
+import com.banking.system.transaction.domain.model.TransactionSearchCursor;
+import com.banking.system.transaction.domain.model.TransactionType;
+import com.banking.system.transaction.domain.port.out.TransactionRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Transaction search for support staff.
+ * <p>
+ * Searches without an account run on the description's trigram index, which is only
+ * selective together with a date range, so their range is capped at
+ * {@code transaction.search.max-window-days}. A missing range defaults to that window
+ * ending now. Results are paged by keyset, never by offset or count.
+ * </p>
+ */
+@Slf4j
+@Service
+public class TransactionSearchService implements SearchTransactionsUseCase {
+
+    private final TransactionRepositoryPort transactionRepositoryPort;
+    private final Duration maxWindow;
+
+    public TransactionSearchService(
+            TransactionRepositoryPort transactionRepositoryPort,
+            @Value("${transaction.search.max-window-days:31}") long maxWindowDays) {
+        this.transactionRepositoryPort = transactionRepositoryPort;
+        this.maxWindow = Duration.ofDays(maxWindowDays);
+    }
+
+    @Override
+    @WorkloadBulkhead(Workload.READS)
+    @Transactional(readOnly = true)
+    public TransactionSearchResult search(SearchTransactionsCommand command, String cursor, int limit) {
+        Instant to = command.to() != null ? command.to() : Instant.now();
+        Instant from = command.from() != null ? command.from() : to.minus(maxWindow);
+        if (command.accountId() == null && Duration.between(from, to).compareTo(maxWindow) > 0) {
+            throw new IllegalArgumentException(
+                    "Searches without an account cannot span more than " + maxWindow.toDays() + " days");
+        }
+
+        var criteria = new TransactionSearchCriteria(
+                command.accountId(),
+                from,
+                to,
+                command.minAmount(),
+                command.maxAmount(),
+                parseType(command.type()),
+                command.text()
+        );
+
+        // One extra row tells whether there is a next page
+        List<Transaction> found = transactionRepositoryPort.search(criteria, TransactionSearchCursor.decode(cursor), limit + 1);
+        boolean hasMore = found.size() > limit;
+        List<Transaction> page = hasMore ? found.subList(0, limit) : found;
+        String nextCursor = hasMore ? TransactionSearchCursor.after(page.getLast()).encode() : null;
+
+        log.debug("Transaction search returned {} results (hasMore={})", page.size(), hasMore);
+        return new TransactionSearchResult(
+                page.stream().map(TransactionDomainMapper::toResult).toList(),
+                nextCursor,
+                hasMore
+        );
+    }
+
+    private static TransactionType parseType(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        try {
+            return TransactionType.valueOf(type.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown transaction type: " + type, e);
+        }
+    }
+}
@@ -8,15 +8,22 @@ import com.banking.system.common.domain.Money;
 import com.banking.system.common.domain.MoneyCurrency;
 import com.banking.system.common.domain.PageRequest;
 import com.banking.system.common.domain.dto.PagedResult;
+import com.banking.system.common.infraestructure.bulkhead.Workload;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkhead;
 import com.banking.system.customer.domain.exception.CustomerNotFoundException;
 import com.banking.system.customer.domain.model.Customer;
 import com.banking.system.customer.domain.port.out.CustomerRepositoryPort;
 import com.banking.system.transaction.application.dto.command.DepositMoneyCommand;
 import com.banking.system.transaction.application.dto.command.WithdrawMoneyCommand;
 import com.banking.system.transaction.application.dto.receipt.TransactionReceipt;
+import com.banking.system.transaction.application.dto.result.CustomerActivityResult;
+import com.banking.system.transaction.application.dto.result.TransactionChangeResult;
+import com.banking.system.transaction.application.dto.result.TransactionChangesResult;
 import com.banking.system.transaction.application.dto.result.TransactionResult;
+import com.banking.system.transaction.application.mapper.CustomerActivityDomainMapper;
 import com.banking.system.transaction.application.mapper.ReceiptMapper;
 import com.banking.system.transaction.application.mapper.TransactionDomainMapper;
+import com.banking.system.transaction.application.port.out.RecentTransactionsCachePort;
 import com.banking.system.transaction.application.usecase.*;
 import com.banking.system.transaction.domain.exception.DailyLimitExceededException;
 import com.banking.system.transaction.domain.exception.InvalidTransactionException;
@@ -26,6 +33,7 @@ import com.banking.system.transaction.domain.exception.alreadyexist.TransactionA
 import com.banking.system.transaction.domain.exception.denied.AccountAccessDeniedException;
 import com.banking.system.transaction.domain.exception.notfound.TransactionNotFoundException;
 import com.banking.system.transaction.domain.model.*;
+import com.banking.system.transaction.domain.port.out.CustomerActivityRepositoryPort;
 import com.banking.system.transaction.domain.port.out.TransactionRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,7 +45,10 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -48,13 +59,18 @@ public class TransactionService implements
         WithdrawUseCase,
         GetTransactionByIdUseCase,
         GetAllTransactionsByAccountUseCase,
-        GetAllTransactionsByCustomerUseCase {
+        GetAllTransactionsByCustomerUseCase,
+        GetRecentTransactionsUseCase,
+        GetTransactionChangesUseCase {
     private final TransactionRepositoryPort transactionRepositoryPort;
     private final CustomerRepositoryPort customerRepositoryPort;
     private final AccountRepositoryPort accountRepositoryPort;
     private final TransactionAuditService transactionAuditService;
+    private final RecentTransactionsCachePort recentTransactionsCachePort;
+    private final CustomerActivityRepositoryPort customerActivityRepositoryPort;
 
     @Override
+    @WorkloadBulkhead(Workload.MONEY_MOVEMENT)
     @Transactional
     public TransactionReceipt deposit(DepositMoneyCommand command, UUID accountId, UUID userId) {
         log.info("Starting deposit process for userId: {}", userId);
@@ -113,6 +129,7 @@ public class TransactionService implements
     }
 
     @Override
+    @WorkloadBulkhead(Workload.MONEY_MOVEMENT)
     @Transactional
     public TransactionReceipt withdraw(WithdrawMoneyCommand command, UUID accountId, UUID userId) {
         log.info("Starting withdrawal process for userId: {}", userId);
@@ -164,6 +181,7 @@ public class TransactionService implements
 
     /*For the history*/
     @Override
+    @WorkloadBulkhead(Workload.READS)
     @Transactional(readOnly = true)
     public PagedResult<TransactionResult> getAllTransactionsByAccountId(UUID accountId, UUID userId, PageRequest pageRequest) {
         this.getAuthorizedAccount(accountId, userId);
@@ -173,8 +191,9 @@ public class TransactionService implements
     }
 
     @Override
+    @WorkloadBulkhead(Workload.READS)
     @Transactional(readOnly = true)
-    public PagedResult<TransactionResult> getAllTransactionsByCustomer(UUID userId, PageRequest pageRequest) {
+    public PagedResult<CustomerActivityResult> getAllTransactionsByCustomer(UUID userId, PageRequest pageRequest) {
         var customer = customerRepositoryPort.findByUserId(userId)
                 .orElseThrow(() -> new CustomerNotFoundException("Customer not found for userId: " + userId));
 
@@ -182,18 +201,87 @@ public class TransactionService implements
             throw new KycNotApprovedException("KYC not approved for the customer");
         }
 
-        List<Account> accounts = accountRepositoryPort.findAllByCustomerId(customer.getId());
+        // Read model keyed by customer: no account lookup, no IN list, no join at read time
+        PagedResult<CustomerActivity> activity = customerActivityRepositoryPort
+                .findByCustomerId(customer.getId(), pageRequest);
+
+        return PagedResult.mapContent(activity, CustomerActivityDomainMapper::toResult);
+    }
 
-        List<UUID> accountIds = accounts.stream()
-                .map(Account::getId)
-                .toList();
 
-        PagedResult<Transaction> transactions = transactionRepositoryPort
-                .findAllByAccountIdsAndStatus(accountIds, TransactionStatus.COMPLETED, pageRequest);
+    /**
+     * Latest completed transactions of the account, served from the recent-transactions
+     * cache when the account is cached for the caller. A snapshot is only seeded after
+     * ownership and KYC were checked, so a hit for its owner needs no database query:
+     * ownership never changes, and a KYC change evicts the customer's accounts
+     * ({@link com.banking.system.transaction.application.listener.RecentTransactionsCacheListener}).
+     * Misses and other callers are authorized before reading. Not transactional, so each
+     * read borrows a connection only for its own statement.
+     */
+    @Override
+    public List<TransactionResult> getRecentTransactions(UUID accountId, UUID userId) {
+        var cached = recentTransactionsCachePort.find(accountId);
+        if (cached.isPresent() && cached.get().ownerUserId().equals(userId)) {
+            return cached.get().transactions().stream()
+                    .map(TransactionDomainMapper::toResult)
+                    .toList();
+        }
 
-        return PagedResult.mapContent(transactions, TransactionDomainMapper::toResult);
+        // Taken before authorizing, so an eviction racing the checks discards this seed
+        long seedVersion = recentTransactionsCachePort.seedVersion(accountId);
+        this.getAuthorizedAccount(accountId, userId);
+
+        List<Transaction> recent = transactionRepositoryPort.findRecentByAccountIdAndStatus(
+                accountId, TransactionStatus.COMPLETED, recentTransactionsCachePort.capacity());
+        recentTransactionsCachePort.seed(accountId, new RecentTransactionsCachePort.Snapshot(userId, recent), seedVersion);
+
+        return recent.stream()
+                .map(TransactionDomainMapper::toResult)
+                .toList();
     }
 
+    /**
+     * Delta sync over all the caller's accounts: for each account, up to {@code limit}
+     * transactions that changed after the cursor's position, so a poll costs the number
+     * of changes rather than a page of history. Cursor positions for accounts the caller
+     * no longer owns are dropped.
+     */
+    @Override
+    @WorkloadBulkhead(Workload.READS)
+    @Transactional(readOnly = true)
+    public TransactionChangesResult getChanges(UUID userId, String cursor, int limit) {
+        ChangeCursor since = ChangeCursor.decode(cursor);
+
+        var customer = customerRepositoryPort.findByUserId(userId)
+                .orElseThrow(() -> new CustomerNotFoundException("Customer not found for userId: " + userId));
+
+        if (!customer.isKycApproved()) {
+            throw new KycNotApprovedException("KYC not approved for the customer");
+        }
+
+        List<TransactionChangeResult> changes = new ArrayList<>();
+        Map<UUID, Long> positions = new LinkedHashMap<>();
+        boolean hasMore = false;
+
+        for (Account account : accountRepositoryPort.findAllByCustomerId(customer.getId())) {
+            long position = since.positionOf(account.getId());
+            // One extra row tells whether the account has more changes than this page
+            List<TransactionChange> accountChanges = transactionRepositoryPort
+                    .findChangesByAccountIdSince(account.getId(), position, limit + 1);
+
+            if (accountChanges.size() > limit) {
+                hasMore = true;
+                accountChanges = accountChanges.subList(0, limit);
+            }
+            for (TransactionChange change : accountChanges) {
+                changes.add(new TransactionChangeResult(change.sequence(), TransactionDomainMapper.toResult(change.transaction())));
+                position = change.sequence();
+            }
+            positions.put(account.getId(), position);
+        }
+
+        return new TransactionChangesResult(changes, new ChangeCursor(positions).encode(), hasMore);
+    }
 
     @Override
     @Transactional(readOnly = true)
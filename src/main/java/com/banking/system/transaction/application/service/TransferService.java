@@ -6,12 +6,16 @@ import com.banking.system.account.domain.port.out.AccountRepositoryPort;
 import com.banking.system.common.domain.Money;
 import com.banking.system.common.domain.MoneyCurrency;
 import com.banking.system.common.domain.exception.DomainException;
+import com.banking.system.common.infraestructure.bulkhead.Workload;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkhead;
 import com.banking.system.customer.domain.exception.CustomerNotFoundException;
 import com.banking.system.customer.domain.model.Customer;
 import com.banking.system.customer.domain.port.out.CustomerRepositoryPort;
 import com.banking.system.transaction.application.dto.command.TransferMoneyCommand;
 import com.banking.system.transaction.application.dto.receipt.TransferReceipt;
 import com.banking.system.transaction.application.dto.result.TransferResult;
+import com.banking.system.transaction.application.event.TransferCompletedEvent;
+import com.banking.system.transaction.application.event.publisher.TransactionEventPublisher;
 import com.banking.system.transaction.application.mapper.ReceiptMapper;
 import com.banking.system.transaction.application.mapper.TransferDomainMapper;
 import com.banking.system.transaction.application.usecase.GetTransferByIdUseCase;
@@ -48,8 +52,10 @@ public class TransferService implements TransferMoneyUseCase, GetTransferByIdUse
     private final CustomerRepositoryPort customerRepositoryPort;
     private final TransferDomainService transferDomainService;
     private final TransactionAuditService transactionAuditService;
+    private final TransactionEventPublisher transactionEventPublisher;
 
     @Override
+    @WorkloadBulkhead(Workload.MONEY_MOVEMENT)
     @Transactional
     public TransferReceipt transfer(TransferMoneyCommand command, UUID userId) {
         log.info("Initiating transfer from account {}", command.fromAccountId());
@@ -83,6 +89,7 @@ public class TransferService implements TransferMoneyUseCase, GetTransferByIdUse
         );
 
         Transfer transferSaved = persistExecution(execution, sourceAccount, targetAccount);
+        transactionEventPublisher.publishTransferCompleted(new TransferCompletedEvent(transferSaved, sourceAccount.getCustomerId()));
 
         log.info("Transfer completed successfully for idempotency key {}", idempotencyKey.value());
 
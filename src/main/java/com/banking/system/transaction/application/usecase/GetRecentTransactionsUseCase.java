@@ -0,0 +1,10 @@
+package com.banking.system.transaction.application.usecase;
+
+import com.banking.system.transaction.application.dto.result.TransactionResult;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface GetRecentTransactionsUseCase {
+    List<TransactionResult> getRecentTransactions(UUID accountId, UUID userId);
+}
@@ -0,0 +1,9 @@
+package com.banking.system.transaction.application.usecase;
+
+import com.banking.system.transaction.application.dto.result.TransactionChangesResult;
+
+import java.util.UUID;
+
+public interface GetTransactionChangesUseCase {
+    TransactionChangesResult getChanges(UUID userId, String cursor, int limit);
+}
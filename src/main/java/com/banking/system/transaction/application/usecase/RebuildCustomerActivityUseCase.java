@@ -0,0 +1,7 @@
+package com.banking.system.transaction.application.usecase;
+
+import com.banking.system.transaction.application.dto.result.CustomerActivityRebuildResult;
+
+public interface RebuildCustomerActivityUseCase {
+    CustomerActivityRebuildResult rebuild();
+}
@@ -0,0 +1,8 @@
+package com.banking.system.transaction.application.usecase;
+
+import com.banking.system.transaction.application.dto.command.SearchTransactionsCommand;
+import com.banking.system.transaction.application.dto.result.TransactionSearchResult;
+
+public interface SearchTransactionsUseCase {
+    TransactionSearchResult search(SearchTransactionsCommand command, String cursor, int limit);
+}
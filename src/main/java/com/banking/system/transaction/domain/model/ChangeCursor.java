@@ -0,0 +1,78 @@
+package com.banking.system.transaction.domain.model;
+
+import com.banking.system.common.domain.CursorCodec;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Value Object holding a delta-sync client's position: the last change sequence it has
+ * seen for each account.
+ * <p>
+ * Accounts missing from the cursor start from the beginning, so an empty cursor means
+ * a full sync.
+ * </p>
+ */
+public record ChangeCursor(Map<UUID, Long> positions) {
+
+    public ChangeCursor {
+        positions = Collections.unmodifiableMap(new LinkedHashMap<>(positions));
+    }
+
+    public static ChangeCursor start() {
+        return new ChangeCursor(Map.of());
+    }
+
+    /**
+     * @param token the token, or null/blank for a full sync
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ChangeCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return start();
+        }
+
+        Map<UUID, Long> positions = new LinkedHashMap<>();
+        try {
+            String decoded = CursorCodec.decode(token);
+            for (String entry : decoded.split(";")) {
+                if (entry.isEmpty()) {
+                    continue;
+                }
+                int separator = entry.indexOf(':');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Invalid change cursor entry");
+                }
+                long sequence = Long.parseLong(entry.substring(separator + 1));
+                if (sequence < 0) {
+                    throw new IllegalArgumentException("Invalid change cursor sequence");
+                }
+                positions.put(UUID.fromString(entry.substring(0, separator)), sequence);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid change cursor: " + token, e);
+        }
+        return new ChangeCursor(positions);
+    }
+
+    public String encode() {
+        StringBuilder raw = new StringBuilder();
+        positions.forEach((accountId, sequence) -> {
+            if (!raw.isEmpty()) {
+                raw.append(';');
+            }
+            raw.append(accountId).append(':').append(sequence);
+        });
+        return CursorCodec.encode(raw.toString());
+    }
+
+    /**
+     * @return the last sequence seen for the account, or 0 if none
+     */
+    public long positionOf(UUID accountId) {
+        return positions.getOrDefault(accountId, 0L);
+    }
+}
@@ -0,0 +1,45 @@
+package com.banking.system.transaction.domain.model;
+
+import com.banking.system.common.domain.Money;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Entry of a customer's activity feed: a completed transaction denormalized with its
+ * owner and transfer context.
+ * <p>
+ * A read model derived from transactions, accounts and transfers; it is never written
+ * directly and can be regenerated from those sources.
+ * </p>
+ *
+ * @param transactionId     the transaction
+ * @param customerId        the customer owning the account
+ * @param accountId         the account the transaction belongs to
+ * @param type              the transaction type
+ * @param amount            the amount moved
+ * @param amountFee         the fee charged with a transfer debit, or null
+ * @param balanceAfter      the account balance after the transaction
+ * @param description       the transaction description, if any
+ * @param referenceNumber   the transaction reference number
+ * @param executedAt        when the transaction was executed
+ * @param transferId        the transfer the transaction is part of, or null
+ * @param transferCategory  the transfer's category, or null
+ * @param counterpartyAlias alias of the other account of the transfer, or null (also for fees)
+ */
+public record CustomerActivity(
+        UUID transactionId,
+        UUID customerId,
+        UUID accountId,
+        TransactionType type,
+        Money amount,
+        Money amountFee,
+        Money balanceAfter,
+        String description,
+        String referenceNumber,
+        Instant executedAt,
+        UUID transferId,
+        String transferCategory,
+        String counterpartyAlias
+) {
+}
@@ -0,0 +1,11 @@
+package com.banking.system.transaction.domain.model;
+
+/**
+ * A transaction as of its latest change, with the account-scoped sequence number
+ * assigned when that change committed.
+ *
+ * @param sequence    the change sequence, increasing and gapless per account
+ * @param transaction the transaction in its current state
+ */
+public record TransactionChange(long sequence, Transaction transaction) {
+}
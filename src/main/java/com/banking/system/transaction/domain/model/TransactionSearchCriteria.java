@@ -0,0 +1,57 @@
+package com.banking.system.transaction.domain.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Value Object with the filters of a transaction search.
+ * <p>
+ * A search always covers a closed date range and must be anchored on a selective,
+ * indexed predicate: an account, or a description text long enough for the trigram
+ * index (3 characters). Amount and type only narrow the rows those predicates find.
+ * </p>
+ *
+ * @param accountId the account, or null to search all accounts by text
+ * @param from      start of the range, inclusive
+ * @param to        end of the range, exclusive
+ * @param minAmount minimum amount, inclusive, or null
+ * @param maxAmount maximum amount, inclusive, or null
+ * @param type      the transaction type, or null for any
+ * @param text      text contained in the description (case-insensitive), or null
+ */
+public record TransactionSearchCriteria(
+        UUID accountId,
+        Instant from,
+        Instant to,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        TransactionType type,
+        String text
+) {
+    public static final int MIN_TEXT_LENGTH = 3;
+
+    public TransactionSearchCriteria {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("A search needs a date range with 'from' before 'to'");
+        }
+        if ((minAmount != null && minAmount.signum() < 0) || (maxAmount != null && maxAmount.signum() < 0)) {
+            throw new IllegalArgumentException("Amount filters cannot be negative");
+        }
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new IllegalArgumentException("'minAmount' cannot be greater than 'maxAmount'");
+        }
+
+        text = text != null && !text.isBlank() ? text.strip() : null;
+        if (text != null && text.length() < MIN_TEXT_LENGTH) {
+            throw new IllegalArgumentException("Search text must have at least " + MIN_TEXT_LENGTH + " characters");
+        }
+        if (accountId == null && text == null) {
+            throw new IllegalArgumentException("A search needs an account or a search text");
+        }
+    }
+
+    public boolean hasAccount() {
+        return accountId != null;
+    }
+}
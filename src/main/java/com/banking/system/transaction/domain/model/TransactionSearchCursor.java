@@ -0,0 +1,43 @@
+package com.banking.system.transaction.domain.model;
+
+import com.banking.system.common.domain.CursorCodec;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+/**
+ * Value Object holding the position after the last transaction of a search page.
+ * <p>
+ * Search results are ordered by execution time then ID, both descending, so the next
+ * page starts strictly after this pair.
+ * </p>
+ */
+public record TransactionSearchCursor(Instant executedAt, UUID id) {
+
+    public static TransactionSearchCursor after(Transaction transaction) {
+        return new TransactionSearchCursor(transaction.getExecutedAt(), transaction.getId());
+    }
+
+    /**
+     * @param token the token, or null/blank for the first page
+     * @return the decoded cursor, or null for the first page
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static TransactionSearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            CursorCodec.Keyset keyset = CursorCodec.decodeKeyset(token);
+            return new TransactionSearchCursor(Instant.parse(keyset.sortKey()), keyset.id());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid search cursor: " + token, e);
+        }
+    }
+
+    public String encode() {
+        return CursorCodec.encodeKeyset(executedAt, id);
+    }
+}
@@ -0,0 +1,51 @@
+package com.banking.system.transaction.domain.port.out;
+
+import com.banking.system.common.domain.PageRequest;
+import com.banking.system.common.domain.dto.PagedResult;
+import com.banking.system.transaction.domain.model.CustomerActivity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Customer activity read model. Entries are projected from the committed transaction,
+ * account and transfer rows, so projecting is idempotent and a rebuild converges to the
+ * same state.
+ */
+public interface CustomerActivityRepositoryPort {
+
+    /**
+     * Upserts the entry of a transaction if it is completed.
+     *
+     * @param transactionId the transaction to project
+     */
+    void project(UUID transactionId);
+
+    /**
+     * Projects the completed transactions executed within {@code lookback} that have no
+     * entry yet.
+     *
+     * @return the number of entries written
+     */
+    int projectMissing(Duration lookback);
+
+    /**
+     * Feed of a customer, newest first.
+     */
+    PagedResult<CustomerActivity> findByCustomerId(UUID customerId, PageRequest pageRequest);
+
+    /**
+     * IDs of every account, in a stable order, to split a rebuild into batches.
+     */
+    List<UUID> findAllAccountIds();
+
+    /**
+     * Re-projects every completed transaction of the accounts and removes their entries
+     * that no longer have a completed source transaction.
+     *
+     * @param accountIds the accounts to rebuild
+     * @return the number of entries written
+     */
+    int rebuildAccounts(List<UUID> accountIds);
+}
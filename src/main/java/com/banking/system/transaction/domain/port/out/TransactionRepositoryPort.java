@@ -3,6 +3,9 @@ package com.banking.system.transaction.domain.port.out;
 import com.banking.system.common.domain.PageRequest;
 import com.banking.system.common.domain.dto.PagedResult;
 import com.banking.system.transaction.domain.model.Transaction;
+import com.banking.system.transaction.domain.model.TransactionChange;
+import com.banking.system.transaction.domain.model.TransactionSearchCriteria;
+import com.banking.system.transaction.domain.model.TransactionSearchCursor;
 import com.banking.system.transaction.domain.model.TransactionStatus;
 
 import com.banking.system.transaction.domain.model.TransactionType;
@@ -26,5 +29,29 @@ public interface TransactionRepositoryPort {
 
     PagedResult<Transaction> findAllByAccountIdsAndStatus(List<UUID> accountIds, TransactionStatus status, PageRequest pageRequest);
 
+    List<Transaction> findRecentByAccountIdAndStatus(UUID accountId, TransactionStatus status, int limit);
+
+    List<Transaction> findRecentByCustomerIdAndStatus(UUID customerId, TransactionStatus status, int limit);
+
+    /**
+     * Transactions of the account whose latest change committed after {@code afterSequence},
+     * in change order.
+     *
+     * @param accountId     the account
+     * @param afterSequence the last change sequence already seen, 0 for all
+     * @param limit         maximum number of changes to return
+     * @return the changes, oldest first
+     */
+    List<TransactionChange> findChangesByAccountIdSince(UUID accountId, long afterSequence, int limit);
+
+    /**
+     * Transactions matching the criteria, newest first (ties by ID, descending).
+     *
+     * @param criteria the filters
+     * @param after    position after the last transaction of the previous page, or null
+     * @param limit    maximum transactions to return
+     */
+    List<Transaction> search(TransactionSearchCriteria criteria, TransactionSearchCursor after, int limit);
+
     BigDecimal sumCompletedAmountByAccountIdAndTypeSince(UUID accountId, TransactionType type, Instant since);
 }
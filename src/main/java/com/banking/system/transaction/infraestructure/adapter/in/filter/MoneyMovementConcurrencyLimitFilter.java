@@ -0,0 +1,123 @@
+package com.banking.system.transaction.infraestructure.adapter.in.filter;
+
+import com.banking.system.common.infraestructure.concurrency.GradientConcurrencyLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Adaptive concurrency limit in front of deposits, withdrawals and transfers.
+ * <p>
+ * Requests over the current limit get an immediate 503 with Retry-After instead of
+ * queueing for a database connection until they time out. The limit follows the
+ * latency of the admitted requests (see {@link GradientConcurrencyLimiter}); a 503
+ * from downstream, such as a full workload bulkhead, counts as a drop and backs it off.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "concurrency-limit.money-movement.enabled", havingValue = "true", matchIfMissing = true)
+public class MoneyMovementConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String LIMITER_NAME = "moneyMovement";
+
+    private final GradientConcurrencyLimiter limiter;
+    private final Counter rejectedCounter;
+
+    public MoneyMovementConcurrencyLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${concurrency-limit.money-movement.initial-limit:20}") int initialLimit,
+            @Value("${concurrency-limit.money-movement.min-limit:4}") int minLimit,
+            @Value("${concurrency-limit.money-movement.max-limit:200}") int maxLimit,
+            @Value("${concurrency-limit.money-movement.tolerance:1.5}") double tolerance,
+            @Value("${concurrency-limit.money-movement.smoothing:0.2}") double smoothing,
+            @Value("${concurrency-limit.money-movement.long-window:600}") int longWindow) {
+        this.limiter = new GradientConcurrencyLimiter(initialLimit, minLimit, maxLimit, tolerance, smoothing, longWindow);
+
+        Gauge.builder("concurrency.limit", limiter, GradientConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("name", LIMITER_NAME)
+                .register(meterRegistry);
+        Gauge.builder("concurrency.inflight", limiter, GradientConcurrencyLimiter::getInFlight)
+                .description("Requests currently admitted by the concurrency limiter")
+                .tag("name", LIMITER_NAME)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("concurrency.rejected")
+                .description("Requests shed because the concurrency limit was reached")
+                .tag("name", LIMITER_NAME)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !isMoneyMovement(request);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            rejectedCounter.increment();
+            log.debug("Money movement shed at concurrency limit {}", limiter.getLimit());
+            writeServiceBusy(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (!completed) {
+                limiter.onIgnore();
+            } else if (response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+                limiter.onDropped();
+            } else {
+                limiter.onSuccess(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static boolean isMoneyMovement(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return false;
+        }
+        String path = request.getRequestURI();
+        return path.equals("/api/v1/transfers") ||
+                (path.startsWith("/api/v1/transactions/accounts/") &&
+                        (path.endsWith("/deposits") || path.endsWith("/withdrawals")));
+    }
+
+    private static void writeServiceBusy(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.addHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType("application/json");
+
+        String jsonResponse = """
+                {
+                    "status": %s,
+                    "error": "Service Unavailable",
+                    "message": "Service is temporarily busy. Please try again later",
+                    "errorCode": "SERVICE_BUSY"
+                }
+                """.formatted(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.getWriter().write(jsonResponse);
+    }
+}
@@ -1,10 +1,17 @@
 package com.banking.system.transaction.infraestructure.adapter.in.rest;
 
+import com.banking.system.auth.domain.model.PermissionCode;
+import com.banking.system.auth.infraestructure.adapter.out.security.RequiresPermission;
 import com.banking.system.common.domain.PageRequest;
 import com.banking.system.common.domain.dto.PagedResult;
+import com.banking.system.transaction.application.dto.command.SearchTransactionsCommand;
+import com.banking.system.transaction.application.dto.result.CustomerActivityResult;
+import com.banking.system.transaction.application.dto.result.TransactionChangesResult;
 import com.banking.system.transaction.application.dto.result.TransactionResult;
+import com.banking.system.transaction.application.dto.result.TransactionSearchResult;
 import com.banking.system.transaction.application.usecase.*;
 import com.banking.system.transaction.infraestructure.adapter.in.rest.dto.request.DepositMoneyRequest;
+import com.banking.system.transaction.infraestructure.adapter.in.rest.dto.request.SearchTransactionsRequest;
 import com.banking.system.transaction.infraestructure.adapter.in.rest.dto.request.WithdrawMoneyRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,16 +20,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -37,6 +46,9 @@ public class TransactionRestController {
     private final GetTransactionByIdUseCase getTransactionByIdUseCase;
     private final GetAllTransactionsByAccountUseCase getAllTransactionsByAccountUseCase;
     private final GetAllTransactionsByCustomerUseCase getAllTransactionsByCustomerUseCase;
+    private final GetRecentTransactionsUseCase getRecentTransactionsUseCase;
+    private final GetTransactionChangesUseCase getTransactionChangesUseCase;
+    private final SearchTransactionsUseCase searchTransactionsUseCase;
 
     @Operation(
             summary = "Create deposit",
@@ -48,9 +60,10 @@ public class TransactionRestController {
             @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
             @ApiResponse(responseCode = "404", description = "Account or customer not found"),
             @ApiResponse(responseCode = "403", description = "Account does not belong to the authenticated user"),
-            @ApiResponse(responseCode = "422", description = "Business rule violation (inactive account, KYC not approved, or currency mismatch)")
+            @ApiResponse(responseCode = "422", description = "Business rule violation (inactive account, KYC not approved, or currency mismatch)"),
+            @ApiResponse(responseCode = "503", description = "Concurrency limit reached, retry after the Retry-After delay")
     })
-    @PreAuthorize("hasAuthority('TRANSACTION_DEPOSIT')")
+    @RequiresPermission(PermissionCode.TRANSACTION_DEPOSIT)
     @PostMapping("/accounts/{accountId}/deposits")
     public ResponseEntity<Void> createDeposit(
             @RequestBody @Valid DepositMoneyRequest request,
@@ -66,7 +79,7 @@ public class TransactionRestController {
 
     @Operation(
             summary = "Get transaction history for customer",
-            description = "Retrieves the paginated transaction history only for the user."
+            description = "Retrieves the paginated activity feed of the user: completed transactions, newest first, with the transfer category and counterparty alias for transfers."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Transaction history retrieved successfully"),
@@ -75,9 +88,9 @@ public class TransactionRestController {
             @ApiResponse(responseCode = "404", description = "Customer not found"),
             @ApiResponse(responseCode = "422", description = "Business rule violation (KYC not approved)")
     })
-    @PreAuthorize("hasAuthority('TRANSACTION_VIEW_OWN')")
+    @RequiresPermission(PermissionCode.TRANSACTION_VIEW_OWN)
     @GetMapping("/me")
-    public ResponseEntity<PagedResult<TransactionResult>> getAllTransactionsByCustomer(@AuthenticationPrincipal UUID userId, Pageable pageable) {
+    public ResponseEntity<PagedResult<CustomerActivityResult>> getAllTransactionsByCustomer(@AuthenticationPrincipal UUID userId, Pageable pageable) {
         var pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
         var result = getAllTransactionsByCustomerUseCase.getAllTransactionsByCustomer(userId, pageRequest);
         return ResponseEntity.ok(result);
@@ -93,9 +106,10 @@ public class TransactionRestController {
             @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
             @ApiResponse(responseCode = "404", description = "Account or customer not found"),
             @ApiResponse(responseCode = "403", description = "Account does not belong to the authenticated user"),
-            @ApiResponse(responseCode = "422", description = "Business rule violation (insufficient funds, inactive account, KYC not approved, or currency mismatch)")
+            @ApiResponse(responseCode = "422", description = "Business rule violation (insufficient funds, inactive account, KYC not approved, or currency mismatch)"),
+            @ApiResponse(responseCode = "503", description = "Concurrency limit reached, retry after the Retry-After delay")
     })
-    @PreAuthorize("hasAuthority('TRANSACTION_WITHDRAW')")
+    @RequiresPermission(PermissionCode.TRANSACTION_WITHDRAW)
     @PostMapping("/accounts/{accountId}/withdrawals")
     public ResponseEntity<Void> withdrawMoney(
             @RequestBody @Valid WithdrawMoneyRequest request,
@@ -120,7 +134,7 @@ public class TransactionRestController {
             @ApiResponse(responseCode = "404", description = "Account or customer not found"),
             @ApiResponse(responseCode = "422", description = "Business rule violation (KYC not approved)")
     })
-    @PreAuthorize("hasAuthority('TRANSACTION_VIEW_OWN')")
+    @RequiresPermission(PermissionCode.TRANSACTION_VIEW_OWN)
     @GetMapping("/accounts/{accountId}")
     public ResponseEntity<PagedResult<TransactionResult>> getAllTransactionsByAccount(
             @Parameter(description = "Account ID to retrieve transactions from", example = "550e8400-e29b-41d4-a716-446655440000")
@@ -133,6 +147,88 @@ public class TransactionRestController {
         return ResponseEntity.ok(result);
     }
 
+    @Operation(
+            summary = "Get recent transactions",
+            description = "Retrieves the latest completed transactions of the specified account, newest first. " +
+                    "Served from a per-account cache kept current on every commit. Only the account owner can access this information."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Recent transactions retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
+            @ApiResponse(responseCode = "403", description = "Account does not belong to the authenticated user"),
+            @ApiResponse(responseCode = "404", description = "Account or customer not found"),
+            @ApiResponse(responseCode = "422", description = "Business rule violation (KYC not approved)")
+    })
+    @RequiresPermission(PermissionCode.TRANSACTION_VIEW_OWN)
+    @GetMapping("/accounts/{accountId}/recent")
+    public ResponseEntity<List<TransactionResult>> getRecentTransactionsByAccount(
+            @Parameter(description = "Account ID to retrieve transactions from", example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable UUID accountId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UUID userId) {
+        var result = getRecentTransactionsUseCase.getRecentTransactions(accountId, userId);
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(
+            summary = "Get transaction changes",
+            description = "Delta sync over all accounts of the authenticated user. Returns the transactions created or whose status changed " +
+                    "after the cursor, each with its per-account change sequence, plus the cursor for the next poll. " +
+                    "Omit the cursor for a full sync; keep polling while hasMore is true."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Changes retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Malformed cursor or invalid limit"),
+            @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
+            @ApiResponse(responseCode = "404", description = "Customer not found"),
+            @ApiResponse(responseCode = "422", description = "Business rule violation (KYC not approved)")
+    })
+    @RequiresPermission(PermissionCode.TRANSACTION_VIEW_OWN)
+    @GetMapping("/changes")
+    public ResponseEntity<TransactionChangesResult> getTransactionChanges(
+            @Parameter(description = "Cursor returned by the previous poll", example = "NTUwZTg0MDAtZTI5Yi00MWQ0LWE3MTYtNDQ2NjU1NDQwMDAwOjQy")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum changes per account", example = "100")
+            @RequestParam(defaultValue = "100") @Min(1) @Max(500) int limit,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UUID userId) {
+        var result = getTransactionChangesUseCase.getChanges(userId, since, limit);
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(
+            summary = "Search transactions",
+            description = "Searches transactions of any customer by account, date range, amount range, type and description text, newest first. " +
+                    "Either an account or a text of at least 3 characters is required; searches without an account cover at most " +
+                    "the maximum window (31 days by default). Pass nextCursor back to get the next page."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Search results retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid filters, missing account and text, range too wide, malformed cursor or limit out of range"),
+            @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
+            @ApiResponse(responseCode = "403", description = "Missing permission to view all transactions")
+    })
+    @RequiresPermission(PermissionCode.TRANSACTION_VIEW_ALL)
+    @GetMapping("/search")
+    public ResponseEntity<TransactionSearchResult> searchTransactions(
+            @Valid @ParameterObject SearchTransactionsRequest request,
+            @Parameter(description = "Cursor returned by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum results per page", example = "50")
+            @RequestParam(defaultValue = "50") @Min(1) @Max(200) int limit) {
+        var command = new SearchTransactionsCommand(
+                request.accountId(),
+                request.from(),
+                request.to(),
+                request.minAmount(),
+                request.maxAmount(),
+                request.type(),
+                request.text()
+        );
+        var result = searchTransactionsUseCase.search(command, cursor, limit);
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(
             summary = "Get my transaction by ID",
             description = "Retrieves the details of a specific transaction by its ID. Only returns transactions where the authenticated user is the account owner."
@@ -144,7 +240,7 @@ public class TransactionRestController {
             @ApiResponse(responseCode = "404", description = "Transaction not found"),
             @ApiResponse(responseCode = "422", description = "Business rule violation (KYC not approved)")
     })
-    @PreAuthorize("hasAuthority('TRANSACTION_VIEW_OWN')")
+    @RequiresPermission(PermissionCode.TRANSACTION_VIEW_OWN)
     @GetMapping("/{transactionId}")
     public ResponseEntity<TransactionResult> getTransactionByIdForCustomer(@PathVariable @NotNull UUID transactionId,
                                                                            @AuthenticationPrincipal UUID userId) {
@@ -1,5 +1,7 @@
 package com.banking.system.transaction.infraestructure.adapter.in.rest;
 
+import com.banking.system.auth.domain.model.PermissionCode;
+import com.banking.system.auth.infraestructure.adapter.out.security.RequiresPermission;
 import com.banking.system.transaction.application.dto.receipt.TransferReceipt;
 import com.banking.system.transaction.application.dto.result.TransferResult;
 import com.banking.system.transaction.application.usecase.GetTransferByIdUseCase;
@@ -15,7 +17,6 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -43,9 +44,10 @@ public class TransfersRestController {
             @ApiResponse(responseCode = "401", description = "Invalid or expired JWT token"),
             @ApiResponse(responseCode = "403", description = "Role not authorized for this operation"),
             @ApiResponse(responseCode = "404", description = "Source or target account not found"),
-            @ApiResponse(responseCode = "422", description = "Business rule violation (insufficient funds, inactive account, same account transfer, or currency mismatch)")
+            @ApiResponse(responseCode = "422", description = "Business rule violation (insufficient funds, inactive account, same account transfer, or currency mismatch)"),
+            @ApiResponse(responseCode = "503", description = "Concurrency limit reached, retry after the Retry-After delay")
     })
-    @PreAuthorize("hasAuthority('TRANSACTION_TRANSFER')")
+    @RequiresPermission(PermissionCode.TRANSACTION_TRANSFER)
     @PostMapping
     public ResponseEntity<TransferReceipt> transfer(@RequestBody @Valid TransferMoneyRequest request,
                                                     @AuthenticationPrincipal UUID userId) {
@@ -63,7 +65,7 @@ public class TransfersRestController {
             @ApiResponse(responseCode = "403", description = "Transfer does not belong to the authenticated user"),
             @ApiResponse(responseCode = "404", description = "Transfer not found")
     })
-    @PreAuthorize("hasAuthority('TRANSACTION_VIEW_OWN')")
+    @RequiresPermission(PermissionCode.TRANSACTION_VIEW_OWN)
     @GetMapping("/{id}/me")
     public ResponseEntity<TransferResult> getTransferByIdForCustomer(
             @Parameter(description = "Transfer ID to retrieve", example = "550e8400-e29b-41d4-a716-446655440000")
@@ -83,7 +85,7 @@ public class TransfersRestController {
             @ApiResponse(responseCode = "403", description = "Role not authorized for this operation"),
             @ApiResponse(responseCode = "404", description = "Transfer not found")
     })
-    @PreAuthorize("hasAuthority('TRANSACTION_VIEW_ALL')")
+    @RequiresPermission(PermissionCode.TRANSACTION_VIEW_ALL)
     @GetMapping("/{id}")
     public ResponseEntity<TransferResult> getTransferById(
             @Parameter(description = "Transfer ID to retrieve", example = "550e8400-e29b-41d4-a716-446655440000")
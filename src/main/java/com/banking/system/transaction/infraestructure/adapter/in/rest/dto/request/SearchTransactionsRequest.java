@@ -0,0 +1,37 @@
+package com.banking.system.transaction.infraestructure.adapter.in.rest.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Schema(description = "Transaction search filters. Either accountId or text is required.")
+public record SearchTransactionsRequest(
+        @Schema(description = "Account to search in", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID accountId,
+
+        @Schema(description = "Start of the range, inclusive (defaults to the maximum window before 'to')", example = "2026-01-01T00:00:00Z")
+        Instant from,
+
+        @Schema(description = "End of the range, exclusive (defaults to now)", example = "2026-02-01T00:00:00Z")
+        Instant to,
+
+        @Schema(description = "Minimum amount, inclusive", example = "100.00")
+        @DecimalMin(value = "0.00", message = "minAmount cannot be negative")
+        BigDecimal minAmount,
+
+        @Schema(description = "Maximum amount, inclusive", example = "5000.00")
+        @DecimalMin(value = "0.00", message = "maxAmount cannot be negative")
+        BigDecimal maxAmount,
+
+        @Schema(description = "Transaction type", example = "TRANSFER_OUT")
+        String type,
+
+        @Schema(description = "Text contained in the description, case-insensitive", example = "rent")
+        @Size(min = 3, max = 100, message = "text must have between 3 and 100 characters")
+        String text
+) {
+}
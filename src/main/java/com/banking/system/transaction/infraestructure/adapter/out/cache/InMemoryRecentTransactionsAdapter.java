@@ -0,0 +1,88 @@
+package com.banking.system.transaction.infraestructure.adapter.out.cache;
+
+import com.banking.system.transaction.application.port.out.RecentTransactionsCachePort;
+import com.banking.system.transaction.domain.model.Transaction;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Node-local {@link RecentTransactionsCachePort}. Appends committed on other nodes are
+ * not seen, so it is meant for single-node deployments and tests
+ * ({@code transaction.recent.store=memory}).
+ */
+@Component
+@ConditionalOnProperty(name = "transaction.recent.store", havingValue = "memory")
+public class InMemoryRecentTransactionsAdapter implements RecentTransactionsCachePort {
+
+    private static final int MAX_ACCOUNTS = 100_000;
+
+    private final int capacity;
+    private final Cache<UUID, RecentTransactionsRingBuffer> buffers;
+    private final Cache<UUID, Long> versions;
+
+    public InMemoryRecentTransactionsAdapter(
+            @Value("${transaction.recent.capacity:10}") int capacity,
+            @Value("${transaction.recent.ttl-ms:600000}") long ttlMs) {
+        this.capacity = capacity;
+        this.buffers = Caffeine.newBuilder()
+                .maximumSize(MAX_ACCOUNTS)
+                .expireAfterAccess(Duration.ofMillis(ttlMs))
+                .build();
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(MAX_ACCOUNTS)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+    }
+
+    @Override
+    public Optional<Snapshot> find(UUID accountId) {
+        return Optional.ofNullable(buffers.getIfPresent(accountId))
+                .map(buffer -> new Snapshot(buffer.ownerUserId(), buffer.newestFirst()));
+    }
+
+    @Override
+    public long seedVersion(UUID accountId) {
+        Long version = versions.getIfPresent(accountId);
+        return version != null ? version : 0L;
+    }
+
+    @Override
+    public void seed(UUID accountId, Snapshot snapshot, long seedVersion) {
+        // compute() serializes with append() on the same account
+        buffers.asMap().compute(accountId, (id, current) -> seedVersion(id) == seedVersion
+                ? new RecentTransactionsRingBuffer(snapshot.ownerUserId(), capacity, snapshot.transactions())
+                : current);
+    }
+
+    @Override
+    public void append(Transaction transaction) {
+        buffers.asMap().compute(transaction.getAccountId(), (id, current) -> {
+            versions.asMap().merge(id, 1L, Long::sum);
+            if (current != null) {
+                current.push(transaction);
+            }
+            return current;
+        });
+    }
+
+    @Override
+    public void evict(UUID accountId) {
+        // Bumping the version discards a seed read before the eviction
+        buffers.asMap().compute(accountId, (id, current) -> {
+            versions.asMap().merge(id, 1L, Long::sum);
+            return null;
+        });
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,61 @@
+package com.banking.system.transaction.infraestructure.adapter.out.cache;
+
+import com.banking.system.transaction.domain.model.Transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fixed-capacity ring of an account's latest transactions. Pushing into a full ring
+ * overwrites the oldest entry, so memory per account is bounded. A transaction already
+ * present is not pushed twice, which absorbs an append racing the seed that read it.
+ */
+public class RecentTransactionsRingBuffer {
+
+    private final UUID ownerUserId;
+    private final Transaction[] slots;
+    private int newest = -1;
+    private int size;
+
+    /**
+     * @param newestFirst initial content, newest first; entries beyond capacity are dropped
+     */
+    public RecentTransactionsRingBuffer(UUID ownerUserId, int capacity, List<Transaction> newestFirst) {
+        this.ownerUserId = ownerUserId;
+        this.slots = new Transaction[capacity];
+        for (int i = Math.min(newestFirst.size(), capacity) - 1; i >= 0; i--) {
+            push(newestFirst.get(i));
+        }
+    }
+
+    public UUID ownerUserId() {
+        return ownerUserId;
+    }
+
+    public synchronized void push(Transaction transaction) {
+        for (int i = 0; i < size; i++) {
+            if (slots[index(i)].getId().equals(transaction.getId())) {
+                return;
+            }
+        }
+        newest = (newest + 1) % slots.length;
+        slots[newest] = transaction;
+        size = Math.min(size + 1, slots.length);
+    }
+
+    public synchronized List<Transaction> newestFirst() {
+        List<Transaction> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            transactions.add(slots[index(i)]);
+        }
+        return transactions;
+    }
+
+    /**
+     * Slot of the i-th newest entry.
+     */
+    private int index(int i) {
+        return Math.floorMod(newest - i, slots.length);
+    }
+}
@@ -0,0 +1,304 @@
+package com.banking.system.transaction.infraestructure.adapter.out.cache;
+
+import com.banking.system.common.domain.Money;
+import com.banking.system.common.domain.MoneyCurrency;
+import com.banking.system.transaction.application.port.out.RecentTransactionsCachePort;
+import com.banking.system.transaction.domain.model.Description;
+import com.banking.system.transaction.domain.model.IdempotencyKey;
+import com.banking.system.transaction.domain.model.ReferenceNumber;
+import com.banking.system.transaction.domain.model.Transaction;
+import com.banking.system.transaction.domain.model.TransactionStatus;
+import com.banking.system.transaction.domain.model.TransactionType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Two-tier {@link RecentTransactionsCachePort}: a node-local ring buffer per account in
+ * front of a Redis list shared by all nodes.
+ * <p>
+ * Each account has a capped list of transactions (JSON, newest first), an owner key that
+ * marks the account as seeded, and a version counter bumped by every append and eviction.
+ * The three keys share a hash tag so each operation is a single atomic script. The local
+ * tier only lives for {@code transaction.recent.local-ttl-ms}, which bounds how long a
+ * node can miss an append made on another node.
+ * </p>
+ *
+ * <p>Redis errors fail open: reads fall back to the database, and a failed append evicts
+ * the account, which may fail as well while Redis is unreachable. The list and owner keys
+ * therefore expire {@code transaction.recent.ttl-ms} after the seed and appends never
+ * extend them, so a missed append is visible for at most that long.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "transaction.recent.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRecentTransactionsAdapter implements RecentTransactionsCachePort {
+
+    private static final String KEY_PREFIX = "tx:recent:";
+    private static final int MAX_LOCAL_ACCOUNTS = 50_000;
+
+    /**
+     * KEYS: list, owner, version. ARGV: JSON, capacity, TTL millis. The list gets the
+     * remaining TTL of the owner key, so the entries expire together with the seed.
+     */
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[3])
+            redis.call('PEXPIRE', KEYS[3], ARGV[3])
+            local ttl = redis.call('PTTL', KEYS[2])
+            if ttl <= 0 then
+                return 0
+            end
+            redis.call('LPUSH', KEYS[1], ARGV[1])
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+            redis.call('PEXPIRE', KEYS[1], ttl)
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: list, owner, version. ARGV: TTL millis. Bumps the version too, so a seed read
+     * before the eviction is discarded.
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[3])
+            redis.call('PEXPIRE', KEYS[3], ARGV[1])
+            return redis.call('DEL', KEYS[1], KEYS[2])
+            """, Long.class);
+
+    /**
+     * KEYS: list, owner, version. ARGV: expected version, owner user ID, TTL millis, then
+     * JSON entries newest first. Returns 0 if an append happened since the version was read.
+     */
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            if tonumber(redis.call('GET', KEYS[3]) or '0') ~= tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            if #ARGV > 3 then
+                redis.call('RPUSH', KEYS[1], unpack(ARGV, 4))
+                redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            end
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: list, owner. Returns the owner followed by the entries, or an empty list if not seeded.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[2])
+            if not owner then
+                return {}
+            end
+            local result = redis.call('LRANGE', KEYS[1], 0, -1)
+            table.insert(result, 1, owner)
+            return result
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final String ttlMs;
+    private final Cache<UUID, RecentTransactionsRingBuffer> local;
+
+    public RedisRecentTransactionsAdapter(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${transaction.recent.capacity:10}") int capacity,
+            @Value("${transaction.recent.ttl-ms:600000}") long ttlMs,
+            @Value("${transaction.recent.local-ttl-ms:1000}") long localTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        this.ttlMs = String.valueOf(ttlMs);
+        this.local = Caffeine.newBuilder()
+                .maximumSize(MAX_LOCAL_ACCOUNTS)
+                .expireAfterWrite(Duration.ofMillis(localTtlMs))
+                .build();
+    }
+
+    @Override
+    public Optional<Snapshot> find(UUID accountId) {
+        RecentTransactionsRingBuffer buffer = local.getIfPresent(accountId);
+        if (buffer != null) {
+            return Optional.of(new Snapshot(buffer.ownerUserId(), buffer.newestFirst()));
+        }
+
+        UUID ownerUserId;
+        List<Transaction> transactions;
+        try {
+            List<?> result = redisTemplate.execute(READ_SCRIPT, keys(accountId));
+            if (result == null || result.isEmpty()) {
+                return Optional.empty();
+            }
+
+            ownerUserId = UUID.fromString((String) result.getFirst());
+            transactions = new ArrayList<>(result.size() - 1);
+            Set<UUID> seen = new HashSet<>();
+            for (Object json : result.subList(1, result.size())) {
+                Transaction transaction = fromJson((String) json);
+                // An append racing the seed that already read it lands twice in the list
+                if (seen.add(transaction.getId())) {
+                    transactions.add(transaction);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Recent transactions read failed for account {}, falling back to the database", accountId, e);
+            return Optional.empty();
+        }
+
+        local.put(accountId, new RecentTransactionsRingBuffer(ownerUserId, capacity, transactions));
+        return Optional.of(new Snapshot(ownerUserId, transactions));
+    }
+
+    @Override
+    public long seedVersion(UUID accountId) {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey(accountId));
+            return version != null ? Long.parseLong(version) : 0L;
+        } catch (RuntimeException e) {
+            log.warn("Recent transactions version read failed for account {}", accountId, e);
+            // No seed can match a negative version, so this read is simply not cached
+            return -1L;
+        }
+    }
+
+    @Override
+    public void seed(UUID accountId, Snapshot snapshot, long seedVersion) {
+        if (seedVersion < 0) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(3 + snapshot.transactions().size());
+        args.add(String.valueOf(seedVersion));
+        args.add(snapshot.ownerUserId().toString());
+        args.add(ttlMs);
+        snapshot.transactions().stream().limit(capacity).map(this::toJson).forEach(args::add);
+
+        try {
+            Long stored = redisTemplate.execute(SEED_SCRIPT, keys(accountId), args.toArray());
+            if (stored != null && stored == 1) {
+                local.put(accountId, new RecentTransactionsRingBuffer(snapshot.ownerUserId(), capacity, snapshot.transactions()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Recent transactions seed failed for account {}", accountId, e);
+        }
+    }
+
+    @Override
+    public void append(Transaction transaction) {
+        UUID accountId = transaction.getAccountId();
+        RecentTransactionsRingBuffer buffer = local.getIfPresent(accountId);
+        if (buffer != null) {
+            buffer.push(transaction);
+        }
+
+        try {
+            redisTemplate.execute(APPEND_SCRIPT, keys(accountId), toJson(transaction), String.valueOf(capacity), ttlMs);
+        } catch (RuntimeException e) {
+            log.warn("Recent transactions append failed for account {}, evicting it", accountId, e);
+            evict(accountId);
+        }
+    }
+
+    @Override
+    public void evict(UUID accountId) {
+        local.invalidate(accountId);
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, keys(accountId), ttlMs);
+        } catch (RuntimeException e) {
+            log.warn("Recent transactions eviction failed for account {}", accountId, e);
+        }
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    private static List<String> keys(UUID accountId) {
+        String tag = KEY_PREFIX + "{" + accountId + "}";
+        return List.of(tag, tag + ":owner", tag + ":version");
+    }
+
+    private static String versionKey(UUID accountId) {
+        return keys(accountId).get(2);
+    }
+
+    private String toJson(Transaction transaction) {
+        CachedTransaction cached = new CachedTransaction(
+                transaction.getId(),
+                transaction.getAccountId(),
+                transaction.getTransactionType(),
+                transaction.getAmount().getValue(),
+                transaction.getBalanceAfter().getValue(),
+                transaction.getAmount().getCurrency().code(),
+                transaction.getDescription() != null ? transaction.getDescription().value() : null,
+                transaction.getReferenceNumber().value(),
+                transaction.getIdempotencyKey() != null ? transaction.getIdempotencyKey().value() : null,
+                transaction.getStatus(),
+                transaction.getExecutedAt()
+        );
+        try {
+            return objectMapper.writeValueAsString(cached);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize transaction " + transaction.getId(), e);
+        }
+    }
+
+    private Transaction fromJson(String json) {
+        CachedTransaction cached;
+        try {
+            cached = objectMapper.readValue(json, CachedTransaction.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not deserialize cached transaction", e);
+        }
+
+        MoneyCurrency currency = MoneyCurrency.ofCode(cached.currency());
+        return Transaction.reconstitute(
+                cached.id(),
+                cached.accountId(),
+                cached.type(),
+                Money.of(cached.amount(), currency),
+                Money.of(cached.balanceAfter(), currency),
+                new Description(cached.description()),
+                new ReferenceNumber(cached.referenceNumber()),
+                cached.idempotencyKey() != null ? IdempotencyKey.from(cached.idempotencyKey()) : null,
+                cached.status(),
+                cached.executedAt()
+        );
+    }
+
+    private record CachedTransaction(
+            UUID id,
+            UUID accountId,
+            TransactionType type,
+            BigDecimal amount,
+            BigDecimal balanceAfter,
+            String currency,
+            String description,
+            String referenceNumber,
+            String idempotencyKey,
+            TransactionStatus status,
+            Instant executedAt
+    ) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.banking.system.transaction.infraestructure.adapter.out.mapper;
+
+import com.banking.system.common.domain.Money;
+import com.banking.system.common.domain.MoneyCurrency;
+import com.banking.system.transaction.domain.model.CustomerActivity;
+import com.banking.system.transaction.infraestructure.adapter.out.persistence.entity.CustomerActivityJpaEntity;
+
+public class CustomerActivityJpaEntityMapper {
+    public static CustomerActivity toDomain(CustomerActivityJpaEntity entity) {
+        MoneyCurrency currency = MoneyCurrency.ofCode(entity.getCurrency());
+
+        return new CustomerActivity(
+                entity.getTransactionId(),
+                entity.getCustomerId(),
+                entity.getAccountId(),
+                entity.getTransactionType(),
+                Money.of(entity.getAmount(), currency),
+                entity.getAmountFee() != null ? Money.of(entity.getAmountFee(), currency) : null,
+                Money.of(entity.getBalanceAfter(), currency),
+                entity.getDescription(),
+                entity.getReferenceNumber(),
+                entity.getExecutedAt(),
+                entity.getTransferId(),
+                entity.getTransferCategory(),
+                entity.getCounterpartyAlias()
+        );
+    }
+}
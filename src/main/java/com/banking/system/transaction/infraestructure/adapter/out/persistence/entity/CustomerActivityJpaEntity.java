@@ -0,0 +1,75 @@
+package com.banking.system.transaction.infraestructure.adapter.out.persistence.entity;
+
+import com.banking.system.transaction.domain.model.TransactionType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read side of the {@code customer_activity} table. Rows are only written by the
+ * projection queries in {@code SpringDataCustomerActivityRepository}.
+ */
+@Entity
+@Immutable
+@Table(name = "customer_activity")
+@Getter
+@NoArgsConstructor
+public class CustomerActivityJpaEntity {
+
+    @Id
+    @Column(name = "transaction_id")
+    private UUID transactionId;
+
+    @Column(name = "customer_id", nullable = false)
+    private UUID customerId;
+
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false)
+    private TransactionType transactionType;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "amount_fee", precision = 19, scale = 2)
+    private BigDecimal amountFee;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "balance_after", nullable = false, precision = 19, scale = 2)
+    private BigDecimal balanceAfter;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(name = "reference_number", length = 100)
+    private String referenceNumber;
+
+    @Column(name = "executed_at", nullable = false)
+    private Instant executedAt;
+
+    @Column(name = "transfer_id")
+    private UUID transferId;
+
+    @Column(name = "transfer_category", length = 50)
+    private String transferCategory;
+
+    @Column(name = "counterparty_alias", length = 50)
+    private String counterpartyAlias;
+
+    @Column(name = "projected_at", nullable = false)
+    private Instant projectedAt;
+}
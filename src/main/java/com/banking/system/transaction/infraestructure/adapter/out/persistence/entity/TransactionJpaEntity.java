@@ -59,6 +59,10 @@ public class TransactionJpaEntity {
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
+    // Assigned by a database trigger when the writing transaction commits
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     @PrePersist
     public void prePersist() {
         this.createdAt = Instant.now();
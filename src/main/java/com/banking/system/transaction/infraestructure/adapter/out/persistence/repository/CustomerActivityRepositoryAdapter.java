@@ -0,0 +1,58 @@
+package com.banking.system.transaction.infraestructure.adapter.out.persistence.repository;
+
+import com.banking.system.common.domain.PageRequest;
+import com.banking.system.common.domain.dto.PagedResult;
+import com.banking.system.common.infraestructure.mapper.PageMapper;
+import com.banking.system.transaction.domain.model.CustomerActivity;
+import com.banking.system.transaction.domain.port.out.CustomerActivityRepositoryPort;
+import com.banking.system.transaction.infraestructure.adapter.out.mapper.CustomerActivityJpaEntityMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class CustomerActivityRepositoryAdapter implements CustomerActivityRepositoryPort {
+    // Matches idx_customer_activity_feed, so a page is an index range scan with no sort step
+    private static final Sort FEED_ORDER = Sort.by(Sort.Direction.DESC, "executedAt", "transactionId");
+
+    private final SpringDataCustomerActivityRepository customerActivityRepository;
+
+    @Override
+    public void project(UUID transactionId) {
+        customerActivityRepository.projectTransaction(transactionId);
+    }
+
+    @Override
+    public int projectMissing(Duration lookback) {
+        return customerActivityRepository.projectMissingSince(lookback.toSeconds());
+    }
+
+    @Override
+    public PagedResult<CustomerActivity> findByCustomerId(UUID customerId, PageRequest pageRequest) {
+        var pageable = org.springframework.data.domain.PageRequest.of(
+                pageRequest.page(),
+                pageRequest.size(),
+                FEED_ORDER
+        );
+
+        var page = customerActivityRepository.findByCustomerId(customerId, pageable);
+        return PageMapper.toPagedResult(page, CustomerActivityJpaEntityMapper::toDomain);
+    }
+
+    @Override
+    public List<UUID> findAllAccountIds() {
+        return customerActivityRepository.findAllAccountIds();
+    }
+
+    @Override
+    public int rebuildAccounts(List<UUID> accountIds) {
+        UUID[] ids = accountIds.toArray(UUID[]::new);
+        customerActivityRepository.deleteStaleForAccounts(ids);
+        return customerActivityRepository.projectAccounts(ids);
+    }
+}
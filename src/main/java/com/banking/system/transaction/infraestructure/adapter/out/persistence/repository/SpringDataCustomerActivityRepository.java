@@ -0,0 +1,96 @@
+package com.banking.system.transaction.infraestructure.adapter.out.persistence.repository;
+
+import com.banking.system.transaction.infraestructure.adapter.out.persistence.entity.CustomerActivityJpaEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SpringDataCustomerActivityRepository extends JpaRepository<CustomerActivityJpaEntity, UUID> {
+
+    /**
+     * Completed transactions joined with their owner and, for transfers, the transfer and
+     * the counterparty account. Shared by the single-row and the rebuild upserts so both
+     * always produce the same entry.
+     */
+    String PROJECTION = """
+            INSERT INTO customer_activity (transaction_id, customer_id, account_id, transaction_type, amount, amount_fee,
+                                           currency, balance_after, description, reference_number, executed_at,
+                                           transfer_id, transfer_category, counterparty_alias, projected_at)
+            SELECT t.id, a.customer_id, t.account_id, t.transaction_type, t.amount, tr.fee_amount, t.currency,
+                   t.balance_after, t.description, t.reference_number, t.executed_at,
+                   tr.id, tr.category, cp.alias, NOW()
+            FROM transactions t
+                     JOIN accounts a ON a.id = t.account_id
+                     LEFT JOIN LATERAL (SELECT x.id,
+                                               x.category,
+                                               -- The fee is charged with the debit, so only that side carries it
+                                               CASE WHEN x.debit_transaction_id = t.id THEN x.fee_amount END AS fee_amount,
+                                               CASE
+                                                   WHEN x.debit_transaction_id = t.id THEN x.destination_account_id
+                                                   WHEN x.credit_transaction_id = t.id THEN x.source_account_id
+                                                   END AS counterparty_account_id
+                                        FROM transfers x
+                                        WHERE x.debit_transaction_id = t.id
+                                           OR x.credit_transaction_id = t.id
+                                           OR x.fee_transaction_id = t.id
+                                        LIMIT 1) tr ON TRUE
+                     LEFT JOIN accounts cp ON cp.id = tr.counterparty_account_id
+            WHERE t.status = 'COMPLETED'
+            """;
+
+    String UPSERT = """
+            ON CONFLICT (transaction_id) DO UPDATE SET
+                customer_id = EXCLUDED.customer_id,
+                account_id = EXCLUDED.account_id,
+                transaction_type = EXCLUDED.transaction_type,
+                amount = EXCLUDED.amount,
+                amount_fee = EXCLUDED.amount_fee,
+                currency = EXCLUDED.currency,
+                balance_after = EXCLUDED.balance_after,
+                description = EXCLUDED.description,
+                reference_number = EXCLUDED.reference_number,
+                executed_at = EXCLUDED.executed_at,
+                transfer_id = EXCLUDED.transfer_id,
+                transfer_category = EXCLUDED.transfer_category,
+                counterparty_alias = EXCLUDED.counterparty_alias,
+                projected_at = EXCLUDED.projected_at
+            """;
+
+    Page<CustomerActivityJpaEntity> findByCustomerId(UUID customerId, Pageable pageable);
+
+    @Modifying
+    @Query(value = PROJECTION + " AND t.id = :transactionId " + UPSERT, nativeQuery = true)
+    int projectTransaction(@Param("transactionId") UUID transactionId);
+
+    @Modifying
+    @Query(value = PROJECTION + " AND t.account_id = ANY(:accountIds) " + UPSERT, nativeQuery = true)
+    int projectAccounts(@Param("accountIds") UUID[] accountIds);
+
+    // Entries whose transaction was reversed, failed or deleted since it was projected
+    @Modifying
+    @Query(value = """
+            DELETE FROM customer_activity ca
+            WHERE ca.account_id = ANY(:accountIds)
+              AND NOT EXISTS (SELECT 1 FROM transactions t WHERE t.id = ca.transaction_id AND t.status = 'COMPLETED')
+            """, nativeQuery = true)
+    int deleteStaleForAccounts(@Param("accountIds") UUID[] accountIds);
+
+    // Completed transactions of the window with no entry, e.g. because their live projection failed
+    @Modifying
+    @Query(value = PROJECTION + """
+             AND t.executed_at >= NOW() - make_interval(secs => :lookbackSeconds)
+             AND NOT EXISTS (SELECT 1 FROM customer_activity ca WHERE ca.transaction_id = t.id)
+            """ + UPSERT, nativeQuery = true)
+    int projectMissingSince(@Param("lookbackSeconds") long lookbackSeconds);
+
+    @Query(value = "SELECT id FROM accounts ORDER BY id", nativeQuery = true)
+    List<UUID> findAllAccountIds();
+}
@@ -25,6 +25,26 @@ public interface SpringDataTransactionRepository extends JpaRepository<Transacti
 
     Page<TransactionJpaEntity> findAllByAccountIdInAndStatus(List<UUID> accountIds, TransactionStatus status, Pageable pageable);
 
+    // List return type: no COUNT query, unlike the paged finders
+    List<TransactionJpaEntity> findByAccountIdAndStatus(UUID accountId, TransactionStatus status, Pageable pageable);
+
+    @Query("SELECT t FROM TransactionJpaEntity t " +
+            "WHERE t.accountId IN (SELECT a.id FROM AccountJpaEntity a WHERE a.customerId = :customerId) " +
+            "AND t.status = :status")
+    List<TransactionJpaEntity> findRecentByCustomerIdAndStatus(
+            @Param("customerId") UUID customerId,
+            @Param("status") TransactionStatus status,
+            Pageable pageable);
+
+    // Served by the (account_id, change_seq) index; NULL sequences are still uncommitted
+    @Query("SELECT t FROM TransactionJpaEntity t " +
+            "WHERE t.accountId = :accountId AND t.changeSeq > :afterSequence " +
+            "ORDER BY t.changeSeq")
+    List<TransactionJpaEntity> findChangesSince(
+            @Param("accountId") UUID accountId,
+            @Param("afterSequence") long afterSequence,
+            Pageable pageable);
+
     @Query("SELECT COALESCE(SUM(t.amount), 0) FROM TransactionJpaEntity t " +
             "WHERE t.accountId = :accountId AND t.transactionType = :type " +
             "AND t.status = 'COMPLETED' AND t.executedAt >= :since")
@@ -4,11 +4,16 @@ import com.banking.system.common.domain.PageRequest;
 import com.banking.system.common.domain.dto.PagedResult;
 import com.banking.system.common.infraestructure.mapper.PageMapper;
 import com.banking.system.transaction.domain.model.Transaction;
+import com.banking.system.transaction.domain.model.TransactionChange;
+import com.banking.system.transaction.domain.model.TransactionSearchCriteria;
+import com.banking.system.transaction.domain.model.TransactionSearchCursor;
 import com.banking.system.transaction.domain.model.TransactionStatus;
 import com.banking.system.transaction.domain.model.TransactionType;
 import com.banking.system.transaction.domain.port.out.TransactionRepositoryPort;
 import com.banking.system.transaction.infraestructure.adapter.out.mapper.TransactionJpaEntityMapper;
 import com.banking.system.transaction.infraestructure.adapter.out.persistence.entity.TransactionJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
@@ -24,6 +29,9 @@ import java.util.UUID;
 public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
     private final SpringDataTransactionRepository transactionJpaRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     public Transaction save(Transaction transaction) {
         TransactionJpaEntity txJpaEntity = TransactionJpaEntity.builder()
@@ -101,6 +109,45 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
         return PageMapper.toPagedResult(page, TransactionJpaEntityMapper::toDomainEntity);
     }
 
+    @Override
+    public List<TransactionChange> findChangesByAccountIdSince(UUID accountId, long afterSequence, int limit) {
+        var pageable = org.springframework.data.domain.PageRequest.of(0, limit);
+
+        return transactionJpaRepository.findChangesSince(accountId, afterSequence, pageable).stream()
+                .map(entity -> new TransactionChange(entity.getChangeSeq(), TransactionJpaEntityMapper.toDomainEntity(entity)))
+                .toList();
+    }
+
+    @Override
+    public List<Transaction> findRecentByAccountIdAndStatus(UUID accountId, TransactionStatus status, int limit) {
+        var pageable = org.springframework.data.domain.PageRequest.of(0, limit, SORT_BY_EXECUTED_AT_DESC);
+
+        return transactionJpaRepository.findByAccountIdAndStatus(accountId, status, pageable).stream()
+                .map(TransactionJpaEntityMapper::toDomainEntity)
+                .toList();
+    }
+
+    @Override
+    public List<Transaction> findRecentByCustomerIdAndStatus(UUID customerId, TransactionStatus status, int limit) {
+        var pageable = org.springframework.data.domain.PageRequest.of(0, limit, SORT_BY_EXECUTED_AT_DESC);
+
+        return transactionJpaRepository.findRecentByCustomerIdAndStatus(customerId, status, pageable).stream()
+                .map(TransactionJpaEntityMapper::toDomainEntity)
+                .toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Transaction> search(TransactionSearchCriteria criteria, TransactionSearchCursor after, int limit) {
+        var query = TransactionSearchQuery.of(criteria, after, limit);
+        var nativeQuery = entityManager.createNativeQuery(query.sql(), TransactionJpaEntity.class);
+        query.parameters().forEach(nativeQuery::setParameter);
+
+        return ((List<TransactionJpaEntity>) nativeQuery.getResultList()).stream()
+                .map(TransactionJpaEntityMapper::toDomainEntity)
+                .toList();
+    }
+
     @Override
     public BigDecimal sumCompletedAmountByAccountIdAndTypeSince(UUID accountId, TransactionType type, Instant since) {
         return transactionJpaRepository.sumCompletedAmountByAccountIdAndTypeSince(accountId, type, since);
@@ -0,0 +1,88 @@
+package com.banking.system.transaction.infraestructure.adapter.out.persistence.repository;
+
+import com.banking.system.transaction.domain.model.TransactionSearchCriteria;
+import com.banking.system.transaction.domain.model.TransactionSearchCursor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Native SQL for a transaction search, with only the predicates the criteria set.
+ * <p>
+ * The leading predicate is always an indexed one: {@code account_id} with the date range
+ * (an ordered range scan of {@code idx_transactions_account_executed_at}), or the
+ * description text (a {@code pg_trgm} bitmap scan combined with the date range). The
+ * criteria cannot be built without one of them, so no search scans the table.
+ * </p>
+ */
+public final class TransactionSearchQuery {
+
+    private final String sql;
+    private final Map<String, Object> parameters;
+
+    private TransactionSearchQuery(String sql, Map<String, Object> parameters) {
+        this.sql = sql;
+        this.parameters = parameters;
+    }
+
+    public static TransactionSearchQuery of(TransactionSearchCriteria criteria, TransactionSearchCursor after, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT t.* FROM transactions t WHERE ");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        if (criteria.hasAccount()) {
+            sql.append("t.account_id = :accountId");
+            parameters.put("accountId", criteria.accountId());
+        } else {
+            sql.append("t.description ILIKE :text");
+            parameters.put("text", containsPattern(criteria.text()));
+        }
+
+        sql.append(" AND t.executed_at >= :from AND t.executed_at < :to");
+        parameters.put("from", criteria.from());
+        parameters.put("to", criteria.to());
+
+        if (criteria.hasAccount() && criteria.text() != null) {
+            sql.append(" AND t.description ILIKE :text");
+            parameters.put("text", containsPattern(criteria.text()));
+        }
+        if (criteria.type() != null) {
+            sql.append(" AND t.transaction_type = :type");
+            parameters.put("type", criteria.type().name());
+        }
+        if (criteria.minAmount() != null) {
+            sql.append(" AND t.amount >= :minAmount");
+            parameters.put("minAmount", criteria.minAmount());
+        }
+        if (criteria.maxAmount() != null) {
+            sql.append(" AND t.amount <= :maxAmount");
+            parameters.put("maxAmount", criteria.maxAmount());
+        }
+        if (after != null) {
+            sql.append(" AND (t.executed_at, t.id) < (:afterExecutedAt, :afterId)");
+            parameters.put("afterExecutedAt", after.executedAt());
+            parameters.put("afterId", after.id());
+        }
+
+        sql.append(" ORDER BY t.executed_at DESC, t.id DESC LIMIT :limit");
+        parameters.put("limit", limit);
+
+        return new TransactionSearchQuery(sql.toString(), parameters);
+    }
+
+    public String sql() {
+        return sql;
+    }
+
+    public Map<String, Object> parameters() {
+        return parameters;
+    }
+
+    // ILIKE wildcards in the text are matched literally; backslash is the default escape
+    private static String containsPattern(String text) {
+        String escaped = text
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
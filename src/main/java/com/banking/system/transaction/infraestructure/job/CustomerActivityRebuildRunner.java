@@ -0,0 +1,32 @@
+package com.banking.system.transaction.infraestructure.job;
+
+import com.banking.system.transaction.application.usecase.RebuildCustomerActivityUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Regenerates the customer activity feed from the transactions table at startup.
+ *
+ * <p>Off by default. Run once with {@code --customer-activity.rebuild-on-startup=true}
+ * after changing the projection or to repair entries whose live projection failed;
+ * the application keeps serving while the rebuild runs, as the feed is upserted in place.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "customer-activity.rebuild-on-startup", havingValue = "true")
+public class CustomerActivityRebuildRunner implements ApplicationRunner {
+
+    private final RebuildCustomerActivityUseCase rebuildCustomerActivityUseCase;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var result = rebuildCustomerActivityUseCase.rebuild();
+        log.info("Customer activity rebuild finished: {} accounts, {} batches, {} entries, {} ms",
+                result.accounts(), result.batches(), result.entries(), result.elapsedMs());
+    }
+}
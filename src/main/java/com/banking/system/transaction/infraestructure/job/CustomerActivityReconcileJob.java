@@ -0,0 +1,36 @@
+package com.banking.system.transaction.infraestructure.job;
+
+import com.banking.system.transaction.application.service.CustomerActivityService;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically projects completed transactions missing from the customer activity feed,
+ * so an entry whose live projection failed appears within one interval instead of
+ * waiting for a full rebuild.
+ *
+ * <p>Only the {@code customer-activity.reconcile.lookback-ms} window is scanned (by the
+ * {@code executed_at} index); older gaps still need a rebuild.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerActivityReconcileJob {
+
+    private final CustomerActivityService customerActivityService;
+
+    @Scheduled(fixedDelayString = "${customer-activity.reconcile.interval-ms:60000}")
+    public void reconcile() {
+        try {
+            int projected = customerActivityService.reconcile();
+            if (projected > 0) {
+                log.warn("Customer activity reconciliation projected {} missing entries", projected);
+            }
+        } catch (BulkheadFullException e) {
+            log.debug("Customer activity reconciliation skipped, batch workload saturated");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+-- ============================================================================
+-- V10__add_customer_search_indexes.sql
+-- Indexes behind GET /api/v1/customers/search.
+--   * by name: trigram GiST on the full name folded to lowercase without
+--     accents, so 'perez' finds 'Pérez'. GiST rather than GIN because it can
+--     also return rows ordered by trigram distance (<->), so ranking is done by
+--     the index scan itself and stops after LIMIT rows;
+--   * by document: B-tree in C collation, which serves LIKE 'prefix%' as a
+--     range scan already in document order.
+-- ============================================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() is only STABLE (its dictionary can be changed), so it cannot appear
+-- in an index. Pinning the dictionary makes the result fixed, hence IMMUTABLE.
+CREATE FUNCTION customer_search_key(value TEXT) RETURNS TEXT
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+    STRICT
+AS
+$$
+SELECT lower(public.unaccent('public.unaccent'::regdictionary, value))
+$$;
+
+CREATE INDEX idx_customers_name_search ON customers
+    USING gist (customer_search_key(first_name || ' ' || last_name) gist_trgm_ops);
+
+CREATE INDEX idx_customers_document_prefix ON customers (document_number COLLATE "C");
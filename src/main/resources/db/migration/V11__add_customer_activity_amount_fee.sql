@@ -0,0 +1,15 @@
+-- ============================================================================
+-- V11__add_customer_activity_amount_fee.sql
+-- Carries the transfer fee in the customer activity feed, so entries expose the
+-- same amountFee as the per-account transaction listing. Set on the debit side
+-- of a transfer that charged a fee, NULL everywhere else.
+-- ============================================================================
+
+ALTER TABLE customer_activity
+    ADD COLUMN amount_fee NUMERIC(19, 2);
+
+UPDATE customer_activity ca
+SET amount_fee = tr.fee_amount
+FROM transfers tr
+WHERE tr.debit_transaction_id = ca.transaction_id
+  AND tr.fee_amount IS NOT NULL;
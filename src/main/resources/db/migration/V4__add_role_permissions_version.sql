@@ -0,0 +1,36 @@
+-- ============================================================================
+-- V4__add_role_permissions_version.sql
+-- Versions role permission assignments so access tokens carrying a
+-- permission bitset can be detected as stale after a role change.
+-- ============================================================================
+
+ALTER TABLE roles
+    ADD COLUMN permissions_version INT NOT NULL DEFAULT 1;
+
+-- Bump the owning role's version on any change to its permission assignments
+CREATE OR REPLACE FUNCTION bump_role_permissions_version() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        UPDATE roles
+        SET permissions_version = permissions_version + 1,
+            updated_at          = NOW()
+        WHERE id = OLD.role_id;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        UPDATE roles
+        SET permissions_version = permissions_version + 1,
+            updated_at          = NOW()
+        WHERE id = NEW.role_id;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_role_permissions_version
+    AFTER INSERT OR UPDATE OR DELETE
+    ON role_permissions
+    FOR EACH ROW
+EXECUTE FUNCTION bump_role_permissions_version();
@@ -0,0 +1,61 @@
+-- ============================================================================
+-- V5__add_transaction_change_sequence.sql
+-- Gives every transaction a per-account change sequence for delta sync.
+-- Each insert and each status change takes the account's next number, so a
+-- client only has to ask for rows above the last sequence it has seen.
+-- ============================================================================
+
+-- One counter row per account; its row lock serializes numbering per account
+CREATE TABLE account_change_sequences
+(
+    account_id UUID PRIMARY KEY,
+    last_seq   BIGINT NOT NULL
+);
+
+-- NULL only inside the writing transaction, the commit trigger fills it in
+ALTER TABLE transactions
+    ADD COLUMN change_seq BIGINT;
+
+UPDATE transactions t
+SET change_seq = numbered.seq
+FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY account_id ORDER BY created_at, id) AS seq
+      FROM transactions) numbered
+WHERE t.id = numbered.id;
+
+INSERT INTO account_change_sequences (account_id, last_seq)
+SELECT account_id, MAX(change_seq)
+FROM transactions
+GROUP BY account_id;
+
+CREATE UNIQUE INDEX idx_transactions_account_change_seq ON transactions (account_id, change_seq);
+
+-- Numbers are taken at commit and the counter lock is held until the commit
+-- ends, so sequences are gapless and become visible in order per account
+CREATE OR REPLACE FUNCTION assign_transaction_change_seq() RETURNS TRIGGER AS
+$$
+DECLARE
+    next_seq BIGINT;
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.status IS NOT DISTINCT FROM NEW.status THEN
+        RETURN NULL;
+    END IF;
+
+    INSERT INTO account_change_sequences AS s (account_id, last_seq)
+    VALUES (NEW.account_id, 1)
+    ON CONFLICT (account_id) DO UPDATE SET last_seq = s.last_seq + 1
+    RETURNING last_seq INTO next_seq;
+
+    UPDATE transactions
+    SET change_seq = next_seq
+    WHERE id = NEW.id;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE CONSTRAINT TRIGGER trg_transactions_change_seq
+    AFTER INSERT OR UPDATE OF status
+    ON transactions
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW
+EXECUTE FUNCTION assign_transaction_change_seq();
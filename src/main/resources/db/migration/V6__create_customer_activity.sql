@@ -0,0 +1,70 @@
+-- ============================================================================
+-- V6__create_customer_activity.sql
+-- Denormalized activity feed per customer (CQRS read model).
+-- One row per completed transaction, already joined with its owner and, for
+-- transfers, with the transfer category and the counterparty's alias, so the
+-- feed is a single index range scan on (customer_id, executed_at, id).
+-- Maintained from transaction completion events; can be rebuilt from the
+-- transactions table at any time.
+-- ============================================================================
+
+CREATE TABLE customer_activity
+(
+    transaction_id     UUID PRIMARY KEY,
+    customer_id        UUID           NOT NULL,
+    account_id         UUID           NOT NULL,
+
+    transaction_type   VARCHAR(20)    NOT NULL,
+    amount             NUMERIC(19, 2) NOT NULL,
+    currency           VARCHAR(3)     NOT NULL,
+    balance_after      NUMERIC(19, 2) NOT NULL,
+    description        VARCHAR(500),
+    reference_number   VARCHAR(100),
+    executed_at        TIMESTAMP      NOT NULL,
+
+    -- Transfer context, NULL for deposits, withdrawals, etc.
+    transfer_id        UUID,
+    transfer_category  VARCHAR(50),
+    counterparty_alias VARCHAR(50),
+
+    projected_at       TIMESTAMP      NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_customer_activity_feed ON customer_activity (customer_id, executed_at DESC, transaction_id DESC);
+CREATE INDEX idx_customer_activity_account ON customer_activity (account_id);
+
+-- Lets the projection find the transfer of a fee transaction by index too
+CREATE INDEX idx_transfers_fee_transaction ON transfers (fee_transaction_id) WHERE fee_transaction_id IS NOT NULL;
+
+-- Initial load; same projection as the application's upsert
+INSERT INTO customer_activity (transaction_id, customer_id, account_id, transaction_type, amount, currency,
+                               balance_after, description, reference_number, executed_at,
+                               transfer_id, transfer_category, counterparty_alias)
+SELECT t.id,
+       a.customer_id,
+       t.account_id,
+       t.transaction_type,
+       t.amount,
+       t.currency,
+       t.balance_after,
+       t.description,
+       t.reference_number,
+       t.executed_at,
+       tr.id,
+       tr.category,
+       cp.alias
+FROM transactions t
+         JOIN accounts a ON a.id = t.account_id
+         LEFT JOIN LATERAL (SELECT x.id,
+                                   x.category,
+                                   CASE
+                                       WHEN x.debit_transaction_id = t.id THEN x.destination_account_id
+                                       WHEN x.credit_transaction_id = t.id THEN x.source_account_id
+                                       END AS counterparty_account_id
+                            FROM transfers x
+                            WHERE x.debit_transaction_id = t.id
+                               OR x.credit_transaction_id = t.id
+                               OR x.fee_transaction_id = t.id
+                            LIMIT 1) tr ON TRUE
+         LEFT JOIN accounts cp ON cp.id = tr.counterparty_account_id
+WHERE t.status = 'COMPLETED';
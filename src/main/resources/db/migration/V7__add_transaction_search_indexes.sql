@@ -0,0 +1,22 @@
+-- ============================================================================
+-- V7__add_transaction_search_indexes.sql
+-- Indexes behind GET /api/v1/transactions/search.
+-- Every search is anchored on one of them, so none scans the table:
+--   * by account: ordered range scan on (account_id, executed_at), which also
+--     serves the per-account history pages;
+--   * by text: trigram GIN on description (ILIKE '%text%'), combined with the
+--     executed_at index for the mandatory date range.
+-- Built CONCURRENTLY so writes to transactions keep flowing during the build,
+-- which cannot run inside a transaction (see the .sql.conf next to this file).
+-- A failed concurrent build leaves an INVALID index behind: drop it before
+-- retrying the migration.
+-- ============================================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY idx_transactions_account_executed_at ON transactions (account_id, executed_at DESC, id DESC);
+
+-- Prefix of the index above
+DROP INDEX CONCURRENTLY IF EXISTS idx_transactions_account;
+
+CREATE INDEX CONCURRENTLY idx_transactions_description_trgm ON transactions USING gin (description gin_trgm_ops);
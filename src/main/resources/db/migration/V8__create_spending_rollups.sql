@@ -0,0 +1,42 @@
+-- ============================================================================
+-- V8__create_spending_rollups.sql
+-- Spending per customer, transfer category and month (read model behind
+-- GET /api/v1/analytics/spending). One row per currency; a transfer counts
+-- for the customer owning its source account once its debit is completed.
+-- Each completed transfer re-aggregates its own row; the whole table can be
+-- recomputed from transfers at any time.
+-- ============================================================================
+
+CREATE TABLE spending_rollups
+(
+    customer_id    UUID           NOT NULL,
+    month          DATE           NOT NULL, -- first day of the month
+    category       VARCHAR(50)    NOT NULL,
+    currency       VARCHAR(3)     NOT NULL,
+
+    total_amount   NUMERIC(19, 2) NOT NULL,
+    transfer_count INTEGER        NOT NULL,
+
+    updated_at     TIMESTAMP      NOT NULL DEFAULT NOW(),
+
+    PRIMARY KEY (customer_id, month, category, currency)
+);
+
+-- Re-aggregating one month of an account's transfers is a range scan on this index
+CREATE INDEX idx_transfers_source_executed_at ON transfers (source_account_id, executed_at);
+
+-- Prefix of the index above
+DROP INDEX IF EXISTS idx_transfers_source;
+
+-- Initial load; same aggregation as the application's backfill
+INSERT INTO spending_rollups (customer_id, month, category, currency, total_amount, transfer_count)
+SELECT a.customer_id,
+       date_trunc('month', t.executed_at)::date,
+       t.category,
+       t.currency,
+       SUM(t.amount),
+       COUNT(*)
+FROM accounts a
+         JOIN transfers t ON t.source_account_id = a.id
+         JOIN transactions d ON d.id = t.debit_transaction_id AND d.status = 'COMPLETED'
+GROUP BY 1, 2, 3, 4;
@@ -0,0 +1,16 @@
+-- ============================================================================
+-- V9__add_customer_listing_indexes.sql
+-- Keyset pagination of GET /api/v1/customers, ordered by
+-- (customer_since DESC, id DESC). Each filter compliance pages through has an
+-- index in that order restricted to its rows, so every page is a bounded
+-- index scan however deep it is. APPROVED, the bulk of the table, is served
+-- by the unrestricted index with a filter.
+-- ============================================================================
+
+CREATE INDEX idx_customers_since ON customers (customer_since DESC, id DESC);
+
+CREATE INDEX idx_customers_kyc_pending ON customers (customer_since DESC, id DESC) WHERE kyc_status = 'PENDING';
+CREATE INDEX idx_customers_kyc_rejected ON customers (customer_since DESC, id DESC) WHERE kyc_status = 'REJECTED';
+
+CREATE INDEX idx_customers_risk_high ON customers (customer_since DESC, id DESC) WHERE risk_level = 'HIGH';
+CREATE INDEX idx_customers_risk_medium ON customers (customer_since DESC, id DESC) WHERE risk_level = 'MEDIUM';
@@ -0,0 +1,65 @@
+package com.banking.system.integration.account;
+
+import com.banking.system.account.domain.model.AccountBalance;
+import com.banking.system.account.domain.port.out.AccountRepositoryPort;
+import com.banking.system.integration.AbstractIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the batch balance projection against Postgres, where column aliases are case-folded.
+ */
+class AccountBalancesQueryIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private AccountRepositoryPort accountRepositoryPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID customerId = UUID.randomUUID();
+    private final UUID otherCustomerId = UUID.randomUUID();
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM accounts WHERE customer_id IN (?, ?)", customerId, otherCustomerId);
+    }
+
+    @Test
+    void shouldReadBalancesOfTheCustomersAccountsOnly() {
+        UUID savings = insertAccount(customerId, "0000000000000000000001", "ARS", "1500.00", "1200.00");
+        UUID dollars = insertAccount(customerId, "0000000000000000000002", "USD", "80.50", "80.50");
+        UUID foreign = insertAccount(otherCustomerId, "0000000000000000000003", "ARS", "10.00", "10.00");
+
+        List<AccountBalance> balances = accountRepositoryPort.findBalancesByIdsAndCustomerId(
+                List.of(savings, dollars, foreign), customerId);
+
+        assertThat(balances).extracting(AccountBalance::accountId).containsExactlyInAnyOrder(savings, dollars);
+        AccountBalance savingsBalance = balances.stream()
+                .filter(balance -> balance.accountId().equals(savings))
+                .findFirst()
+                .orElseThrow();
+        assertThat(savingsBalance.balance().getValue()).isEqualByComparingTo(new BigDecimal("1500.00"));
+        assertThat(savingsBalance.availableBalance().getValue()).isEqualByComparingTo(new BigDecimal("1200.00"));
+        assertThat(savingsBalance.availableBalance().getCurrency().code()).isEqualTo("ARS");
+        assertThat(savingsBalance.updatedAt()).isNotNull();
+    }
+
+    private UUID insertAccount(UUID owner, String accountNumber, String currency, String balance, String available) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                        INSERT INTO accounts (id, customer_id, account_number, account_type, currency, balance, available_balance)
+                        VALUES (?, ?, ?, 'SAVINGS', ?, ?, ?)
+                        """,
+                id, owner, accountNumber, currency, new BigDecimal(balance), new BigDecimal(available));
+        return id;
+    }
+}
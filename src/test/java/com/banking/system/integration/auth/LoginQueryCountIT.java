@@ -0,0 +1,150 @@
+package com.banking.system.integration.auth;
+
+import com.banking.system.auth.domain.model.UserStatus;
+import com.banking.system.auth.infraestructure.adapter.out.persistence.repository.SpringDataUserRepository;
+import com.banking.system.auth.infraestructure.adapter.out.persistence.repository.SpringVerificationTokenJpaRepository;
+import com.banking.system.customer.infraestructure.adapter.out.persistence.repository.SpringDataCustomerRepository;
+import com.banking.system.integration.AbstractIntegrationTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Regression test for the statements issued by a login. A warm login (role permission
+ * mask already cached) must stay at a fixed number of statements and never touch the
+ * role/permission tables.
+ */
+class LoginQueryCountIT extends AbstractIntegrationTest {
+
+    // Credentials projection, last-login swap, refresh token revocation, refresh token insert
+    private static final int EXPECTED_LOGIN_STATEMENTS = 4;
+
+    @DynamicPropertySource
+    static void statementInspector(DynamicPropertyRegistry registry) {
+        registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector",
+                RecordingStatementInspector.class::getName);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SpringDataUserRepository userRepository;
+
+    @Autowired
+    private SpringVerificationTokenJpaRepository tokenRepository;
+
+    @Autowired
+    private SpringDataCustomerRepository customerRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tokenRepository.deleteAll();
+        customerRepository.deleteAll();
+        userRepository.deleteAll();
+
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRegisterRequest())))
+                .andExpect(status().isCreated());
+
+        var user = userRepository.findByEmail("query-count@example.com").orElseThrow();
+        user.setStatus(UserStatus.ACTIVE);
+        userRepository.save(user);
+
+        // Warm-up login loads the role permission mask into the cache
+        login();
+    }
+
+    @Test
+    void shouldIssueFixedNumberOfStatementsPerLogin() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            RecordingStatementInspector.reset();
+
+            login();
+
+            assertThat(RecordingStatementInspector.statements()).hasSize(EXPECTED_LOGIN_STATEMENTS);
+        }
+    }
+
+    @Test
+    void shouldNotLoadRolePermissionsOnLogin() throws Exception {
+        RecordingStatementInspector.reset();
+
+        login();
+
+        assertThat(RecordingStatementInspector.statements())
+                .noneMatch(sql -> sql.contains("permissions"));
+    }
+
+    private void login() throws Exception {
+        Map<String, String> loginRequest = new HashMap<>();
+        loginRequest.put("email", "query-count@example.com");
+        loginRequest.put("password", "Secure_Pass123");
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk());
+    }
+
+    private Map<String, Object> createRegisterRequest() {
+        Map<String, Object> request = new HashMap<>();
+
+        request.put("email", "query-count@example.com");
+        request.put("password", "Secure_Pass123");
+        request.put("firstName", "John");
+        request.put("lastName", "Doe");
+        request.put("documentType", "DNI");
+        request.put("documentNumber", "87654321");
+        request.put("birthDate", LocalDate.of(1990, 1, 1).toString());
+        request.put("phone", "+5491112345678");
+        request.put("city", "Buenos Aires");
+        request.put("country", "AR");
+        request.put("address", "Av. Corrientes 1234");
+
+        return request;
+    }
+
+    /**
+     * Records every SQL statement Hibernate prepares, including native queries.
+     * Instantiated by Hibernate from the class name, hence the static state.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static void reset() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> statements() {
+            return List.copyOf(STATEMENTS);
+        }
+    }
+}
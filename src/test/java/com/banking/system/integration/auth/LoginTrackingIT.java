@@ -0,0 +1,122 @@
+package com.banking.system.integration.auth;
+
+import com.banking.system.auth.domain.model.UserStatus;
+import com.banking.system.auth.infraestructure.adapter.out.persistence.LoginTrackingAdapter;
+import com.banking.system.auth.infraestructure.adapter.out.persistence.repository.SpringDataUserRepository;
+import com.banking.system.auth.infraestructure.adapter.out.persistence.repository.SpringVerificationTokenJpaRepository;
+import com.banking.system.customer.infraestructure.adapter.out.persistence.repository.SpringDataCustomerRepository;
+import com.banking.system.integration.AbstractIntegrationTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Covers the synchronous last-login swap: the single UPDATE ... RETURNING statement must
+ * store the new login and hand back the value it replaced.
+ */
+class LoginTrackingIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private LoginTrackingAdapter loginTrackingAdapter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SpringDataUserRepository userRepository;
+
+    @Autowired
+    private SpringVerificationTokenJpaRepository tokenRepository;
+
+    @Autowired
+    private SpringDataCustomerRepository customerRepository;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tokenRepository.deleteAll();
+        customerRepository.deleteAll();
+        userRepository.deleteAll();
+
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRegisterRequest())))
+                .andExpect(status().isCreated());
+
+        var user = userRepository.findByEmail("login-tracking@example.com").orElseThrow();
+        user.setStatus(UserStatus.ACTIVE);
+        userRepository.save(user);
+        userId = user.getId();
+    }
+
+    @Test
+    void shouldReturnNullOnFirstLogin() {
+        assertThat(registerLogin()).isNull();
+        assertThat(userRepository.findLastLoginAtById(userId)).isNotNull();
+    }
+
+    @Test
+    void shouldReturnThePreviousLoginAndStoreTheNewOne() {
+        registerLogin();
+        Instant firstLogin = userRepository.findLastLoginAtById(userId);
+
+        Instant previous = registerLogin();
+
+        assertThat(previous).isEqualTo(firstLogin);
+        assertThat(userRepository.findLastLoginAtById(userId))
+                .isAfterOrEqualTo(firstLogin.truncatedTo(ChronoUnit.MICROS));
+    }
+
+    @Test
+    void shouldReturnNullForUnknownUser() {
+        userId = UUID.randomUUID();
+
+        assertThat(registerLogin()).isNull();
+    }
+
+    private Instant registerLogin() {
+        return new TransactionTemplate(transactionManager)
+                .execute(status -> loginTrackingAdapter.registerLogin(userId));
+    }
+
+    private Map<String, Object> createRegisterRequest() {
+        Map<String, Object> request = new HashMap<>();
+
+        request.put("email", "login-tracking@example.com");
+        request.put("password", "Secure_Pass123");
+        request.put("firstName", "John");
+        request.put("lastName", "Doe");
+        request.put("documentType", "DNI");
+        request.put("documentNumber", "76543210");
+        request.put("birthDate", LocalDate.of(1990, 1, 1).toString());
+        request.put("phone", "+5491112345678");
+        request.put("city", "Buenos Aires");
+        request.put("country", "AR");
+        request.put("address", "Av. Corrientes 1234");
+
+        return request;
+    }
+}
@@ -0,0 +1,106 @@
+package com.banking.system.integration.auth;
+
+import com.banking.system.auth.domain.model.RefreshToken;
+import com.banking.system.auth.domain.model.TwoFactorCode;
+import com.banking.system.auth.domain.model.VerificationToken;
+import com.banking.system.auth.domain.port.out.RefreshTokenRepositoryPort;
+import com.banking.system.auth.domain.port.out.TwoFactorCodeRepositoryPort;
+import com.banking.system.auth.domain.port.out.VerificationTokenRepositoryPort;
+import com.banking.system.auth.infraestructure.adapter.out.credential.RedisRefreshTokenAdapter;
+import com.banking.system.integration.AbstractIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the credential ports against the Redis store, using a throwaway Redis container
+ * as the local stand-in (same singleton pattern as the PostgreSQL container).
+ */
+class RedisCredentialStoreIT extends AbstractIntegrationTest {
+
+    private static final GenericContainer<?> redis =
+            new GenericContainer<>("redis:7-alpine")
+                    .withExposedPorts(6379)
+                    .withReuse(true);
+
+    static {
+        redis.start();
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("security.credential-store", () -> "redis");
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    @Autowired
+    private TwoFactorCodeRepositoryPort twoFactorCodeRepository;
+
+    @Autowired
+    private VerificationTokenRepositoryPort verificationTokenRepository;
+
+    @Autowired
+    private RefreshTokenRepositoryPort refreshTokenRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    void shouldUseRedisAdapters() {
+        assertThat(refreshTokenRepository).isInstanceOf(RedisRefreshTokenAdapter.class);
+    }
+
+    @Test
+    void shouldStoreTwoFactorCodeWithTtlAndCountAttemptsAtomically() {
+        UUID userId = UUID.randomUUID();
+        TwoFactorCode saved = twoFactorCodeRepository.save(TwoFactorCode.createNew(userId));
+
+        assertThat(saved.getId()).isNotNull();
+        assertThat(redisTemplate.getExpire("auth:2fa:" + saved.getSessionToken())).isPositive();
+        assertThat(twoFactorCodeRepository.findLatestByUserId(userId))
+                .hasValueSatisfying(code -> assertThat(code.getCode()).isEqualTo(saved.getCode()));
+
+        assertThat(twoFactorCodeRepository.incrementAttempts(saved)).isEqualTo(1);
+        assertThat(twoFactorCodeRepository.incrementAttempts(saved)).isEqualTo(2);
+
+        // Saving a stale copy must not reset the counter
+        twoFactorCodeRepository.save(saved);
+        assertThat(twoFactorCodeRepository.findBySessionToken(saved.getSessionToken()))
+                .hasValueSatisfying(code -> assertThat(code.getAttempts()).isEqualTo(2));
+    }
+
+    @Test
+    void shouldMarkVerificationTokenAsUsed() {
+        UUID userId = UUID.randomUUID();
+        VerificationToken saved = verificationTokenRepository.save(VerificationToken.createNew(userId));
+
+        saved.markUsed();
+        verificationTokenRepository.save(saved);
+
+        assertThat(verificationTokenRepository.findByToken(saved.getToken()))
+                .hasValueSatisfying(token -> assertThat(token.isUsed()).isTrue());
+        assertThat(verificationTokenRepository.findLatestByUserId(userId)).isPresent();
+    }
+
+    @Test
+    void shouldRevokeAllRefreshTokensOfUser() {
+        UUID userId = UUID.randomUUID();
+        RefreshToken first = refreshTokenRepository.save(RefreshToken.createNew(userId));
+        RefreshToken second = refreshTokenRepository.save(RefreshToken.createNew(userId));
+        RefreshToken otherUser = refreshTokenRepository.save(RefreshToken.createNew(UUID.randomUUID()));
+
+        refreshTokenRepository.revokeAllByUserId(userId);
+
+        assertThat(refreshTokenRepository.findByToken(first.getToken())).isEmpty();
+        assertThat(refreshTokenRepository.findByToken(second.getToken())).isEmpty();
+        assertThat(refreshTokenRepository.findByToken(otherUser.getToken())).isPresent();
+    }
+}
@@ -0,0 +1,95 @@
+package com.banking.system.integration.common;
+
+import com.banking.system.common.infraestructure.context.RequestContext;
+import com.banking.system.integration.AbstractIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the routing DataSource against a second PostgreSQL container standing in for the
+ * replica. The two databases have different names, so {@code current_database()} tells
+ * which one served each transaction.
+ */
+class ReplicaRoutingIT extends AbstractIntegrationTest {
+
+    private static final String REPLICA_DB_NAME = "replicadb";
+
+    private static final PostgreSQLContainer<?> replica =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName(REPLICA_DB_NAME)
+                    .withUsername("test")
+                    .withPassword("test")
+                    .withReuse(true);
+
+    static {
+        replica.start();
+    }
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("datasource.replica.enabled", () -> "true");
+        registry.add("datasource.replica.url", replica::getJdbcUrl);
+        registry.add("datasource.replica.username", replica::getUsername);
+        registry.add("datasource.replica.password", replica::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        assertThat(readOnly()).isEqualTo(REPLICA_DB_NAME);
+    }
+
+    @Test
+    void shouldRouteReadWriteTransactionsToPrimary() {
+        assertThat(readWrite()).isNotEqualTo(REPLICA_DB_NAME);
+    }
+
+    @Test
+    void shouldReadOwnWritesFromPrimary() {
+        UUID writer = UUID.randomUUID();
+
+        try (RequestContext.Scope ignored = RequestContext.open(user(writer))) {
+            readWrite();
+
+            assertThat(readOnly()).isNotEqualTo(REPLICA_DB_NAME);
+        }
+
+        // Other users are not affected by someone else's write
+        try (RequestContext.Scope ignored = RequestContext.open(user(UUID.randomUUID()))) {
+            assertThat(readOnly()).isEqualTo(REPLICA_DB_NAME);
+        }
+    }
+
+    private String readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> currentDatabase());
+    }
+
+    private String readWrite() {
+        return new TransactionTemplate(transactionManager).execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT current_database()", String.class);
+    }
+
+    private static RequestContext user(UUID userId) {
+        return RequestContext.anonymous("replica-routing-it").withPrincipal(userId, "CUSTOMER", null);
+    }
+}
@@ -42,4 +42,14 @@ class CustomerRestControllerTestIT extends AbstractIntegrationTest {
                         .authorities(new SimpleGrantedAuthority("CUSTOMER_VIEW_OWN"))))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void shouldReturnBadRequest_whenSearchLimitIsOutOfRange() throws Exception {
+        mockMvc.perform(get("/api/v1/customers/search")
+                .param("q", "perez")
+                .param("limit", "0")
+                .with(user(UUID.randomUUID().toString())
+                        .authorities(new SimpleGrantedAuthority("CUSTOMER_VIEW_ALL"))))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,121 @@
+package com.banking.system.integration.customer;
+
+import com.banking.system.customer.domain.model.CustomerSearchTerm;
+import com.banking.system.customer.domain.port.out.CustomerSearchPort;
+import com.banking.system.integration.AbstractIntegrationTest;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency budget of the customer search over a large table. Opt-in, as seeding takes
+ * minutes at full size:
+ * <pre>
+ * mvn verify -Dit.test=CustomerSearchBenchmarkIT \
+ *     -Dbenchmark.customer-search.rows=10000000 -Dbenchmark.customer-search.p99-ms=50
+ * </pre>
+ * Every search shape must keep its p99 under the budget and return matches ranked best first.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark.customer-search.rows", matches = "\\d+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CustomerSearchBenchmarkIT extends AbstractIntegrationTest {
+
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 500;
+    private static final int LIMIT = 20;
+
+    @Autowired
+    private CustomerSearchPort customerSearchPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final long rows = Long.getLong("benchmark.customer-search.rows");
+    private final long p99BudgetMs = Long.getLong("benchmark.customer-search.p99-ms", 50);
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE customers CASCADE");
+        // Names repeat across the table, as real ones do; DNIs are unique and spread over 8 digits
+        jdbcTemplate.update("""
+                INSERT INTO customers (id, user_id, first_name, last_name, document_type, document_number,
+                                       birth_date, customer_since, kyc_status, risk_level)
+                SELECT gen_random_uuid(),
+                       gen_random_uuid(),
+                       (ARRAY ['Juan','María','José','Lucía','Martín','Sofía','Agustín','Valentina','Tomás','Camila',
+                               'Joaquín','Florencia','Nicolás','Julieta','Matías','Ramón','Inés','Germán','Belén','Andrés'])[1 + n % 20],
+                       (ARRAY ['Pérez','González','Rodríguez','Fernández','López','Martínez','García','Sánchez','Romero',
+                               'Sosa','Álvarez','Torres','Ruiz','Ramírez','Flores','Benítez','Acosta','Medina','Herrera',
+                               'Suárez','Aguirre','Giménez','Gutiérrez','Pereyra','Rojas','Molina','Castro','Ortiz',
+                               'Núñez','Quiroga'])[1 + (n / 20) % 30] || (ARRAY ['','s','ez','ini','elli'])[1 + (n / 600) % 5],
+                       'DNI',
+                       (10000000 + (n * 7919) % 89999999)::text,
+                       DATE '1960-01-01' + (n % 15000),
+                       DATE '2015-01-01' + (n % 4000),
+                       (ARRAY ['APPROVED','PENDING','REJECTED'])[1 + n % 3],
+                       (ARRAY ['LOW','MEDIUM','HIGH'])[1 + n % 3]
+                FROM generate_series(1, ?) AS n
+                """, rows);
+        jdbcTemplate.execute("ANALYZE customers");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.execute("TRUNCATE customers CASCADE");
+    }
+
+    @Test
+    void shouldSearchWithinBudget() {
+        String existingDocument = jdbcTemplate.queryForObject(
+                "SELECT document_number FROM customers LIMIT 1", String.class);
+        List<String> texts = List.of(
+                "perez",            // one common word, accent-insensitive
+                "maria gonzalez",   // two words in the order typed
+                "gonzal mari",      // partial words in the other order
+                "quirogaelli",      // rare name
+                "123",              // short document prefix, many matches
+                "1234567",          // long document prefix
+                existingDocument    // exact document
+        );
+
+        texts.forEach(text -> {
+            var term = CustomerSearchTerm.parse(text);
+            var matches = customerSearchPort.search(term, LIMIT);
+            assertThat(matches).as("matches of '%s'", text).isNotEmpty();
+            for (int i = 1; i < matches.size(); i++) {
+                if (term.kind() == CustomerSearchTerm.Kind.DOCUMENT) {
+                    assertThat(matches.get(i).documentNumber()).isGreaterThan(matches.get(i - 1).documentNumber());
+                } else {
+                    assertThat(matches.get(i).score()).isLessThanOrEqualTo(matches.get(i - 1).score());
+                }
+            }
+
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                customerSearchPort.search(term, LIMIT);
+            }
+            long[] latenciesNs = new long[MEASURED_RUNS];
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                long startedAt = System.nanoTime();
+                customerSearchPort.search(term, LIMIT);
+                latenciesNs[i] = System.nanoTime() - startedAt;
+            }
+            Arrays.sort(latenciesNs);
+            long p99Ms = latenciesNs[(int) Math.ceil(MEASURED_RUNS * 0.99) - 1] / 1_000_000;
+
+            log.info("customer search '{}' over {} rows: p50={} ms, p99={} ms",
+                    text, rows, latenciesNs[MEASURED_RUNS / 2] / 1_000_000, p99Ms);
+            assertThat(p99Ms).as("p99 of '%s'", text).isLessThanOrEqualTo(p99BudgetMs);
+        });
+    }
+}
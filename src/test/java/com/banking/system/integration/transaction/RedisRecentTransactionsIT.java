@@ -0,0 +1,111 @@
+package com.banking.system.integration.transaction;
+
+import com.banking.system.common.domain.Money;
+import com.banking.system.common.domain.MoneyCurrency;
+import com.banking.system.integration.AbstractIntegrationTest;
+import com.banking.system.transaction.application.port.out.RecentTransactionsCachePort;
+import com.banking.system.transaction.application.port.out.RecentTransactionsCachePort.Snapshot;
+import com.banking.system.transaction.domain.model.Description;
+import com.banking.system.transaction.domain.model.ReferenceNumber;
+import com.banking.system.transaction.domain.model.Transaction;
+import com.banking.system.transaction.domain.model.TransactionStatus;
+import com.banking.system.transaction.domain.model.TransactionType;
+import com.banking.system.transaction.infraestructure.adapter.out.cache.RedisRecentTransactionsAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the recent-transactions scripts against Redis: appends must never extend the TTL
+ * set by the seed, and an eviction must also discard seeds in progress.
+ */
+class RedisRecentTransactionsIT extends AbstractIntegrationTest {
+
+    private static final long TTL_MS = 5_000;
+
+    private static final GenericContainer<?> redis =
+            new GenericContainer<>("redis:7-alpine")
+                    .withExposedPorts(6379)
+                    .withReuse(true);
+
+    static {
+        redis.start();
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("transaction.recent.store", () -> "redis");
+        registry.add("transaction.recent.ttl-ms", () -> TTL_MS);
+        registry.add("transaction.recent.local-ttl-ms", () -> 1);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    @Autowired
+    private RecentTransactionsCachePort cache;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private final UUID accountId = UUID.randomUUID();
+
+    @Test
+    void shouldUseRedisAdapter() {
+        assertThat(cache).isInstanceOf(RedisRecentTransactionsAdapter.class);
+    }
+
+    @Test
+    void shouldExpireAppendsWithTheSeed() throws InterruptedException {
+        cache.seed(accountId, new Snapshot(UUID.randomUUID(), List.of()), cache.seedVersion(accountId));
+        Thread.sleep(1_000);
+
+        cache.append(transaction());
+
+        long ownerTtl = redisTemplate.getExpire(key(":owner"), TimeUnit.MILLISECONDS);
+        long listTtl = redisTemplate.getExpire(key(""), TimeUnit.MILLISECONDS);
+        assertThat(ownerTtl).isPositive().isLessThanOrEqualTo(TTL_MS - 1_000);
+        assertThat(listTtl).isPositive().isLessThanOrEqualTo(ownerTtl);
+    }
+
+    @Test
+    void shouldDiscardSeedReadBeforeEviction() {
+        long seedVersion = cache.seedVersion(accountId);
+
+        cache.evict(accountId);
+        cache.seed(accountId, new Snapshot(UUID.randomUUID(), List.of(transaction())), seedVersion);
+
+        assertThat(redisTemplate.hasKey(key(":owner"))).isFalse();
+        assertThat(cache.find(accountId)).isEmpty();
+    }
+
+    private String key(String suffix) {
+        return "tx:recent:{" + accountId + "}" + suffix;
+    }
+
+    private Transaction transaction() {
+        MoneyCurrency currency = MoneyCurrency.ofCode("ARS");
+        return Transaction.reconstitute(
+                UUID.randomUUID(),
+                accountId,
+                TransactionType.DEPOSIT,
+                Money.of(new BigDecimal("100.00"), currency),
+                Money.of(new BigDecimal("100.00"), currency),
+                new Description("Deposit"),
+                ReferenceNumber.generate(),
+                null,
+                TransactionStatus.COMPLETED,
+                Instant.now()
+        );
+    }
+}
@@ -0,0 +1,144 @@
+package com.banking.system.integration.transaction;
+
+import com.banking.system.integration.AbstractIntegrationTest;
+import com.banking.system.transaction.domain.model.TransactionSearchCriteria;
+import com.banking.system.transaction.domain.model.TransactionType;
+import com.banking.system.transaction.domain.port.out.TransactionRepositoryPort;
+import com.banking.system.transaction.infraestructure.adapter.out.persistence.repository.TransactionSearchQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency budget of the transaction search over a large table. Opt-in, as seeding takes
+ * minutes at full size:
+ * <pre>
+ * mvn verify -Dit.test=TransactionSearchBenchmarkIT \
+ *     -Dbenchmark.transaction-search.rows=50000000 -Dbenchmark.transaction-search.p99-ms=100
+ * </pre>
+ * Every query shape must use an index (no sequential scan on transactions) and keep its
+ * p99 under the budget.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark.transaction-search.rows", matches = "\\d+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionSearchBenchmarkIT extends AbstractIntegrationTest {
+
+    private static final int ACCOUNTS = 100_000;
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 500;
+    private static final int PAGE_SIZE = 51;
+    // Spread of executed_at over the seeded rows
+    private static final int HISTORY_DAYS = 730;
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired
+    private TransactionRepositoryPort transactionRepositoryPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final long rows = Long.getLong("benchmark.transaction-search.rows");
+    private final long p99BudgetMs = Long.getLong("benchmark.transaction-search.p99-ms", 100);
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE transactions CASCADE");
+        // Search does not read change sequences; assigning them would queue one deferred trigger event per row
+        jdbcTemplate.execute("ALTER TABLE transactions DISABLE TRIGGER trg_transactions_change_seq");
+        // Accounts are derived from the row number so any account ID can be recomputed in a query
+        jdbcTemplate.update("""
+                INSERT INTO transactions (id, account_id, transaction_type, amount, currency, balance_after,
+                                          description, reference_number, status, executed_at)
+                SELECT gen_random_uuid(),
+                       md5('account-' || (n % ?))::uuid,
+                       (ARRAY ['DEPOSIT','WITHDRAWAL','TRANSFER_OUT','TRANSFER_IN','FEE'])[1 + n % 5],
+                       round((random() * 10000)::numeric + 0.01, 2),
+                       'ARS',
+                       round((random() * 100000)::numeric, 2),
+                       (ARRAY ['Rent payment','Grocery store','Salary','Utilities bill','Card payment',
+                               'Transfer to savings','Restaurant','Fuel'])[1 + n % 8] || ' #' || n,
+                       'REF-' || n,
+                       'COMPLETED',
+                       ?::timestamp - (random() * ? * INTERVAL '1 day')
+                FROM generate_series(1, ?) AS n
+                """, ACCOUNTS, Timestamp.from(NOW), HISTORY_DAYS, rows);
+        jdbcTemplate.execute("ALTER TABLE transactions ENABLE TRIGGER trg_transactions_change_seq");
+        jdbcTemplate.execute("ANALYZE transactions");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.execute("TRUNCATE transactions CASCADE");
+    }
+
+    @Test
+    void shouldSearchWithinBudget() {
+        UUID accountId = jdbcTemplate.queryForObject("SELECT md5('account-42')::uuid", UUID.class);
+        Instant monthAgo = NOW.minus(31, ChronoUnit.DAYS);
+        Instant yearAgo = NOW.minus(365, ChronoUnit.DAYS);
+
+        Map<String, TransactionSearchCriteria> shapes = new LinkedHashMap<>();
+        shapes.put("account, one year", new TransactionSearchCriteria(
+                accountId, yearAgo, NOW, null, null, null, null));
+        shapes.put("account, amount and type", new TransactionSearchCriteria(
+                accountId, yearAgo, NOW, new BigDecimal("100.00"), new BigDecimal("5000.00"), TransactionType.DEPOSIT, null));
+        shapes.put("account and text", new TransactionSearchCriteria(
+                accountId, yearAgo, NOW, null, null, null, "grocery"));
+        shapes.put("text, one month", new TransactionSearchCriteria(
+                null, monthAgo, NOW, null, null, null, "#4242"));
+        shapes.put("text, amount and type, one month", new TransactionSearchCriteria(
+                null, monthAgo, NOW, new BigDecimal("9000.00"), null, TransactionType.FEE, "#12345"));
+
+        shapes.forEach((name, criteria) -> {
+            assertThat(plan(criteria)).as("plan of '%s'", name).doesNotContain("Seq Scan on transactions");
+
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                transactionRepositoryPort.search(criteria, null, PAGE_SIZE);
+            }
+            long[] latenciesNs = new long[MEASURED_RUNS];
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                long startedAt = System.nanoTime();
+                transactionRepositoryPort.search(criteria, null, PAGE_SIZE);
+                latenciesNs[i] = System.nanoTime() - startedAt;
+            }
+            Arrays.sort(latenciesNs);
+            long p99Ms = latenciesNs[(int) Math.ceil(MEASURED_RUNS * 0.99) - 1] / 1_000_000;
+
+            log.info("search '{}' over {} rows: p50={} ms, p99={} ms",
+                    name, rows, latenciesNs[MEASURED_RUNS / 2] / 1_000_000, p99Ms);
+            assertThat(p99Ms).as("p99 of '%s'", name).isLessThanOrEqualTo(p99BudgetMs);
+        });
+    }
+
+    private String plan(TransactionSearchCriteria criteria) {
+        var query = TransactionSearchQuery.of(criteria, null, PAGE_SIZE);
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        query.parameters().forEach((name, value) ->
+                parameters.put(name, value instanceof Instant instant ? Timestamp.from(instant) : value));
+
+        List<String> lines = namedParameterJdbcTemplate.queryForList("EXPLAIN " + query.sql(), parameters, String.class);
+        return String.join("\n", lines);
+    }
+}
@@ -0,0 +1,93 @@
+package com.banking.system.unit.account.application.service;
+
+import com.banking.system.account.application.dto.result.BatchAccountBalancesResult;
+import com.banking.system.account.application.service.AccountService;
+import com.banking.system.account.domain.exception.InvalidAccountOwnerException;
+import com.banking.system.account.domain.model.AccountBalance;
+import com.banking.system.account.domain.port.out.AccountRepositoryPort;
+import com.banking.system.common.domain.Money;
+import com.banking.system.common.domain.MoneyCurrency;
+import com.banking.system.customer.domain.model.Customer;
+import com.banking.system.customer.domain.port.out.CustomerRepositoryPort;
+import com.banking.system.unit.BaseServicetTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AccountService batch balances Tests")
+class AccountServiceBatchBalancesTest extends BaseServicetTest {
+
+    @Mock
+    private AccountRepositoryPort accountRepositoryPort;
+
+    @Mock
+    private CustomerRepositoryPort customerRepositoryPort;
+
+    @InjectMocks
+    private AccountService accountService;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID customerId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should load every balance with one query scoped to the caller's customer")
+    @SuppressWarnings("unchecked")
+    void shouldLoadBalancesInOneQuery() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID foreign = UUID.randomUUID();
+        givenCustomer();
+        when(accountRepositoryPort.findBalancesByIdsAndCustomerId(any(), eq(customerId)))
+                .thenReturn(List.of(balance(second, "20.00"), balance(first, "10.00")));
+
+        BatchAccountBalancesResult result = accountService.batchGetBalances(List.of(first, foreign, second, first), userId);
+
+        ArgumentCaptor<Collection<UUID>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(accountRepositoryPort, times(1)).findBalancesByIdsAndCustomerId(ids.capture(), eq(customerId));
+        assertEquals(List.of(first, foreign, second), List.copyOf(ids.getValue()));
+        verify(accountRepositoryPort, never()).findById(any());
+
+        assertEquals(List.of(first, second), result.balances().stream().map(b -> b.accountId()).toList());
+        assertEquals(new BigDecimal("10.00"), result.balances().getFirst().balance());
+        assertEquals(List.of(foreign), result.notFound());
+    }
+
+    @Test
+    @DisplayName("Should reject callers without a customer profile")
+    void shouldRejectUnknownCustomer() {
+        when(customerRepositoryPort.findByUserId(userId)).thenReturn(Optional.empty());
+
+        assertThrows(InvalidAccountOwnerException.class,
+                () -> accountService.batchGetBalances(List.of(UUID.randomUUID()), userId));
+        verifyNoInteractions(accountRepositoryPort);
+    }
+
+    private void givenCustomer() {
+        Customer customer = mock(Customer.class);
+        when(customer.getId()).thenReturn(customerId);
+        when(customerRepositoryPort.findByUserId(userId)).thenReturn(Optional.of(customer));
+    }
+
+    private static AccountBalance balance(UUID accountId, String amount) {
+        MoneyCurrency currency = MoneyCurrency.ofCode("ARS");
+        return new AccountBalance(
+                accountId,
+                Money.of(new BigDecimal(amount), currency),
+                Money.of(new BigDecimal(amount), currency),
+                Instant.now()
+        );
+    }
+}
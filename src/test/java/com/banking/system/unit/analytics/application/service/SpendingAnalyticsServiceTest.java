@@ -0,0 +1,163 @@
+package com.banking.system.unit.analytics.application.service;
+
+import com.banking.system.analytics.application.dto.result.SpendingBackfillResult;
+import com.banking.system.analytics.application.dto.result.SpendingSummaryResult;
+import com.banking.system.analytics.application.service.SpendingAnalyticsService;
+import com.banking.system.analytics.domain.model.SpendingRollup;
+import com.banking.system.analytics.domain.port.out.SpendingRollupRepositoryPort;
+import com.banking.system.common.domain.Money;
+import com.banking.system.common.domain.MoneyCurrency;
+import com.banking.system.common.infraestructure.bulkhead.Workload;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkheads;
+import com.banking.system.customer.domain.model.Customer;
+import com.banking.system.customer.domain.port.out.CustomerRepositoryPort;
+import com.banking.system.transaction.domain.exception.KycNotApprovedException;
+import com.banking.system.transaction.domain.model.TransferCategory;
+import com.banking.system.unit.BaseServicetTest;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SpendingAnalyticsService Tests")
+class SpendingAnalyticsServiceTest extends BaseServicetTest {
+
+    @Mock
+    private SpendingRollupRepositoryPort spendingRollupRepositoryPort;
+
+    @Mock
+    private CustomerRepositoryPort customerRepositoryPort;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private WorkloadBulkheads workloadBulkheads;
+    private SpendingAnalyticsService spendingAnalyticsService;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID customerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        // Two BATCH permits, fewer than the three workers configured
+        workloadBulkheads = new WorkloadBulkheads(
+                BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(2).maxWaitDuration(Duration.ofSeconds(5)).build()),
+                new SimpleMeterRegistry());
+        spendingAnalyticsService = new SpendingAnalyticsService(
+                spendingRollupRepositoryPort, customerRepositoryPort, workloadBulkheads, transactionManager, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Should read the rollups of the caller's customer for the requested months")
+    void shouldReadRollupsForRange() {
+        givenCustomer(true);
+        YearMonth from = YearMonth.of(2026, 1);
+        YearMonth to = YearMonth.of(2026, 3);
+        var rollup = new SpendingRollup(to, TransferCategory.FOOD,
+                Money.of(new BigDecimal("1500.00"), MoneyCurrency.ofCode("ARS")), 4);
+        when(spendingRollupRepositoryPort.findByCustomerId(customerId, from, to)).thenReturn(List.of(rollup));
+
+        SpendingSummaryResult result = spendingAnalyticsService.getSpendingSummary(userId, from, to);
+
+        assertEquals("2026-01", result.from());
+        assertEquals("2026-03", result.to());
+        assertEquals(1, result.rollups().size());
+        assertEquals("FOOD", result.rollups().getFirst().category());
+        assertEquals(new BigDecimal("1500.00"), result.rollups().getFirst().totalAmount());
+        assertEquals(4, result.rollups().getFirst().transferCount());
+    }
+
+    @Test
+    @DisplayName("Should default to the last 12 months up to the current one")
+    void shouldDefaultToLastTwelveMonths() {
+        givenCustomer(true);
+        YearMonth now = YearMonth.now();
+
+        SpendingSummaryResult result = spendingAnalyticsService.getSpendingSummary(userId, null, null);
+
+        assertEquals(now.minusMonths(11).toString(), result.from());
+        assertEquals(now.toString(), result.to());
+        verify(spendingRollupRepositoryPort).findByCustomerId(customerId, now.minusMonths(11), now);
+    }
+
+    @Test
+    @DisplayName("Should reject inverted or too long ranges before touching the database")
+    void shouldRejectInvalidRanges() {
+        YearMonth to = YearMonth.of(2026, 6);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> spendingAnalyticsService.getSpendingSummary(userId, to.plusMonths(1), to));
+        assertThrows(IllegalArgumentException.class,
+                () -> spendingAnalyticsService.getSpendingSummary(userId, to.minusMonths(36), to));
+        verifyNoInteractions(customerRepositoryPort, spendingRollupRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should reject customers without approved KYC")
+    void shouldRejectKycNotApproved() {
+        givenCustomer(false);
+
+        assertThrows(KycNotApprovedException.class,
+                () -> spendingAnalyticsService.getSpendingSummary(userId, null, null));
+        verify(spendingRollupRepositoryPort, never()).findByCustomerId(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should backfill no more chunks at a time than there are BATCH permits and return them all")
+    void shouldBoundBackfillByBatchPermits() {
+        List<UUID> customerIds = IntStream.range(0, 8).mapToObj(i -> UUID.randomUUID()).toList();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch overlapping = new CountDownLatch(2);
+        when(spendingRollupRepositoryPort.findAllCustomerIds()).thenReturn(customerIds);
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        when(spendingRollupRepositoryPort.backfillCustomers(anyList())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            overlapping.countDown();
+            overlapping.await(1, TimeUnit.SECONDS);
+            running.decrementAndGet();
+            return 5;
+        });
+
+        SpendingBackfillResult result = spendingAnalyticsService.backfill();
+
+        assertEquals(4, result.chunks());
+        assertEquals(20, result.rollups());
+        assertEquals(2, maxRunning.get());
+        assertEquals(2, workloadBulkheads.bulkhead(Workload.BATCH).getMetrics().getAvailableConcurrentCalls());
+        verify(transactionManager, times(4)).commit(transactionStatus);
+    }
+
+    private void givenCustomer(boolean kycApproved) {
+        Customer customer = mock(Customer.class);
+        when(customer.isKycApproved()).thenReturn(kycApproved);
+        if (kycApproved) {
+            when(customer.getId()).thenReturn(customerId);
+        }
+        when(customerRepositoryPort.findByUserId(userId)).thenReturn(Optional.of(customer));
+    }
+}
@@ -0,0 +1,97 @@
+package com.banking.system.unit.auth.application.service;
+
+import com.banking.system.auth.application.dto.command.LoginCommand;
+import com.banking.system.auth.application.port.out.LoginAttemptPort;
+import com.banking.system.auth.application.service.AuthService;
+import com.banking.system.auth.application.service.TwoFactorService;
+import com.banking.system.auth.domain.exception.LoginAuthenticationAccessException;
+import com.banking.system.auth.domain.exception.UserIsLockedException;
+import com.banking.system.auth.domain.model.Email;
+import com.banking.system.auth.domain.model.RoleName;
+import com.banking.system.auth.domain.model.UserCredentials;
+import com.banking.system.auth.domain.model.UserStatus;
+import com.banking.system.auth.domain.port.out.PasswordHasher;
+import com.banking.system.auth.domain.port.out.UserRepositoryPort;
+import com.banking.system.unit.BaseServicetTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AuthService login Tests")
+class AuthServiceLoginTest extends BaseServicetTest {
+
+    private static final String EMAIL = "jane.doe@example.com";
+    private static final String PASSWORD = "S3cure!Password";
+    private static final String OLD_HASH = "$2a$10$legacyhash";
+    private static final String CLIENT_IP = "203.0.113.7";
+
+    @Mock
+    private UserRepositoryPort userRepository;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private LoginAttemptPort loginAttemptPort;
+
+    @Mock
+    private TwoFactorService twoFactorService;
+
+    @InjectMocks
+    private AuthService authService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should not upgrade the hash of a blocked user")
+    void shouldNotRehashBlockedUser() {
+        givenUser(UserStatus.BLOCKED);
+
+        assertThrows(UserIsLockedException.class,
+                () -> authService.login(new LoginCommand(EMAIL, PASSWORD, CLIENT_IP)));
+
+        verify(passwordHasher, never()).needsRehash(anyString());
+        verify(passwordHasher, never()).hash(anyString());
+        verify(userRepository, never()).updatePasswordHash(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should not upgrade the hash of an unverified user")
+    void shouldNotRehashUnverifiedUser() {
+        givenUser(UserStatus.PENDING_VERIFICATION);
+
+        assertThrows(LoginAuthenticationAccessException.class,
+                () -> authService.login(new LoginCommand(EMAIL, PASSWORD, CLIENT_IP)));
+
+        verify(passwordHasher, never()).hash(anyString());
+        verify(userRepository, never()).updatePasswordHash(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should upgrade an outdated hash once the login is allowed")
+    void shouldRehashActiveUser() {
+        givenUser(UserStatus.ACTIVE);
+        when(passwordHasher.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHasher.hash(PASSWORD)).thenReturn("$2a$12$upgradedhash");
+
+        authService.login(new LoginCommand(EMAIL, PASSWORD, CLIENT_IP));
+
+        verify(userRepository).updatePasswordHash(userId, "$2a$12$upgradedhash");
+    }
+
+    private void givenUser(UserStatus status) {
+        UserCredentials user = new UserCredentials(
+                userId, new Email(EMAIL), OLD_HASH, status, RoleName.CUSTOMER, true);
+        when(userRepository.findCredentialsByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordHasher.verify(PASSWORD, OLD_HASH)).thenReturn(true);
+    }
+}
@@ -0,0 +1,92 @@
+package com.banking.system.unit.auth.domain.model;
+
+import com.banking.system.auth.domain.model.PermissionCode;
+import com.banking.system.auth.domain.model.PermissionMask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PermissionMask Value Object Tests")
+class PermissionMaskTest {
+
+    @Nested
+    class EncodingTests {
+
+        @Test
+        @DisplayName("Should set one bit per permission code")
+        void shouldSetOneBitPerPermissionCode() {
+            PermissionMask mask = PermissionMask.of(List.of("ACCOUNT_VIEW_OWN", "TRANSACTION_TRANSFER"), 3);
+
+            assertEquals(2, Long.bitCount(mask.bits()));
+            assertEquals(3, mask.version());
+            assertTrue(mask.contains(PermissionCode.ACCOUNT_VIEW_OWN));
+            assertTrue(mask.contains(PermissionCode.TRANSACTION_TRANSFER));
+            assertFalse(mask.contains(PermissionCode.ACCOUNT_VIEW_ALL));
+        }
+
+        @Test
+        @DisplayName("Should ignore permission codes unknown to the enum")
+        void shouldIgnoreUnknownPermissionCodes() {
+            PermissionMask mask = PermissionMask.of(List.of("KYC_APPROVE", "SOMETHING_NEW"), 1);
+
+            assertEquals(PermissionCode.KYC_APPROVE.bit(), mask.bits());
+        }
+
+        @Test
+        @DisplayName("Should produce empty mask for no permissions")
+        void shouldProduceEmptyMaskForNoPermissions() {
+            PermissionMask mask = PermissionMask.of(List.of(), 1);
+
+            assertEquals(0L, mask.bits());
+            assertTrue(mask.toPermissions().isEmpty());
+        }
+    }
+
+    @Nested
+    class DecodingTests {
+
+        @Test
+        @DisplayName("Should round-trip every permission code")
+        void shouldRoundTripEveryPermissionCode() {
+            List<String> allCodes = EnumSet.allOf(PermissionCode.class).stream()
+                    .map(Enum::name)
+                    .toList();
+
+            Set<PermissionCode> decoded = PermissionMask.of(allCodes, 1).toPermissions();
+
+            assertEquals(EnumSet.allOf(PermissionCode.class), decoded);
+        }
+
+        @Test
+        @DisplayName("Should check raw bits without a mask instance")
+        void shouldCheckRawBits() {
+            long bits = PermissionCode.CUSTOMER_VIEW_OWN.bit() | PermissionCode.USER_CHANGE_ROLE.bit();
+
+            assertTrue(PermissionMask.contains(bits, PermissionCode.USER_CHANGE_ROLE));
+            assertFalse(PermissionMask.contains(bits, PermissionCode.CUSTOMER_UPDATE));
+        }
+    }
+
+    @Nested
+    class PermissionCodeTests {
+
+        @Test
+        @DisplayName("Should fit every permission code in a long")
+        void shouldFitEveryPermissionCodeInALong() {
+            assertTrue(PermissionCode.values().length <= Long.SIZE);
+        }
+
+        @Test
+        @DisplayName("Should resolve seeded codes and reject unknown ones")
+        void shouldResolveSeededCodes() {
+            assertEquals(PermissionCode.AUDIT_EXPORT, PermissionCode.fromCode("AUDIT_EXPORT").orElseThrow());
+            assertTrue(PermissionCode.fromCode("UNKNOWN").isEmpty());
+        }
+    }
+}
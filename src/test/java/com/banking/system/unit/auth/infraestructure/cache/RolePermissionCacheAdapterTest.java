@@ -0,0 +1,101 @@
+package com.banking.system.unit.auth.infraestructure.cache;
+
+import com.banking.system.auth.domain.model.PermissionMask;
+import com.banking.system.auth.domain.model.Role;
+import com.banking.system.auth.domain.model.RoleName;
+import com.banking.system.auth.domain.port.out.RoleRepositoryPort;
+import com.banking.system.auth.infraestructure.adapter.out.cache.RolePermissionCacheAdapter;
+import com.banking.system.auth.infraestructure.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RolePermissionCacheAdapter Tests")
+class RolePermissionCacheAdapterTest {
+
+    private RoleRepositoryPort roleRepository;
+    private ConcurrentMapCacheManager cacheManager;
+    private RolePermissionCacheAdapter cache;
+
+    @BeforeEach
+    void setUp() {
+        roleRepository = mock(RoleRepositoryPort.class);
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.ROLE_PERMISSIONS_CACHE);
+        cache = new RolePermissionCacheAdapter(roleRepository, cacheManager);
+    }
+
+    @Test
+    @DisplayName("Should reload a role once its permissions version changes in the database")
+    void shouldEvictChangedRoles() {
+        when(roleRepository.findByName(RoleName.CUSTOMER)).thenReturn(Optional.of(role(1)))
+                .thenReturn(Optional.of(role(2)));
+        when(roleRepository.findPermissionsVersions()).thenReturn(Map.of(RoleName.CUSTOMER, 1))
+                .thenReturn(Map.of(RoleName.CUSTOMER, 1))
+                .thenReturn(Map.of(RoleName.CUSTOMER, 2));
+        cache.evictChangedRoles();
+        assertEquals(1, cache.getPermissionMaskForRole("CUSTOMER").version());
+
+        cache.evictChangedRoles();
+        assertEquals(1, cache.getPermissionMaskForRole("CUSTOMER").version());
+
+        cache.evictChangedRoles();
+        assertEquals(2, cache.getPermissionMaskForRole("CUSTOMER").version());
+        verify(roleRepository, times(2)).findByName(RoleName.CUSTOMER);
+    }
+
+    @Test
+    @DisplayName("Should also evict the permission codes of a changed role")
+    void shouldEvictPermissionCodesOfChangedRoles() {
+        cacheManager.getCache(CacheConfig.ROLE_PERMISSIONS_CACHE).put("CUSTOMER", Set.of("ACCOUNT_VIEW_OWN"));
+        when(roleRepository.findPermissionsVersions()).thenReturn(Map.of(RoleName.CUSTOMER, 3));
+
+        cache.evictChangedRoles();
+
+        assertNull(cacheManager.getCache(CacheConfig.ROLE_PERMISSIONS_CACHE).get("CUSTOMER"));
+    }
+
+    @Test
+    @DisplayName("Should reload a role when a token carries a newer permissions version")
+    void shouldReloadForNewerTokenVersion() {
+        when(roleRepository.findByName(RoleName.CUSTOMER)).thenReturn(Optional.of(role(1)))
+                .thenReturn(Optional.of(role(2)));
+        assertEquals(1, cache.getPermissionMaskForRole("CUSTOMER").version());
+
+        assertEquals(1, cache.getPermissionMaskForRole("CUSTOMER", 1).version());
+        assertEquals(2, cache.getPermissionMaskForRole("CUSTOMER", 2).version());
+        assertEquals(2, cache.getPermissionMaskForRole("CUSTOMER").version());
+        verify(roleRepository, times(2)).findByName(RoleName.CUSTOMER);
+    }
+
+    @Test
+    @DisplayName("Should keep answering from the cache when the version check fails")
+    void shouldKeepCacheWhenVersionCheckFails() {
+        when(roleRepository.findByName(RoleName.CUSTOMER)).thenReturn(Optional.of(role(1)));
+        when(roleRepository.findPermissionsVersions()).thenThrow(new IllegalStateException("database unavailable"));
+        cache.getPermissionMaskForRole("CUSTOMER");
+
+        cache.evictChangedRoles();
+
+        assertEquals(1, cache.getPermissionMaskForRole("CUSTOMER").version());
+        verify(roleRepository).findByName(RoleName.CUSTOMER);
+    }
+
+    @Test
+    @DisplayName("Should return the empty mask for an unknown role whatever the version")
+    void shouldReturnEmptyMaskForUnknownRole() {
+        assertSame(PermissionMask.EMPTY, cache.getPermissionMaskForRole("NOT_A_ROLE", 5));
+    }
+
+    private static Role role(int permissionsVersion) {
+        return Role.reconstitute(UUID.randomUUID(), RoleName.CUSTOMER, "Customer", Set.of(), permissionsVersion);
+    }
+}
@@ -0,0 +1,81 @@
+package com.banking.system.unit.auth.infraestructure.lockout;
+
+import com.banking.system.auth.application.port.out.LoginAttemptPort.FailureOutcome;
+import com.banking.system.auth.infraestructure.adapter.out.lockout.InMemoryLoginAttemptAdapter;
+import com.banking.system.auth.infraestructure.adapter.out.lockout.LoginLockoutPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryLoginAttemptAdapter Tests")
+class InMemoryLoginAttemptAdapterTest {
+
+    private static final String CLIENT_IP = "203.0.113.7";
+
+    private final UUID userId = UUID.randomUUID();
+    private InMemoryLoginAttemptAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new InMemoryLoginAttemptAdapter(new LoginLockoutPolicy(
+                3, Duration.ofMinutes(15), Duration.ofMinutes(15),
+                10, Duration.ofMinutes(15), Duration.ofMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("Should lock the user once the failure threshold is reached")
+    void shouldLockAtThreshold() {
+        assertNull(adapter.recordFailure(userId, CLIENT_IP).lockedUntil());
+        FailureOutcome second = adapter.recordFailure(userId, CLIENT_IP);
+        assertEquals(2, second.failedAttempts());
+        assertNull(second.lockedUntil());
+        assertTrue(adapter.findActiveLock(userId, CLIENT_IP).isEmpty());
+
+        FailureOutcome third = adapter.recordFailure(userId, CLIENT_IP);
+
+        assertEquals(3, third.failedAttempts());
+        assertNotNull(third.lockedUntil());
+        assertEquals(third.lockedUntil(), adapter.findActiveLock(userId, CLIENT_IP).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should report a persisted lock to the first successful login only")
+    void shouldReportPersistedLockOnce() {
+        for (int i = 0; i < 3; i++) {
+            adapter.recordFailure(userId, CLIENT_IP);
+        }
+
+        assertTrue(adapter.recordSuccess(userId));
+        assertFalse(adapter.recordSuccess(userId));
+    }
+
+    @Test
+    @DisplayName("Should clear the failure window on success without reporting a lock")
+    void shouldClearFailuresOnSuccess() {
+        adapter.recordFailure(userId, CLIENT_IP);
+        adapter.recordFailure(userId, CLIENT_IP);
+
+        assertFalse(adapter.recordSuccess(userId));
+
+        FailureOutcome next = adapter.recordFailure(userId, CLIENT_IP);
+        assertEquals(1, next.failedAttempts());
+        assertNull(next.lockedUntil());
+    }
+
+    @Test
+    @DisplayName("Should lock the client IP without a user")
+    void shouldLockIpWithoutUser() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(FailureOutcome.NONE, adapter.recordFailure(null, CLIENT_IP));
+        }
+
+        assertTrue(adapter.findActiveLock(null, CLIENT_IP).isPresent());
+        assertTrue(adapter.findActiveLock(userId, CLIENT_IP).isPresent());
+        assertTrue(adapter.findActiveLock(null, "198.51.100.1").isEmpty());
+    }
+}
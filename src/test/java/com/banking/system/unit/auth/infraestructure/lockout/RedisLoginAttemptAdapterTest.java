@@ -0,0 +1,121 @@
+package com.banking.system.unit.auth.infraestructure.lockout;
+
+import com.banking.system.auth.application.port.out.LoginAttemptPort.FailureOutcome;
+import com.banking.system.auth.infraestructure.adapter.out.lockout.LoginLockoutPolicy;
+import com.banking.system.auth.infraestructure.adapter.out.lockout.RedisLoginAttemptAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RedisLoginAttemptAdapter Tests")
+class RedisLoginAttemptAdapterTest {
+
+    private static final String CLIENT_IP = "203.0.113.7";
+
+    private final UUID userId = UUID.randomUUID();
+    private final LoginLockoutPolicy policy = new LoginLockoutPolicy(
+            5, Duration.ofMinutes(15), Duration.ofMinutes(15),
+            20, Duration.ofMinutes(15), Duration.ofMinutes(5));
+
+    private StringRedisTemplate redisTemplate;
+    private RedisLoginAttemptAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        adapter = new RedisLoginAttemptAdapter(redisTemplate, policy);
+    }
+
+    @Test
+    @DisplayName("Should pass the lock-persisted marker and its expiry to the failure script")
+    @SuppressWarnings("unchecked")
+    void shouldPassMarkerToFailureScript() {
+        List<Object[]> invocations = new ArrayList<>();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    invocations.add(invocation.getRawArguments());
+                    return List.of(1L, 0L, 1L, 0L);
+                });
+
+        adapter.recordFailure(userId, CLIENT_IP);
+
+        Object[] raw = invocations.getFirst();
+        assertEquals(List.of(
+                "login:failures:user:" + userId,
+                "login:lock:user:" + userId,
+                "login:failures:ip:" + CLIENT_IP,
+                "login:lock:ip:" + CLIENT_IP,
+                "login:lock-persisted:user:" + userId), raw[1]);
+        Object[] scriptArgs = (Object[]) raw[2];
+        assertEquals(9, scriptArgs.length);
+        assertEquals(String.valueOf(policy.persistedLockMemory().toMillis()), scriptArgs[2]);
+        assertTrue(policy.persistedLockMemory().compareTo(policy.userLockDuration()) > 0);
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("Should not pass a marker when the user is unknown")
+    @SuppressWarnings("unchecked")
+    void shouldNotPassMarkerWithoutUser() {
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        when(redisTemplate.execute(any(RedisScript.class), keys.capture(), any(Object[].class)))
+                .thenReturn(List.of(1L, 0L));
+
+        assertEquals(FailureOutcome.NONE, adapter.recordFailure(null, CLIENT_IP));
+        assertEquals(List.of("login:failures:ip:" + CLIENT_IP, "login:lock:ip:" + CLIENT_IP), keys.getValue());
+    }
+
+    @Test
+    @DisplayName("Should return the lock expiry when the threshold is reached")
+    @SuppressWarnings("unchecked")
+    void shouldReturnLockAtThreshold() {
+        long lockedUntil = System.currentTimeMillis() + policy.userLockDuration().toMillis();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(5L, lockedUntil, 5L, 0L));
+
+        FailureOutcome outcome = adapter.recordFailure(userId, CLIENT_IP);
+
+        assertEquals(5, outcome.failedAttempts());
+        assertEquals(Instant.ofEpochMilli(lockedUntil), outcome.lockedUntil());
+    }
+
+    @Test
+    @DisplayName("Should fail open when Redis is unavailable")
+    @SuppressWarnings("unchecked")
+    void shouldFailOpen() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertEquals(FailureOutcome.NONE, adapter.recordFailure(userId, CLIENT_IP));
+        assertFalse(adapter.recordSuccess(userId));
+    }
+
+    @Test
+    @DisplayName("Should clear the window and report a persisted lock on success")
+    @SuppressWarnings("unchecked")
+    void shouldReportPersistedLockOnSuccess() {
+        List<String> keys = List.of("login:failures:user:" + userId, "login:lock-persisted:user:" + userId);
+        when(redisTemplate.execute(any(RedisScript.class), eq(keys))).thenReturn(1L, 0L);
+
+        assertTrue(adapter.recordSuccess(userId));
+        assertFalse(adapter.recordSuccess(userId));
+    }
+}
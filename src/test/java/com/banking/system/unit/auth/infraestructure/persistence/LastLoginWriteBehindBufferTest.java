@@ -0,0 +1,162 @@
+package com.banking.system.unit.auth.infraestructure.persistence;
+
+import com.banking.system.auth.infraestructure.adapter.out.persistence.LastLoginWriteBehindBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("LastLoginWriteBehindBuffer Tests")
+class LastLoginWriteBehindBufferTest {
+
+    private static final Instant LOGIN_AT = Instant.parse("2026-10-19T10:00:00Z");
+
+    private JdbcTemplate jdbcTemplate;
+    private List<List<Map.Entry<UUID, Instant>>> writtenBatches;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        writtenBatches = new ArrayList<>();
+        onBatchUpdate(batch -> { });
+    }
+
+    @Test
+    @DisplayName("Should write buffered logins and not rewrite them on the next flush")
+    void shouldFlushBufferedLogins() {
+        LastLoginWriteBehindBuffer buffer = new LastLoginWriteBehindBuffer(jdbcTemplate, 500);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        buffer.record(first, LOGIN_AT);
+        buffer.record(second, LOGIN_AT.plusSeconds(1));
+
+        buffer.flush();
+        buffer.flush();
+
+        assertEquals(1, writtenBatches.size());
+        assertEquals(Map.of(first, LOGIN_AT, second, LOGIN_AT.plusSeconds(1)), toMap(writtenBatches.getFirst()));
+    }
+
+    @Test
+    @DisplayName("Should collapse repeated logins of a user into the latest one")
+    void shouldCoalesceRepeatedLogins() {
+        LastLoginWriteBehindBuffer buffer = new LastLoginWriteBehindBuffer(jdbcTemplate, 500);
+        UUID userId = UUID.randomUUID();
+
+        assertNull(buffer.record(userId, LOGIN_AT));
+        assertEquals(LOGIN_AT, buffer.record(userId, LOGIN_AT.plusSeconds(5)));
+        buffer.flush();
+
+        assertEquals(List.of(Map.entry(userId, LOGIN_AT.plusSeconds(5))), writtenBatches.getFirst());
+    }
+
+    @Test
+    @DisplayName("Should split the flush into batches of the configured size")
+    void shouldWriteInBatches() {
+        LastLoginWriteBehindBuffer buffer = new LastLoginWriteBehindBuffer(jdbcTemplate, 2);
+        for (int i = 0; i < 5; i++) {
+            buffer.record(UUID.randomUUID(), LOGIN_AT);
+        }
+
+        buffer.flush();
+
+        assertEquals(List.of(2, 2, 1), writtenBatches.stream().map(List::size).toList());
+    }
+
+    @Test
+    @DisplayName("Should keep a login recorded while its previous value was being written")
+    void shouldKeepLoginReplacedDuringWrite() {
+        LastLoginWriteBehindBuffer buffer = new LastLoginWriteBehindBuffer(jdbcTemplate, 500);
+        UUID userId = UUID.randomUUID();
+        buffer.record(userId, LOGIN_AT);
+        onBatchUpdate(batch -> {
+            if (writtenBatches.size() == 1) {
+                buffer.record(userId, LOGIN_AT.plusSeconds(10));
+            }
+        });
+
+        buffer.flush();
+        buffer.flush();
+
+        assertEquals(2, writtenBatches.size());
+        assertEquals(List.of(Map.entry(userId, LOGIN_AT.plusSeconds(10))), writtenBatches.get(1));
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch on the next flush")
+    void shouldRetryFailedBatch() {
+        LastLoginWriteBehindBuffer buffer = new LastLoginWriteBehindBuffer(jdbcTemplate, 500);
+        UUID userId = UUID.randomUUID();
+        buffer.record(userId, LOGIN_AT);
+        onBatchUpdate(batch -> {
+            if (writtenBatches.size() == 1) {
+                throw new DataAccessResourceFailureException("connection refused");
+            }
+        });
+
+        assertDoesNotThrow(buffer::flush);
+        buffer.flush();
+
+        assertEquals(2, writtenBatches.size());
+        assertEquals(writtenBatches.get(0), writtenBatches.get(1));
+    }
+
+    @Test
+    @DisplayName("Should drain the buffer on shutdown")
+    void shouldDrainOnShutdown() {
+        LastLoginWriteBehindBuffer buffer = new LastLoginWriteBehindBuffer(jdbcTemplate, 500);
+        UUID userId = UUID.randomUUID();
+        buffer.record(userId, LOGIN_AT);
+
+        buffer.flushOnShutdown();
+
+        assertEquals(List.of(Map.entry(userId, LOGIN_AT)), writtenBatches.getFirst());
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when nothing is buffered")
+    void shouldSkipEmptyFlush() {
+        LastLoginWriteBehindBuffer buffer = new LastLoginWriteBehindBuffer(jdbcTemplate, 500);
+
+        buffer.flush();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    /**
+     * Records a copy of every batch handed to the JDBC template (the buffer reuses the list)
+     * and then runs the given action.
+     */
+    @SuppressWarnings("unchecked")
+    private void onBatchUpdate(Consumer<List<Map.Entry<UUID, Instant>>> action) {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(inv -> {
+                    List<Map.Entry<UUID, Instant>> batch =
+                            List.copyOf((Collection<Map.Entry<UUID, Instant>>) inv.getArgument(1));
+                    writtenBatches.add(batch);
+                    action.accept(batch);
+                    return new int[][]{};
+                });
+    }
+
+    private static Map<UUID, Instant> toMap(List<Map.Entry<UUID, Instant>> batch) {
+        return Map.ofEntries(batch.toArray(Map.Entry[]::new));
+    }
+}
@@ -0,0 +1,139 @@
+package com.banking.system.unit.auth.infraestructure.ratelimit;
+
+import com.banking.system.auth.infraestructure.adapter.out.ratelimit.HybridRateLimiter;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.VerboseResult;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
+import io.github.bucket4j.distributed.AsyncVerboseBucket;
+import io.github.bucket4j.distributed.proxy.AsyncProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteAsyncBucketBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("HybridRateLimiter Tests")
+class HybridRateLimiterTest {
+
+    private static final String KEY = "203.0.113.7:auth";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AsyncProxyManager<String> proxyManager;
+    private AsyncVerboseBucket remote;
+    private HybridRateLimiter rateLimiter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        proxyManager = mock(AsyncProxyManager.class);
+        RemoteAsyncBucketBuilder<String> builder = mock(RemoteAsyncBucketBuilder.class);
+        AsyncBucketProxy proxy = mock(AsyncBucketProxy.class);
+        remote = mock(AsyncVerboseBucket.class);
+        lenient().when(proxyManager.builder()).thenReturn(builder);
+        lenient().when(builder.build(eq(KEY), any(Supplier.class))).thenReturn(proxy);
+        lenient().when(proxy.asVerbose()).thenReturn(remote);
+
+        rateLimiter = new HybridRateLimiter(proxyManager, meterRegistry, 500, 60_000, 1000);
+    }
+
+    @Test
+    @DisplayName("Should decide locally, without touching Redis, and reject past the capacity")
+    void shouldDecideLocally() {
+        BucketConfiguration configuration = perMinute(3);
+
+        assertTrue(rateLimiter.tryConsume(KEY, configuration).isConsumed());
+        assertTrue(rateLimiter.tryConsume(KEY, configuration).isConsumed());
+        assertTrue(rateLimiter.tryConsume(KEY, configuration).isConsumed());
+        assertFalse(rateLimiter.tryConsume(KEY, configuration).isConsumed());
+
+        verifyNoInteractions(proxyManager);
+    }
+
+    @Test
+    @DisplayName("Should push the tokens consumed since the last sync to Redis in one call")
+    void shouldPushPendingTokens() {
+        givenRemoteAvailable(100);
+        BucketConfiguration configuration = perMinute(10);
+        rateLimiter.tryConsume(KEY, configuration);
+        rateLimiter.tryConsume(KEY, configuration);
+        rateLimiter.tryConsume(KEY, configuration);
+
+        rateLimiter.synchronize();
+        rateLimiter.synchronize();
+
+        verify(remote).consumeIgnoringRateLimits(3);
+        verifyNoMoreInteractions(remote);
+    }
+
+    @Test
+    @DisplayName("Should drain the local bucket to the tokens left globally")
+    void shouldReconcileWithGlobalTokens() {
+        givenRemoteAvailable(1);
+        BucketConfiguration configuration = perMinute(10);
+        rateLimiter.tryConsume(KEY, configuration);
+
+        rateLimiter.synchronize();
+
+        assertTrue(rateLimiter.tryConsume(KEY, configuration).isConsumed());
+        assertFalse(rateLimiter.tryConsume(KEY, configuration).isConsumed());
+    }
+
+    @Test
+    @DisplayName("Should suspend syncing after a Redis failure and keep enforcing local limits")
+    void shouldFallBackToLocalLimits() {
+        when(remote.consumeIgnoringRateLimits(anyLong()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("redis down")));
+        BucketConfiguration configuration = perMinute(2);
+        rateLimiter.tryConsume(KEY, configuration);
+
+        rateLimiter.synchronize();
+        rateLimiter.tryConsume(KEY, configuration);
+        rateLimiter.synchronize();
+
+        verify(remote, times(1)).consumeIgnoringRateLimits(anyLong());
+        assertEquals(1.0, meterRegistry.get("rate.limiter.sync.failures").counter().count());
+        assertEquals(1.0, meterRegistry.get("rate.limiter.degraded").gauge().value());
+        assertFalse(rateLimiter.tryConsume(KEY, configuration).isConsumed());
+    }
+
+    @Test
+    @DisplayName("Should refill the local bucket over time")
+    void shouldRefill() throws InterruptedException {
+        BucketConfiguration configuration = BucketConfiguration.builder()
+                .addLimit(Bandwidth.builder().capacity(1).refillGreedy(1, Duration.ofMillis(50)).build())
+                .build();
+
+        assertTrue(rateLimiter.tryConsume(KEY, configuration).isConsumed());
+        assertFalse(rateLimiter.tryConsume(KEY, configuration).isConsumed());
+
+        Thread.sleep(100);
+
+        assertTrue(rateLimiter.tryConsume(KEY, configuration).isConsumed());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRemoteAvailable(long availableTokens) {
+        VerboseResult<Long> result = mock(VerboseResult.class);
+        VerboseResult.Diagnostics diagnostics = mock(VerboseResult.Diagnostics.class);
+        when(result.getDiagnostics()).thenReturn(diagnostics);
+        when(diagnostics.getAvailableTokens()).thenReturn(availableTokens);
+        when(remote.consumeIgnoringRateLimits(anyLong())).thenReturn(CompletableFuture.completedFuture(result));
+    }
+
+    private static BucketConfiguration perMinute(long capacity) {
+        return BucketConfiguration.builder()
+                .addLimit(Bandwidth.builder().capacity(capacity).refillGreedy(capacity, Duration.ofMinutes(1)).build())
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.banking.system.unit.auth.infraestructure.security;
+
+import com.banking.system.auth.infraestructure.adapter.out.security.AccessTokenDenyList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccessTokenDenyList Tests")
+class AccessTokenDenyListTest {
+
+    private static final long TOKEN_LIFETIME_MS = 60_000;
+
+    private AccessTokenDenyList denyList;
+    private UUID userId;
+    private long nowMs;
+
+    @BeforeEach
+    void setUp() {
+        denyList = new AccessTokenDenyList(TOKEN_LIFETIME_MS);
+        userId = UUID.randomUUID();
+        nowMs = System.currentTimeMillis();
+    }
+
+    @Test
+    @DisplayName("Should deny only the revoked token ID")
+    void shouldDenyOnlyRevokedTokenId() {
+        denyList.denyToken("revoked-jti", System.currentTimeMillis() + TOKEN_LIFETIME_MS);
+
+        assertTrue(denyList.isDenied("revoked-jti", userId, nowMs));
+        assertFalse(denyList.isDenied("other-jti", userId, nowMs));
+        assertFalse(denyList.isDenied(null, userId, nowMs));
+    }
+
+    @Test
+    @DisplayName("Should deny tokens of the user issued before the cutoff")
+    void shouldDenyTokensIssuedBeforeCutoff() {
+        denyList.denyIssuedBefore(userId, nowMs);
+
+        assertTrue(denyList.isDenied("old-jti", userId, nowMs - 1));
+        assertFalse(denyList.isDenied("new-jti", userId, nowMs));
+        assertFalse(denyList.isDenied("other-user-jti", UUID.randomUUID(), nowMs - 1));
+    }
+
+    @Test
+    @DisplayName("Should tell apart tokens issued within the same second as the cutoff")
+    void shouldDenyWithinTheCutoffSecond() {
+        long cutoff = (nowMs / 1000) * 1000 + 500;
+        denyList.denyIssuedBefore(userId, cutoff);
+
+        assertTrue(denyList.isDenied("same-second-old-jti", userId, cutoff - 400));
+        assertFalse(denyList.isDenied("same-second-new-jti", userId, cutoff + 1));
+    }
+
+    @Test
+    @DisplayName("Should ignore revocations of tokens that already expired")
+    void shouldIgnoreAlreadyExpiredRevocations() {
+        denyList.denyToken("expired-jti", System.currentTimeMillis() - 1);
+
+        assertFalse(denyList.isDenied("expired-jti", userId, nowMs));
+        assertEquals(0, denyList.size());
+    }
+
+    @Test
+    @DisplayName("Should keep active revocations across purges")
+    void shouldKeepActiveRevocationsAcrossPurges() {
+        denyList.denyToken("revoked-jti", System.currentTimeMillis() + TOKEN_LIFETIME_MS);
+
+        denyList.purgeExpired();
+
+        assertTrue(denyList.isDenied("revoked-jti", userId, nowMs));
+    }
+}
@@ -0,0 +1,40 @@
+package com.banking.system.unit.auth.infraestructure.security;
+
+import com.banking.system.auth.infraestructure.adapter.out.security.BCryptCostCalibrator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BCryptCostCalibrator Tests")
+class BCryptCostCalibratorTest {
+
+    @Test
+    @DisplayName("Should keep the minimum cost when the target is below one hash")
+    void shouldClampToMinimumCost() {
+        assertEquals(4, BCryptCostCalibrator.calibrate(Duration.ZERO, 4, 8));
+    }
+
+    @Test
+    @DisplayName("Should stop at the maximum cost when the target allows more work")
+    void shouldClampToMaximumCost() {
+        assertEquals(6, BCryptCostCalibrator.calibrate(Duration.ofHours(1), 4, 6));
+    }
+
+    @Test
+    @DisplayName("Should pick a cost between the bounds for a realistic target")
+    void shouldPickCostWithinBounds() {
+        int cost = BCryptCostCalibrator.calibrate(Duration.ofMillis(50), 4, 12);
+
+        assertTrue(cost >= 4 && cost <= 12);
+    }
+
+    @Test
+    @DisplayName("Should reject a minimum cost above the maximum")
+    void shouldRejectInvertedBounds() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BCryptCostCalibrator.calibrate(Duration.ofMillis(250), 12, 10));
+    }
+}
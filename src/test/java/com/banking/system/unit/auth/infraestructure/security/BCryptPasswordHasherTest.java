@@ -0,0 +1,102 @@
+package com.banking.system.unit.auth.infraestructure.security;
+
+import com.banking.system.auth.domain.exception.PasswordHashingOverloadedException;
+import com.banking.system.auth.infraestructure.adapter.out.security.BCryptPasswordHasher;
+import com.banking.system.auth.infraestructure.config.PasswordHashingConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BCryptPasswordHasher Tests")
+class BCryptPasswordHasherTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should hash, verify and detect outdated costs on the hashing pool")
+    void shouldHashAndVerify() {
+        BCryptPasswordHasher hasher = hasher(new BCryptPasswordEncoder(5), 1, 2_000);
+
+        String hash = hasher.hash("S3cure!Password");
+
+        assertTrue(hasher.verify("S3cure!Password", hash));
+        assertFalse(hasher.verify("wrong", hash));
+        assertFalse(hasher.needsRehash(hash));
+        assertTrue(hasher.needsRehash(new BCryptPasswordEncoder(4).encode("S3cure!Password")));
+    }
+
+    @Test
+    @DisplayName("Should reject instead of queueing when the hashing queue is full")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        BCryptPasswordHasher hasher = hasher(blockingEncoder(), 0, 2_000);
+        CompletableFuture.runAsync(() -> hasher.verify("password", "hash"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(PasswordHashingOverloadedException.class, () -> hasher.verify("password", "hash"));
+        assertEquals(1.0, rejected("queue_full"));
+    }
+
+    @Test
+    @DisplayName("Should give up on a hash that does not complete within the timeout")
+    void shouldTimeOut() {
+        BCryptPasswordHasher hasher = hasher(blockingEncoder(), 1, 50);
+
+        assertThrows(PasswordHashingOverloadedException.class, () -> hasher.verify("password", "hash"));
+        assertEquals(1.0, rejected("timeout"));
+    }
+
+    private BCryptPasswordHasher hasher(PasswordEncoder encoder, int queueCapacity, long timeoutMs) {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return new BCryptPasswordHasher(encoder, executor, timeoutMs, meterRegistry);
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.matches("password", "hash")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        return encoder;
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get(PasswordHashingConfig.EXECUTOR_NAME + ".rejected")
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+}
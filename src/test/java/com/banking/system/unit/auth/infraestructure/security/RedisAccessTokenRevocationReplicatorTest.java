@@ -0,0 +1,95 @@
+package com.banking.system.unit.auth.infraestructure.security;
+
+import com.banking.system.auth.infraestructure.adapter.out.security.AccessTokenDenyList;
+import com.banking.system.auth.infraestructure.adapter.out.security.AccessTokenRevocationReplicator;
+import com.banking.system.auth.infraestructure.adapter.out.security.RedisAccessTokenRevocationReplicator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RedisAccessTokenRevocationReplicator Tests")
+class RedisAccessTokenRevocationReplicatorTest {
+
+    private static final long TOKEN_LIFETIME_MS = 60_000;
+
+    private final UUID userId = UUID.randomUUID();
+    private final AccessTokenDenyList denyList = new AccessTokenDenyList(TOKEN_LIFETIME_MS);
+    private StringRedisTemplate redisTemplate;
+    private RedisAccessTokenRevocationReplicator replicator;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        replicator = new RedisAccessTokenRevocationReplicator(redisTemplate, denyList);
+    }
+
+    @Test
+    @DisplayName("Should apply a millisecond user cutoff received from another node")
+    void shouldApplyUserCutoff() {
+        long cutoff = System.currentTimeMillis();
+
+        replicator.onMessage(message(AccessTokenRevocationReplicator.userMessage(userId.toString(), cutoff)), null);
+
+        assertTrue(denyList.isDenied(null, userId, cutoff - 1));
+        assertFalse(denyList.isDenied(null, userId, cutoff));
+    }
+
+    @Test
+    @DisplayName("Should ignore the retired second-precision user cutoff format")
+    void shouldIgnoreRetiredUserCutoffFormat() {
+        long cutoffSec = System.currentTimeMillis() / 1000;
+
+        replicator.onMessage(message("U:" + userId + ":" + cutoffSec), null);
+
+        assertFalse(denyList.isDenied(null, userId, cutoffSec * 1000 - 1));
+    }
+
+    @Test
+    @DisplayName("Should load the revocations still in force")
+    void shouldLoadActiveRevocations() {
+        String revoked = AccessTokenRevocationReplicator.tokenMessage("revoked-jti", System.currentTimeMillis() + TOKEN_LIFETIME_MS);
+        when(givenSnapshot().rangeByScore(anyString(), anyDouble(), anyDouble())).thenReturn(Set.of(revoked));
+
+        replicator.loadActiveRevocations();
+
+        assertTrue(denyList.isDenied("revoked-jti", userId, System.currentTimeMillis()));
+    }
+
+    @Test
+    @DisplayName("Should reload the revocations every time the channel is subscribed, including after a reconnect")
+    void shouldReloadOnEverySubscription() {
+        ZSetOperations<String, String> snapshot = givenSnapshot();
+        when(snapshot.rangeByScore(anyString(), anyDouble(), anyDouble())).thenReturn(Set.of());
+
+        byte[] channel = RedisAccessTokenRevocationReplicator.CHANNEL.getBytes(StandardCharsets.UTF_8);
+        replicator.onChannelSubscribed(channel, 1);
+        replicator.onChannelSubscribed(channel, 1);
+
+        verify(snapshot, timeout(5_000).times(2)).rangeByScore(anyString(), anyDouble(), anyDouble());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ZSetOperations<String, String> givenSnapshot() {
+        ZSetOperations<String, String> snapshot = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(snapshot);
+        return snapshot;
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                RedisAccessTokenRevocationReplicator.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
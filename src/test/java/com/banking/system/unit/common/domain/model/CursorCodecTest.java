@@ -0,0 +1,55 @@
+package com.banking.system.unit.common.domain.model;
+
+import com.banking.system.common.domain.CursorCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CursorCodec Tests")
+class CursorCodecTest {
+
+    @Test
+    @DisplayName("Should produce unpadded URL-safe tokens that round-trip")
+    void shouldRoundTripUrlSafe() {
+        String raw = "ñandú?>>";
+
+        String token = CursorCodec.encode(raw);
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+        assertEquals(raw, CursorCodec.decode(token));
+    }
+
+    @Test
+    @DisplayName("Should round-trip a keyset position")
+    void shouldRoundTripKeyset() {
+        Instant executedAt = Instant.parse("2026-10-19T10:15:30.123456Z");
+        UUID id = UUID.randomUUID();
+
+        CursorCodec.Keyset keyset = CursorCodec.decodeKeyset(CursorCodec.encodeKeyset(executedAt, id));
+
+        assertEquals(new CursorCodec.Keyset(executedAt.toString(), id), keyset);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"no-separator", "2026-10-19|not-a-uuid"})
+    @DisplayName("Should reject text that is not a keyset position")
+    void shouldRejectMalformedKeyset(String raw) {
+        String token = Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decodeKeyset(token));
+    }
+
+    @Test
+    @DisplayName("Should reject a token that is not Base64")
+    void shouldRejectNonBase64() {
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode("not base64!"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.banking.system.unit.common.infraestructure.bulkhead;
+
+import com.banking.system.common.infraestructure.bulkhead.AdaptiveBulkheadTuner;
+import com.banking.system.common.infraestructure.bulkhead.Workload;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkheads;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdaptiveBulkheadTuner Tests")
+class AdaptiveBulkheadTunerTest {
+
+    private static final double TARGET_WAIT_MS = 50;
+
+    private WorkloadBulkheads workloadBulkheads;
+    private AdaptiveBulkheadTuner tuner;
+
+    @BeforeEach
+    void setUp() {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(2)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        workloadBulkheads = new WorkloadBulkheads(registry, new SimpleMeterRegistry());
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("bulkhead.adaptive.reads.max-concurrent-calls", "3");
+        tuner = new AdaptiveBulkheadTuner(workloadBulkheads, environment, TARGET_WAIT_MS);
+    }
+
+    @Test
+    @DisplayName("Should grow a bulkhead whose callers waited longer than the target, up to its maximum")
+    void shouldGrowUpToMaximum() {
+        for (int round = 0; round < 3; round++) {
+            recordWait(Workload.READS, 200);
+            tuner.adjust();
+        }
+
+        assertEquals(3, maxConcurrentCalls(Workload.READS));
+    }
+
+    @Test
+    @DisplayName("Should shrink back to the configured size once waits drop")
+    void shouldShrinkBackToConfiguredSize() {
+        recordWait(Workload.READS, 200);
+        tuner.adjust();
+        assertEquals(3, maxConcurrentCalls(Workload.READS));
+
+        for (int round = 0; round < 3; round++) {
+            recordWait(Workload.READS, 1);
+            tuner.adjust();
+        }
+
+        assertEquals(2, maxConcurrentCalls(Workload.READS));
+    }
+
+    @Test
+    @DisplayName("Should leave a bulkhead without a configured maximum at its size")
+    void shouldNotGrowWithoutMaximum() {
+        recordWait(Workload.BATCH, 200);
+        tuner.adjust();
+
+        assertEquals(2, maxConcurrentCalls(Workload.BATCH));
+    }
+
+    @Test
+    @DisplayName("Should count rejections and release permits")
+    void shouldCountRejectionsAndReleasePermits() {
+        workloadBulkheads.acquire(Workload.MONEY_MOVEMENT);
+        workloadBulkheads.acquire(Workload.MONEY_MOVEMENT);
+
+        assertThrows(BulkheadFullException.class, () -> workloadBulkheads.acquire(Workload.MONEY_MOVEMENT));
+
+        workloadBulkheads.release(Workload.MONEY_MOVEMENT);
+        assertDoesNotThrow(() -> workloadBulkheads.acquire(Workload.MONEY_MOVEMENT));
+        // Rejected attempts count as waits too
+        assertEquals(4, workloadBulkheads.waitTimer(Workload.MONEY_MOVEMENT).count());
+    }
+
+    private void recordWait(Workload workload, long millis) {
+        workloadBulkheads.waitTimer(workload).record(millis, TimeUnit.MILLISECONDS);
+    }
+
+    private int maxConcurrentCalls(Workload workload) {
+        return workloadBulkheads.bulkhead(workload).getBulkheadConfig().getMaxConcurrentCalls();
+    }
+}
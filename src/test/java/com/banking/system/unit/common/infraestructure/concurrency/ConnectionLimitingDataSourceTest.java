@@ -0,0 +1,98 @@
+package com.banking.system.unit.common.infraestructure.concurrency;
+
+import com.banking.system.common.infraestructure.concurrency.ConnectionLimitingDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ConnectionLimitingDataSource Tests")
+class ConnectionLimitingDataSourceTest {
+
+    private DataSource target;
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(inv -> mock(Connection.class));
+        dataSource = new ConnectionLimitingDataSource(target, 2, 50);
+    }
+
+    @Test
+    @DisplayName("Should hold a permit until the connection is closed")
+    void shouldReleasePermitOnClose() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        assertEquals(1, dataSource.getAvailablePermits());
+
+        connection.close();
+
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Should return the permit only once when a connection is closed twice")
+    void shouldReleasePermitOnceOnDoubleClose() throws SQLException {
+        Connection connection = dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Should release the permit even if closing the underlying connection fails")
+    void shouldReleasePermitWhenCloseThrows() throws SQLException {
+        Connection physical = mock(Connection.class);
+        doThrow(new SQLException("broken pipe")).when(physical).close();
+        when(target.getConnection()).thenReturn(physical);
+        Connection connection = dataSource.getConnection();
+
+        assertThrows(SQLException.class, connection::close);
+
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Should release the permit when the pool fails to hand out a connection")
+    void shouldReleasePermitWhenGetConnectionThrows() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Should fail fast once every permit is taken")
+    void shouldTimeOutWhenNoPermitIsAvailable() throws SQLException {
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        first.close();
+        assertDoesNotThrow(() -> dataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("Should delegate other calls to the physical connection")
+    void shouldDelegateToPhysicalConnection() throws SQLException {
+        Connection physical = mock(Connection.class);
+        when(physical.getAutoCommit()).thenReturn(false);
+        when(target.getConnection()).thenReturn(physical);
+
+        Connection connection = dataSource.getConnection();
+
+        assertFalse(connection.getAutoCommit());
+        assertSame(connection, connection.unwrap(Connection.class));
+    }
+}
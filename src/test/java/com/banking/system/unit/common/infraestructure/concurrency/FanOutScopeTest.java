@@ -0,0 +1,98 @@
+package com.banking.system.unit.common.infraestructure.concurrency;
+
+import com.banking.system.common.infraestructure.concurrency.FanOutScope;
+import com.banking.system.common.infraestructure.context.RequestContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FanOutScope Tests")
+class FanOutScopeTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    @DisplayName("Should run subtasks on virtual threads with the caller's request context")
+    void shouldRunOnVirtualThreadsWithContext() throws Exception {
+        try (RequestContext.Scope ignored = RequestContext.open(RequestContext.anonymous("corr-fan-out"));
+             FanOutScope scope = new FanOutScope("test")) {
+            var isVirtual = scope.fork(() -> Thread.currentThread().isVirtual());
+            var correlationId = scope.fork(RequestContext::currentCorrelationId);
+
+            assertTrue(isVirtual.join(TIMEOUT));
+            assertEquals("corr-fan-out", correlationId.join(TIMEOUT));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the results of other subtasks when one times out or fails")
+    void shouldReturnPartialResults() throws Exception {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+
+        try (FanOutScope scope = new FanOutScope("test")) {
+            var slow = scope.fork(() -> neverReleased.await(1, TimeUnit.MINUTES));
+            var failing = scope.fork(() -> {
+                throw new IllegalStateException("boom");
+            });
+            var fast = scope.fork(() -> "ok");
+
+            assertThrows(TimeoutException.class, () -> slow.join(Duration.ofMillis(50)));
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> failing.join(TIMEOUT));
+            assertInstanceOf(IllegalStateException.class, failure.getCause());
+            assertEquals("ok", fast.join(TIMEOUT));
+        }
+    }
+
+    @Test
+    @DisplayName("Should interrupt subtasks still running when the scope closes")
+    void shouldCancelRunningSubtasksOnClose() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try (FanOutScope scope = new FanOutScope("test")) {
+            scope.fork(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(Duration.ofMinutes(1));
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+        }
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should not return from close until every subtask has finished")
+    void shouldWaitForSubtasksOnClose() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean finished = new AtomicBoolean();
+
+        try (FanOutScope scope = new FanOutScope("test")) {
+            scope.fork(() -> {
+                started.countDown();
+                // Ignores the interrupt, like a blocking JDBC call
+                long until = System.nanoTime() + Duration.ofMillis(200).toNanos();
+                while (System.nanoTime() < until) {
+                    Thread.onSpinWait();
+                }
+                finished.set(true);
+                return null;
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+        }
+
+        assertTrue(finished.get());
+    }
+}
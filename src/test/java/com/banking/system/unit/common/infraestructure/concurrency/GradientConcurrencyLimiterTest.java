@@ -0,0 +1,101 @@
+package com.banking.system.unit.common.infraestructure.concurrency;
+
+import com.banking.system.common.infraestructure.concurrency.GradientConcurrencyLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GradientConcurrencyLimiter Tests")
+class GradientConcurrencyLimiterTest {
+
+    private static final long BASELINE_RTT = Duration.ofMillis(10).toNanos();
+
+    @Test
+    @DisplayName("Should reject once in-flight calls reach the limit")
+    void shouldRejectAtLimit() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(2, 1, 10, 1.5, 0.2, 100);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        limiter.onIgnore();
+        assertTrue(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while latency stays at the baseline")
+    void shouldGrowAtBaselineLatency() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(4, 1, 50, 1.5, 0.2, 100);
+
+        runSaturated(limiter, BASELINE_RTT, 50);
+
+        assertTrue(limiter.getLimit() > 4, "limit was " + limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when latency rises well above the baseline")
+    void shouldShrinkWhenLatencyRises() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 2, 50, 1.5, 0.2, 1000);
+        runSaturated(limiter, BASELINE_RTT, 200);
+        int limitAtBaseline = limiter.getLimit();
+
+        runSaturated(limiter, BASELINE_RTT * 5, 20);
+
+        assertTrue(limiter.getLimit() < limitAtBaseline,
+                "limit went from " + limitAtBaseline + " to " + limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should back off on drops without going below the minimum")
+    void shouldBackOffOnDrops() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(10, 5, 50, 1.5, 0.2, 100);
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onDropped();
+        }
+
+        assertEquals(5, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should not grow while callers never come near the limit")
+    void shouldNotGrowWhenUnderused() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(10, 1, 50, 1.5, 0.2, 100);
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onSuccess(BASELINE_RTT);
+        }
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should reject inconsistent limits")
+    void shouldRejectInconsistentLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new GradientConcurrencyLimiter(5, 10, 50, 1.5, 0.2, 100));
+        assertThrows(IllegalArgumentException.class, () -> new GradientConcurrencyLimiter(60, 1, 50, 1.5, 0.2, 100));
+    }
+
+    /**
+     * Fills the limiter to its current limit, then completes every call with the given latency.
+     */
+    private static void runSaturated(GradientConcurrencyLimiter limiter, long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int admitted = 0;
+            while (limiter.tryAcquire()) {
+                admitted++;
+            }
+            for (int i = 0; i < admitted; i++) {
+                limiter.onSuccess(rttNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.banking.system.unit.common.infraestructure.context;
+
+import com.banking.system.common.infraestructure.context.RequestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequestContext Tests")
+class RequestContextTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Should bind the context and its MDC keys only inside the scope")
+    void shouldBindOnlyInsideScope() {
+        try (RequestContext.Scope ignored = RequestContext.open(RequestContext.anonymous("corr-1"))) {
+            assertEquals("corr-1", RequestContext.currentCorrelationId());
+            assertEquals("corr-1", MDC.get(RequestContext.CORRELATION_ID_MDC_KEY));
+        }
+
+        assertTrue(RequestContext.current().isEmpty());
+        assertNull(MDC.get(RequestContext.CORRELATION_ID_MDC_KEY));
+    }
+
+    @Test
+    @DisplayName("Should restore the outer binding when a nested scope closes")
+    void shouldRestoreOuterBinding() {
+        UUID userId = UUID.randomUUID();
+        RequestContext outer = RequestContext.anonymous("corr-1");
+
+        try (RequestContext.Scope ignored = RequestContext.open(outer)) {
+            try (RequestContext.Scope nested = RequestContext.open(outer.withPrincipal(userId, "CUSTOMER", null))) {
+                assertEquals(userId, RequestContext.current().orElseThrow().userId());
+                assertEquals(userId.toString(), MDC.get(RequestContext.USER_ID_MDC_KEY));
+            }
+
+            assertSame(outer, RequestContext.current().orElseThrow());
+            assertNull(MDC.get(RequestContext.USER_ID_MDC_KEY));
+        }
+    }
+
+    @Test
+    @DisplayName("Should enrich the bound context in place until its scope closes")
+    void shouldBindPrincipalInPlace() {
+        UUID userId = UUID.randomUUID();
+
+        assertTrue(RequestContext.bindPrincipal(userId, "CUSTOMER", null).isEmpty());
+
+        try (RequestContext.Scope ignored = RequestContext.open(RequestContext.anonymous("corr-1"))) {
+            RequestContext enriched = RequestContext.bindPrincipal(userId, "CUSTOMER", null).orElseThrow();
+
+            assertSame(enriched, RequestContext.current().orElseThrow());
+            assertEquals("corr-1", enriched.correlationId());
+            assertEquals(userId.toString(), MDC.get(RequestContext.USER_ID_MDC_KEY));
+            assertEquals("corr-1", MDC.get(RequestContext.CORRELATION_ID_MDC_KEY));
+        }
+
+        assertTrue(RequestContext.current().isEmpty());
+        assertNull(MDC.get(RequestContext.USER_ID_MDC_KEY));
+        assertNull(MDC.get(RequestContext.CORRELATION_ID_MDC_KEY));
+    }
+
+    @Test
+    @DisplayName("Should propagate context and authentication to wrapped tasks")
+    void shouldPropagateToWrappedTasks() throws Exception {
+        UUID userId = UUID.randomUUID();
+        Authentication authentication = new TestingAuthenticationToken(userId, null, "CUSTOMER");
+        RequestContext context = RequestContext.anonymous("corr-2").withPrincipal(userId, "CUSTOMER", authentication);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Runnable task;
+            try (RequestContext.Scope ignored = RequestContext.open(context)) {
+                task = RequestContext.wrap(() -> {
+                    assertEquals("corr-2", RequestContext.currentCorrelationId());
+                    assertEquals("corr-2", MDC.get(RequestContext.CORRELATION_ID_MDC_KEY));
+                    assertSame(authentication, SecurityContextHolder.getContext().getAuthentication());
+                });
+            }
+
+            executor.submit(task).get();
+
+            // Nothing leaks into the worker thread once the task is done
+            executor.submit(() -> {
+                assertTrue(RequestContext.current().isEmpty());
+                assertNull(MDC.get(RequestContext.CORRELATION_ID_MDC_KEY));
+                assertNull(SecurityContextHolder.getContext().getAuthentication());
+            }).get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave tasks untouched when no context is bound")
+    void shouldNotWrapWithoutContext() {
+        Runnable task = () -> { };
+
+        assertSame(task, RequestContext.wrap(task));
+    }
+}
@@ -0,0 +1,110 @@
+package com.banking.system.unit.common.infraestructure.singleflight;
+
+import com.banking.system.common.infraestructure.singleflight.SingleFlightGroup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SingleFlightGroup Tests")
+class SingleFlightGroupTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlightGroup<String, Integer> group;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        group = new SingleFlightGroup<>("test", meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should run one load for concurrent calls with the same key and share its result")
+    void shouldCoalesceConcurrentCalls() throws Exception {
+        int callers = 5;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            Future<Integer> leader = executor.submit(() -> load(() -> {
+                leaderStarted.countDown();
+                releaseLeader.await();
+                return loads.incrementAndGet();
+            }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+            List<Future<Integer>> followers = new ArrayList<>();
+            for (int i = 1; i < callers; i++) {
+                followers.add(executor.submit(() -> load(loads::incrementAndGet)));
+            }
+            awaitFollowers(callers - 1);
+            releaseLeader.countDown();
+
+            assertEquals(1, leader.get(5, TimeUnit.SECONDS));
+            for (Future<Integer> follower : followers) {
+                assertEquals(1, follower.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(0, group.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Should load again once the previous call has completed")
+    void shouldNotCacheCompletedCalls() throws Throwable {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, group.execute("key", loads::incrementAndGet));
+        assertEquals(2, group.execute("key", loads::incrementAndGet));
+        assertEquals(2.0, meterRegistry.get("singleflight.calls").tag("role", "leader").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should propagate the load's exception and clear the key")
+    void shouldPropagateFailure() {
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> group.execute("key", () -> { throw failure; }));
+
+        assertSame(failure, thrown);
+        assertEquals(0, group.inFlightCount());
+    }
+
+    private Integer load(SingleFlightGroup.Loader<Integer> loader) throws Exception {
+        try {
+            return group.execute("key", loader);
+        } catch (Exception e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * Followers block inside the group, so wait until each of them has been counted.
+     */
+    private void awaitFollowers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("singleflight.calls").tag("role", "follower").counter().count() < expected) {
+            assertTrue(System.nanoTime() < deadline, "followers did not join the in-flight call");
+            Thread.sleep(5);
+        }
+    }
+}
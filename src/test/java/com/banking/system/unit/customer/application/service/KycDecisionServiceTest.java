@@ -0,0 +1,105 @@
+package com.banking.system.unit.customer.application.service;
+
+import com.banking.system.customer.application.dto.result.BulkKycDecisionResult;
+import com.banking.system.customer.application.dto.result.KycDecisionItemResult;
+import com.banking.system.customer.application.dto.result.KycDecisionItemResult.Outcome;
+import com.banking.system.customer.application.event.KycStatusChangedEvent;
+import com.banking.system.customer.application.event.publisher.CustomerEventPublisher;
+import com.banking.system.customer.application.service.KycDecisionService;
+import com.banking.system.customer.domain.model.KycStatus;
+import com.banking.system.customer.domain.port.out.CustomerRepositoryPort;
+import com.banking.system.unit.BaseServicetTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("KycDecisionService Tests")
+class KycDecisionServiceTest extends BaseServicetTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ITEMS = 5;
+
+    @Mock
+    private CustomerRepositoryPort customerRepositoryPort;
+
+    @Mock
+    private CustomerEventPublisher customerEventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private KycDecisionService kycDecisionService;
+
+    @BeforeEach
+    void setUp() {
+        kycDecisionService = new KycDecisionService(
+                customerRepositoryPort, customerEventPublisher, transactionManager, BATCH_SIZE, MAX_ITEMS);
+    }
+
+    @Test
+    @DisplayName("Should update in batches, publish one event per batch and report every customer")
+    void shouldDecideInBatches() {
+        UUID pending1 = UUID.randomUUID();
+        UUID pending2 = UUID.randomUUID();
+        UUID approved = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(customerRepositoryPort.decideKyc(eq(List.of(pending1, pending2)), eq(KycStatus.APPROVED), any(Instant.class)))
+                .thenReturn(List.of(pending1, pending2));
+        when(customerRepositoryPort.decideKyc(eq(List.of(approved, missing)), eq(KycStatus.APPROVED), any(Instant.class)))
+                .thenReturn(List.of());
+        when(customerRepositoryPort.findKycStatuses(List.of(approved, missing)))
+                .thenReturn(Map.of(approved, KycStatus.APPROVED));
+
+        BulkKycDecisionResult result = kycDecisionService.approveKyc(List.of(pending1, pending2, approved, missing));
+
+        assertEquals(4, result.requested());
+        assertEquals(2, result.applied());
+        assertEquals(List.of(Outcome.APPLIED, Outcome.APPLIED, Outcome.ALREADY_PROCESSED, Outcome.NOT_FOUND),
+                result.items().stream().map(KycDecisionItemResult::outcome).toList());
+        assertNull(result.items().get(3).kycStatus());
+
+        var event = ArgumentCaptor.forClass(KycStatusChangedEvent.class);
+        verify(customerEventPublisher).publishKycStatusChanged(event.capture());
+        assertEquals(List.of(pending1, pending2), event.getValue().customerIds());
+        assertEquals(KycStatus.APPROVED, event.getValue().kycStatus());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should decide a repeated customer ID once")
+    void shouldIgnoreDuplicates() {
+        UUID customerId = UUID.randomUUID();
+        when(customerRepositoryPort.decideKyc(eq(List.of(customerId)), eq(KycStatus.REJECTED), any(Instant.class)))
+                .thenReturn(List.of(customerId));
+
+        BulkKycDecisionResult result = kycDecisionService.rejectKyc(List.of(customerId, customerId));
+
+        assertEquals(1, result.requested());
+        assertEquals("REJECTED", result.items().getFirst().kycStatus());
+        verify(customerRepositoryPort, never()).findKycStatuses(any());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty or oversized request")
+    void shouldRejectInvalidSizes() {
+        List<UUID> tooMany = Stream.generate(UUID::randomUUID).limit(MAX_ITEMS + 1).toList();
+
+        assertThrows(IllegalArgumentException.class, () -> kycDecisionService.approveKyc(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> kycDecisionService.approveKyc(tooMany));
+        verifyNoInteractions(customerRepositoryPort, customerEventPublisher);
+    }
+}
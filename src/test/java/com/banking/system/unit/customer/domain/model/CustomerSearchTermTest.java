@@ -0,0 +1,50 @@
+package com.banking.system.unit.customer.domain.model;
+
+import com.banking.system.customer.domain.model.CustomerSearchTerm;
+import com.banking.system.customer.domain.model.CustomerSearchTerm.Kind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CustomerSearchTerm Tests")
+class CustomerSearchTermTest {
+
+    @Test
+    @DisplayName("Should treat text with a digit as a normalized document prefix")
+    void shouldParseDocumentPrefix() {
+        var term = CustomerSearchTerm.parse(" 12.345-6 ");
+
+        assertEquals(Kind.DOCUMENT, term.kind());
+        assertEquals("123456", term.value());
+        assertEquals("AAA123", CustomerSearchTerm.parse("aaa123").value());
+    }
+
+    @Test
+    @DisplayName("Should treat letters as name words, collapsing whitespace")
+    void shouldParseNameWords() {
+        var term = CustomerSearchTerm.parse("  Pérez   Jua ");
+
+        assertEquals(Kind.NAME, term.kind());
+        assertEquals("Pérez Jua", term.value());
+        assertEquals(List.of("Pérez", "Jua"), term.words());
+    }
+
+    @Test
+    @DisplayName("Should reject text shorter than a trigram")
+    void shouldRejectShortText() {
+        assertThrows(IllegalArgumentException.class, () -> CustomerSearchTerm.parse("12"));
+        assertThrows(IllegalArgumentException.class, () -> CustomerSearchTerm.parse("a b"));
+        assertThrows(IllegalArgumentException.class, () -> CustomerSearchTerm.parse("   "));
+    }
+
+    @Test
+    @DisplayName("Should reject characters no name or document contains")
+    void shouldRejectInvalidCharacters() {
+        assertThrows(IllegalArgumentException.class, () -> CustomerSearchTerm.parse("perez%"));
+        assertThrows(IllegalArgumentException.class, () -> CustomerSearchTerm.parse("123_456"));
+        assertThrows(IllegalArgumentException.class, () -> CustomerSearchTerm.parse("ana maria de la paz"));
+    }
+}
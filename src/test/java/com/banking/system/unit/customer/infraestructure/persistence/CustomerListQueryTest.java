@@ -0,0 +1,70 @@
+package com.banking.system.unit.customer.infraestructure.persistence;
+
+import com.banking.system.customer.domain.model.CustomerListCursor;
+import com.banking.system.customer.domain.model.CustomerListFilter;
+import com.banking.system.customer.domain.model.KycStatus;
+import com.banking.system.customer.domain.model.RiskLevel;
+import com.banking.system.customer.infraestructure.adapter.out.persistence.repository.CustomerListQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CustomerListQuery Tests")
+class CustomerListQueryTest {
+
+    @Test
+    @DisplayName("Should page the whole table without a WHERE clause when unfiltered")
+    void shouldOmitWhereWhenUnfiltered() {
+        var query = CustomerListQuery.page(CustomerListFilter.none(), null, 51);
+
+        assertEquals("SELECT c.* FROM customers c ORDER BY c.customer_since DESC, c.id DESC LIMIT :limit", query.sql());
+        assertEquals(51, query.parameters().get("limit"));
+    }
+
+    @Test
+    @DisplayName("Should inline the filters so partial indexes can match")
+    void shouldInlineFilters() {
+        var filter = new CustomerListFilter(KycStatus.PENDING, RiskLevel.HIGH, LocalDate.of(2025, 1, 1), null);
+
+        var query = CustomerListQuery.page(filter, null, 10);
+
+        assertTrue(query.sql().contains("c.kyc_status = 'PENDING'"));
+        assertTrue(query.sql().contains("c.risk_level = 'HIGH'"));
+        assertTrue(query.sql().contains("c.customer_since >= DATE '2025-01-01'"));
+        assertFalse(query.sql().contains("customer_since <="));
+        assertEquals(1, query.parameters().size());
+    }
+
+    @Test
+    @DisplayName("Should continue strictly after the cursor")
+    void shouldContinueAfterCursor() {
+        var cursor = new CustomerListCursor(LocalDate.of(2024, 6, 30), UUID.randomUUID());
+
+        var query = CustomerListQuery.page(new CustomerListFilter(KycStatus.REJECTED, null, null, null), cursor, 10);
+
+        assertTrue(query.sql().contains("WHERE c.kyc_status = 'REJECTED' AND (c.customer_since, c.id) < (:afterSince, :afterId)"));
+        assertEquals(cursor.customerSince(), query.parameters().get("afterSince"));
+        assertEquals(cursor.id(), query.parameters().get("afterId"));
+    }
+
+    @Test
+    @DisplayName("Should round-trip the cursor and reject malformed tokens")
+    void shouldRoundTripCursor() {
+        var cursor = new CustomerListCursor(LocalDate.of(2024, 6, 30), UUID.randomUUID());
+
+        assertEquals(cursor, CustomerListCursor.decode(cursor.encode()));
+        assertNull(CustomerListCursor.decode(" "));
+        assertThrows(IllegalArgumentException.class, () -> CustomerListCursor.decode("not-a-cursor"));
+    }
+
+    @Test
+    @DisplayName("Should reject a customer-since range that ends before it starts")
+    void shouldRejectInvertedRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CustomerListFilter(null, null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)));
+    }
+}
@@ -0,0 +1,39 @@
+package com.banking.system.unit.customer.infraestructure.persistence;
+
+import com.banking.system.customer.domain.model.CustomerSearchTerm;
+import com.banking.system.customer.infraestructure.adapter.out.persistence.repository.JdbcCustomerSearchAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JdbcCustomerSearchAdapter Tests")
+class JdbcCustomerSearchAdapterTest {
+
+    @ParameterizedTest(name = "{0} -> [{0}, {1})")
+    @CsvSource({"ABC12, ABC13", "30111, 30112", "X12Z, X12[", "129, 12:"})
+    @DisplayName("Should bind a document prefix as a half-open range")
+    @SuppressWarnings("unchecked")
+    void shouldBindDocumentPrefixAsRange(String prefix, String upper) {
+        NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Map<String, Object>> parameters = ArgumentCaptor.forClass(Map.class);
+
+        new JdbcCustomerSearchAdapter(jdbcTemplate).search(CustomerSearchTerm.parse(prefix), 20);
+
+        verify(jdbcTemplate).query(sql.capture(), parameters.capture(), any(RowMapper.class));
+        assertFalse(sql.getValue().contains("LIKE"));
+        assertEquals(prefix, parameters.getValue().get("prefix"));
+        assertEquals(upper, parameters.getValue().get("prefixUpper"));
+        assertEquals(20, parameters.getValue().get("limit"));
+    }
+}
@@ -0,0 +1,142 @@
+package com.banking.system.unit.dashboard.application.service;
+
+import com.banking.system.account.domain.port.out.AccountRepositoryPort;
+import com.banking.system.common.domain.Address;
+import com.banking.system.common.domain.IdentityDocument;
+import com.banking.system.common.domain.PersonName;
+import com.banking.system.common.domain.Phone;
+import com.banking.system.common.infraestructure.bulkhead.Workload;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkheads;
+import com.banking.system.customer.domain.model.Customer;
+import com.banking.system.customer.domain.model.KycStatus;
+import com.banking.system.customer.domain.model.RiskLevel;
+import com.banking.system.customer.domain.port.out.CustomerRepositoryPort;
+import com.banking.system.dashboard.application.dto.result.DashboardResult;
+import com.banking.system.dashboard.application.dto.result.DashboardSection;
+import com.banking.system.dashboard.application.service.DashboardService;
+import com.banking.system.transaction.domain.model.TransactionStatus;
+import com.banking.system.transaction.domain.port.out.TransactionRepositoryPort;
+import com.banking.system.unit.BaseServicetTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DashboardService Tests")
+class DashboardServiceTest extends BaseServicetTest {
+
+    @Mock
+    private CustomerRepositoryPort customerRepositoryPort;
+
+    @Mock
+    private AccountRepositoryPort accountRepositoryPort;
+
+    @Mock
+    private TransactionRepositoryPort transactionRepositoryPort;
+
+    @Mock
+    private WorkloadBulkheads workloadBulkheads;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID customerId = UUID.randomUUID();
+    private final List<TransactionDefinition> transactions = new CopyOnWriteArrayList<>();
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(inv -> {
+            transactions.add(inv.getArgument(0));
+            return new SimpleTransactionStatus();
+        });
+        dashboardService = new DashboardService(customerRepositoryPort, accountRepositoryPort, transactionRepositoryPort,
+                workloadBulkheads, transactionManager, 800, 1500, 10);
+    }
+
+    @Test
+    @DisplayName("Should run every load in its own read-only transaction under its own READS permit")
+    void shouldTakePermitAndReadOnlyTransactionPerLoad() {
+        givenCustomer(KycStatus.APPROVED);
+        AtomicInteger held = new AtomicInteger();
+        doAnswer(inv -> held.incrementAndGet()).when(workloadBulkheads).acquire(Workload.READS);
+        doAnswer(inv -> held.decrementAndGet()).when(workloadBulkheads).release(Workload.READS);
+        when(accountRepositoryPort.findAllByCustomerId(customerId)).thenReturn(List.of());
+        when(transactionRepositoryPort.findRecentByCustomerIdAndStatus(customerId, TransactionStatus.COMPLETED, 10))
+                .thenReturn(List.of());
+
+        DashboardResult result = dashboardService.getDashboard(userId);
+
+        assertEquals(DashboardSection.Status.OK, result.accounts().status());
+        assertEquals(DashboardSection.Status.OK, result.recentTransactions().status());
+        verify(workloadBulkheads, times(3)).acquire(Workload.READS);
+        verify(workloadBulkheads, times(3)).release(Workload.READS);
+        assertEquals(0, held.get());
+        assertEquals(3, transactions.size());
+        assertTrue(transactions.stream().allMatch(TransactionDefinition::isReadOnly));
+        // Customer lookup without a timeout, then the section timeouts rounded up to seconds
+        assertEquals(List.of(TransactionDefinition.TIMEOUT_DEFAULT, 1, 2), transactions.stream()
+                .map(TransactionDefinition::getTimeout)
+                .sorted()
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Should skip the transactions load and its permit when KYC is not approved")
+    void shouldSkipRecentTransactionsWithoutKyc() {
+        givenCustomer(KycStatus.PENDING);
+        when(accountRepositoryPort.findAllByCustomerId(customerId)).thenReturn(List.of());
+
+        DashboardResult result = dashboardService.getDashboard(userId);
+
+        assertEquals(DashboardSection.Status.UNAVAILABLE, result.recentTransactions().status());
+        verify(workloadBulkheads, times(2)).acquire(Workload.READS);
+        verify(transactionRepositoryPort, never()).findRecentByCustomerIdAndStatus(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should release the permit of a failed section and report it as failed")
+    void shouldReleasePermitOfFailedSection() {
+        givenCustomer(KycStatus.PENDING);
+        when(accountRepositoryPort.findAllByCustomerId(customerId)).thenThrow(new IllegalStateException("boom"));
+
+        DashboardResult result = dashboardService.getDashboard(userId);
+
+        assertEquals(DashboardSection.Status.FAILED, result.accounts().status());
+        verify(workloadBulkheads, times(2)).release(Workload.READS);
+    }
+
+    private void givenCustomer(KycStatus kycStatus) {
+        Customer customer = Customer.reconstitute(
+                customerId,
+                userId,
+                new PersonName("John", "Doe"),
+                new IdentityDocument("12345678", "DNI"),
+                LocalDate.of(1990, 1, 1),
+                new Phone("+5491112345678"),
+                new Address("Av. Corrientes 1234", "Buenos Aires", "AR"),
+                LocalDate.of(2024, 1, 1),
+                kycStatus,
+                RiskLevel.LOW,
+                kycStatus == KycStatus.APPROVED ? Instant.now() : null
+        );
+        when(customerRepositoryPort.findByUserId(userId)).thenReturn(Optional.of(customer));
+    }
+}
@@ -0,0 +1,159 @@
+package com.banking.system.unit.stream.infraestructure.sse;
+
+import com.banking.system.stream.application.dto.AccountUpdate;
+import com.banking.system.stream.application.dto.BalanceUpdate;
+import com.banking.system.stream.infraestructure.adapter.in.sse.AccountStreamConnection;
+import com.banking.system.transaction.application.dto.result.TransactionResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccountStreamConnection Tests")
+class AccountStreamConnectionTest {
+
+    private final UUID accountId = UUID.randomUUID();
+    private final RecordingEmitter emitter = new RecordingEmitter();
+    private final ManualExecutor executor = new ManualExecutor();
+    private final AtomicInteger overflows = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should send every transaction but only the latest balance of a burst")
+    void shouldCoalesceBalances() {
+        AccountStreamConnection connection = connection(10);
+
+        connection.offer(update("100.00", "tx-1"));
+        connection.offer(update("150.00", "tx-2"));
+        connection.offer(update("120.00", "tx-3"));
+        executor.runAll();
+
+        assertEquals(List.of("transaction:tx-1", "transaction:tx-2", "transaction:tx-3", "balance:120.00"), emitter.events);
+    }
+
+    @Test
+    @DisplayName("Should drop the backlog and ask for a resync once it overflows")
+    void shouldResyncOnOverflow() {
+        AccountStreamConnection connection = connection(2);
+
+        connection.offer(update("100.00", "tx-1"));
+        connection.offer(update("150.00", "tx-2"));
+        connection.offer(update("120.00", "tx-3"));
+        connection.offer(update("110.00", "tx-4"));
+        executor.runAll();
+
+        assertEquals(List.of("resync", "balance:110.00"), emitter.events);
+        assertEquals(1, overflows.get());
+
+        connection.offer(update("90.00", "tx-5"));
+        executor.runAll();
+
+        assertEquals(List.of("resync", "balance:110.00", "transaction:tx-5", "balance:90.00"), emitter.events);
+    }
+
+    @Test
+    @DisplayName("Should not let the opening snapshot replace a newer balance")
+    void shouldKeepNewerBalanceOverSnapshot() {
+        AccountStreamConnection connection = connection(10);
+
+        connection.offer(update("150.00", "tx-1"));
+        connection.offerSnapshot(List.of(new BalanceUpdate(accountId, new BigDecimal("100.00"), "ARS", Instant.now())));
+        executor.runAll();
+
+        assertEquals(List.of("transaction:tx-1", "balance:150.00"), emitter.events);
+    }
+
+    @Test
+    @DisplayName("Should keep the newest balance when updates arrive out of order")
+    void shouldKeepNewestBalanceWithinWindow() {
+        AccountStreamConnection connection = connection(10);
+        Instant now = Instant.now();
+
+        connection.offer(update("150.00", "tx-2", now));
+        connection.offer(update("100.00", "tx-1", now.minusMillis(5)));
+        executor.runAll();
+
+        assertEquals(List.of("transaction:tx-2", "transaction:tx-1", "balance:150.00"), emitter.events);
+    }
+
+    @Test
+    @DisplayName("Should not send a balance older than one already sent")
+    void shouldDropBalanceOlderThanSent() {
+        AccountStreamConnection connection = connection(10);
+        Instant now = Instant.now();
+
+        connection.offer(update("150.00", "tx-2", now));
+        executor.runAll();
+        connection.offer(update("100.00", "tx-1", now.minusMillis(5)));
+        executor.runAll();
+
+        assertEquals(List.of("transaction:tx-2", "balance:150.00", "transaction:tx-1"), emitter.events);
+    }
+
+    private AccountStreamConnection connection(int maxPendingTransactions) {
+        return new AccountStreamConnection(
+                UUID.randomUUID(), Set.of(accountId), emitter, executor, Duration.ZERO, maxPendingTransactions,
+                connection -> overflows.incrementAndGet());
+    }
+
+    private AccountUpdate update(String balance, String transactionId) {
+        return update(balance, transactionId, Instant.now());
+    }
+
+    private AccountUpdate update(String balance, String transactionId, Instant asOf) {
+        var transaction = new TransactionResult(transactionId, accountId.toString(), "DEPOSIT", new BigDecimal("10.00"),
+                null, "ARS", new BigDecimal(balance), "Deposit", "REF", asOf.toString(), "COMPLETED");
+        return new AccountUpdate(new BalanceUpdate(accountId, new BigDecimal(balance), "ARS", asOf), transaction);
+    }
+
+    private static final class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+        }
+    }
+
+    /**
+     * Records each event as "name:payload id", reading the payload objects the builder carries.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String name = null;
+            String payload = null;
+            for (var part : builder.build()) {
+                Object data = part.getData();
+                if (data instanceof String text && text.startsWith("event:")) {
+                    name = text.substring("event:".length(), text.indexOf('\n'));
+                } else if (data instanceof TransactionResult transaction) {
+                    payload = transaction.id();
+                } else if (data instanceof BalanceUpdate balance) {
+                    payload = balance.balance().toPlainString();
+                }
+            }
+            events.add(payload != null ? name + ":" + payload : name);
+        }
+    }
+}
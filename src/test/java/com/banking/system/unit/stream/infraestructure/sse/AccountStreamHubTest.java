@@ -0,0 +1,55 @@
+package com.banking.system.unit.stream.infraestructure.sse;
+
+import com.banking.system.stream.application.dto.BalanceUpdate;
+import com.banking.system.stream.infraestructure.adapter.in.sse.AccountStreamHub;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccountStreamHub Tests")
+class AccountStreamHubTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AccountStreamHub hub = new AccountStreamHub(meterRegistry, 60_000, 0, 10);
+    private final UUID userId = UUID.randomUUID();
+    private final UUID accountId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should register the stream before reading the snapshot")
+    void shouldRegisterBeforeSnapshot() {
+        assertNotNull(hub.open(userId, Set.of(accountId), () -> {
+            assertEquals(1.0, openConnections());
+            return List.of(new BalanceUpdate(accountId, new BigDecimal("100.00"), "ARS", Instant.now()));
+        }));
+
+        assertEquals(1.0, openConnections());
+    }
+
+    @Test
+    @DisplayName("Should unregister the stream when the snapshot cannot be read")
+    void shouldUnregisterWhenSnapshotFails() {
+        assertThrows(IllegalStateException.class, () -> hub.open(userId, Set.of(accountId), () -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+
+        assertEquals(0.0, openConnections());
+    }
+
+    private double openConnections() {
+        return meterRegistry.get("account.stream.connections").gauge().value();
+    }
+}
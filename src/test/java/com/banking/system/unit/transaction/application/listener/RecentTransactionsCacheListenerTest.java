@@ -0,0 +1,62 @@
+package com.banking.system.unit.transaction.application.listener;
+
+import com.banking.system.account.domain.model.Account;
+import com.banking.system.account.domain.port.out.AccountRepositoryPort;
+import com.banking.system.customer.application.event.KycStatusChangedEvent;
+import com.banking.system.customer.domain.model.KycStatus;
+import com.banking.system.transaction.application.listener.RecentTransactionsCacheListener;
+import com.banking.system.transaction.application.port.out.RecentTransactionsCachePort;
+import com.banking.system.unit.BaseServicetTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("RecentTransactionsCacheListener Tests")
+class RecentTransactionsCacheListenerTest extends BaseServicetTest {
+
+    @Mock
+    private RecentTransactionsCachePort recentTransactionsCachePort;
+
+    @Mock
+    private AccountRepositoryPort accountRepositoryPort;
+
+    @InjectMocks
+    private RecentTransactionsCacheListener listener;
+
+    @Test
+    @DisplayName("Should evict every account of customers whose KYC left APPROVED")
+    void shouldEvictAccountsOnKycChange() {
+        UUID failing = UUID.randomUUID();
+        UUID customerId = UUID.randomUUID();
+        Account first = account();
+        Account second = account();
+        when(accountRepositoryPort.findAllByCustomerId(failing)).thenThrow(new IllegalStateException("boom"));
+        when(accountRepositoryPort.findAllByCustomerId(customerId)).thenReturn(List.of(first, second));
+
+        listener.on(new KycStatusChangedEvent(List.of(failing, customerId), KycStatus.REJECTED, Instant.now()));
+
+        verify(recentTransactionsCachePort).evict(first.getId());
+        verify(recentTransactionsCachePort).evict(second.getId());
+    }
+
+    @Test
+    @DisplayName("Should leave the cache alone on approval")
+    void shouldIgnoreApproval() {
+        listener.on(new KycStatusChangedEvent(List.of(UUID.randomUUID()), KycStatus.APPROVED, Instant.now()));
+
+        verifyNoInteractions(accountRepositoryPort, recentTransactionsCachePort);
+    }
+
+    private Account account() {
+        Account account = mock(Account.class);
+        when(account.getId()).thenReturn(UUID.randomUUID());
+        return account;
+    }
+}
@@ -0,0 +1,137 @@
+package com.banking.system.unit.transaction.application.service;
+
+import com.banking.system.common.infraestructure.bulkhead.Workload;
+import com.banking.system.common.infraestructure.bulkhead.WorkloadBulkheads;
+import com.banking.system.transaction.application.dto.result.CustomerActivityRebuildResult;
+import com.banking.system.transaction.application.service.CustomerActivityService;
+import com.banking.system.transaction.domain.port.out.CustomerActivityRepositoryPort;
+import com.banking.system.unit.BaseServicetTest;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CustomerActivityService Tests")
+class CustomerActivityServiceTest extends BaseServicetTest {
+
+    @Mock
+    private CustomerActivityRepositoryPort customerActivityRepositoryPort;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private WorkloadBulkheads workloadBulkheads;
+    private CustomerActivityService customerActivityService;
+
+    @BeforeEach
+    void setUp() {
+        // Two BATCH permits, fewer than the three workers configured
+        workloadBulkheads = new WorkloadBulkheads(
+                BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(2).maxWaitDuration(Duration.ofSeconds(5)).build()),
+                new SimpleMeterRegistry());
+        customerActivityService = new CustomerActivityService(
+                customerActivityRepositoryPort, workloadBulkheads, transactionManager, 2, 3, 86_400_000);
+    }
+
+    @Test
+    @DisplayName("Should rebuild every account once, in batches, each in its own transaction")
+    void shouldRebuildAllAccountsInBatches() {
+        List<UUID> accountIds = IntStream.range(0, 5).mapToObj(i -> UUID.randomUUID()).toList();
+        Set<UUID> rebuilt = ConcurrentHashMap.newKeySet();
+        when(customerActivityRepositoryPort.findAllAccountIds()).thenReturn(accountIds);
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        when(customerActivityRepositoryPort.rebuildAccounts(anyList())).thenAnswer(invocation -> {
+            List<UUID> batch = invocation.getArgument(0);
+            assertTrue(batch.size() <= 2);
+            batch.forEach(id -> assertTrue(rebuilt.add(id), "account rebuilt twice"));
+            return batch.size() * 10;
+        });
+
+        CustomerActivityRebuildResult result = customerActivityService.rebuild();
+
+        assertEquals(Set.copyOf(accountIds), rebuilt);
+        assertEquals(5, result.accounts());
+        assertEquals(3, result.batches());
+        assertEquals(50, result.entries());
+        verify(customerActivityRepositoryPort, times(3)).rebuildAccounts(anyList());
+        verify(transactionManager, times(3)).commit(transactionStatus);
+    }
+
+    @Test
+    @DisplayName("Should fail the rebuild when a batch fails")
+    void shouldFailWhenABatchFails() {
+        when(customerActivityRepositoryPort.findAllAccountIds()).thenReturn(List.of(UUID.randomUUID()));
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        when(customerActivityRepositoryPort.rebuildAccounts(anyList())).thenThrow(new IllegalStateException("boom"));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> customerActivityService.rebuild());
+
+        assertEquals("boom", e.getCause().getMessage());
+        verify(transactionManager).rollback(transactionStatus);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when there are no accounts")
+    void shouldHandleNoAccounts() {
+        when(customerActivityRepositoryPort.findAllAccountIds()).thenReturn(List.of());
+
+        CustomerActivityRebuildResult result = customerActivityService.rebuild();
+
+        assertEquals(0, result.batches());
+        verify(customerActivityRepositoryPort, never()).rebuildAccounts(anyList());
+    }
+
+    @Test
+    @DisplayName("Should run no more batches at a time than there are BATCH permits and return them all")
+    void shouldBoundParallelismByBatchPermits() throws InterruptedException {
+        List<UUID> accountIds = IntStream.range(0, 8).mapToObj(i -> UUID.randomUUID()).toList();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch overlapping = new CountDownLatch(2);
+        when(customerActivityRepositoryPort.findAllAccountIds()).thenReturn(accountIds);
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        when(customerActivityRepositoryPort.rebuildAccounts(anyList())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            overlapping.countDown();
+            overlapping.await(1, TimeUnit.SECONDS);
+            running.decrementAndGet();
+            return 1;
+        });
+
+        customerActivityService.rebuild();
+
+        assertEquals(2, maxRunning.get());
+        assertEquals(2, workloadBulkheads.bulkhead(Workload.BATCH).getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    @DisplayName("Should reconcile missing entries over the configured lookback")
+    void shouldReconcileOverLookback() {
+        when(customerActivityRepositoryPort.projectMissing(Duration.ofDays(1))).thenReturn(3);
+
+        assertEquals(3, customerActivityService.reconcile());
+    }
+}
@@ -0,0 +1,176 @@
+package com.banking.system.unit.transaction.application.service;
+
+import com.banking.system.account.domain.model.Account;
+import com.banking.system.account.domain.port.out.AccountRepositoryPort;
+import com.banking.system.common.domain.Money;
+import com.banking.system.common.domain.MoneyCurrency;
+import com.banking.system.customer.domain.model.Customer;
+import com.banking.system.customer.domain.port.out.CustomerRepositoryPort;
+import com.banking.system.transaction.application.dto.result.TransactionChangeResult;
+import com.banking.system.transaction.application.dto.result.TransactionChangesResult;
+import com.banking.system.transaction.application.service.TransactionService;
+import com.banking.system.transaction.domain.exception.KycNotApprovedException;
+import com.banking.system.transaction.domain.model.ChangeCursor;
+import com.banking.system.transaction.domain.model.Description;
+import com.banking.system.transaction.domain.model.ReferenceNumber;
+import com.banking.system.transaction.domain.model.Transaction;
+import com.banking.system.transaction.domain.model.TransactionChange;
+import com.banking.system.transaction.domain.model.TransactionStatus;
+import com.banking.system.transaction.domain.model.TransactionType;
+import com.banking.system.transaction.domain.port.out.TransactionRepositoryPort;
+import com.banking.system.unit.BaseServicetTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TransactionService changes Tests")
+class TransactionServiceChangesTest extends BaseServicetTest {
+
+    @Mock
+    private TransactionRepositoryPort transactionRepositoryPort;
+
+    @Mock
+    private CustomerRepositoryPort customerRepositoryPort;
+
+    @Mock
+    private AccountRepositoryPort accountRepositoryPort;
+
+    @InjectMocks
+    private TransactionService transactionService;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID customerId = UUID.randomUUID();
+    private final UUID firstAccountId = UUID.randomUUID();
+    private final UUID secondAccountId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should ask for one extra change and report hasMore when it comes back")
+    void shouldReportHasMoreFromExtraRow() {
+        givenAccounts(firstAccountId);
+        when(transactionRepositoryPort.findChangesByAccountIdSince(firstAccountId, 0L, 3))
+                .thenReturn(changes(firstAccountId, 1, 3));
+
+        TransactionChangesResult result = transactionService.getChanges(userId, null, 2);
+
+        assertTrue(result.hasMore());
+        assertEquals(List.of(1L, 2L), result.changes().stream().map(TransactionChangeResult::sequence).toList());
+        assertEquals(2L, ChangeCursor.decode(result.nextCursor()).positionOf(firstAccountId));
+    }
+
+    @Test
+    @DisplayName("Should not report hasMore when every account fits in the page")
+    void shouldNotReportHasMoreWhenPageFits() {
+        givenAccounts(firstAccountId);
+        when(transactionRepositoryPort.findChangesByAccountIdSince(firstAccountId, 0L, 3))
+                .thenReturn(changes(firstAccountId, 1, 2));
+
+        TransactionChangesResult result = transactionService.getChanges(userId, null, 2);
+
+        assertFalse(result.hasMore());
+        assertEquals(2, result.changes().size());
+    }
+
+    @Test
+    @DisplayName("Should read each account from its cursor position and keep positions without changes")
+    void shouldCarryPositionsForward() {
+        givenAccounts(firstAccountId, secondAccountId);
+        String cursor = new ChangeCursor(Map.of(firstAccountId, 5L, secondAccountId, 9L)).encode();
+        when(transactionRepositoryPort.findChangesByAccountIdSince(firstAccountId, 5L, 11))
+                .thenReturn(changes(firstAccountId, 6, 7));
+        when(transactionRepositoryPort.findChangesByAccountIdSince(secondAccountId, 9L, 11))
+                .thenReturn(List.of());
+
+        TransactionChangesResult result = transactionService.getChanges(userId, cursor, 10);
+
+        ChangeCursor next = ChangeCursor.decode(result.nextCursor());
+        assertEquals(7L, next.positionOf(firstAccountId));
+        assertEquals(9L, next.positionOf(secondAccountId));
+        assertFalse(result.hasMore());
+    }
+
+    @Test
+    @DisplayName("Should drop cursor positions of accounts the caller no longer owns")
+    void shouldDropPositionsOfUnownedAccounts() {
+        givenAccounts(firstAccountId);
+        UUID formerAccountId = UUID.randomUUID();
+        String cursor = new ChangeCursor(Map.of(firstAccountId, 4L, formerAccountId, 12L)).encode();
+        when(transactionRepositoryPort.findChangesByAccountIdSince(firstAccountId, 4L, 11)).thenReturn(List.of());
+
+        TransactionChangesResult result = transactionService.getChanges(userId, cursor, 10);
+
+        assertEquals(Map.of(firstAccountId, 4L), ChangeCursor.decode(result.nextCursor()).positions());
+        verify(transactionRepositoryPort, never()).findChangesByAccountIdSince(eq(formerAccountId), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor before reading anything")
+    void shouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> transactionService.getChanges(userId, "not-a-cursor", 10));
+        verifyNoInteractions(customerRepositoryPort, accountRepositoryPort, transactionRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should refuse a customer whose KYC is not approved")
+    void shouldCheckKyc() {
+        Customer customer = mock(Customer.class);
+        when(customer.isKycApproved()).thenReturn(false);
+        when(customerRepositoryPort.findByUserId(userId)).thenReturn(Optional.of(customer));
+
+        assertThrows(KycNotApprovedException.class, () -> transactionService.getChanges(userId, null, 10));
+        verifyNoInteractions(accountRepositoryPort, transactionRepositoryPort);
+    }
+
+    private void givenAccounts(UUID... accountIds) {
+        Customer customer = mock(Customer.class);
+        when(customer.getId()).thenReturn(customerId);
+        when(customer.isKycApproved()).thenReturn(true);
+        when(customerRepositoryPort.findByUserId(userId)).thenReturn(Optional.of(customer));
+
+        List<Account> accounts = Arrays.stream(accountIds)
+                .map(accountId -> {
+                    Account account = mock(Account.class);
+                    when(account.getId()).thenReturn(accountId);
+                    return account;
+                })
+                .toList();
+        when(accountRepositoryPort.findAllByCustomerId(customerId)).thenReturn(accounts);
+    }
+
+    private List<TransactionChange> changes(UUID accountId, long fromSequence, long toSequence) {
+        return LongStream.rangeClosed(fromSequence, toSequence)
+                .mapToObj(sequence -> new TransactionChange(sequence, transaction(accountId)))
+                .toList();
+    }
+
+    private Transaction transaction(UUID accountId) {
+        MoneyCurrency currency = MoneyCurrency.ofCode("ARS");
+        return Transaction.reconstitute(
+                UUID.randomUUID(),
+                accountId,
+                TransactionType.DEPOSIT,
+                Money.of(new BigDecimal("100.00"), currency),
+                Money.of(new BigDecimal("100.00"), currency),
+                new Description("Deposit"),
+                ReferenceNumber.generate(),
+                null,
+                TransactionStatus.COMPLETED,
+                Instant.now()
+        );
+    }
+}
@@ -0,0 +1,105 @@
+package com.banking.system.unit.transaction.application.service;
+
+import com.banking.system.common.domain.Money;
+import com.banking.system.common.domain.MoneyCurrency;
+import com.banking.system.common.domain.PageRequest;
+import com.banking.system.common.domain.dto.PagedResult;
+import com.banking.system.customer.domain.model.Customer;
+import com.banking.system.customer.domain.port.out.CustomerRepositoryPort;
+import com.banking.system.transaction.application.dto.result.CustomerActivityResult;
+import com.banking.system.transaction.application.service.TransactionService;
+import com.banking.system.transaction.domain.exception.KycNotApprovedException;
+import com.banking.system.transaction.domain.model.CustomerActivity;
+import com.banking.system.transaction.domain.model.TransactionType;
+import com.banking.system.transaction.domain.port.out.CustomerActivityRepositoryPort;
+import com.banking.system.unit.BaseServicetTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TransactionService customer activity Tests")
+class TransactionServiceCustomerActivityTest extends BaseServicetTest {
+
+    private static final MoneyCurrency ARS = MoneyCurrency.ofCode("ARS");
+
+    @Mock
+    private CustomerRepositoryPort customerRepositoryPort;
+
+    @Mock
+    private CustomerActivityRepositoryPort customerActivityRepositoryPort;
+
+    @InjectMocks
+    private TransactionService transactionService;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID customerId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should page the read model by customer and keep the fee and status of each entry")
+    void shouldMapActivityPage() {
+        givenCustomer(true);
+        PageRequest pageRequest = PageRequest.of(0, 20);
+        CustomerActivity transferDebit = activity(TransactionType.TRANSFER_OUT, new BigDecimal("1.50"));
+        CustomerActivity deposit = activity(TransactionType.DEPOSIT, null);
+        when(customerActivityRepositoryPort.findByCustomerId(customerId, pageRequest))
+                .thenReturn(PagedResult.of(List.of(transferDebit, deposit), 0, 20, 2));
+
+        PagedResult<CustomerActivityResult> result = transactionService.getAllTransactionsByCustomer(userId, pageRequest);
+
+        assertEquals(2, result.totalElements());
+        CustomerActivityResult first = result.items().getFirst();
+        assertEquals(transferDebit.transactionId().toString(), first.id());
+        assertEquals(new BigDecimal("1.50"), first.amountFee());
+        assertEquals("COMPLETED", first.status());
+        assertEquals(transferDebit.transferId().toString(), first.transferId());
+        assertNull(result.items().get(1).amountFee());
+        assertEquals("COMPLETED", result.items().get(1).status());
+    }
+
+    @Test
+    @DisplayName("Should refuse the feed when the customer's KYC is not approved")
+    void shouldCheckKyc() {
+        givenCustomer(false);
+
+        assertThrows(KycNotApprovedException.class,
+                () -> transactionService.getAllTransactionsByCustomer(userId, PageRequest.of(0, 20)));
+        verify(customerActivityRepositoryPort, never()).findByCustomerId(any(), any());
+    }
+
+    private void givenCustomer(boolean kycApproved) {
+        Customer customer = mock(Customer.class);
+        lenient().when(customer.getId()).thenReturn(customerId);
+        when(customer.isKycApproved()).thenReturn(kycApproved);
+        when(customerRepositoryPort.findByUserId(userId)).thenReturn(Optional.of(customer));
+    }
+
+    private CustomerActivity activity(TransactionType type, BigDecimal fee) {
+        boolean transfer = fee != null;
+        return new CustomerActivity(
+                UUID.randomUUID(),
+                customerId,
+                UUID.randomUUID(),
+                type,
+                Money.of(new BigDecimal("100.00"), ARS),
+                transfer ? Money.of(fee, ARS) : null,
+                Money.of(new BigDecimal("400.00"), ARS),
+                null,
+                "REF-" + type.name(),
+                Instant.now(),
+                transfer ? UUID.randomUUID() : null,
+                transfer ? "RENT" : null,
+                transfer ? "landlord.alias" : null
+        );
+    }
+}
@@ -0,0 +1,156 @@
+package com.banking.system.unit.transaction.application.service;
+
+import com.banking.system.account.domain.model.Account;
+import com.banking.system.account.domain.port.out.AccountRepositoryPort;
+import com.banking.system.common.domain.Money;
+import com.banking.system.common.domain.MoneyCurrency;
+import com.banking.system.customer.domain.model.Customer;
+import com.banking.system.customer.domain.port.out.CustomerRepositoryPort;
+import com.banking.system.transaction.application.dto.result.TransactionResult;
+import com.banking.system.transaction.application.port.out.RecentTransactionsCachePort;
+import com.banking.system.transaction.application.port.out.RecentTransactionsCachePort.Snapshot;
+import com.banking.system.transaction.application.service.TransactionService;
+import com.banking.system.transaction.domain.exception.KycNotApprovedException;
+import com.banking.system.transaction.domain.exception.denied.AccountAccessDeniedException;
+import com.banking.system.transaction.domain.model.Description;
+import com.banking.system.transaction.domain.model.ReferenceNumber;
+import com.banking.system.transaction.domain.model.Transaction;
+import com.banking.system.transaction.domain.model.TransactionStatus;
+import com.banking.system.transaction.domain.model.TransactionType;
+import com.banking.system.transaction.domain.port.out.TransactionRepositoryPort;
+import com.banking.system.unit.BaseServicetTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TransactionService recent transactions Tests")
+class TransactionServiceRecentTransactionsTest extends BaseServicetTest {
+
+    @Mock
+    private TransactionRepositoryPort transactionRepositoryPort;
+
+    @Mock
+    private CustomerRepositoryPort customerRepositoryPort;
+
+    @Mock
+    private AccountRepositoryPort accountRepositoryPort;
+
+    @Mock
+    private RecentTransactionsCachePort recentTransactionsCachePort;
+
+    @InjectMocks
+    private TransactionService transactionService;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID customerId = UUID.randomUUID();
+    private final UUID accountId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should serve the owner's cache hit without querying the database")
+    void shouldServeCacheHitWithoutQueries() {
+        Transaction cachedTransaction = transaction();
+        when(recentTransactionsCachePort.find(accountId))
+                .thenReturn(Optional.of(new Snapshot(userId, List.of(cachedTransaction))));
+
+        List<TransactionResult> result = transactionService.getRecentTransactions(accountId, userId);
+
+        assertEquals(List.of(cachedTransaction.getId().toString()), result.stream().map(TransactionResult::id).toList());
+        verifyNoInteractions(customerRepositoryPort, accountRepositoryPort, transactionRepositoryPort);
+        verify(recentTransactionsCachePort, never()).seed(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should authorize a caller that is not the owner of the cached snapshot")
+    void shouldAuthorizeOtherCallerOfCachedAccount() {
+        givenAccount(UUID.randomUUID(), true);
+        when(recentTransactionsCachePort.find(accountId))
+                .thenReturn(Optional.of(new Snapshot(UUID.randomUUID(), List.of(transaction()))));
+
+        assertThrows(AccountAccessDeniedException.class, () -> transactionService.getRecentTransactions(accountId, userId));
+        verifyNoInteractions(transactionRepositoryPort);
+        verify(recentTransactionsCachePort, never()).seed(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should refuse a miss when the customer's KYC is not approved")
+    void shouldCheckKycOnMiss() {
+        givenAccount(customerId, false);
+        when(recentTransactionsCachePort.find(accountId)).thenReturn(Optional.empty());
+
+        assertThrows(KycNotApprovedException.class, () -> transactionService.getRecentTransactions(accountId, userId));
+        verifyNoInteractions(transactionRepositoryPort);
+        verify(recentTransactionsCachePort, never()).seed(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should refuse a miss on an account owned by another customer")
+    void shouldCheckOwnershipOnMiss() {
+        givenAccount(UUID.randomUUID(), true);
+        when(recentTransactionsCachePort.find(accountId)).thenReturn(Optional.empty());
+
+        assertThrows(AccountAccessDeniedException.class, () -> transactionService.getRecentTransactions(accountId, userId));
+        verifyNoInteractions(transactionRepositoryPort);
+        verify(recentTransactionsCachePort, never()).seed(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should read and seed on a miss with the version taken before authorizing")
+    void shouldSeedOnMiss() {
+        givenAccount(customerId, true);
+        Transaction stored = transaction();
+        when(recentTransactionsCachePort.find(accountId)).thenReturn(Optional.empty());
+        when(recentTransactionsCachePort.seedVersion(accountId)).thenReturn(7L);
+        when(recentTransactionsCachePort.capacity()).thenReturn(10);
+        when(transactionRepositoryPort.findRecentByAccountIdAndStatus(accountId, TransactionStatus.COMPLETED, 10))
+                .thenReturn(List.of(stored));
+
+        List<TransactionResult> result = transactionService.getRecentTransactions(accountId, userId);
+
+        assertEquals(1, result.size());
+        var order = inOrder(recentTransactionsCachePort, accountRepositoryPort, transactionRepositoryPort);
+        order.verify(recentTransactionsCachePort).seedVersion(accountId);
+        order.verify(accountRepositoryPort).findById(accountId);
+        order.verify(transactionRepositoryPort).findRecentByAccountIdAndStatus(any(), any(), anyInt());
+        order.verify(recentTransactionsCachePort).seed(accountId, new Snapshot(userId, List.of(stored)), 7L);
+    }
+
+    private void givenAccount(UUID ownerCustomerId, boolean kycApproved) {
+        Customer customer = mock(Customer.class);
+        when(customer.getId()).thenReturn(customerId);
+        lenient().when(customer.isKycApproved()).thenReturn(kycApproved);
+        when(customerRepositoryPort.findByUserId(userId)).thenReturn(Optional.of(customer));
+
+        Account account = mock(Account.class);
+        when(account.getCustomerId()).thenReturn(ownerCustomerId);
+        when(accountRepositoryPort.findById(accountId)).thenReturn(Optional.of(account));
+    }
+
+    private Transaction transaction() {
+        MoneyCurrency currency = MoneyCurrency.ofCode("ARS");
+        return Transaction.reconstitute(
+                UUID.randomUUID(),
+                accountId,
+                TransactionType.DEPOSIT,
+                Money.of(new BigDecimal("100.00"), currency),
+                Money.of(new BigDecimal("100.00"), currency),
+                new Description("Deposit"),
+                ReferenceNumber.generate(),
+                null,
+                TransactionStatus.COMPLETED,
+                Instant.now()
+        );
+    }
+}
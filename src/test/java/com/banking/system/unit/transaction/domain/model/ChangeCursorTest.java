@@ -0,0 +1,60 @@
+package com.banking.system.unit.transaction.domain.model;
+
+import com.banking.system.transaction.domain.model.ChangeCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ChangeCursor Tests")
+class ChangeCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip the position of every account")
+    void shouldRoundTrip() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        Map<UUID, Long> positions = new LinkedHashMap<>();
+        positions.put(first, 42L);
+        positions.put(second, 0L);
+
+        ChangeCursor decoded = ChangeCursor.decode(new ChangeCursor(positions).encode());
+
+        assertEquals(positions, decoded.positions());
+        assertEquals(42L, decoded.positionOf(first));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = " ")
+    @DisplayName("Should start from the beginning without a cursor")
+    void shouldStartFromBeginning(String token) {
+        ChangeCursor cursor = ChangeCursor.decode(token);
+
+        assertTrue(cursor.positions().isEmpty());
+        assertEquals(0L, cursor.positionOf(UUID.randomUUID()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not-base64!", "no-separator", "not-a-uuid:1", "550e8400-e29b-41d4-a716-446655440000:-1",
+            "550e8400-e29b-41d4-a716-446655440000:x"})
+    @DisplayName("Should reject malformed cursors")
+    void shouldRejectMalformedCursor(String raw) {
+        String token = raw.endsWith("!") ? raw : encode(raw);
+
+        assertThrows(IllegalArgumentException.class, () -> ChangeCursor.decode(token));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
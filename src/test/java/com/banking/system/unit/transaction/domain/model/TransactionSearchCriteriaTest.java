@@ -0,0 +1,54 @@
+package com.banking.system.unit.transaction.domain.model;
+
+import com.banking.system.transaction.domain.model.TransactionSearchCriteria;
+import com.banking.system.transaction.domain.model.TransactionSearchCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TransactionSearchCriteria Tests")
+class TransactionSearchCriteriaTest {
+
+    private static final Instant TO = Instant.parse("2026-02-01T00:00:00Z");
+    private static final Instant FROM = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    @DisplayName("Should reject a search with neither account nor text")
+    void shouldRequireSelectivePredicate() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TransactionSearchCriteria(null, FROM, TO, BigDecimal.ONE, BigDecimal.TEN, null, "   "));
+    }
+
+    @Test
+    @DisplayName("Should reject a text shorter than a trigram")
+    void shouldRejectShortText() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TransactionSearchCriteria(null, FROM, TO, null, null, null, "ab"));
+    }
+
+    @Test
+    @DisplayName("Should reject an empty date range and inverted amounts")
+    void shouldRejectInvalidRanges() {
+        UUID accountId = UUID.randomUUID();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new TransactionSearchCriteria(accountId, TO, FROM, null, null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TransactionSearchCriteria(accountId, FROM, TO, BigDecimal.TEN, BigDecimal.ONE, null, null));
+    }
+
+    @Test
+    @DisplayName("Should round-trip a search cursor and reject a malformed one")
+    void shouldRoundTripCursor() {
+        var cursor = new TransactionSearchCursor(FROM, UUID.randomUUID());
+
+        assertEquals(cursor, TransactionSearchCursor.decode(cursor.encode()));
+        assertNull(TransactionSearchCursor.decode(null));
+        assertThrows(IllegalArgumentException.class, () -> TransactionSearchCursor.decode("not-a-cursor"));
+    }
+}
@@ -0,0 +1,122 @@
+package com.banking.system.unit.transaction.infraestructure.cache;
+
+import com.banking.system.common.domain.Money;
+import com.banking.system.common.domain.MoneyCurrency;
+import com.banking.system.transaction.application.port.out.RecentTransactionsCachePort.Snapshot;
+import com.banking.system.transaction.domain.model.Description;
+import com.banking.system.transaction.domain.model.ReferenceNumber;
+import com.banking.system.transaction.domain.model.Transaction;
+import com.banking.system.transaction.domain.model.TransactionStatus;
+import com.banking.system.transaction.domain.model.TransactionType;
+import com.banking.system.transaction.infraestructure.adapter.out.cache.InMemoryRecentTransactionsAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryRecentTransactionsAdapter Tests")
+class InMemoryRecentTransactionsAdapterTest {
+
+    private static final int CAPACITY = 3;
+
+    private final UUID accountId = UUID.randomUUID();
+    private final UUID ownerUserId = UUID.randomUUID();
+    private InMemoryRecentTransactionsAdapter cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new InMemoryRecentTransactionsAdapter(CAPACITY, 60_000);
+    }
+
+    @Test
+    @DisplayName("Should miss until the account is seeded, ignoring appends meanwhile")
+    void shouldMissUntilSeeded() {
+        cache.append(transaction());
+
+        assertTrue(cache.find(accountId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should serve appends newest first and keep only the latest entries")
+    void shouldKeepLatestEntriesNewestFirst() {
+        Transaction seeded = transaction();
+        cache.seed(accountId, new Snapshot(ownerUserId, List.of(seeded)), cache.seedVersion(accountId));
+
+        Transaction second = transaction();
+        Transaction third = transaction();
+        Transaction fourth = transaction();
+        cache.append(second);
+        cache.append(third);
+        cache.append(fourth);
+
+        Snapshot snapshot = cache.find(accountId).orElseThrow();
+        assertEquals(ownerUserId, snapshot.ownerUserId());
+        assertEquals(List.of(fourth, third, second), snapshot.transactions());
+    }
+
+    @Test
+    @DisplayName("Should discard a seed read before a concurrent append")
+    void shouldDiscardStaleSeed() {
+        long seedVersion = cache.seedVersion(accountId);
+        // Committed after the seed was read from the database
+        cache.append(transaction());
+
+        cache.seed(accountId, new Snapshot(ownerUserId, List.of()), seedVersion);
+
+        assertTrue(cache.find(accountId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not push a transaction already read by the seed")
+    void shouldNotDuplicateSeededTransaction() {
+        Transaction seeded = transaction();
+        cache.seed(accountId, new Snapshot(ownerUserId, List.of(seeded)), cache.seedVersion(accountId));
+
+        cache.append(seeded);
+
+        assertEquals(List.of(seeded), cache.find(accountId).orElseThrow().transactions());
+    }
+
+    @Test
+    @DisplayName("Should miss again after eviction")
+    void shouldMissAfterEviction() {
+        cache.seed(accountId, new Snapshot(ownerUserId, List.of()), cache.seedVersion(accountId));
+
+        cache.evict(accountId);
+
+        assertTrue(cache.find(accountId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should discard a seed read before an eviction")
+    void shouldDiscardSeedReadBeforeEviction() {
+        long seedVersion = cache.seedVersion(accountId);
+        cache.evict(accountId);
+
+        cache.seed(accountId, new Snapshot(ownerUserId, List.of()), seedVersion);
+
+        assertTrue(cache.find(accountId).isEmpty());
+    }
+
+    private Transaction transaction() {
+        MoneyCurrency currency = MoneyCurrency.ofCode("ARS");
+        return Transaction.reconstitute(
+                UUID.randomUUID(),
+                accountId,
+                TransactionType.DEPOSIT,
+                Money.of(new BigDecimal("100.00"), currency),
+                Money.of(new BigDecimal("100.00"), currency),
+                new Description("Deposit"),
+                ReferenceNumber.generate(),
+                null,
+                TransactionStatus.COMPLETED,
+                Instant.now()
+        );
+    }
+}
@@ -0,0 +1,124 @@
+package com.banking.system.unit.transaction.infraestructure.cache;
+
+import com.banking.system.common.domain.Money;
+import com.banking.system.common.domain.MoneyCurrency;
+import com.banking.system.transaction.application.port.out.RecentTransactionsCachePort.Snapshot;
+import com.banking.system.transaction.domain.model.Description;
+import com.banking.system.transaction.domain.model.ReferenceNumber;
+import com.banking.system.transaction.domain.model.Transaction;
+import com.banking.system.transaction.domain.model.TransactionStatus;
+import com.banking.system.transaction.domain.model.TransactionType;
+import com.banking.system.transaction.infraestructure.adapter.out.cache.RedisRecentTransactionsAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RedisRecentTransactionsAdapter Tests")
+class RedisRecentTransactionsAdapterTest {
+
+    private static final String TTL_MS = "600000";
+
+    private final UUID accountId = UUID.randomUUID();
+    private final UUID ownerUserId = UUID.randomUUID();
+    private final List<String> keys = List.of(
+            "tx:recent:{" + accountId + "}",
+            "tx:recent:{" + accountId + "}:owner",
+            "tx:recent:{" + accountId + "}:version");
+
+    private StringRedisTemplate redisTemplate;
+    private RedisRecentTransactionsAdapter cache;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        cache = new RedisRecentTransactionsAdapter(
+                redisTemplate, new ObjectMapper().findAndRegisterModules(), 10, Long.parseLong(TTL_MS), 60_000);
+    }
+
+    @Test
+    @DisplayName("Should evict the account with one atomic script when an append fails")
+    @SuppressWarnings("unchecked")
+    void shouldEvictWhenAppendFails() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(keys), anyString(), anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        cache.append(transaction());
+
+        // Version bump and deletion of list and owner in one script, so they cannot half-apply
+        verify(redisTemplate).execute(any(RedisScript.class), eq(keys), eq(TTL_MS));
+        verify(redisTemplate, never()).delete(anyList());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database when Redis cannot be read")
+    @SuppressWarnings("unchecked")
+    void shouldMissWhenReadFails() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(keys.subList(0, 3))))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertTrue(cache.find(accountId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not seed when the version could not be read")
+    @SuppressWarnings("unchecked")
+    void shouldSkipSeedWithoutVersion() {
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.get(keys.get(2))).thenThrow(new RedisConnectionFailureException("down"));
+
+        long version = cache.seedVersion(accountId);
+        cache.seed(accountId, new Snapshot(ownerUserId, List.of(transaction())), version);
+
+        assertEquals(-1L, version);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Should serve a stored seed from the local tier without reading Redis")
+    @SuppressWarnings("unchecked")
+    void shouldServeSeedLocally() {
+        Transaction seeded = transaction();
+        when(redisTemplate.execute(any(RedisScript.class), eq(keys), any(Object[].class))).thenReturn(1L);
+
+        cache.seed(accountId, new Snapshot(ownerUserId, List.of(seeded)), 3L);
+        Snapshot snapshot = cache.find(accountId).orElseThrow();
+
+        assertEquals(ownerUserId, snapshot.ownerUserId());
+        assertEquals(List.of(seeded), snapshot.transactions());
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(keys), any(Object[].class));
+    }
+
+    private Transaction transaction() {
+        MoneyCurrency currency = MoneyCurrency.ofCode("ARS");
+        return Transaction.reconstitute(
+                UUID.randomUUID(),
+                accountId,
+                TransactionType.DEPOSIT,
+                Money.of(new BigDecimal("100.00"), currency),
+                Money.of(new BigDecimal("100.00"), currency),
+                new Description("Deposit"),
+                ReferenceNumber.generate(),
+                null,
+                TransactionStatus.COMPLETED,
+                Instant.now()
+        );
+    }
+}
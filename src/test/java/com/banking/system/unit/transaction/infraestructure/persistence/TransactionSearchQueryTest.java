@@ -0,0 +1,76 @@
+package com.banking.system.unit.transaction.infraestructure.persistence;
+
+import com.banking.system.transaction.domain.model.TransactionSearchCriteria;
+import com.banking.system.transaction.domain.model.TransactionSearchCursor;
+import com.banking.system.transaction.domain.model.TransactionType;
+import com.banking.system.transaction.infraestructure.adapter.out.persistence.repository.TransactionSearchQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TransactionSearchQuery Tests")
+class TransactionSearchQueryTest {
+
+    private static final Instant TO = Instant.parse("2026-02-01T00:00:00Z");
+    private static final Instant FROM = TO.minus(30, ChronoUnit.DAYS);
+
+    @Test
+    @DisplayName("Should lead with the account and add only the filters that are set")
+    void shouldLeadWithAccount() {
+        UUID accountId = UUID.randomUUID();
+        var criteria = new TransactionSearchCriteria(accountId, FROM, TO, new BigDecimal("10.00"), null, TransactionType.DEPOSIT, null);
+
+        var query = TransactionSearchQuery.of(criteria, null, 51);
+
+        assertTrue(query.sql().startsWith("SELECT t.* FROM transactions t WHERE t.account_id = :accountId AND t.executed_at >= :from"));
+        assertTrue(query.sql().contains("t.transaction_type = :type"));
+        assertTrue(query.sql().contains("t.amount >= :minAmount"));
+        assertFalse(query.sql().contains(":maxAmount"));
+        assertFalse(query.sql().contains("ILIKE"));
+        assertTrue(query.sql().endsWith("ORDER BY t.executed_at DESC, t.id DESC LIMIT :limit"));
+        assertEquals(accountId, query.parameters().get("accountId"));
+        assertEquals("DEPOSIT", query.parameters().get("type"));
+        assertEquals(51, query.parameters().get("limit"));
+    }
+
+    @Test
+    @DisplayName("Should lead with the description text when there is no account")
+    void shouldLeadWithTextWithoutAccount() {
+        var criteria = new TransactionSearchCriteria(null, FROM, TO, null, null, null, "  rent  ");
+
+        var query = TransactionSearchQuery.of(criteria, null, 10);
+
+        assertTrue(query.sql().startsWith("SELECT t.* FROM transactions t WHERE t.description ILIKE :text AND t.executed_at >= :from"));
+        assertFalse(query.sql().contains("account_id"));
+        assertEquals("%rent%", query.parameters().get("text"));
+    }
+
+    @Test
+    @DisplayName("Should match LIKE wildcards in the text literally")
+    void shouldEscapeWildcards() {
+        var criteria = new TransactionSearchCriteria(null, FROM, TO, null, null, null, "50%_off\\");
+
+        var query = TransactionSearchQuery.of(criteria, null, 10);
+
+        assertEquals("%50\\%\\_off\\\\%", query.parameters().get("text"));
+    }
+
+    @Test
+    @DisplayName("Should continue strictly after the cursor")
+    void shouldContinueAfterCursor() {
+        var criteria = new TransactionSearchCriteria(UUID.randomUUID(), FROM, TO, null, null, null, null);
+        var cursor = new TransactionSearchCursor(TO.minusSeconds(60), UUID.randomUUID());
+
+        var query = TransactionSearchQuery.of(criteria, cursor, 10);
+
+        assertTrue(query.sql().contains("(t.executed_at, t.id) < (:afterExecutedAt, :afterId)"));
+        assertEquals(cursor.executedAt(), query.parameters().get("afterExecutedAt"));
+        assertEquals(cursor.id(), query.parameters().get("afterId"));
+    }
+}